@@ -16,7 +16,6 @@ package org.flowable.app.spring;
 import java.util.Map;
 
 import org.flowable.app.engine.impl.el.AppExpressionManager;
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.JsonNodeELResolver;
 import org.flowable.common.engine.impl.el.ReadOnlyMapELResolver;
@@ -49,9 +48,9 @@ public class SpringAppExpressionManager extends AppExpressionManager {
     }
 
     @Override
-    protected ELResolver createElResolver(VariableContainer variableContainer) {
+    protected ELResolver createElResolver() {
         CompositeELResolver compositeElResolver = new CompositeELResolver();
-        compositeElResolver.add(createVariableElResolver(variableContainer));
+        compositeElResolver.add(createVariableElResolver());
 
         if (beans != null) {
             // Only expose limited set of beans in expressions
@@ -69,7 +69,7 @@ import org.flowable.common.engine.impl.db.SchemaManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.eventregistry.impl.configurator.EventRegistryEngineConfigurator;
 import org.flowable.identitylink.service.IdentityLinkServiceConfiguration;
@@ -344,9 +344,9 @@ public class AppEngineConfiguration extends AbstractEngineConfiguration implemen
     protected void initAppDefinitionCache() {
         if (appDefinitionCache == null) {
             if (appDefinitionCacheLimit <= 0) {
-                appDefinitionCache = new DefaultDeploymentCache<>();
+                appDefinitionCache = new ConcurrentDeploymentCache<>();
             } else {
-                appDefinitionCache = new DefaultDeploymentCache<>(appDefinitionCacheLimit);
+                appDefinitionCache = new ConcurrentDeploymentCache<>(appDefinitionCacheLimit);
             }
         }
     }
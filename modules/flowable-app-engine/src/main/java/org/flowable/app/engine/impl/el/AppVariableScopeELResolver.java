@@ -21,6 +21,9 @@ import org.flowable.common.engine.impl.javax.el.ELContext;
  */
 public class AppVariableScopeELResolver extends VariableContainerELResolver {
 
+    public AppVariableScopeELResolver() {
+    }
+
     public AppVariableScopeELResolver(VariableContainer variableContainer) {
         super(variableContainer);
     }
@@ -28,7 +28,7 @@ import org.flowable.app.api.repository.AppModel;
 import org.flowable.app.engine.impl.persistence.entity.deploy.AppDefinitionCacheEntry;
 import org.flowable.app.engine.test.AppDeployment;
 import org.flowable.app.engine.test.FlowableAppTestCase;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.junit.Test;
 
@@ -60,9 +60,9 @@ public class DeploymentTest extends FlowableAppTestCase {
         inputStream.close();
         
         DeploymentCache<AppDefinitionCacheEntry> appDefinitionCache = appEngineConfiguration.getAppDefinitionCache();
-        assertEquals(1, ((DefaultDeploymentCache<AppDefinitionCacheEntry>) appDefinitionCache).getAll().size());
+        assertEquals(1, ((ConcurrentDeploymentCache<AppDefinitionCacheEntry>) appDefinitionCache).getAll().size());
         
-        AppDefinitionCacheEntry cachedAppDefinition = ((DefaultDeploymentCache<AppDefinitionCacheEntry>) appDefinitionCache).getAll().iterator().next();
+        AppDefinitionCacheEntry cachedAppDefinition = ((ConcurrentDeploymentCache<AppDefinitionCacheEntry>) appDefinitionCache).getAll().iterator().next();
         assertNotNull(cachedAppDefinition.getAppModel());
         assertNotNull(cachedAppDefinition.getAppDefinition());
         
@@ -111,9 +111,9 @@ public class DeploymentTest extends FlowableAppTestCase {
         inputStream.close();
         
         DeploymentCache<AppDefinitionCacheEntry> appDefinitionCache = appEngineConfiguration.getAppDefinitionCache();
-        assertEquals(1, ((DefaultDeploymentCache<AppDefinitionCacheEntry>) appDefinitionCache).getAll().size());
+        assertEquals(1, ((ConcurrentDeploymentCache<AppDefinitionCacheEntry>) appDefinitionCache).getAll().size());
         
-        AppDefinitionCacheEntry cachedAppDefinition = ((DefaultDeploymentCache<AppDefinitionCacheEntry>) appDefinitionCache).getAll().iterator().next();
+        AppDefinitionCacheEntry cachedAppDefinition = ((ConcurrentDeploymentCache<AppDefinitionCacheEntry>) appDefinitionCache).getAll().iterator().next();
         assertNotNull(cachedAppDefinition.getAppModel());
         assertNotNull(cachedAppDefinition.getAppDefinition());
         
@@ -19,6 +19,7 @@ import org.flowable.cmmn.api.history.HistoricMilestoneInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricPlanItemInstanceQuery;
 import org.flowable.cmmn.api.history.HistoricVariableInstanceQuery;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.api.history.HistoryExportBuilder;
 import org.flowable.entitylink.api.history.HistoricEntityLink;
 import org.flowable.identitylink.api.IdentityLink;
 import org.flowable.identitylink.api.history.HistoricIdentityLink;
@@ -121,4 +122,9 @@ public interface CmmnHistoryService {
      */
     NativeHistoricTaskLogEntryQuery createNativeHistoricTaskLogEntryQuery();
 
+    /**
+     * Returns a new {@link HistoryExportBuilder} that streams the raw rows of the case history tables to a {@link org.flowable.common.engine.api.history.HistoryExportSink}.
+     */
+    HistoryExportBuilder createHistoryExport();
+
 }
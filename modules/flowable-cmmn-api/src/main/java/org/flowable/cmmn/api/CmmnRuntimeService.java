@@ -86,6 +86,18 @@ public interface CmmnRuntimeService {
      *     when no case instance is found for the given caseInstanceId.
      */
     Map<String, VariableInstance> getVariableInstances(String caseInstanceId);
+
+    /**
+     * The variable values of each of the given case instances, without the local variables of their plan item instances.
+     * The variables of all case instances are fetched with one query (per chunk of case instance ids), instead of one query per case instance.
+     *
+     * @param caseInstanceIds
+     *     ids of the case instances, cannot be null.
+     * @param variableNames
+     *     the names of the variables to fetch, or null to fetch all variables.
+     * @return the variable values per case instance id. Every given case instance id is contained in the map, with an empty map when no variables are found.
+     */
+    Map<String, Map<String, Object>> getVariablesForCaseInstances(Collection<String> caseInstanceIds, Collection<String> variableNames);
     
     /**
      * All variable values that are defined in the plan item instance scope, without taking outer scopes into account.
@@ -72,6 +72,7 @@ import org.flowable.cmmn.engine.impl.history.CmmnHistoryVariableManager;
 import org.flowable.cmmn.engine.impl.history.DefaultCmmnHistoryManager;
 import org.flowable.cmmn.engine.impl.history.async.AsyncCmmnHistoryManager;
 import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.history.async.json.CmmnHistoryJsonPrefetcher;
 import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceEndHistoryJsonTransformer;
 import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceStartHistoryJsonTransformer;
 import org.flowable.cmmn.engine.impl.history.async.json.transformer.CaseInstanceUpdateBusinessKeyHistoryJsonTransformer;
@@ -233,7 +234,7 @@ import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.scripting.BeansResolverFactory;
 import org.flowable.common.engine.impl.scripting.ResolverFactory;
@@ -252,6 +253,7 @@ import org.flowable.identitylink.service.impl.db.IdentityLinkDbSchemaManager;
 import org.flowable.idm.api.IdmEngineConfigurationApi;
 import org.flowable.idm.api.IdmIdentityService;
 import org.flowable.idm.engine.configurator.IdmEngineConfigurator;
+import org.flowable.job.service.ExclusiveJobLockStrategy;
 import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.InternalJobManager;
 import org.flowable.job.service.InternalJobParentStateResolver;
@@ -265,6 +267,7 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecution
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.RowLockExclusiveJobLockStrategy;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
@@ -272,6 +275,7 @@ import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonPrefetcher;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.task.service.InternalTaskAssignmentManager;
 import org.flowable.task.service.InternalTaskVariableScopeResolver;
@@ -286,6 +290,7 @@ import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.history.InternalHistoryVariableManager;
 import org.flowable.variable.service.impl.db.IbatisVariableTypeHandler;
 import org.flowable.variable.service.impl.db.VariableDbSchemaManager;
+import org.flowable.variable.service.impl.storage.LargeVariableValueStore;
 import org.flowable.variable.service.impl.types.BooleanType;
 import org.flowable.variable.service.impl.types.ByteArrayType;
 import org.flowable.variable.service.impl.types.DateType;
@@ -369,6 +374,18 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected boolean executeServiceSchemaManagers = true;
 
     protected boolean enableSafeCmmnXml;
+
+    /**
+     * When enabled, a {@link org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex} is built for every deployed case definition,
+     * so that a plan item life cycle transition only evaluates the sentries that depend on it.
+     */
+    protected boolean sentryDependencyIndexEnabled = true;
+
+    /**
+     * When enabled, fetching a case instance also fetches all sentry part instances of the case in one query and wires them to their plan item instances.
+     * Within the same command, looking up the plan item instances of that case instance then loads them once, after which they are found in the entity cache.
+     */
+    protected boolean enableEagerPlanItemInstanceTreeFetching;
     protected boolean disableCmmnXmlValidation;
     protected CmmnActivityBehaviorFactory activityBehaviorFactory;
     protected CmmnClassDelegateFactory classDelegateFactory;
@@ -459,6 +476,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected VariableServiceConfiguration variableServiceConfiguration;
     protected InternalHistoryVariableManager internalHistoryVariableManager;
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
+    protected LargeVariableValueStore largeVariableValueStore;
+    protected int largeVariableValueThreshold = 1024 * 1024;
 
     // Set Http Client config defaults
     protected HttpClientConfig httpClientConfig = new HttpClientConfig();
@@ -599,6 +618,30 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
      */
     protected int asyncExecutorMaxTimerJobsPerAcquisition = 1;
 
+    /**
+     * When enabled, the timer jobs of one acquisition are locked with one update statement and timers locked by another node in the meantime are skipped,
+     * instead of locking every timer with an optimistic locking update that fails the whole acquisition on a conflict.
+     * Combine this with a larger {@link #asyncExecutorMaxTimerJobsPerAcquisition} to drain large amounts of due timers quickly.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerJobBulkAcquisitionEnabled;
+
+    /**
+     * When enabled, the exclusive jobs of one case instance are executed one after the other on a single thread, keeping the case instance locked
+     * in between. Consecutive jobs of the same case instance then don't need to lock it again, and don't fail on the lock held by another thread.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorExclusiveJobAffinityEnabled;
+
+    /**
+     * Determines how the case instance of an exclusive job is locked. By default, the lock time of the case instance is set in a separate transaction
+     * before the job is executed. The {@link RowLockExclusiveJobLockStrategy} locks the case instance row in the job transaction instead,
+     * which is only supported on PostgreSQL and Oracle (the default is used on other databases).
+     */
+    protected ExclusiveJobLockStrategy exclusiveJobLockStrategy;
+
     /**
      * The number of async jobs that are acquired during one query (before a job is executed,
      * an acquirement thread fetches jobs from the database and puts them on the queue).
@@ -746,6 +789,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobHandler> customHistoryJobHandlers;
     protected List<HistoryJsonTransformer> customHistoryJsonTransformers;
+    protected List<HistoryJsonPrefetcher> customHistoryJsonPrefetchers;
 
     protected FormFieldHandler formFieldHandler;
     protected boolean isFormFieldValidationEnabled;
@@ -1011,7 +1055,7 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             CmmnExpressionManager cmmnExpressionManager = new CmmnExpressionManager(beans);
             
             if (isExpressionCacheEnabled) {
-                cmmnExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                cmmnExpressionManager.setExpressionCache(new ConcurrentDeploymentCache<>(expressionCacheSize));
                 cmmnExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
             
@@ -1210,9 +1254,9 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
     protected void initCaseDefinitionCache() {
         if (caseDefinitionCache == null) {
             if (caseDefinitionCacheLimit <= 0) {
-                caseDefinitionCache = new DefaultDeploymentCache<>();
+                caseDefinitionCache = new ConcurrentDeploymentCache<>();
             } else {
-                caseDefinitionCache = new DefaultDeploymentCache<>(caseDefinitionCacheLimit);
+                caseDefinitionCache = new ConcurrentDeploymentCache<>(caseDefinitionCacheLimit);
             }
         }
     }
@@ -1464,6 +1508,8 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setLargeVariableValueStore(this.largeVariableValueStore);
+        this.variableServiceConfiguration.setLargeVariableValueThreshold(this.largeVariableValueThreshold);
         this.variableServiceConfiguration.setLoggingSessionEnabled(isLoggingSessionEnabled());
 
         this.variableServiceConfiguration.init();
@@ -1609,13 +1655,20 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
                 allHistoryJsonTransformers.addAll(customHistoryJsonTransformers);
             }
 
+            List<HistoryJsonPrefetcher> allHistoryJsonPrefetchers = new ArrayList<>(initDefaultHistoryJsonPrefetchers());
+            if (customHistoryJsonPrefetchers != null) {
+                allHistoryJsonPrefetchers.addAll(customHistoryJsonPrefetchers);
+            }
+
             AsyncHistoryJobHandler asyncHistoryJobHandler = new AsyncHistoryJobHandler(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             allHistoryJsonTransformers.forEach(asyncHistoryJobHandler::addHistoryJsonTransformer);
+            allHistoryJsonPrefetchers.forEach(asyncHistoryJobHandler::addHistoryJsonPrefetcher);
             asyncHistoryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             historyJobHandlers.put(asyncHistoryJobHandler.getType(), asyncHistoryJobHandler);
 
             AsyncHistoryJobZippedHandler asyncHistoryJobZippedHandler = new AsyncHistoryJobZippedHandler(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             allHistoryJsonTransformers.forEach(asyncHistoryJobZippedHandler::addHistoryJsonTransformer);
+            allHistoryJsonPrefetchers.forEach(asyncHistoryJobZippedHandler::addHistoryJsonPrefetcher);
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
@@ -1627,6 +1680,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         }
     }
     
+    protected List<HistoryJsonPrefetcher> initDefaultHistoryJsonPrefetchers() {
+        List<HistoryJsonPrefetcher> historyJsonPrefetchers = new ArrayList<>();
+        historyJsonPrefetchers.add(new CmmnHistoryJsonPrefetcher());
+        return historyJsonPrefetchers;
+    }
+
     protected List<HistoryJsonTransformer> initDefaultHistoryJsonTransformers() {
         List<HistoryJsonTransformer> historyJsonTransformers = new ArrayList<>();
         
@@ -1722,6 +1781,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
             } else {
                 this.jobServiceConfiguration.setInternalJobManager(new DefaultInternalCmmnJobManager(this));
             }
+
+            if (this.exclusiveJobLockStrategy instanceof RowLockExclusiveJobLockStrategy && !RowLockExclusiveJobLockStrategy.isSupportedDatabaseType(databaseType)) {
+                logger.warn("Row locking of exclusive jobs is not supported on {}, the lock time of the case instance is used instead", databaseType);
+            } else {
+                this.jobServiceConfiguration.setExclusiveJobLockStrategy(this.exclusiveJobLockStrategy);
+            }
             
             // Async history job config
             jobServiceConfiguration.setJobTypeAsyncHistory(CmmnAsyncHistoryConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
@@ -1797,6 +1862,12 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
 
             // Acquisition wait time
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
+
+            // Acquisition size
+            defaultAsyncExecutor.setMaxTimerJobsPerAcquisition(asyncExecutorMaxTimerJobsPerAcquisition);
+            defaultAsyncExecutor.setMaxAsyncJobsDuePerAcquisition(asyncExecutorMaxAsyncJobsDuePerAcquisition);
+            defaultAsyncExecutor.setTimerJobBulkAcquisitionEnabled(asyncExecutorTimerJobBulkAcquisitionEnabled);
+            defaultAsyncExecutor.setExclusiveJobAffinityEnabled(asyncExecutorExclusiveJobAffinityEnabled);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
 
             // Queue full wait time
@@ -2243,6 +2314,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         this.enableSafeCmmnXml = enableSafeCmmnXml;
         return this;
     }
+
+    public boolean isSentryDependencyIndexEnabled() {
+        return sentryDependencyIndexEnabled;
+    }
+
+    public CmmnEngineConfiguration setSentryDependencyIndexEnabled(boolean sentryDependencyIndexEnabled) {
+        this.sentryDependencyIndexEnabled = sentryDependencyIndexEnabled;
+        return this;
+    }
+
+    public boolean isEnableEagerPlanItemInstanceTreeFetching() {
+        return enableEagerPlanItemInstanceTreeFetching;
+    }
+
+    public CmmnEngineConfiguration setEnableEagerPlanItemInstanceTreeFetching(boolean enableEagerPlanItemInstanceTreeFetching) {
+        this.enableEagerPlanItemInstanceTreeFetching = enableEagerPlanItemInstanceTreeFetching;
+        return this;
+    }
     
     public boolean isDisableCmmnXmlValidation() {
         return disableCmmnXmlValidation;
@@ -2761,6 +2850,24 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public LargeVariableValueStore getLargeVariableValueStore() {
+        return largeVariableValueStore;
+    }
+
+    public CmmnEngineConfiguration setLargeVariableValueStore(LargeVariableValueStore largeVariableValueStore) {
+        this.largeVariableValueStore = largeVariableValueStore;
+        return this;
+    }
+
+    public int getLargeVariableValueThreshold() {
+        return largeVariableValueThreshold;
+    }
+
+    public CmmnEngineConfiguration setLargeVariableValueThreshold(int largeVariableValueThreshold) {
+        this.largeVariableValueThreshold = largeVariableValueThreshold;
+        return this;
+    }
+
     public CaseDiagramGenerator getCaseDiagramGenerator() {
         return caseDiagramGenerator;
     }
@@ -3050,6 +3157,33 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public boolean isAsyncExecutorTimerJobBulkAcquisitionEnabled() {
+        return asyncExecutorTimerJobBulkAcquisitionEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorTimerJobBulkAcquisitionEnabled(boolean asyncExecutorTimerJobBulkAcquisitionEnabled) {
+        this.asyncExecutorTimerJobBulkAcquisitionEnabled = asyncExecutorTimerJobBulkAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorExclusiveJobAffinityEnabled() {
+        return asyncExecutorExclusiveJobAffinityEnabled;
+    }
+
+    public CmmnEngineConfiguration setAsyncExecutorExclusiveJobAffinityEnabled(boolean asyncExecutorExclusiveJobAffinityEnabled) {
+        this.asyncExecutorExclusiveJobAffinityEnabled = asyncExecutorExclusiveJobAffinityEnabled;
+        return this;
+    }
+
+    public ExclusiveJobLockStrategy getExclusiveJobLockStrategy() {
+        return exclusiveJobLockStrategy;
+    }
+
+    public CmmnEngineConfiguration setExclusiveJobLockStrategy(ExclusiveJobLockStrategy exclusiveJobLockStrategy) {
+        this.exclusiveJobLockStrategy = exclusiveJobLockStrategy;
+        return this;
+    }
+
     public int getAsyncExecutorMaxAsyncJobsDuePerAcquisition() {
         return asyncExecutorMaxAsyncJobsDuePerAcquisition;
     }
@@ -3474,6 +3608,15 @@ public class CmmnEngineConfiguration extends AbstractEngineConfiguration impleme
         return this;
     }
 
+    public List<HistoryJsonPrefetcher> getCustomHistoryJsonPrefetchers() {
+        return customHistoryJsonPrefetchers;
+    }
+
+    public CmmnEngineConfiguration setCustomHistoryJsonPrefetchers(List<HistoryJsonPrefetcher> customHistoryJsonPrefetchers) {
+        this.customHistoryJsonPrefetchers = customHistoryJsonPrefetchers;
+        return this;
+    }
+
     public String getJobExecutionScope() {
         return jobExecutionScope;
     }
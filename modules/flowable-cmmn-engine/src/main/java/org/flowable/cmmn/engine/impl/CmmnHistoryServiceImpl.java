@@ -12,6 +12,7 @@
  */
 package org.flowable.cmmn.engine.impl;
 
+import java.util.Arrays;
 import java.util.List;
 
 import org.flowable.cmmn.api.CmmnHistoryService;
@@ -31,6 +32,10 @@ import org.flowable.cmmn.engine.impl.cmd.GetHistoricIdentityLinksForPlanItemInst
 import org.flowable.cmmn.engine.impl.cmd.GetHistoricIdentityLinksForTaskCmd;
 import org.flowable.cmmn.engine.impl.cmd.GetHistoricStageOverviewCmd;
 import org.flowable.cmmn.engine.impl.history.CmmnHistoricVariableInstanceQueryImpl;
+import org.flowable.common.engine.api.history.HistoryExportBuilder;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.history.export.HistoryExportBuilderImpl;
+import org.flowable.common.engine.impl.history.export.HistoryExportTable;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.entitylink.api.history.HistoricEntityLink;
 import org.flowable.identitylink.api.history.HistoricIdentityLink;
@@ -143,4 +148,18 @@ public class CmmnHistoryServiceImpl extends CommonEngineServiceImpl<CmmnEngineCo
         return new NativeHistoricTaskLogEntryQueryImpl(commandExecutor);
     }
 
+    @Override
+    public HistoryExportBuilder createHistoryExport() {
+        return new HistoryExportBuilderImpl(commandExecutor, configuration, getHistoryExportTables());
+    }
+
+    protected List<HistoryExportTable> getHistoryExportTables() {
+        // Tasks and variables of other engines share their history tables with the cmmn engine
+        return Arrays.asList(
+                new HistoryExportTable("ACT_CMMN_HI_CASE_INST", "coalesce(RES.END_TIME_, RES.START_TIME_)", null),
+                new HistoryExportTable("ACT_CMMN_HI_PLAN_ITEM_INST", "coalesce(RES.LAST_UPDATED_TIME_, RES.CREATE_TIME_)", null),
+                new HistoryExportTable("ACT_HI_TASKINST", "coalesce(RES.END_TIME_, RES.LAST_UPDATED_TIME_, RES.START_TIME_)", "RES.SCOPE_TYPE_ = '" + ScopeTypes.CMMN + "'"),
+                new HistoryExportTable("ACT_HI_VARINST", "coalesce(RES.LAST_UPDATED_TIME_, RES.CREATE_TIME_)", "RES.SCOPE_TYPE_ = '" + ScopeTypes.CMMN + "'"));
+    }
+
 }
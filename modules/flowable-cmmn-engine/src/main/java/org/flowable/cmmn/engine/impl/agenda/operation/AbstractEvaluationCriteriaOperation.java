@@ -28,6 +28,7 @@ import org.flowable.cmmn.converter.util.PlanItemUtil;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
 import org.flowable.cmmn.engine.impl.agenda.PlanItemEvaluationResult;
 import org.flowable.cmmn.engine.impl.criteria.PlanItemLifeCycleEvent;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.listener.PlanItemLifeCycleListenerUtil;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CountingPlanItemInstanceEntity;
@@ -75,6 +76,8 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     /** only the last evaluation planned on the agenda operation will have this true. */
     protected boolean evaluateStagesAndCaseInstanceCompletion;
 
+    protected SentryDependencyIndex sentryDependencyIndex;
+
     public AbstractEvaluationCriteriaOperation(CommandContext commandContext, String caseInstanceId, CaseInstanceEntity caseInstanceEntity, PlanItemLifeCycleEvent planItemLifeCycleEvent) {
         super(commandContext, caseInstanceId, caseInstanceEntity);
         this.planItemLifeCycleEvent = planItemLifeCycleEvent;
@@ -509,6 +512,10 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
     protected Criterion evaluateCriteria(EntityWithSentryPartInstances entityWithSentryPartInstances, List<Criterion> criteria) {
         for (Criterion criterion : criteria) {
 
+            if (!isCriterionAffected(criterion)) {
+                continue;
+            }
+
             Sentry sentry = criterion.getSentry();
 
             // There can be zero or more on parts and zero or one if part.
@@ -622,6 +629,25 @@ public abstract class AbstractEvaluationCriteriaOperation extends AbstractCaseIn
         return null;
     }
 
+    /**
+     * Returns false, if the criterion can't become satisfied by the plan item life cycle event of this evaluation, so its evaluation can be skipped.
+     * Without a life cycle event (e.g. after a variable change) or without a {@link SentryDependencyIndex}, all criteria are evaluated.
+     */
+    protected boolean isCriterionAffected(Criterion criterion) {
+        if (planItemLifeCycleEvent == null || caseInstanceEntity == null) {
+            return true;
+        }
+
+        if (sentryDependencyIndex == null) {
+            sentryDependencyIndex = CaseDefinitionUtil.getSentryDependencyIndex(caseInstanceEntity.getCaseDefinitionId());
+            if (sentryDependencyIndex == null) {
+                return true;
+            }
+        }
+
+        return sentryDependencyIndex.isCriterionAffectedBy(criterion, planItemLifeCycleEvent.getPlanItem().getId());
+    }
+
     protected boolean evaluateAvailableCondition(CommandContext commandContext, PlanItemInstanceEntity planItemInstanceEntity) {
         PlanItem planItem = planItemInstanceEntity.getPlanItem();
         if (isEventListenerWithAvailableCondition(planItem)) {
@@ -72,6 +72,19 @@ public class DefaultInternalCmmnJobManager implements InternalJobManager {
         }
     }
 
+    @Override
+    public void lockJobScopeRow(Job job) {
+        cmmnEngineConfiguration.getCaseInstanceEntityManager().lockCaseInstanceRow(job.getScopeId());
+        
+        if (cmmnEngineConfiguration.isLoggingSessionEnabled()) {
+            PlanItemInstanceEntity planItemInstanceEntity = cmmnEngineConfiguration.getPlanItemInstanceEntityManager().findById(job.getSubScopeId());
+            if (planItemInstanceEntity != null) {
+                CmmnLoggingSessionUtil.addAsyncActivityLoggingData("Locking job for " + planItemInstanceEntity.getPlanItemDefinitionId() + ", with job id " + job.getId(),
+                                CmmnLoggingSessionConstants.TYPE_SERVICE_TASK_LOCK_JOB, (JobEntity) job, planItemInstanceEntity.getPlanItemDefinition(), planItemInstanceEntity);
+            }
+        }
+    }
+
     @Override
     public void clearJobScopeLock(Job job) {
         CaseInstanceEntityManager caseInstanceEntityManager = cmmnEngineConfiguration.getCaseInstanceEntityManager();
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.cmd;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.scope.ScopeTypes;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+
+/**
+ * Fetches the variables of many case instances at once, instead of executing a query per case instance.
+ */
+public class GetVariablesForCaseInstancesCmd implements Command<Map<String, Map<String, Object>>>, Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected Collection<String> caseInstanceIds;
+    protected Collection<String> variableNames;
+
+    public GetVariablesForCaseInstancesCmd(Collection<String> caseInstanceIds, Collection<String> variableNames) {
+        this.caseInstanceIds = caseInstanceIds;
+        this.variableNames = variableNames;
+    }
+
+    @Override
+    public Map<String, Map<String, Object>> execute(CommandContext commandContext) {
+        if (caseInstanceIds == null) {
+            throw new FlowableIllegalArgumentException("caseInstanceIds is null");
+        }
+
+        Map<String, Map<String, Object>> variablesByCaseInstanceId = new LinkedHashMap<>();
+        for (String caseInstanceId : caseInstanceIds) {
+            variablesByCaseInstanceId.put(caseInstanceId, new HashMap<>());
+        }
+
+        if (caseInstanceIds.isEmpty()) {
+            return variablesByCaseInstanceId;
+        }
+
+        for (VariableInstanceEntity variableInstance : CommandContextUtil.getVariableService(commandContext)
+                .findVariableInstancesByScopeIdsAndScopeTypeAndNames(variablesByCaseInstanceId.keySet(), ScopeTypes.CMMN, variableNames)) {
+
+            variablesByCaseInstanceId.get(variableInstance.getScopeId()).put(variableInstance.getName(), variableInstance.getValue());
+        }
+
+        return variablesByCaseInstanceId;
+    }
+
+}
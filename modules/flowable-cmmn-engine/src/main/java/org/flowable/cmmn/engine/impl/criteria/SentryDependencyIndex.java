@@ -0,0 +1,98 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.criteria;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.PlanFragment;
+import org.flowable.cmmn.model.PlanItem;
+import org.flowable.cmmn.model.Sentry;
+import org.flowable.cmmn.model.SentryOnPart;
+
+/**
+ * Index of the criteria (entry and exit sentries) of a case definition, built when the case definition is deployed.
+ *
+ * A criterion with only on-parts can only become satisfied through a life cycle transition of one of the plan items it has an on-part for.
+ * When the criteria are evaluated because of such a transition, all other criteria with only on-parts can be skipped.
+ * Criteria with an if-part (or without any on-part) are always affected, as they depend on the state of the case (e.g. its variables).
+ */
+public class SentryDependencyIndex {
+
+    protected Set<Criterion> indexedCriteria = newCriterionSet();
+    protected Set<Criterion> alwaysAffectedCriteria = newCriterionSet();
+    protected Map<String, Set<Criterion>> criteriaByOnPartSourceRef = new HashMap<>();
+
+    public SentryDependencyIndex(Case caze) {
+        if (caze.getPlanModel() != null) {
+            addCriteria(caze.getPlanModel().getExitCriteria());
+            addPlanItems(caze.getPlanModel());
+        }
+    }
+
+    protected void addPlanItems(PlanFragment planFragment) {
+        for (PlanItem planItem : planFragment.getPlanItems()) {
+            addCriteria(planItem.getEntryCriteria());
+            addCriteria(planItem.getExitCriteria());
+
+            if (planItem.getPlanItemDefinition() instanceof PlanFragment) {
+                addPlanItems((PlanFragment) planItem.getPlanItemDefinition());
+            }
+        }
+    }
+
+    protected void addCriteria(List<Criterion> criteria) {
+        if (criteria == null) {
+            return;
+        }
+
+        for (Criterion criterion : criteria) {
+            indexedCriteria.add(criterion);
+
+            Sentry sentry = criterion.getSentry();
+            if (sentry == null || sentry.getSentryIfPart() != null || sentry.getOnParts().isEmpty()) {
+                alwaysAffectedCriteria.add(criterion);
+
+            } else {
+                for (SentryOnPart sentryOnPart : sentry.getOnParts()) {
+                    criteriaByOnPartSourceRef.computeIfAbsent(sentryOnPart.getSourceRef(), sourceRef -> newCriterionSet()).add(criterion);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return true, if the given criterion can become satisfied by a life cycle transition of the plan item with the given id.
+     *          Criteria that are not part of this index are always considered to be affected.
+     */
+    public boolean isCriterionAffectedBy(Criterion criterion, String sourcePlanItemId) {
+        if (!indexedCriteria.contains(criterion) || alwaysAffectedCriteria.contains(criterion)) {
+            return true;
+        }
+
+        Set<Criterion> dependentCriteria = criteriaByOnPartSourceRef.get(sourcePlanItemId);
+        return dependentCriteria != null && dependentCriteria.contains(criterion);
+    }
+
+    protected static Set<Criterion> newCriterionSet() {
+        // the criteria of the cached case model are shared, so they can be compared by identity
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+}
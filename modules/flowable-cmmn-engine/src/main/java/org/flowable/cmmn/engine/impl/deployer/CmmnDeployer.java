@@ -24,6 +24,7 @@ import java.util.Set;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.cmmn.converter.CmmnXmlConstants;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
 import org.flowable.cmmn.engine.impl.parser.CmmnParseResult;
 import org.flowable.cmmn.engine.impl.parser.CmmnParser;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseDefinitionEntity;
@@ -42,6 +43,8 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.EngineDeployer;
 import org.flowable.common.engine.impl.cfg.IdGenerator;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.eventregistry.api.EventRegistryEventConsumer;
+import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.flowable.eventsubscription.service.EventSubscriptionService;
 import org.flowable.identitylink.api.IdentityLinkType;
 import org.flowable.identitylink.service.IdentityLinkService;
@@ -96,6 +99,18 @@ public class CmmnDeployer implements EngineDeployer {
         }
 
         updateCachingAndArtifacts(parseResult);
+        resetEventRegistryCorrelationParameterNames();
+    }
+
+    /**
+     * The event registry consumers cache the correlation parameters used by the cached case definitions.
+     */
+    protected void resetEventRegistryCorrelationParameterNames() {
+        for (EventRegistryEventConsumer eventRegistryEventConsumer : CommandContextUtil.getCmmnEngineConfiguration().getEventRegistryEventConsumers().values()) {
+            if (eventRegistryEventConsumer instanceof BaseEventRegistryEventConsumer) {
+                ((BaseEventRegistryEventConsumer) eventRegistryEventConsumer).resetCorrelationParameterNames();
+            }
+        }
     }
 
     public static boolean isCmmnResource(String resourceName) {
@@ -302,6 +317,9 @@ public class CmmnDeployer implements EngineDeployer {
             CmmnModel model = parseResult.getCmmnModelForCaseDefinition(caseDefinitionEntity);
             Case caze = parseResult.getCmmnCaseForCaseDefinition(caseDefinitionEntity);
             CaseDefinitionCacheEntry cacheEntry = new CaseDefinitionCacheEntry(caseDefinitionEntity, model, caze);
+            if (cmmnEngineConfiguration.isSentryDependencyIndexEnabled()) {
+                cacheEntry.setSentryDependencyIndex(new SentryDependencyIndex(caze));
+            }
             caseDefinitionCache.add(caseDefinitionEntity.getId(), cacheEntry);
 
             deployment.addDeployedArtifact(caseDefinitionEntity);
@@ -30,6 +30,9 @@ public class CmmnVariableScopeELResolver extends VariableContainerELResolver {
     public static final String CASE_INSTANCE_KEY = "caseInstance";
     public static final String TASK_KEY = "task";
 
+    public CmmnVariableScopeELResolver() {
+    }
+
     public CmmnVariableScopeELResolver(VariableContainer variableContainer) {
         super(variableContainer);
     }
@@ -37,6 +40,7 @@ public class CmmnVariableScopeELResolver extends VariableContainerELResolver {
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
         if (base == null) {
+            VariableContainer variableContainer = getVariableContainer(context);
             if ((CASE_INSTANCE_KEY.equals(property) && variableContainer instanceof CaseInstanceEntity)
                     || (PLAN_ITEM_INSTANCE_KEY.equals(property) && variableContainer instanceof PlanItemInstanceEntity)
                     || (TASK_KEY.equals(property) && variableContainer instanceof TaskEntity)) {
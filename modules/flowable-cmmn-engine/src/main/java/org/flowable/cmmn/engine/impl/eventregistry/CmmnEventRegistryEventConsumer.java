@@ -14,15 +14,22 @@ package org.flowable.cmmn.engine.impl.eventregistry;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import org.flowable.cmmn.api.CmmnRuntimeService;
 import org.flowable.cmmn.api.runtime.CaseInstanceBuilder;
 import org.flowable.cmmn.converter.CmmnXmlConstants;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.impl.repository.CaseDefinitionUtil;
+import org.flowable.cmmn.model.BaseElement;
+import org.flowable.cmmn.model.Case;
 import org.flowable.cmmn.model.CmmnModel;
 import org.flowable.cmmn.model.ExtensionElement;
+import org.flowable.cmmn.model.GenericEventListener;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.eventregistry.api.runtime.EventInstance;
@@ -63,7 +70,7 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         // The reason for this is that the handling of one event subscription
         // should not influence (i.e. roll back) the handling of another.
 
-        Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
+        Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance);
         List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.CMMN, eventInstance, correlationKeys);
         CmmnRuntimeService cmmnRuntimeService = cmmnEngineConfiguration.getCmmnRuntimeService();
         for (EventSubscription eventSubscription : eventSubscriptions) {
@@ -131,6 +138,66 @@ public class CmmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         }
     }
 
+    /**
+     * Collects the correlation parameters of the case definitions that have event subscriptions for the given event definition key,
+     * and of the case definitions in the deployment cache, as these can create new event subscriptions.
+     */
+    @Override
+    protected Collection<Set<String>> findCorrelationParameterNames(String eventDefinitionKey) {
+        return commandExecutor.execute(commandContext -> {
+            Set<String> caseDefinitionIds = new HashSet<>();
+            List<EventSubscription> eventSubscriptions = createEventSubscriptionQuery()
+                .eventType(eventDefinitionKey)
+                .scopeType(ScopeTypes.CMMN)
+                .list();
+            for (EventSubscription eventSubscription : eventSubscriptions) {
+                if (eventSubscription.getScopeDefinitionId() == null) {
+                    // Created through the API, matched against all correlation parameter combinations
+                    continue;
+                }
+                caseDefinitionIds.add(eventSubscription.getScopeDefinitionId());
+            }
+
+            Set<Set<String>> correlationParameterNames = new HashSet<>();
+            for (CaseDefinitionCacheEntry cacheEntry : cmmnEngineConfiguration.getCaseDefinitionCache().getAll()) {
+                caseDefinitionIds.remove(cacheEntry.getCaseDefinition().getId());
+                collectCorrelationParameterNames(cacheEntry.getCmmnModel(), eventDefinitionKey, correlationParameterNames);
+            }
+
+            for (String caseDefinitionId : caseDefinitionIds) {
+                collectCorrelationParameterNames(CaseDefinitionUtil.getCmmnModel(caseDefinitionId), eventDefinitionKey, correlationParameterNames);
+            }
+
+            return correlationParameterNames;
+        });
+    }
+
+    protected void collectCorrelationParameterNames(CmmnModel cmmnModel, String eventDefinitionKey, Set<Set<String>> correlationParameterNames) {
+        for (Case caseModel : cmmnModel.getCases()) {
+            if (isEventTypeMatching(caseModel.getStartEventType(), eventDefinitionKey)) {
+                addCorrelationParameterNames(caseModel, correlationParameterNames);
+            }
+
+            for (GenericEventListener eventListener : caseModel.getPlanModel().findPlanItemDefinitionsOfType(GenericEventListener.class, true)) {
+                if (isEventTypeMatching(eventListener.getEventType(), eventDefinitionKey)) {
+                    addCorrelationParameterNames(eventListener, correlationParameterNames);
+                }
+            }
+        }
+    }
+
+    protected void addCorrelationParameterNames(BaseElement element, Set<Set<String>> correlationParameterNames) {
+        List<ExtensionElement> eventCorrelations = element.getExtensionElements()
+            .getOrDefault(CmmnXmlConstants.ELEMENT_EVENT_CORRELATION_PARAMETER, Collections.emptyList());
+        if (!eventCorrelations.isEmpty()) {
+            Set<String> parameterNames = new HashSet<>();
+            for (ExtensionElement eventCorrelation : eventCorrelations) {
+                parameterNames.add(eventCorrelation.getAttributeValue(null, "name"));
+            }
+            correlationParameterNames.add(parameterNames);
+        }
+    }
+
     protected String getStartCorrelationConfiguration(EventSubscription eventSubscription) {
         CmmnModel cmmnModel = cmmnEngineConfiguration.getCmmnRepositoryService().getCmmnModel(eventSubscription.getScopeDefinitionId());
         if (cmmnModel != null) {
@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.engine.impl.history.async.json;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.cmmn.engine.impl.history.async.CmmnAsyncHistoryConstants;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.history.async.transformer.AbstractHistoryJsonPrefetcher;
+import org.flowable.task.service.HistoricTaskService;
+import org.flowable.variable.service.HistoricVariableService;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Prefetches the historic tasks and variables referenced by a grouped CMMN async history job with IN queries.
+ */
+public class CmmnHistoryJsonPrefetcher extends AbstractHistoryJsonPrefetcher {
+
+    protected static final List<String> TASK_TYPES = Arrays.asList(
+            CmmnAsyncHistoryConstants.TYPE_TASK_UPDATED,
+            CmmnAsyncHistoryConstants.TYPE_TASK_REMOVED);
+
+    protected static final List<String> VARIABLE_TYPES = Arrays.asList(
+            CmmnAsyncHistoryConstants.TYPE_VARIABLE_UPDATED,
+            CmmnAsyncHistoryConstants.TYPE_VARIABLE_REMOVED);
+
+    @Override
+    public void prefetch(Map<String, List<ObjectNode>> historicalDataByType, CommandContext commandContext) {
+        prefetchHistoricTasks(historicalDataByType, commandContext);
+        prefetchHistoricVariables(historicalDataByType, commandContext);
+    }
+
+    protected void prefetchHistoricTasks(Map<String, List<ObjectNode>> historicalDataByType, CommandContext commandContext) {
+        Set<String> taskIds = collectValues(historicalDataByType, TASK_TYPES, CmmnAsyncHistoryConstants.FIELD_ID);
+        taskIds.removeAll(collectValues(historicalDataByType, 
+                Collections.singletonList(CmmnAsyncHistoryConstants.TYPE_TASK_CREATED), CmmnAsyncHistoryConstants.FIELD_ID));
+
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+        fetch(taskIds, historicTaskService::findHistoricTasksByIds);
+    }
+
+    protected void prefetchHistoricVariables(Map<String, List<ObjectNode>> historicalDataByType, CommandContext commandContext) {
+        Set<String> variableIds = collectValues(historicalDataByType, VARIABLE_TYPES, CmmnAsyncHistoryConstants.FIELD_ID);
+        variableIds.removeAll(collectValues(historicalDataByType, 
+                Collections.singletonList(CmmnAsyncHistoryConstants.TYPE_VARIABLE_CREATED), CmmnAsyncHistoryConstants.FIELD_ID));
+
+        HistoricVariableService historicVariableService = CommandContextUtil.getHistoricVariableService(commandContext);
+        fetch(variableIds, historicVariableService::findHistoricVariableInstancesByIds);
+    }
+
+}
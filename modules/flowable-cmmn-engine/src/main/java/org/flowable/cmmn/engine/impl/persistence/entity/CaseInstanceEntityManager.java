@@ -37,6 +37,8 @@ public interface CaseInstanceEntityManager extends EntityManager<CaseInstanceEnt
     
     void updateLockTime(String caseInstanceId);
 
+    void lockCaseInstanceRow(String caseInstanceId);
+
     void clearLockTime(String caseInstanceId);
 
     void updateCaseInstanceBusinessKey(CaseInstanceEntity caseInstanceEntity, String businessKey);
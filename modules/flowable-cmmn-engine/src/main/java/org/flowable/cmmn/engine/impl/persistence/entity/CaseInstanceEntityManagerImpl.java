@@ -194,6 +194,11 @@ public class CaseInstanceEntityManagerImpl
         dataManager.updateLockTime(caseInstanceId, lockDate, expirationTime);
     }
 
+    @Override
+    public void lockCaseInstanceRow(String caseInstanceId) {
+        dataManager.lockCaseInstanceRow(caseInstanceId, getClock().getCurrentTime());
+    }
+
     @Override
     public void clearLockTime(String caseInstanceId) {
         dataManager.clearLockTime(caseInstanceId);
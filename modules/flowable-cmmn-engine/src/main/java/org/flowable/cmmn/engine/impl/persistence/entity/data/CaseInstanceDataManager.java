@@ -37,5 +37,7 @@ public interface CaseInstanceDataManager extends DataManager<CaseInstanceEntity>
 
     void updateLockTime(String caseInstanceId, Date lockDate, Date expirationTime);
 
+    void lockCaseInstanceRow(String caseInstanceId, Date expirationTime);
+
     void clearLockTime(String caseInstanceId);
 }
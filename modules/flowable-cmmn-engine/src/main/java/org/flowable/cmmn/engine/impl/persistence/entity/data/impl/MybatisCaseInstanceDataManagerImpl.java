@@ -17,6 +17,7 @@ import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -24,6 +25,7 @@ import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntityImpl;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityImpl;
+import org.flowable.cmmn.engine.impl.persistence.entity.SentryPartInstanceEntity;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.CaseInstanceDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.impl.matcher.CaseInstanceByCaseDefinitionIdMatcher;
@@ -92,6 +94,7 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
             List<PlanItemInstanceEntity> allPlanItemInstances = caseInstanceEntity.getChildPlanItemInstances();
             ArrayList<PlanItemInstanceEntity> directPlanItemInstances = new ArrayList<>();
             HashMap<String, PlanItemInstanceEntity> planItemInstanceMap = new HashMap<>(allPlanItemInstances.size());
+            HashMap<String, PlanItemInstanceEntity> fetchedPlanItemInstanceMap = new HashMap<>(allPlanItemInstances.size());
 
             // Map all plan item instances to its id
             for (PlanItemInstanceEntity planItemInstanceEntity : allPlanItemInstances) {
@@ -109,6 +112,7 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
                 } else {
                     // Mapping
                     planItemInstanceMap.put(planItemInstanceEntity.getId(), planItemInstanceEntity);
+                    fetchedPlanItemInstanceMap.put(planItemInstanceEntity.getId(), planItemInstanceEntity);
 
                     // Cache
                     entityCache.put(planItemInstanceEntity, true);
@@ -143,6 +147,11 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
             }
 
             caseInstanceEntity.setChildPlanItemInstances(directPlanItemInstances);
+
+            if (cmmnEngineConfiguration.isEnableEagerPlanItemInstanceTreeFetching()) {
+                fetchSentryPartInstances(caseInstanceEntity, fetchedPlanItemInstanceMap);
+            }
+
             return caseInstanceEntity;
 
         } else {
@@ -151,6 +160,35 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         }
     }
 
+    /**
+     * Fetches all sentry part instances of the case instance in one query and sets them on the case instance and the fetched plan item instances,
+     * instead of fetching them for every plan item instance when its sentries are evaluated.
+     * Plan item instances that were already cached keep their (possibly changed) sentry part instances.
+     */
+    protected void fetchSentryPartInstances(CaseInstanceEntity caseInstanceEntity, Map<String, PlanItemInstanceEntity> fetchedPlanItemInstanceMap) {
+        for (PlanItemInstanceEntity planItemInstanceEntity : fetchedPlanItemInstanceMap.values()) {
+            planItemInstanceEntity.setSatisfiedSentryPartInstances(new ArrayList<>(1));
+        }
+
+        List<SentryPartInstanceEntity> caseInstanceSentryPartInstances = new ArrayList<>(1);
+        List<SentryPartInstanceEntity> sentryPartInstances = cmmnEngineConfiguration.getSentryPartInstanceDataManager()
+            .findSentryPartInstancesByCaseInstanceId(caseInstanceEntity.getId());
+        for (SentryPartInstanceEntity sentryPartInstanceEntity : sentryPartInstances) {
+            if (sentryPartInstanceEntity.getPlanItemInstanceId() == null) {
+                caseInstanceSentryPartInstances.add(sentryPartInstanceEntity);
+
+            } else {
+                // Sentry part instances of ended or cached plan item instances are not set
+                PlanItemInstanceEntity planItemInstanceEntity = fetchedPlanItemInstanceMap.get(sentryPartInstanceEntity.getPlanItemInstanceId());
+                if (planItemInstanceEntity != null) {
+                    planItemInstanceEntity.getSatisfiedSentryPartInstances().add(sentryPartInstanceEntity);
+                }
+            }
+        }
+
+        caseInstanceEntity.setSatisfiedSentryPartInstances(caseInstanceSentryPartInstances);
+    }
+
     @Override
     public List<CaseInstanceEntity> findCaseInstancesByCaseDefinitionId(String caseDefinitionId) {
         return getList("selectCaseInstancesByCaseDefinitionId", caseDefinitionId, caseInstanceByCaseDefinitionIdMatcher, true);
@@ -219,6 +257,19 @@ public class MybatisCaseInstanceDataManagerImpl extends AbstractCmmnDataManager<
         }
     }
 
+    @Override
+    public void lockCaseInstanceRow(String caseInstanceId, Date expirationTime) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("id", caseInstanceId);
+        params.put("expirationTime", expirationTime);
+
+        // Fails immediately when the row is locked by another transaction
+        Object lockedCaseInstanceId = getDbSqlSession().selectOne("selectCaseInstanceForUpdateNoWait", params);
+        if (lockedCaseInstanceId == null) {
+            throw new FlowableOptimisticLockingException("Could not lock case instance");
+        }
+    }
+
     @Override
     public void clearLockTime(String caseInstanceId) {
         HashMap<String, Object> params = new HashMap<>();
@@ -14,8 +14,10 @@ package org.flowable.cmmn.engine.impl.persistence.entity.data.impl;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.engine.CmmnEngineConfiguration;
@@ -24,6 +26,8 @@ import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntityIm
 import org.flowable.cmmn.engine.impl.persistence.entity.data.AbstractCmmnDataManager;
 import org.flowable.cmmn.engine.impl.persistence.entity.data.PlanItemInstanceDataManager;
 import org.flowable.cmmn.engine.impl.runtime.PlanItemInstanceQueryImpl;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcherAdapter;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 
@@ -31,6 +35,8 @@ import org.flowable.common.engine.impl.persistence.cache.EntityCache;
  * @author Joram Barrez
  */
 public class MybatisPlanItemInstanceDataManagerImpl extends AbstractCmmnDataManager<PlanItemInstanceEntity> implements PlanItemInstanceDataManager {
+
+    protected static final String FETCHED_CASE_INSTANCE_IDS_ATTRIBUTE = MybatisPlanItemInstanceDataManagerImpl.class.getName() + ".fetchedCaseInstanceIds";
     
     protected PlanItemInstanceByCaseInstanceIdCachedEntityMatcher planItemInstanceByCaseInstanceIdCachedEntityMatcher =
             new PlanItemInstanceByCaseInstanceIdCachedEntityMatcher();
@@ -80,6 +86,9 @@ public class MybatisPlanItemInstanceDataManagerImpl extends AbstractCmmnDataMana
     
     @Override
     public List<PlanItemInstanceEntity> findByCaseInstanceId(String caseInstanceId) {
+        if (isPlanItemInstanceTreeFetched(caseInstanceId)) {
+            return getListFromCache(planItemInstanceByCaseInstanceIdCachedEntityMatcher, caseInstanceId);
+        }
         return getList("selectPlanItemInstancesByCaseInstanceId", caseInstanceId, planItemInstanceByCaseInstanceIdCachedEntityMatcher, true);
     }
 
@@ -93,9 +102,41 @@ public class MybatisPlanItemInstanceDataManagerImpl extends AbstractCmmnDataMana
         Map<String, Object> params = new HashMap<>();
         params.put("caseInstanceId", caseInstanceId);
         params.put("planItemId", planitemId);
+        if (isPlanItemInstanceTreeFetched(caseInstanceId)) {
+            return getListFromCache(planItemInstanceByCaseInstanceIdAndPlanItemIdCachedEntityMatcher, params);
+        }
         return getList("selectPlanItemInstancesByCaseInstanceIdAndPlanItemId", params, planItemInstanceByCaseInstanceIdAndPlanItemIdCachedEntityMatcher);
     }
 
+    /**
+     * Fetches all plan item instances of the case instance (including the ended ones) once per command, when eager plan item instance tree fetching is enabled.
+     * Afterwards, the plan item instances of the case instance can be found in the entity cache, including the ones created in the same command.
+     *
+     * @return true, if all plan item instances of the case instance are in the entity cache
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean isPlanItemInstanceTreeFetched(String caseInstanceId) {
+        if (!cmmnEngineConfiguration.isEnableEagerPlanItemInstanceTreeFetching() || caseInstanceId == null) {
+            return false;
+        }
+
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        if (commandContext == null) {
+            return false;
+        }
+
+        Set<String> fetchedCaseInstanceIds = (Set<String>) commandContext.getAttribute(FETCHED_CASE_INSTANCE_IDS_ATTRIBUTE);
+        if (fetchedCaseInstanceIds == null) {
+            fetchedCaseInstanceIds = new HashSet<>();
+            commandContext.addAttribute(FETCHED_CASE_INSTANCE_IDS_ATTRIBUTE, fetchedCaseInstanceIds);
+        }
+
+        if (fetchedCaseInstanceIds.add(caseInstanceId)) {
+            getList("selectPlanItemInstancesByCaseInstanceId", caseInstanceId, planItemInstanceByCaseInstanceIdCachedEntityMatcher, true);
+        }
+        return true;
+    }
+
     @Override
     public long countByCriteria(PlanItemInstanceQueryImpl planItemInstanceQuery) {
         return (Long) getDbSqlSession().selectOne("selectPlanItemInstanceCountByQueryCriteria", planItemInstanceQuery);
@@ -51,6 +51,7 @@ import org.flowable.cmmn.engine.impl.cmd.GetStageOverviewCmd;
 import org.flowable.cmmn.engine.impl.cmd.GetStartFormModelCmd;
 import org.flowable.cmmn.engine.impl.cmd.GetVariableCmd;
 import org.flowable.cmmn.engine.impl.cmd.GetVariablesCmd;
+import org.flowable.cmmn.engine.impl.cmd.GetVariablesForCaseInstancesCmd;
 import org.flowable.cmmn.engine.impl.cmd.HasCaseInstanceVariableCmd;
 import org.flowable.cmmn.engine.impl.cmd.RemoveLocalVariableCmd;
 import org.flowable.cmmn.engine.impl.cmd.RemoveLocalVariablesCmd;
@@ -172,6 +173,11 @@ public class CmmnRuntimeServiceImpl extends CommonEngineServiceImpl<CmmnEngineCo
     public Map<String, Object> getVariables(String caseInstanceId) {
         return commandExecutor.execute(new GetVariablesCmd(caseInstanceId));
     }
+
+    @Override
+    public Map<String, Map<String, Object>> getVariablesForCaseInstances(Collection<String> caseInstanceIds, Collection<String> variableNames) {
+        return commandExecutor.execute(new GetVariablesForCaseInstancesCmd(caseInstanceIds, variableNames));
+    }
     
     @Override
     public Map<String, VariableInstance> getVariableInstances(String caseInstanceId) {
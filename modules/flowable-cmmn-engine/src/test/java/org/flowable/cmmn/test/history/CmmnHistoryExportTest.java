@@ -0,0 +1,143 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.cmmn.api.runtime.CaseInstance;
+import org.flowable.cmmn.engine.test.CmmnDeployment;
+import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.common.engine.api.history.HistoryExportResult;
+import org.flowable.common.engine.api.history.HistoryExportSink;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.task.api.Task;
+import org.junit.After;
+import org.junit.Test;
+
+public class CmmnHistoryExportTest extends FlowableCmmnTestCase {
+
+    @After
+    public void resetClock() {
+        cmmnEngineConfiguration.getClock().reset();
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testExportAllTables() {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+            CaseInstance caseInstance1 = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("oneTaskCase")
+                    .variables(Collections.singletonMap("var", "value1"))
+                    .start();
+            CaseInstance caseInstance2 = cmmnRuntimeService.createCaseInstanceBuilder()
+                    .caseDefinitionKey("oneTaskCase")
+                    .variables(Collections.singletonMap("var", "value2"))
+                    .start();
+            Task task = cmmnTaskService.createTaskQuery().caseInstanceId(caseInstance1.getId()).singleResult();
+            cmmnTaskService.complete(task.getId());
+            moveClockPastWatermarkLag();
+
+            CollectingHistoryExportSink sink = new CollectingHistoryExportSink();
+            HistoryExportResult result = cmmnHistoryService.createHistoryExport().partitions(2).export(sink);
+
+            assertThat(sink.tables).containsExactly("ACT_CMMN_HI_CASE_INST", "ACT_CMMN_HI_PLAN_ITEM_INST", "ACT_HI_TASKINST", "ACT_HI_VARINST");
+            assertThat(sink.getValues("ACT_CMMN_HI_CASE_INST", "ID_")).containsExactlyInAnyOrder(caseInstance1.getId(), caseInstance2.getId());
+            assertThat(sink.getValues("ACT_CMMN_HI_PLAN_ITEM_INST", "CASE_INST_ID_")).containsOnly(caseInstance1.getId(), caseInstance2.getId());
+            assertThat(sink.getValues("ACT_HI_TASKINST", "SCOPE_ID_")).containsExactlyInAnyOrder(caseInstance1.getId(), caseInstance2.getId());
+            assertThat(sink.getValues("ACT_HI_VARINST", "TEXT_")).containsExactlyInAnyOrder("value1", "value2");
+            assertThat(result.getTotalRowCount()).isEqualTo(sink.rows.values().stream().mapToLong(List::size).sum());
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/one-human-task-model.cmmn")
+    public void testIncrementalExport() {
+        if (cmmnEngineConfiguration.getHistoryLevel().isAtLeast(HistoryLevel.AUDIT)) {
+            cmmnEngineConfiguration.getClock().setCurrentTime(new Date());
+            CaseInstance caseInstance1 = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+
+            // The case instance was changed within the watermark lag, so it is left for the next export
+            HistoryExportResult result = cmmnHistoryService.createHistoryExport()
+                    .tables("ACT_CMMN_HI_CASE_INST")
+                    .export(new CollectingHistoryExportSink());
+            assertThat(result.getRowCounts().get("ACT_CMMN_HI_CASE_INST")).isZero();
+
+            moveClockPastWatermarkLag();
+            result = cmmnHistoryService.createHistoryExport()
+                    .tables("ACT_CMMN_HI_CASE_INST")
+                    .export(new CollectingHistoryExportSink());
+            assertThat(result.getRowCounts().get("ACT_CMMN_HI_CASE_INST")).isEqualTo(1L);
+
+            CaseInstance caseInstance2 = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("oneTaskCase").start();
+            moveClockPastWatermarkLag();
+
+            CollectingHistoryExportSink sink = new CollectingHistoryExportSink();
+            cmmnHistoryService.createHistoryExport()
+                    .tables("ACT_CMMN_HI_CASE_INST")
+                    .since(result.getWatermark())
+                    .export(sink);
+
+            assertThat(sink.getValues("ACT_CMMN_HI_CASE_INST", "ID_"))
+                    .containsExactly(caseInstance2.getId())
+                    .doesNotContain(caseInstance1.getId());
+        }
+    }
+
+    protected void moveClockPastWatermarkLag() {
+        Date currentTime = cmmnEngineConfiguration.getClock().getCurrentTime();
+        cmmnEngineConfiguration.getClock().setCurrentTime(new Date(currentTime.getTime() + cmmnEngineConfiguration.getHistoryExportWatermarkLagInMillis() + 1000L));
+    }
+
+    protected static class CollectingHistoryExportSink implements HistoryExportSink {
+
+        protected List<String> tables = new ArrayList<>();
+        protected Map<String, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+
+        @Override
+        public void startTable(String tableName, List<String> columnNames) {
+            tables.add(tableName);
+            rows.put(tableName, new ArrayList<>());
+        }
+
+        @Override
+        public void writeRow(String tableName, Map<String, Object> row) {
+            rows.get(tableName).add(row);
+        }
+
+        @Override
+        public void endTable(String tableName) {
+
+        }
+
+        @Override
+        public void finish() {
+
+        }
+
+        protected List<Object> getValues(String tableName, String columnName) {
+            List<Object> values = new ArrayList<>();
+            for (Map<String, Object> row : rows.get(tableName)) {
+                values.add(row.get(columnName));
+            }
+            return values;
+        }
+    }
+
+}
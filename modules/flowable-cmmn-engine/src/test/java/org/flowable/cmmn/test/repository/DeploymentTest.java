@@ -28,7 +28,7 @@ import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
 import org.flowable.cmmn.model.CmmnModel;
 import org.flowable.cmmn.model.PlanItem;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.h2.util.IOUtils;
 import org.junit.Test;
@@ -66,9 +66,9 @@ public class DeploymentTest extends FlowableCmmnTestCase {
         assertNotNull(inputStream);
         inputStream.close();
         
-        assertEquals(1, ((DefaultDeploymentCache<CaseDefinitionCacheEntry>) caseDefinitionCache).getAll().size());
+        assertEquals(1, ((ConcurrentDeploymentCache<CaseDefinitionCacheEntry>) caseDefinitionCache).getAll().size());
 
-        CaseDefinitionCacheEntry cachedCaseDefinition = ((DefaultDeploymentCache<CaseDefinitionCacheEntry>) caseDefinitionCache).getAll().iterator().next();
+        CaseDefinitionCacheEntry cachedCaseDefinition = ((ConcurrentDeploymentCache<CaseDefinitionCacheEntry>) caseDefinitionCache).getAll().iterator().next();
         assertNotNull(cachedCaseDefinition.getCase());
         assertNotNull(cachedCaseDefinition.getCmmnModel());
         assertNotNull(cachedCaseDefinition.getCaseDefinition());
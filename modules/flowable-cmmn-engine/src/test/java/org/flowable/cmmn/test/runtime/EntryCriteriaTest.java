@@ -28,8 +28,16 @@ import org.flowable.cmmn.api.repository.CaseDefinition;
 import org.flowable.cmmn.api.runtime.CaseInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstance;
 import org.flowable.cmmn.api.runtime.PlanItemInstanceState;
+import org.flowable.cmmn.engine.impl.criteria.SentryDependencyIndex;
+import org.flowable.cmmn.engine.impl.persistence.entity.CaseInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.PlanItemInstanceEntity;
+import org.flowable.cmmn.engine.impl.persistence.entity.deploy.CaseDefinitionCacheEntry;
+import org.flowable.cmmn.engine.impl.util.CommandContextUtil;
 import org.flowable.cmmn.engine.test.CmmnDeployment;
 import org.flowable.cmmn.engine.test.FlowableCmmnTestCase;
+import org.flowable.cmmn.model.Criterion;
+import org.flowable.cmmn.model.Stage;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.task.api.Task;
 import org.junit.Assert;
 import org.junit.Test;
@@ -352,4 +360,113 @@ public class EntryCriteriaTest extends FlowableCmmnTestCase {
 
     }
 
+    @Test
+    @CmmnDeployment
+    public void testSentryDependencyIndex() {
+        CaseDefinition caseDefinition = cmmnRepositoryService.createCaseDefinitionQuery().caseDefinitionKey("myCase").singleResult();
+        CaseDefinitionCacheEntry cacheEntry = cmmnEngineConfiguration.getCaseDefinitionCache().get(caseDefinition.getId());
+        SentryDependencyIndex sentryDependencyIndex = cacheEntry.getSentryDependencyIndex();
+        assertNotNull(sentryDependencyIndex);
+
+        Stage planModel = cacheEntry.getCase().getPlanModel();
+        Criterion milestoneCriterion = planModel.findPlanItemInPlanFragmentOrDownwards("planItemMilestone").getEntryCriteria().get(0);
+        assertThat(sentryDependencyIndex.isCriterionAffectedBy(milestoneCriterion, "planItemTaskB")).isTrue();
+        assertThat(sentryDependencyIndex.isCriterionAffectedBy(milestoneCriterion, "planItemTaskA")).isFalse();
+
+        // A criterion with an if part needs to be evaluated for every plan item transition
+        Criterion taskCriterion = planModel.findPlanItemInPlanFragmentOrDownwards("planItemTaskC").getEntryCriteria().get(0);
+        assertThat(sentryDependencyIndex.isCriterionAffectedBy(taskCriterion, "planItemTaskB")).isTrue();
+
+        CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+            .caseDefinitionKey("myCase")
+            .variable("enableC", false)
+            .start();
+
+        cmmnRuntimeService.triggerPlanItemInstance(getPlanItemInstanceIdByName(getPlanItemInstances(caseInstance.getId()), "A"));
+        assertPlanItemInstanceState(caseInstance, "C", PlanItemInstanceState.AVAILABLE);
+        assertPlanItemInstanceState(caseInstance, "M1", PlanItemInstanceState.AVAILABLE);
+
+        // Variable changes are not linked to a plan item, so all criteria are evaluated
+        cmmnRuntimeService.setVariable(caseInstance.getId(), "enableC", true);
+        assertPlanItemInstanceState(caseInstance, "C", PlanItemInstanceState.ACTIVE);
+        assertPlanItemInstanceState(caseInstance, "M1", PlanItemInstanceState.AVAILABLE);
+
+        cmmnRuntimeService.triggerPlanItemInstance(getPlanItemInstanceIdByName(getPlanItemInstances(caseInstance.getId()), "B"));
+        assertEquals(1, cmmnHistoryService.createHistoricMilestoneInstanceQuery().milestoneInstanceCaseInstanceId(caseInstance.getId()).count());
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/EntryCriteriaTest.testSentryDependencyIndex.cmmn")
+    public void testEagerPlanItemInstanceTreeFetching() {
+        cmmnEngineConfiguration.setEnableEagerPlanItemInstanceTreeFetching(true);
+        try {
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("myCase")
+                .variable("enableC", false)
+                .start();
+            cmmnRuntimeService.triggerPlanItemInstance(getPlanItemInstanceIdByName(getPlanItemInstances(caseInstance.getId()), "A"));
+
+            cmmnEngineConfiguration.getCommandExecutor().execute(commandContext -> {
+                CaseInstanceEntity caseInstanceEntity = CommandContextUtil.getCaseInstanceEntityManager(commandContext).findById(caseInstance.getId());
+                assertThat(caseInstanceEntity.getSatisfiedSentryPartInstances()).isEmpty();
+
+                PlanItemInstanceEntity planItemInstanceC = caseInstanceEntity.getChildPlanItemInstances().stream()
+                    .filter(planItemInstance -> "C".equals(planItemInstance.getName()))
+                    .findFirst()
+                    .get();
+                assertThat(planItemInstanceC.getSatisfiedSentryPartInstances()).hasSize(1);
+
+                // The plan item instances of the case are found in the entity cache now
+                List<PlanItemInstanceEntity> planItemInstances = CommandContextUtil.getPlanItemInstanceEntityManager(commandContext)
+                    .findByCaseInstanceIdAndPlanItemId(caseInstance.getId(), "planItemTaskC");
+                assertThat(planItemInstances).containsExactly(planItemInstanceC);
+
+                assertThat(CommandContextUtil.getPlanItemInstanceEntityManager(commandContext).findByCaseInstanceId(caseInstance.getId()))
+                    .extracting(PlanItemInstance::getName)
+                    .containsExactlyInAnyOrder("A", "B", "C", "M1");
+                return null;
+            });
+
+            cmmnRuntimeService.setVariable(caseInstance.getId(), "enableC", true);
+            assertPlanItemInstanceState(caseInstance, "C", PlanItemInstanceState.ACTIVE);
+
+        } finally {
+            cmmnEngineConfiguration.setEnableEagerPlanItemInstanceTreeFetching(false);
+        }
+    }
+
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/EntryCriteriaTest.testSentryDependencyIndex.cmmn")
+    public void testEagerPlanItemInstanceTreeFetchingInReadOnlyCommandContext() {
+        cmmnEngineConfiguration.setEnableEagerPlanItemInstanceTreeFetching(true);
+        try {
+            CaseInstance caseInstance = cmmnRuntimeService.createCaseInstanceBuilder()
+                .caseDefinitionKey("myCase")
+                .variable("enableC", false)
+                .start();
+
+            CommandExecutor commandExecutor = cmmnEngineConfiguration.getCommandExecutor();
+            commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), commandContext -> {
+                assertThat(commandContext.isReadOnly()).isTrue();
+
+                // The fetched plan item instances are looked up in the entity cache of the read-only command
+                assertThat(CommandContextUtil.getPlanItemInstanceEntityManager(commandContext).findByCaseInstanceId(caseInstance.getId()))
+                    .extracting(PlanItemInstance::getName)
+                    .containsExactlyInAnyOrder("A", "B", "C", "M1");
+                assertThat(CommandContextUtil.getPlanItemInstanceEntityManager(commandContext).findByCaseInstanceIdAndPlanItemId(caseInstance.getId(), "planItemTaskC"))
+                    .extracting(PlanItemInstance::getName)
+                    .containsExactly("C");
+                return null;
+            });
+
+            // Queries are executed in a read-only command context as well
+            assertThat(cmmnRuntimeService.createPlanItemInstanceQuery().caseInstanceId(caseInstance.getId()).list())
+                .extracting(PlanItemInstance::getName)
+                .containsExactlyInAnyOrder("A", "B", "C", "M1");
+
+        } finally {
+            cmmnEngineConfiguration.setEnableEagerPlanItemInstanceTreeFetching(false);
+        }
+    }
+
 }
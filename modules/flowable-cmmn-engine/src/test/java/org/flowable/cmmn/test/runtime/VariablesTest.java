@@ -21,6 +21,7 @@ import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -99,6 +100,32 @@ public class VariablesTest extends FlowableCmmnTestCase {
         assertNull(variableInstance);
     }
     
+    @Test
+    @CmmnDeployment(resources = "org/flowable/cmmn/test/runtime/VariablesTest.testGetVariables.cmmn")
+    public void testGetVariablesForCaseInstances() {
+        CaseInstance caseInstance1 = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase")
+                .variable("stringVar", "Hello World").variable("intVar", 42).start();
+        CaseInstance caseInstance2 = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase")
+                .variable("stringVar", "Hello Flowable").start();
+        CaseInstance caseInstance3 = cmmnRuntimeService.createCaseInstanceBuilder().caseDefinitionKey("myCase").start();
+
+        Map<String, Map<String, Object>> variables = cmmnRuntimeService.getVariablesForCaseInstances(
+                Arrays.asList(caseInstance1.getId(), caseInstance2.getId(), caseInstance3.getId()), null);
+        assertEquals(3, variables.size());
+        assertEquals(2, variables.get(caseInstance1.getId()).size());
+        assertEquals("Hello World", variables.get(caseInstance1.getId()).get("stringVar"));
+        assertEquals(42, variables.get(caseInstance1.getId()).get("intVar"));
+        assertEquals(1, variables.get(caseInstance2.getId()).size());
+        assertEquals("Hello Flowable", variables.get(caseInstance2.getId()).get("stringVar"));
+        assertTrue(variables.get(caseInstance3.getId()).isEmpty());
+
+        variables = cmmnRuntimeService.getVariablesForCaseInstances(Arrays.asList(caseInstance1.getId(), caseInstance2.getId()),
+                Collections.singletonList("intVar"));
+        assertEquals(1, variables.get(caseInstance1.getId()).size());
+        assertEquals(42, variables.get(caseInstance1.getId()).get("intVar"));
+        assertTrue(variables.get(caseInstance2.getId()).isEmpty());
+    }
+
     @Test
     @CmmnDeployment
     public void testGetLocalVariables() {
@@ -41,6 +41,20 @@ public interface CaseDiagramGenerator {
     public InputStream generateDiagram(CmmnModel cmmnModel, String imageType, String activityFontName, String labelFontName, 
                     String annotationFontName, ClassLoader customClassLoader, double scaleFactor);
 
+    /**
+     * Generates a diagram of the deployed case definition with the given id. As the model of a deployed case definition does not change,
+     * the diagram can be reused.
+     * 
+     * @param caseDefinitionId
+     *            id of the case definition of the cmmn model
+     * @see #generateDiagram(CmmnModel, String, String, String, String, ClassLoader, double)
+     */
+    default InputStream generateDiagram(String caseDefinitionId, CmmnModel cmmnModel, String imageType, String activityFontName, String labelFontName,
+            String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        return generateDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+    }
+
     /**
      * Generates a diagram of the given process definition, using the diagram interchange information of the process.
      * 
@@ -111,6 +111,8 @@ public class DefaultCaseDiagramCanvas {
     protected static BufferedImage DECISIONTASK_IMAGE;
     protected static BufferedImage SENDEVENTTASK_IMAGE;
 
+    protected static boolean defaultIconsLoaded;
+
     protected int canvasWidth = -1;
     protected int canvasHeight = -1;
     protected int minX = -1;
@@ -195,6 +197,18 @@ public class DefaultCaseDiagramCanvas {
         LABEL_FONT = new Font(labelFontName, Font.ITALIC, 10);
         ANNOTATION_FONT = new Font(annotationFontName, Font.PLAIN, FONT_SIZE);
 
+        loadIcons(customClassLoader);
+    }
+
+    /**
+     * Loads the icons used in the diagrams. The icons of the default class loader are only read once,
+     * icons of a custom class loader are read for every canvas (no reference to the class loader is kept).
+     */
+    protected static synchronized void loadIcons(ClassLoader customClassLoader) {
+        if (customClassLoader == null && defaultIconsLoaded) {
+            return;
+        }
+
         try {
             TIMER_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/timer.png", customClassLoader));
             USERLISTENER_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/user.png", customClassLoader));
@@ -205,6 +219,8 @@ public class DefaultCaseDiagramCanvas {
             DECISIONTASK_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/decisionTask.png", customClassLoader));
             SENDEVENTTASK_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/sendEventTask.png", customClassLoader));
 
+            defaultIconsLoaded = customClassLoader == null;
+
         } catch (IOException e) {
             LOGGER.warn("Could not load image for case diagram creation: {}", e.getMessage());
         }
@@ -216,6 +232,15 @@ public class DefaultCaseDiagramCanvas {
      * Throws an {@link FlowableImageException} when {@link #close()} is already called.
      */
     public InputStream generateImage(String imageType) {
+        return new ByteArrayInputStream(generateImageBytes(imageType));
+    }
+
+    /**
+     * Generates the encoded bytes of what currently is drawn on the canvas.
+     *
+     * Throws an {@link FlowableImageException} when {@link #close()} is already called.
+     */
+    public byte[] generateImageBytes(String imageType) {
         if (closed) {
             throw new FlowableImageException("CaseDiagramGenerator already closed");
         }
@@ -235,7 +260,7 @@ public class DefaultCaseDiagramCanvas {
                 // Exception is silently ignored
             }
         }
-        return new ByteArrayInputStream(out.toByteArray());
+        return out.toByteArray();
     }
 
     /**
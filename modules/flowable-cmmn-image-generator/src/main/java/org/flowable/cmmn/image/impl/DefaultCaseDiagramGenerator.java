@@ -14,10 +14,14 @@
 package org.flowable.cmmn.image.impl;
 
 import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EventListener;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -53,6 +57,15 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
 
     protected Map<Class<? extends CmmnElement>, ActivityDrawInstruction> activityDrawInstructions = new HashMap<>();
 
+    /**
+     * Generated diagrams, per case definition id and rendering options, see {@link #setDiagramCacheSize(int)}.
+     * Case diagrams have no highlights, so the encoded image can be reused as is. Only diagrams generated for a case definition id are cached.
+     */
+    protected int diagramCacheSize = 100;
+    protected long diagramCacheMaxBytes = 8L * 1024L * 1024L;
+    protected long diagramCacheBytes;
+    protected final Map<DiagramCacheKey, byte[]> diagramCache = new LinkedHashMap<>(16, 0.75f, true);
+
     public DefaultCaseDiagramGenerator() {
         this(1.0);
     }
@@ -201,6 +214,51 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
         return generateCaseDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor).generateImage(imageType);
     }
 
+    @Override
+    public InputStream generateDiagram(String caseDefinitionId, CmmnModel cmmnModel, String imageType,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor) {
+
+        if (diagramCacheSize <= 0 || caseDefinitionId == null) {
+            return generateDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+        }
+
+        DiagramCacheKey cacheKey = new DiagramCacheKey(caseDefinitionId, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+
+        byte[] diagram;
+        synchronized (diagramCache) {
+            diagram = diagramCache.get(cacheKey);
+        }
+
+        if (diagram == null) {
+            diagram = generateCaseDiagram(cmmnModel, imageType, activityFontName, labelFontName, annotationFontName,
+                    customClassLoader, scaleFactor).generateImageBytes(imageType);
+
+            cacheDiagram(cacheKey, diagram);
+        }
+
+        return new ByteArrayInputStream(diagram);
+    }
+
+    /**
+     * Adds the diagram to the cache and removes the least recently used diagrams
+     * until both the amount of diagrams and their size are within the configured limits.
+     */
+    protected void cacheDiagram(DiagramCacheKey cacheKey, byte[] diagram) {
+        synchronized (diagramCache) {
+            byte[] previousDiagram = diagramCache.put(cacheKey, diagram);
+            if (previousDiagram != null) {
+                diagramCacheBytes -= previousDiagram.length;
+            }
+            diagramCacheBytes += diagram.length;
+
+            Iterator<byte[]> diagrams = diagramCache.values().iterator();
+            while ((diagramCache.size() > diagramCacheSize || diagramCacheBytes > diagramCacheMaxBytes) && diagrams.hasNext()) {
+                diagramCacheBytes -= diagrams.next().length;
+                diagrams.remove();
+            }
+        }
+    }
+
     @Override
     public InputStream generateDiagram(CmmnModel cmmnModel, String imageType) {
         return generateDiagram(cmmnModel, imageType, null, null, null, null, 1.0);
@@ -530,6 +588,40 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
                 imageType, activityFontName, labelFontName, annotationFontName, customClassLoader);
     }
 
+    public int getDiagramCacheSize() {
+        return diagramCacheSize;
+    }
+
+    /**
+     * Sets the amount of case definitions of which the generated diagram is kept in memory (100 by default, 0 disables the cache).
+     */
+    public void setDiagramCacheSize(int diagramCacheSize) {
+        this.diagramCacheSize = diagramCacheSize;
+        clearDiagramCache();
+    }
+
+    public long getDiagramCacheMaxBytes() {
+        return diagramCacheMaxBytes;
+    }
+
+    /**
+     * Sets the maximum size of the encoded images kept in the diagram cache.
+     */
+    public void setDiagramCacheMaxBytes(long diagramCacheMaxBytes) {
+        this.diagramCacheMaxBytes = diagramCacheMaxBytes;
+        clearDiagramCache();
+    }
+
+    /**
+     * Removes all cached diagrams, e.g. after the {@link CmmnModel} of a case definition that was already rendered has been changed.
+     */
+    public void clearDiagramCache() {
+        synchronized (diagramCache) {
+            diagramCache.clear();
+            diagramCacheBytes = 0;
+        }
+    }
+
     public Map<Class<? extends CmmnElement>, ActivityDrawInstruction> getActivityDrawInstructions() {
         return activityDrawInstructions;
     }
@@ -539,6 +631,36 @@ public class DefaultCaseDiagramGenerator implements CaseDiagramGenerator {
         this.activityDrawInstructions = activityDrawInstructions;
     }
 
+    protected static class DiagramCacheKey {
+
+        protected final String caseDefinitionId;
+        protected final List<Object> parameters;
+
+        public DiagramCacheKey(String caseDefinitionId, String imageType, String activityFontName, String labelFontName, String annotationFontName,
+                ClassLoader customClassLoader, double scaleFactor) {
+
+            this.caseDefinitionId = caseDefinitionId;
+            this.parameters = Arrays.asList(imageType, activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DiagramCacheKey other = (DiagramCacheKey) o;
+            return caseDefinitionId.equals(other.caseDefinitionId) && parameters.equals(other.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * caseDefinitionId.hashCode() + parameters.hashCode();
+        }
+    }
+
     protected interface ActivityDrawInstruction {
         void draw(DefaultCaseDiagramCanvas caseDiagramCanvas, CmmnModel cmmnModel, CaseElement caseElement);
     }
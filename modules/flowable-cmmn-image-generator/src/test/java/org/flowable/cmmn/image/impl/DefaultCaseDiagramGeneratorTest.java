@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.cmmn.image.impl;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.flowable.cmmn.model.Case;
+import org.flowable.cmmn.model.CmmnModel;
+import org.flowable.cmmn.model.GraphicInfo;
+import org.flowable.cmmn.model.Stage;
+import org.junit.Test;
+
+public class DefaultCaseDiagramGeneratorTest {
+
+    @Test
+    public void testDiagramsWithoutCaseDefinitionIdAreNotCached() throws IOException {
+        DefaultCaseDiagramGenerator generator = new DefaultCaseDiagramGenerator();
+        assertEquals(100, generator.getDiagramCacheSize());
+
+        readDiagram(generator.generatePngDiagram(createCmmnModel()));
+        assertTrue(generator.diagramCache.isEmpty());
+    }
+
+    @Test
+    public void testCachedDiagram() throws IOException {
+        CmmnModel cmmnModel = createCmmnModel();
+        byte[] expectedDiagram = readDiagram(new DefaultCaseDiagramGenerator().generatePngDiagram(cmmnModel));
+
+        DefaultCaseDiagramGenerator generator = new DefaultCaseDiagramGenerator();
+
+        assertArrayEquals(expectedDiagram, readDiagram(generateDiagram(generator, "caseDefinition1", cmmnModel)));
+        assertEquals(1, generator.diagramCache.size());
+        assertEquals(expectedDiagram.length, generator.diagramCacheBytes);
+
+        // The diagram is cached per case definition id, also when the model is fetched again
+        assertArrayEquals(expectedDiagram, readDiagram(generateDiagram(generator, "caseDefinition1", createCmmnModel())));
+        assertEquals(1, generator.diagramCache.size());
+    }
+
+    @Test
+    public void testDiagramCacheLimits() throws IOException {
+        DefaultCaseDiagramGenerator generator = new DefaultCaseDiagramGenerator();
+        generator.setDiagramCacheSize(1);
+
+        CmmnModel cmmnModel = createCmmnModel();
+        readDiagram(generateDiagram(generator, "caseDefinition1", cmmnModel));
+        readDiagram(generateDiagram(generator, "caseDefinition2", cmmnModel));
+        assertEquals(1, generator.diagramCache.size());
+        assertEquals("caseDefinition2", generator.diagramCache.keySet().iterator().next().caseDefinitionId);
+
+        // Diagrams are removed when the cached images are larger than the maximum size
+        generator.setDiagramCacheSize(10);
+        generator.setDiagramCacheMaxBytes(1L);
+        readDiagram(generateDiagram(generator, "caseDefinition1", cmmnModel));
+        assertTrue(generator.diagramCache.isEmpty());
+        assertEquals(0L, generator.diagramCacheBytes);
+    }
+
+    protected InputStream generateDiagram(DefaultCaseDiagramGenerator generator, String caseDefinitionId, CmmnModel cmmnModel) {
+        return generator.generateDiagram(caseDefinitionId, cmmnModel, "png", null, null, null, null, 1.0);
+    }
+
+    protected CmmnModel createCmmnModel() {
+        CmmnModel cmmnModel = new CmmnModel();
+        Case caseModel = new Case();
+        caseModel.setId("case");
+        Stage planModel = new Stage();
+        planModel.setId("planModel");
+        planModel.setName("Plan model");
+        planModel.setPlanModel(true);
+        caseModel.setPlanModel(planModel);
+        cmmnModel.addCase(caseModel);
+
+        GraphicInfo graphicInfo = new GraphicInfo();
+        graphicInfo.setX(10);
+        graphicInfo.setY(10);
+        graphicInfo.setWidth(400);
+        graphicInfo.setHeight(200);
+        cmmnModel.addGraphicInfo(planModel.getId(), graphicInfo);
+        return cmmnModel;
+    }
+
+    protected byte[] readDiagram(InputStream diagram) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int read;
+        while ((read = diagram.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, read);
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -15,10 +15,10 @@ package org.flowable.cmmn.rest.service.api.repository;
 
 import java.io.InputStream;
 
-import org.apache.commons.io.IOUtils;
 import org.flowable.cmmn.api.repository.CaseDefinition;
-import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -47,18 +47,14 @@ public class CaseDefinitionImageResource extends BaseCaseDefinitionResource {
             @ApiResponse(code = 404, message = "Indicates the requested case definition was not found.")
     })
     @GetMapping(value = "/cmmn-repository/case-definitions/{caseDefinitionId}/image", produces = MediaType.IMAGE_PNG_VALUE)
-    public ResponseEntity<byte[]> getImageResource(@ApiParam(name = "caseDefinitionId") @PathVariable String caseDefinitionId) {
+    public ResponseEntity<Resource> getImageResource(@ApiParam(name = "caseDefinitionId") @PathVariable String caseDefinitionId) {
         CaseDefinition caseDefinition = getCaseDefinitionFromRequest(caseDefinitionId);
         InputStream imageStream = repositoryService.getCaseDiagram(caseDefinition.getId());
 
         if (imageStream != null) {
             HttpHeaders responseHeaders = new HttpHeaders();
             responseHeaders.set("Content-Type", MediaType.IMAGE_PNG_VALUE);
-            try {
-                return new ResponseEntity<>(IOUtils.toByteArray(imageStream), responseHeaders, HttpStatus.OK);
-            } catch (Exception e) {
-                throw new FlowableException("Error reading image stream", e);
-            }
+            return new ResponseEntity<>(new InputStreamResource(imageStream), responseHeaders, HttpStatus.OK);
         } else {
             throw new FlowableObjectNotFoundException("Case definition with id '" + caseDefinition.getId() + "' has no image.");
         }
@@ -17,7 +17,6 @@ import java.io.InputStream;
 
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.flowable.cmmn.api.CmmnRepositoryService;
 import org.flowable.cmmn.api.repository.CaseDefinition;
 import org.flowable.cmmn.api.runtime.CaseInstance;
@@ -26,6 +25,8 @@ import org.flowable.cmmn.image.CaseDiagramGenerator;
 import org.flowable.cmmn.model.CmmnModel;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -60,7 +61,7 @@ public class CaseInstanceDiagramResource extends BaseCaseInstanceResource {
             @ApiResponse(code = 404, message = "Indicates the requested case instance was not found.")
     })
     @GetMapping(value = "/cmmn-runtime/case-instances/{caseInstanceId}/diagram")
-    public ResponseEntity<byte[]> getCaseInstanceDiagram(@ApiParam(name = "caseInstanceId") @PathVariable String caseInstanceId, HttpServletResponse response) {
+    public ResponseEntity<Resource> getCaseInstanceDiagram(@ApiParam(name = "caseInstanceId") @PathVariable String caseInstanceId, HttpServletResponse response) {
         CaseInstance caseInstance = getCaseInstanceFromRequest(caseInstanceId);
 
         CaseDefinition caseDef = repositoryService.getCaseDefinition(caseInstance.getCaseDefinitionId());
@@ -68,16 +69,12 @@ public class CaseInstanceDiagramResource extends BaseCaseInstanceResource {
         if (caseDef != null && caseDef.hasGraphicalNotation()) {
             CmmnModel cmmnModel = repositoryService.getCmmnModel(caseDef.getId());
             CaseDiagramGenerator diagramGenerator = cmmnEngineConfiguration.getCaseDiagramGenerator();
-            InputStream resource = diagramGenerator.generateDiagram(cmmnModel, "png", cmmnEngineConfiguration.getActivityFontName(), cmmnEngineConfiguration.getLabelFontName(),
+            InputStream resource = diagramGenerator.generateDiagram(caseDef.getId(), cmmnModel, "png", cmmnEngineConfiguration.getActivityFontName(), cmmnEngineConfiguration.getLabelFontName(),
                             cmmnEngineConfiguration.getAnnotationFontName(), cmmnEngineConfiguration.getClassLoader(), 1.0);
 
             HttpHeaders responseHeaders = new HttpHeaders();
             responseHeaders.set("Content-Type", "image/png");
-            try {
-                return new ResponseEntity<>(IOUtils.toByteArray(resource), responseHeaders, HttpStatus.OK);
-            } catch (Exception e) {
-                throw new FlowableIllegalArgumentException("Error exporting diagram", e);
-            }
+            return new ResponseEntity<>(new InputStreamResource(resource), responseHeaders, HttpStatus.OK);
 
         } else {
             throw new FlowableIllegalArgumentException("Case instance with id '" + caseInstance.getId() + "' has no graphical notation defined.");
@@ -0,0 +1,76 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.rest.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Supplier;
+
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+
+/**
+ * A {@link Resource} for binary content of which the length is known up front (e.g. from the metadata of the storage).
+ *
+ * The content is streamed to the client instead of being read into memory first. Contrary to an {@link InputStreamResource},
+ * Spring MVC answers HTTP range requests for this resource: the stream is (re)opened through the supplier for every requested range.
+ *
+ * A stream is only opened when the content is written, so no stream is left open when the resource is discarded without writing it
+ * (e.g. because the request failed before).
+ */
+public class ContentStreamResource extends AbstractResource {
+
+    protected final String description;
+    protected final long contentLength;
+    protected final Supplier<InputStream> inputStreamSupplier;
+
+    /**
+     * @param description
+     *            description of the content, used in error messages
+     * @param contentLength
+     *            the length of the content in bytes
+     * @param inputStreamSupplier
+     *            supplier opening a new stream of the content
+     */
+    public ContentStreamResource(String description, long contentLength, Supplier<InputStream> inputStreamSupplier) {
+        this.description = description;
+        this.contentLength = contentLength;
+        this.inputStreamSupplier = inputStreamSupplier;
+    }
+
+    @Override
+    public InputStream getInputStream() throws IOException {
+        InputStream inputStream = inputStreamSupplier.get();
+        if (inputStream == null) {
+            throw new IOException("No content available for " + description);
+        }
+        return inputStream;
+    }
+
+    @Override
+    public long contentLength() {
+        return contentLength;
+    }
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+}
@@ -223,6 +223,8 @@ public class ContentEngineConfiguration extends AbstractEngineConfiguration impl
             dbSqlSessionFactory = createDbSqlSessionFactory();
             dbSqlSessionFactory.setDatabaseType(databaseType);
             dbSqlSessionFactory.setSqlSessionFactory(sqlSessionFactory);
+            dbSqlSessionFactory.setReadOnlySqlSessionFactory(readOnlySqlSessionFactory);
+            dbSqlSessionFactory.setReadOnlyStalenessPolicy(readOnlyStalenessPolicy);
             dbSqlSessionFactory.setDatabaseTablePrefix(databaseTablePrefix);
             dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
             dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
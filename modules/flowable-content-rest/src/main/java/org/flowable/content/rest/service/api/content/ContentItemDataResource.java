@@ -18,13 +18,15 @@ import java.io.InputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.rest.util.ContentStreamResource;
 import org.flowable.content.api.ContentItem;
 import org.flowable.content.rest.ContentRestResponseFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -62,18 +64,13 @@ public class ContentItemDataResource extends ContentItemBaseResource {
             @ApiResponse(code = 404, message = "Indicates the content item was not found or the content item does not have a binary stream available. Status message provides additional information.")
     })
     @GetMapping(value = "/content-service/content-items/{contentItemId}/data")
-    public ResponseEntity<byte[]> getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletResponse response) {
+    public ResponseEntity<Resource> getContentItemData(@ApiParam(name = "contentItemId") @PathVariable("contentItemId") String contentItemId, HttpServletResponse response) {
 
         ContentItem contentItem = getContentItemFromRequest(contentItemId);
         if (!contentItem.isContentAvailable()) {
             throw new FlowableException("No data available for content item " + contentItemId);
         }
 
-        InputStream dataStream = contentService.getContentItemData(contentItemId);
-        if (dataStream == null) {
-            throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
-        }
-
         HttpHeaders responseHeaders = new HttpHeaders();
         MediaType mediaType = null;
         if (contentItem.getMimeType() != null) {
@@ -89,11 +86,22 @@ public class ContentItemDataResource extends ContentItemBaseResource {
             responseHeaders.set("Content-Type", "application/octet-stream");
         }
 
-        try {
-            return new ResponseEntity<>(IOUtils.toByteArray(dataStream), responseHeaders, HttpStatus.OK);
-        } catch (Exception e) {
-            throw new FlowableException("Error getting content item data " + contentItemId, e);
+        // The data is streamed from the content storage. When the size is known from the content item,
+        // a Content-Length is returned, the data stream is only opened when the body is written
+        // and range requests are served by opening the data stream for every range.
+        Resource data;
+        Long contentSize = contentItem.getContentSize();
+        if (contentSize != null && contentSize >= 0) {
+            data = new ContentStreamResource("content item " + contentItemId, contentSize, () -> contentService.getContentItemData(contentItemId));
+
+        } else {
+            InputStream dataStream = contentService.getContentItemData(contentItemId);
+            if (dataStream == null) {
+                throw new FlowableObjectNotFoundException("Content item with id '" + contentItemId + "' doesn't have content associated with it.");
+            }
+            data = new InputStreamResource(dataStream, "content item " + contentItemId);
         }
+        return new ResponseEntity<>(data, responseHeaders, HttpStatus.OK);
     }
 
     @ApiOperation(value = "Save the content item data", tags = { "Content item" }, notes = "Save the content item data with an attached file. "
@@ -21,6 +21,7 @@ import java.io.InputStream;
 import org.apache.http.HttpStatus;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpHead;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.entity.StringEntity;
@@ -88,6 +89,7 @@ public class ContentItemResourceTest extends BaseSpringContentRestTestCase {
 
             // Check response headers
             assertEquals("application/pdf", response.getEntity().getContentType().getValue());
+            assertEquals(22, response.getEntity().getContentLength());
             try (InputStream contentStream = response.getEntity().getContent()) {
                 assertThat(contentStream).hasContent("This is binary content");
             }
@@ -98,6 +100,50 @@ public class ContentItemResourceTest extends BaseSpringContentRestTestCase {
         }
     }
 
+    public void testGetContentItemDataRange() throws Exception {
+        InputStream binaryContent = new ByteArrayInputStream("This is binary content".getBytes());
+        String contentItemId = createContentItem("test.pdf", "application/pdf", null,
+                "12345", null, null, "test", "test2", binaryContent);
+
+        try {
+            // Get part of the content item data
+            HttpGet httpGet = new HttpGet(SERVER_URL_PREFIX + ContentRestUrls.createRelativeResourceUrl(
+                    ContentRestUrls.URL_CONTENT_ITEM_DATA, contentItemId));
+            httpGet.setHeader("Range", "bytes=8-13");
+            CloseableHttpResponse response = executeRequest(httpGet, HttpStatus.SC_PARTIAL_CONTENT);
+
+            assertEquals("bytes 8-13/22", response.getFirstHeader("Content-Range").getValue());
+            try (InputStream contentStream = response.getEntity().getContent()) {
+                assertThat(contentStream).hasContent("binary");
+            }
+            closeResponse(response);
+
+        } finally {
+            contentService.deleteContentItem(contentItemId);
+        }
+    }
+
+    public void testGetContentItemDataHead() throws Exception {
+        InputStream binaryContent = new ByteArrayInputStream("This is binary content".getBytes());
+        String contentItemId = createContentItem("test.pdf", "application/pdf", null,
+                "12345", null, null, "test", "test2", binaryContent);
+
+        try {
+            // Only the headers are returned
+            HttpHead httpHead = new HttpHead(SERVER_URL_PREFIX + ContentRestUrls.createRelativeResourceUrl(
+                    ContentRestUrls.URL_CONTENT_ITEM_DATA, contentItemId));
+            CloseableHttpResponse response = executeRequest(httpHead, HttpStatus.SC_OK);
+
+            assertEquals("application/pdf", response.getFirstHeader("Content-Type").getValue());
+            assertEquals("22", response.getFirstHeader("Content-Length").getValue());
+            assertNull(response.getEntity());
+            closeResponse(response);
+
+        } finally {
+            contentService.deleteContentItem(contentItemId);
+        }
+    }
+
     public void testUpdateContentItem() throws Exception {
         String contentItemId = createContentItem("test.pdf", "application/pdf", null,
                 "12345", null, null, "test", "test2");
@@ -77,6 +77,13 @@ public interface ExecuteDecisionBuilder {
      **/
     ExecuteDecisionBuilder variable(String variableName, Object value);
 
+    /**
+     * Evaluates the rows of {@link #executeDecisionBatch(List)} in parallel. The rows are split in chunks,
+     * every chunk is evaluated in its own command (and transaction) on the decision batch executor service of the DMN engine configuration.
+     * When a chunk fails, the chunks that did not start yet are not evaluated anymore.
+     */
+    ExecuteDecisionBuilder parallelBatch();
+
     /**
      * Executes a decision returning one or more output results with variables
      **/
@@ -92,4 +99,13 @@ public interface ExecuteDecisionBuilder {
      **/
     DecisionExecutionAuditContainer executeWithAuditTrail();
 
+    /**
+     * Executes a decision for every map of input variables, resolving the decision only once.
+     * The variables set on this builder are shared by all rows, the variables of a row take precedence.
+     * Only a sample of the rows is stored in the history.
+     *
+     * @return the output results of every row, in the order of the given rows
+     */
+    List<List<Map<String, Object>>> executeDecisionBatch(List<Map<String, Object>> variablesList);
+
 }
@@ -23,9 +23,16 @@ import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.dmn.engine.DmnEngine;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.configurator.history.AsyncDmnHistoryManager;
+import org.flowable.dmn.engine.configurator.history.HistoricDecisionExecutionHistoryJsonTransformer;
 import org.flowable.dmn.engine.deployer.DmnDeployer;
 import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.db.EntityDependencyOrder;
+import org.flowable.job.service.HistoryJobHandler;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Tijs Rademakers
@@ -33,6 +40,8 @@ import org.flowable.dmn.engine.impl.db.EntityDependencyOrder;
  */
 public class DmnEngineConfigurator extends AbstractEngineConfigurator {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(DmnEngineConfigurator.class);
+
     protected DmnEngineConfiguration dmnEngineConfiguration;
     
     @Override
@@ -63,6 +72,33 @@ public class DmnEngineConfigurator extends AbstractEngineConfigurator {
         initDmnEngine();
         
         initServiceConfigurations(engineConfiguration, dmnEngineConfiguration);
+
+        initAsyncHistory(engineConfiguration);
+    }
+
+    protected void initAsyncHistory(AbstractEngineConfiguration engineConfiguration) {
+        if (!dmnEngineConfiguration.isAsyncHistoryEnabled()) {
+            return;
+        }
+
+        JobServiceConfiguration jobServiceConfiguration = (JobServiceConfiguration) engineConfiguration.getServiceConfigurations()
+                .get(EngineConfigurationConstants.KEY_JOB_SERVICE_CONFIG);
+        if (jobServiceConfiguration == null || jobServiceConfiguration.getHistoryJobHandlers() == null) {
+            LOGGER.warn("Async history is enabled for the DMN engine, but the engine it is configured in has no async history. Decision executions are stored synchronously.");
+            return;
+        }
+
+        boolean historyJsonTransformerAdded = false;
+        for (HistoryJobHandler historyJobHandler : jobServiceConfiguration.getHistoryJobHandlers().values()) {
+            if (historyJobHandler instanceof AsyncHistoryJobHandler) {
+                ((AsyncHistoryJobHandler) historyJobHandler).addHistoryJsonTransformer(new HistoricDecisionExecutionHistoryJsonTransformer(dmnEngineConfiguration));
+                historyJsonTransformerAdded = true;
+            }
+        }
+
+        if (historyJsonTransformerAdded) {
+            dmnEngineConfiguration.setDmnHistoryManager(new AsyncDmnHistoryManager(dmnEngineConfiguration, jobServiceConfiguration));
+        }
     }
     
     @Override
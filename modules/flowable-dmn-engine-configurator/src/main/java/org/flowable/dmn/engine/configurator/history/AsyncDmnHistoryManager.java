@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.configurator.history;
+
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.putIfNotNull;
+
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.history.DefaultDmnHistoryManager;
+import org.flowable.dmn.engine.impl.history.DmnHistoryManager;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.history.async.AsyncHistorySession;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Hands the historic decision executions to the async history of the engine the DMN engine is configured in.
+ * The historic decision execution is then inserted by a history job, see {@link HistoricDecisionExecutionHistoryJsonTransformer}.
+ *
+ * When no async history session is available (e.g. the async history has been disabled on the engine), the historic decision execution
+ * is inserted directly.
+ */
+public class AsyncDmnHistoryManager extends DefaultDmnHistoryManager {
+
+    public static final String TYPE_DECISION_EXECUTION = "dmn-decision-execution";
+
+    public static final String FIELD_DECISION_DEFINITION_ID = "decisionDefinitionId";
+    public static final String FIELD_DEPLOYMENT_ID = "deploymentId";
+    public static final String FIELD_START_TIME = "startTime";
+    public static final String FIELD_END_TIME = "endTime";
+    public static final String FIELD_INSTANCE_ID = "instanceId";
+    public static final String FIELD_EXECUTION_ID = "executionId";
+    public static final String FIELD_ACTIVITY_ID = "activityId";
+    public static final String FIELD_SCOPE_TYPE = "scopeType";
+    public static final String FIELD_TENANT_ID = "tenantId";
+    public static final String FIELD_FAILED = "failed";
+    public static final String FIELD_EXECUTION_JSON = "executionJson";
+
+    protected JobServiceConfiguration jobServiceConfiguration;
+
+    public AsyncDmnHistoryManager(DmnEngineConfiguration dmnEngineConfiguration, JobServiceConfiguration jobServiceConfiguration) {
+        super(dmnEngineConfiguration);
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+    @Override
+    public void recordDecisionExecution(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditContainer decisionExecution) {
+        CommandContext commandContext = Context.getCommandContext();
+        if (commandContext == null || !commandContext.getSessionFactories().containsKey(AsyncHistorySession.class)) {
+            super.recordDecisionExecution(executeDecisionInfo, decisionExecution);
+            return;
+        }
+
+        ObjectNode data = dmnEngineConfiguration.getObjectMapper().createObjectNode();
+        putIfNotNull(data, FIELD_DECISION_DEFINITION_ID, executeDecisionInfo.getDecisionDefinitionId());
+        putIfNotNull(data, FIELD_DEPLOYMENT_ID, executeDecisionInfo.getDeploymentId());
+        putIfNotNull(data, FIELD_START_TIME, decisionExecution.getStartTime());
+        putIfNotNull(data, FIELD_END_TIME, decisionExecution.getEndTime());
+        putIfNotNull(data, FIELD_INSTANCE_ID, executeDecisionInfo.getInstanceId());
+        putIfNotNull(data, FIELD_EXECUTION_ID, executeDecisionInfo.getExecutionId());
+        putIfNotNull(data, FIELD_ACTIVITY_ID, executeDecisionInfo.getActivityId());
+        putIfNotNull(data, FIELD_SCOPE_TYPE, executeDecisionInfo.getScopeType());
+        putIfNotNull(data, FIELD_TENANT_ID, executeDecisionInfo.getTenantId());
+        putIfNotNull(data, FIELD_FAILED, decisionExecution.isFailed());
+
+        // added as a json node, the history job serializes it when inserting the historic decision execution
+        data.set(FIELD_EXECUTION_JSON, dmnEngineConfiguration.getObjectMapper().valueToTree(decisionExecution));
+
+        AsyncHistorySession asyncHistorySession = commandContext.getSession(AsyncHistorySession.class);
+        asyncHistorySession.addHistoricData(jobServiceConfiguration, TYPE_DECISION_EXECUTION, data, executeDecisionInfo.getTenantId());
+    }
+
+    public JobServiceConfiguration getJobServiceConfiguration() {
+        return jobServiceConfiguration;
+    }
+
+    public void setJobServiceConfiguration(JobServiceConfiguration jobServiceConfiguration) {
+        this.jobServiceConfiguration = jobServiceConfiguration;
+    }
+
+}
@@ -0,0 +1,87 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.configurator.history;
+
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.getBooleanFromJson;
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.getDateFromJson;
+import static org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil.getStringFromJson;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Inserts the historic decision executions produced by the {@link AsyncDmnHistoryManager}.
+ */
+public class HistoricDecisionExecutionHistoryJsonTransformer implements HistoryJsonTransformer {
+
+    protected DmnEngineConfiguration dmnEngineConfiguration;
+
+    public HistoricDecisionExecutionHistoryJsonTransformer(DmnEngineConfiguration dmnEngineConfiguration) {
+        this.dmnEngineConfiguration = dmnEngineConfiguration;
+    }
+
+    @Override
+    public List<String> getTypes() {
+        return Collections.singletonList(AsyncDmnHistoryManager.TYPE_DECISION_EXECUTION);
+    }
+
+    @Override
+    public boolean isApplicable(ObjectNode historicalData, CommandContext commandContext) {
+        return true;
+    }
+
+    @Override
+    public void transformJson(HistoryJobEntity job, ObjectNode historicalData, CommandContext commandContext) {
+        HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
+        HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
+        decisionExecutionEntity.setDecisionDefinitionId(getStringFromJson(historicalData, AsyncDmnHistoryManager.FIELD_DECISION_DEFINITION_ID));
+        decisionExecutionEntity.setDeploymentId(getStringFromJson(historicalData, AsyncDmnHistoryManager.FIELD_DEPLOYMENT_ID));
+        decisionExecutionEntity.setStartTime(getDateFromJson(historicalData, AsyncDmnHistoryManager.FIELD_START_TIME));
+        decisionExecutionEntity.setEndTime(getDateFromJson(historicalData, AsyncDmnHistoryManager.FIELD_END_TIME));
+        decisionExecutionEntity.setInstanceId(getStringFromJson(historicalData, AsyncDmnHistoryManager.FIELD_INSTANCE_ID));
+        decisionExecutionEntity.setExecutionId(getStringFromJson(historicalData, AsyncDmnHistoryManager.FIELD_EXECUTION_ID));
+        decisionExecutionEntity.setActivityId(getStringFromJson(historicalData, AsyncDmnHistoryManager.FIELD_ACTIVITY_ID));
+        decisionExecutionEntity.setScopeType(getStringFromJson(historicalData, AsyncDmnHistoryManager.FIELD_SCOPE_TYPE));
+        decisionExecutionEntity.setTenantId(getStringFromJson(historicalData, AsyncDmnHistoryManager.FIELD_TENANT_ID));
+        decisionExecutionEntity.setFailed(getBooleanFromJson(historicalData, AsyncDmnHistoryManager.FIELD_FAILED, Boolean.FALSE));
+        decisionExecutionEntity.setExecutionJson(getExecutionJson(historicalData));
+        historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+    }
+
+    protected String getExecutionJson(ObjectNode historicalData) {
+        JsonNode executionJsonNode = historicalData.get(AsyncDmnHistoryManager.FIELD_EXECUTION_JSON);
+        if (executionJsonNode == null || executionJsonNode.isNull()) {
+            return null;
+        } else if (executionJsonNode.isTextual()) {
+            return executionJsonNode.asText();
+        }
+
+        try {
+            return dmnEngineConfiguration.getObjectMapper().writeValueAsString(executionJsonNode);
+        } catch (Exception e) {
+            throw new FlowableException("Error writing execution json", e);
+        }
+    }
+
+}
@@ -0,0 +1,93 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.test.history;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Collections;
+
+import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.dmn.api.DmnHistoricDecisionExecution;
+import org.flowable.dmn.api.DmnHistoryService;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.configurator.history.AsyncDmnHistoryManager;
+import org.flowable.engine.ManagementService;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.FlowableRule;
+import org.flowable.job.api.HistoryJob;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+public class AsyncHistoryTest {
+
+    @Rule
+    public FlowableRule flowableRule = new FlowableRule("org/flowable/dmn/test/history/AsyncHistoryTest.cfg.xml");
+
+    @After
+    public void deleteDmnDeploymentsAndHistoryJobs() {
+        DmnEngineConfiguration dmnEngineConfiguration = getDmnEngineConfiguration();
+        dmnEngineConfiguration.getDmnRepositoryService().createDeploymentQuery().list()
+                .forEach(deployment -> dmnEngineConfiguration.getDmnRepositoryService().deleteDeployment(deployment.getId()));
+
+        ManagementService managementService = flowableRule.getManagementService();
+        managementService.createHistoryJobQuery().list()
+                .forEach(historyJob -> managementService.deleteHistoryJob(historyJob.getId()));
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/dmn/engine/test/deployment/oneDecisionTaskProcess.bpmn20.xml",
+            "org/flowable/dmn/engine/test/deployment/simple.dmn" })
+    public void testDecisionExecutionStoredByHistoryJob() throws Exception {
+        DmnEngineConfiguration dmnEngineConfiguration = getDmnEngineConfiguration();
+        assertTrue(dmnEngineConfiguration.getDmnHistoryManager() instanceof AsyncDmnHistoryManager);
+
+        ProcessInstance processInstance = flowableRule.getRuntimeService().startProcessInstanceByKey("oneDecisionTaskProcess",
+                Collections.singletonMap("inputVariable1", 10));
+
+        DmnHistoryService dmnHistoryService = dmnEngineConfiguration.getDmnHistoryService();
+        assertEquals(0, dmnHistoryService.createHistoricDecisionExecutionQuery().instanceId(processInstance.getId()).count());
+
+        ManagementService managementService = flowableRule.getManagementService();
+        assertFalse(managementService.createHistoryJobQuery().list().isEmpty());
+        for (HistoryJob historyJob : managementService.createHistoryJobQuery().list()) {
+            managementService.executeHistoryJob(historyJob.getId());
+        }
+
+        DmnHistoricDecisionExecution decisionExecution = dmnHistoryService.createHistoricDecisionExecutionQuery()
+                .instanceId(processInstance.getId()).singleResult();
+        assertNotNull(decisionExecution);
+        assertEquals("decision1", decisionExecution.getDecisionKey());
+        assertNotNull(decisionExecution.getStartTime());
+        assertNotNull(decisionExecution.getEndTime());
+
+        // the execution json is stored as a json object and not as an encoded json string
+        JsonNode executionJson = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+        assertTrue(executionJson.isObject());
+        assertEquals("decision1", executionJson.get("decisionKey").asText());
+        assertEquals("result2", executionJson.get("decisionResult").get(0).get("outputVariable1").asText());
+    }
+
+    protected DmnEngineConfiguration getDmnEngineConfiguration() {
+        ProcessEngineConfiguration processEngineConfiguration = flowableRule.getProcessEngine().getProcessEngineConfiguration();
+        return (DmnEngineConfiguration) processEngineConfiguration.getEngineConfigurations().get(EngineConfigurationConstants.KEY_DMN_ENGINE_CONFIG);
+    }
+
+}
@@ -19,6 +19,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import javax.sql.DataSource;
 
@@ -34,7 +35,7 @@ import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.common.engine.impl.runtime.Clock;
 import org.flowable.dmn.api.DmnEngineConfigurationApi;
@@ -48,6 +49,7 @@ import org.flowable.dmn.engine.impl.DmnManagementServiceImpl;
 import org.flowable.dmn.engine.impl.DmnRepositoryServiceImpl;
 import org.flowable.dmn.engine.impl.DmnRuleServiceImpl;
 import org.flowable.dmn.engine.impl.RuleEngineExecutorImpl;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.cfg.StandaloneDmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.cfg.StandaloneInMemDmnEngineConfiguration;
 import org.flowable.dmn.engine.impl.cmd.SchemaOperationsDmnEngineBuild;
@@ -69,6 +71,8 @@ import org.flowable.dmn.engine.impl.el.FlowableNotContainsAnyFunctionDelegate;
 import org.flowable.dmn.engine.impl.el.FlowableNotContainsFunctionDelegate;
 import org.flowable.dmn.engine.impl.el.FlowableSubtractDateFunctionDelegate;
 import org.flowable.dmn.engine.impl.el.FlowableToDateFunctionDelegate;
+import org.flowable.dmn.engine.impl.history.DefaultDmnHistoryManager;
+import org.flowable.dmn.engine.impl.history.DmnHistoryManager;
 import org.flowable.dmn.engine.impl.hitpolicy.AbstractHitPolicy;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyAny;
 import org.flowable.dmn.engine.impl.hitpolicy.HitPolicyCollect;
@@ -117,7 +121,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     protected DmnManagementService dmnManagementService = new DmnManagementServiceImpl();
     protected DmnRepositoryService dmnRepositoryService = new DmnRepositoryServiceImpl();
-    protected DmnRuleService ruleService = new DmnRuleServiceImpl();
+    protected DmnRuleService ruleService = new DmnRuleServiceImpl(this);
     protected DmnHistoryService dmnHistoryService = new DmnHistoryServiceImpl();
     protected RuleEngineExecutor ruleEngineExecutor;
 
@@ -137,6 +141,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     // EXPRESSION MANAGER /////////////////////////////////////////////
     protected ExpressionManager expressionManager;
+    protected boolean isExpressionCacheEnabled = true;
+    protected int expressionCacheSize = 4096;
+    protected int expressionTextLengthCacheLimit = -1; // negative value to have no max length
     protected List<FlowableFunctionDelegate> flowableFunctionDelegates;
     protected List<FlowableFunctionDelegate> customFlowableFunctionDelegates;
 
@@ -154,6 +161,36 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
     protected DeploymentManager deploymentManager;
 
     protected boolean historyEnabled;
+    protected DmnHistoryManager dmnHistoryManager;
+
+    /**
+     * When enabled and the DMN engine runs embedded in an engine with async history, the decision history is recorded
+     * through the async history jobs of that engine instead of in the transaction executing the decision.
+     */
+    protected boolean asyncHistoryEnabled;
+
+    /**
+     * How much of every decision execution is audited, see {@link DecisionExecutionAuditLevel}.
+     * An execution with audit trail always uses {@link DecisionExecutionAuditLevel#FULL}.
+     */
+    protected DecisionExecutionAuditLevel decisionExecutionAuditLevel = DecisionExecutionAuditLevel.FULL;
+
+    /**
+     * Only the first row and every n-th row of a decision batch are audited (with {@link #decisionExecutionAuditLevel}) and stored in the history.
+     * Rows that fail are always stored. Use 1 to store every row of a batch.
+     */
+    protected int decisionBatchHistorySampleInterval = 100;
+
+    /**
+     * The amount of rows of a parallel decision batch that is evaluated in one command.
+     */
+    protected int decisionBatchChunkSize = 1000;
+
+    /**
+     * The executor used to evaluate the chunks of a parallel decision batch. A parallel decision batch can only be executed when this is set,
+     * its size bounds the amount of chunks that are evaluated at the same time.
+     */
+    protected ExecutorService decisionBatchExecutorService;
 
     protected int decisionCacheLimit = -1; // By default, no limit
     protected DeploymentCache<DecisionTableCacheEntry> decisionCache;
@@ -255,6 +292,7 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         initClock();
         initHitPolicyBehaviors();
         initRuleEngineExecutor();
+        initDmnHistoryManager();
     }
 
     // services
@@ -334,6 +372,8 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
             dbSqlSessionFactory = createDbSqlSessionFactory();
             dbSqlSessionFactory.setDatabaseType(databaseType);
             dbSqlSessionFactory.setSqlSessionFactory(sqlSessionFactory);
+            dbSqlSessionFactory.setReadOnlySqlSessionFactory(readOnlySqlSessionFactory);
+            dbSqlSessionFactory.setReadOnlyStalenessPolicy(readOnlyStalenessPolicy);
             dbSqlSessionFactory.setDatabaseTablePrefix(databaseTablePrefix);
             dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
             dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
@@ -402,7 +442,14 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
 
     public void initExpressionManager() {
         if (expressionManager == null) {
-            expressionManager = new DefaultExpressionManager(beans);
+            DefaultExpressionManager defaultExpressionManager = new DefaultExpressionManager(beans);
+
+            if (isExpressionCacheEnabled) {
+                defaultExpressionManager.setExpressionCache(new ConcurrentDeploymentCache<>(expressionCacheSize));
+                defaultExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
+            }
+
+            expressionManager = defaultExpressionManager;
         }
 
         expressionManager.setFunctionDelegates(flowableFunctionDelegates);
@@ -430,9 +477,9 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         // Decision cache
         if (decisionCache == null) {
             if (decisionCacheLimit <= 0) {
-                decisionCache = new DefaultDeploymentCache<>();
+                decisionCache = new ConcurrentDeploymentCache<>();
             } else {
-                decisionCache = new DefaultDeploymentCache<>(decisionCacheLimit);
+                decisionCache = new ConcurrentDeploymentCache<>(decisionCacheLimit);
             }
         }
 
@@ -555,6 +602,14 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
     }
 
 
+    // history
+    /////////////////////////////////////////////////////////////
+    public void initDmnHistoryManager() {
+        if (dmnHistoryManager == null) {
+            dmnHistoryManager = new DefaultDmnHistoryManager(this);
+        }
+    }
+
     // getters and setters
     // //////////////////////////////////////////////////////
 
@@ -715,6 +770,33 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public boolean isExpressionCacheEnabled() {
+        return isExpressionCacheEnabled;
+    }
+
+    public DmnEngineConfiguration setExpressionCacheEnabled(boolean isExpressionCacheEnabled) {
+        this.isExpressionCacheEnabled = isExpressionCacheEnabled;
+        return this;
+    }
+
+    public int getExpressionCacheSize() {
+        return expressionCacheSize;
+    }
+
+    public DmnEngineConfiguration setExpressionCacheSize(int expressionCacheSize) {
+        this.expressionCacheSize = expressionCacheSize;
+        return this;
+    }
+
+    public int getExpressionTextLengthCacheLimit() {
+        return expressionTextLengthCacheLimit;
+    }
+
+    public DmnEngineConfiguration setExpressionTextLengthCacheLimit(int expressionTextLengthCacheLimit) {
+        this.expressionTextLengthCacheLimit = expressionTextLengthCacheLimit;
+        return this;
+    }
+
     @Override
     public ExpressionManager getExpressionManager() {
         return expressionManager;
@@ -771,6 +853,60 @@ public class DmnEngineConfiguration extends AbstractEngineConfiguration
         return this;
     }
 
+    public DmnHistoryManager getDmnHistoryManager() {
+        return dmnHistoryManager;
+    }
+
+    public DmnEngineConfiguration setDmnHistoryManager(DmnHistoryManager dmnHistoryManager) {
+        this.dmnHistoryManager = dmnHistoryManager;
+        return this;
+    }
+
+    public boolean isAsyncHistoryEnabled() {
+        return asyncHistoryEnabled;
+    }
+
+    public DmnEngineConfiguration setAsyncHistoryEnabled(boolean asyncHistoryEnabled) {
+        this.asyncHistoryEnabled = asyncHistoryEnabled;
+        return this;
+    }
+
+    public DecisionExecutionAuditLevel getDecisionExecutionAuditLevel() {
+        return decisionExecutionAuditLevel;
+    }
+
+    public DmnEngineConfiguration setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel decisionExecutionAuditLevel) {
+        this.decisionExecutionAuditLevel = decisionExecutionAuditLevel;
+        return this;
+    }
+
+    public int getDecisionBatchHistorySampleInterval() {
+        return decisionBatchHistorySampleInterval;
+    }
+
+    public DmnEngineConfiguration setDecisionBatchHistorySampleInterval(int decisionBatchHistorySampleInterval) {
+        this.decisionBatchHistorySampleInterval = decisionBatchHistorySampleInterval;
+        return this;
+    }
+
+    public int getDecisionBatchChunkSize() {
+        return decisionBatchChunkSize;
+    }
+
+    public DmnEngineConfiguration setDecisionBatchChunkSize(int decisionBatchChunkSize) {
+        this.decisionBatchChunkSize = decisionBatchChunkSize;
+        return this;
+    }
+
+    public ExecutorService getDecisionBatchExecutorService() {
+        return decisionBatchExecutorService;
+    }
+
+    public DmnEngineConfiguration setDecisionBatchExecutorService(ExecutorService decisionBatchExecutorService) {
+        this.decisionBatchExecutorService = decisionBatchExecutorService;
+        return this;
+    }
+
     public int getDecisionCacheLimit() {
         return decisionCacheLimit;
     }
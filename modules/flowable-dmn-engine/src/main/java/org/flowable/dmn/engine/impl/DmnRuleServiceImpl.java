@@ -12,23 +12,41 @@
  */
 package org.flowable.dmn.engine.impl;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DmnRuleService;
 import org.flowable.dmn.api.ExecuteDecisionBuilder;
 import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionBatchCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionSingleResultCmd;
 import org.flowable.dmn.engine.impl.cmd.ExecuteDecisionWithAuditTrailCmd;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 
 /**
  * @author Yvo Swillens
  */
 public class DmnRuleServiceImpl extends CommonEngineServiceImpl<DmnEngineConfiguration> implements DmnRuleService {
-    
+
+    public DmnRuleServiceImpl() {
+
+    }
+
+    public DmnRuleServiceImpl(DmnEngineConfiguration dmnEngineConfiguration) {
+        super(dmnEngineConfiguration);
+    }
+
     @Override
     public ExecuteDecisionBuilder createExecuteDecisionBuilder() {
         return new ExecuteDecisionBuilderImpl(this);
@@ -117,4 +135,64 @@ public class DmnRuleServiceImpl extends CommonEngineServiceImpl<DmnEngineConfigu
     public DecisionExecutionAuditContainer executeDecisionWithAuditTrail(ExecuteDecisionBuilderImpl executeDecisionBuilder) {
         return commandExecutor.execute(new ExecuteDecisionWithAuditTrailCmd(executeDecisionBuilder));
     }
+
+    public List<List<Map<String, Object>>> executeDecisionBatch(ExecuteDecisionBuilderImpl executeDecisionBuilder, List<Map<String, Object>> variablesList) {
+        if (variablesList == null) {
+            throw new FlowableIllegalArgumentException("variablesList is null");
+        }
+
+        DmnEngineConfiguration dmnEngineConfiguration = configuration != null ? configuration : commandExecutor.execute(CommandContextUtil::getDmnEngineConfiguration);
+        ExecutorService executorService = dmnEngineConfiguration.getDecisionBatchExecutorService();
+        if (executeDecisionBuilder.isParallelBatch() && executorService == null) {
+            throw new FlowableIllegalArgumentException("A parallel decision batch needs a decisionBatchExecutorService on the DMN engine configuration");
+        }
+
+        int chunkSize = Math.max(1, dmnEngineConfiguration.getDecisionBatchChunkSize());
+        if (!executeDecisionBuilder.isParallelBatch() || variablesList.size() <= chunkSize) {
+            return commandExecutor.execute(new ExecuteDecisionBatchCmd(executeDecisionBuilder, variablesList));
+        }
+
+        // every chunk is evaluated in its own command, as a command context can only be used by one thread
+        AtomicReference<RuntimeException> chunkFailure = new AtomicReference<>();
+        List<CompletableFuture<List<List<Map<String, Object>>>>> chunkResults = new ArrayList<>();
+        for (int firstRowIndex = 0; firstRowIndex < variablesList.size(); firstRowIndex += chunkSize) {
+            List<Map<String, Object>> chunk = variablesList.subList(firstRowIndex, Math.min(firstRowIndex + chunkSize, variablesList.size()));
+            ExecuteDecisionBatchCmd executeDecisionBatchCmd = new ExecuteDecisionBatchCmd(executeDecisionBuilder, chunk, firstRowIndex);
+            chunkResults.add(CompletableFuture.supplyAsync(() -> executeDecisionBatchChunk(executeDecisionBatchCmd, chunkFailure), executorService));
+        }
+
+        List<List<Map<String, Object>>> results = new ArrayList<>(variablesList.size());
+        try {
+            for (CompletableFuture<List<List<Map<String, Object>>>> chunkResult : chunkResults) {
+                results.addAll(chunkResult.join());
+            }
+
+        } catch (CompletionException | CancellationException e) {
+            // the chunks that did not start yet are not evaluated anymore
+            for (CompletableFuture<List<List<Map<String, Object>>>> chunkResult : chunkResults) {
+                chunkResult.cancel(false);
+            }
+
+            if (chunkFailure.get() != null) {
+                throw chunkFailure.get();
+            }
+            throw new FlowableException("Error executing decision batch", e.getCause() != null ? e.getCause() : e);
+        }
+
+        return results;
+    }
+
+    protected List<List<Map<String, Object>>> executeDecisionBatchChunk(ExecuteDecisionBatchCmd executeDecisionBatchCmd, AtomicReference<RuntimeException> chunkFailure) {
+        if (chunkFailure.get() != null) {
+            throw new CancellationException("Another chunk of the decision batch failed");
+        }
+
+        try {
+            return commandExecutor.execute(executeDecisionBatchCmd);
+
+        } catch (RuntimeException e) {
+            chunkFailure.compareAndSet(null, e);
+            throw e;
+        }
+    }
 }
\ No newline at end of file
@@ -35,6 +35,7 @@ public class ExecuteDecisionBuilderImpl implements ExecuteDecisionBuilder {
     protected String tenantId;
     protected Map<String, Object> variables;
     protected boolean fallbackToDefaultTenant;
+    protected boolean parallelBatch;
 
     public ExecuteDecisionBuilderImpl(DmnRuleServiceImpl ruleService) {
         this.ruleService = ruleService;
@@ -110,6 +111,12 @@ public class ExecuteDecisionBuilderImpl implements ExecuteDecisionBuilder {
         return this;
     }
 
+    @Override
+    public ExecuteDecisionBuilder parallelBatch() {
+        this.parallelBatch = true;
+        return this;
+    }
+
     @Override
     public List<Map<String, Object>> execute() {
         return ruleService.executeDecision(this);
@@ -125,6 +132,11 @@ public class ExecuteDecisionBuilderImpl implements ExecuteDecisionBuilder {
         return ruleService.executeDecisionWithAuditTrail(this);
     }
 
+    @Override
+    public List<List<Map<String, Object>>> executeDecisionBatch(List<Map<String, Object>> variablesList) {
+        return ruleService.executeDecisionBatch(this, variablesList);
+    }
+
     public String getDecisionKey() {
         return decisionKey;
     }
@@ -157,6 +169,10 @@ public class ExecuteDecisionBuilderImpl implements ExecuteDecisionBuilder {
         return this.fallbackToDefaultTenant;
     }
 
+    public boolean isParallelBatch() {
+        return parallelBatch;
+    }
+
     public Map<String, Object> getVariables() {
         return variables;
     }
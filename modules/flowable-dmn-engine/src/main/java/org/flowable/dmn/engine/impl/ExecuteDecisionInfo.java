@@ -14,6 +14,8 @@ package org.flowable.dmn.engine.impl;
 
 import java.util.Map;
 
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+
 public class ExecuteDecisionInfo {
 
     protected String decisionKey;
@@ -29,6 +31,7 @@ public class ExecuteDecisionInfo {
     protected String tenantId;
     protected boolean fallbackToDefaultTenant;
     protected boolean forceDMN11;
+    protected DecisionExecutionAuditLevel auditLevel;
     
     public String getDecisionKey() {
         return decisionKey;
@@ -108,4 +111,12 @@ public class ExecuteDecisionInfo {
     public void setForceDMN11(boolean forceDMN11) {
         this.forceDMN11 = forceDMN11;
     }
+
+    public DecisionExecutionAuditLevel getAuditLevel() {
+        return auditLevel;
+    }
+
+    public void setAuditLevel(DecisionExecutionAuditLevel auditLevel) {
+        this.auditLevel = auditLevel;
+    }
 }
@@ -16,7 +16,6 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.el.ExpressionManager;
@@ -32,8 +31,6 @@ import org.flowable.dmn.engine.impl.hitpolicy.ComposeDecisionResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ComposeRuleResultBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.ContinueEvaluatingBehavior;
 import org.flowable.dmn.engine.impl.hitpolicy.EvaluateRuleValidityBehavior;
-import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
-import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionRule;
@@ -103,31 +100,8 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             executionContext.getAuditContainer().stopAudit();
 
             DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration();
-            if (dmnEngineConfiguration.isHistoryEnabled()) {
-                HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
-                HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
-                decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
-                decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
-                decisionExecutionEntity.setStartTime(executionContext.getAuditContainer().getStartTime());
-                decisionExecutionEntity.setEndTime(executionContext.getAuditContainer().getEndTime());
-                decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
-                decisionExecutionEntity.setExecutionId(executeDecisionInfo.getExecutionId());
-                decisionExecutionEntity.setActivityId(executeDecisionInfo.getActivityId());
-                decisionExecutionEntity.setScopeType(executeDecisionInfo.getScopeType());
-                decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
-
-                Boolean failed = executionContext.getAuditContainer().isFailed();
-                if (BooleanUtils.isTrue(failed)) {
-                    decisionExecutionEntity.setFailed(failed.booleanValue());
-                }
-
-                try {
-                    decisionExecutionEntity.setExecutionJson(objectMapper.writeValueAsString(executionContext.getAuditContainer()));
-                } catch (Exception e) {
-                    throw new FlowableException("Error writing execution json", e);
-                }
-
-                historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+            if (dmnEngineConfiguration.isHistoryEnabled() && executionContext.isAuditEnabled()) {
+                dmnEngineConfiguration.getDmnHistoryManager().recordDecisionExecution(executeDecisionInfo, executionContext.getAuditContainer());
             }
         }
 
@@ -198,8 +172,11 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
         LOGGER.debug("Start rule {} evaluation", rule.getRuleNumber());
 
-        // add audit entry
-        executionContext.getAuditContainer().addRuleEntry(rule);
+        // add audit entry, with a summary audit only the rules that match are added
+        boolean fullAudit = executionContext.isFullAuditEnabled();
+        if (fullAudit) {
+            executionContext.getAuditContainer().addRuleEntry(rule);
+        }
 
         boolean conditionResult = false;
 
@@ -220,7 +197,9 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 }
 
                 // add audit entry
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, conditionResult);
+                if (fullAudit) {
+                    executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, conditionResult);
+                }
 
                 LOGGER.debug("input entry {} ( {} {} ): {}", inputEntryId,
                         conditionContainer.getInputClause().getInputExpression().getText(),
@@ -228,12 +207,12 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
 
             } catch (FlowableException ade) {
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(ade), null);
+                addFailedInputEntry(rule, inputEntryId, getExceptionMessage(ade), executionContext);
                 throw ade;
 
             } catch (Exception e) {
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addInputEntry(rule.getRuleNumber(), inputEntryId, getExceptionMessage(e), null);
+                addFailedInputEntry(rule, inputEntryId, getExceptionMessage(e), executionContext);
                 throw new FlowableException(getExceptionMessage(e), e);
             }
 
@@ -244,17 +223,45 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
         }
 
         if (conditionResult) {
+            executionContext.addValidRuleNumber(rule.getRuleNumber());
+
             // mark rule valid
-            executionContext.getAuditContainer().markRuleValid(rule.getRuleNumber());
+            if (executionContext.isAuditEnabled()) {
+                if (!fullAudit) {
+                    executionContext.getAuditContainer().addRuleEntry(rule);
+                }
+                executionContext.getAuditContainer().markRuleValid(rule.getRuleNumber());
+            }
         }
 
         // mark rule end
-        executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        if (executionContext.getAuditContainer().getRuleExecutions().containsKey(rule.getRuleNumber())) {
+            executionContext.getAuditContainer().markRuleEnd(rule.getRuleNumber());
+        }
 
         LOGGER.debug("End rule {} evaluation", rule.getRuleNumber());
         return conditionResult;
     }
 
+    protected void addFailedInputEntry(DecisionRule rule, String inputEntryId, String exceptionMessage, ELExecutionContext executionContext) {
+        if (!executionContext.isAuditEnabled()) {
+            return;
+        }
+
+        DecisionExecutionAuditContainer auditContainer = executionContext.getAuditContainer();
+        if (!auditContainer.getRuleExecutions().containsKey(rule.getRuleNumber())) {
+            auditContainer.addRuleEntry(rule);
+        }
+        auditContainer.addInputEntry(rule.getRuleNumber(), inputEntryId, exceptionMessage, null);
+    }
+
+    protected void addOutputEntry(int ruleNumber, String outputEntryId, String exceptionMessage, Object executionResult, ELExecutionContext executionContext) {
+        // The rule entry of a valid rule is only missing without audit trail
+        if (executionContext.getAuditContainer().getRuleExecutions().containsKey(ruleNumber)) {
+            executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryId, exceptionMessage, executionResult);
+        }
+    }
+
     protected Boolean executeInputExpressionEvaluation(RuleInputClauseContainer ruleContainer, ELExecutionContext executionContext) {
         return ELExpressionExecutor.executeInputExpression(ruleContainer.getInputClause(), ruleContainer.getInputEntry(), expressionManager, executionContext);
     }
@@ -292,7 +299,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 }
 
                 // add audit entry
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), executionVariable);
+                addOutputEntry(ruleNumber, outputEntryExpression.getId(), null, executionVariable, executionContext);
                 executionContext.getAuditContainer().addDecisionResultType(outputVariableId, outputVariableType);
 
                 if (executionVariable != null) {
@@ -306,7 +313,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 executionContext.getRuleResults().clear();
 
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(ade), executionVariable);
+                addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(ade), executionVariable, executionContext);
                 throw ade;
 
             } catch (Exception e) {
@@ -314,7 +321,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
                 executionContext.getRuleResults().clear();
 
                 // add failed audit entry and rethrow
-                executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(e), executionVariable);
+                addOutputEntry(ruleNumber, outputEntryExpression.getId(), getExceptionMessage(e), executionVariable, executionContext);
                 throw new FlowableException(getExceptionMessage(e), e);
             }
 
@@ -322,7 +329,7 @@ public class RuleEngineExecutorImpl implements RuleEngineExecutor {
             LOGGER.debug("Expression is empty");
 
             // add empty audit entry
-            executionContext.getAuditContainer().addOutputEntry(ruleNumber, outputEntryExpression.getId(), null);
+            addOutputEntry(ruleNumber, outputEntryExpression.getId(), null, null, executionContext);
         }
 
         LOGGER.debug("End evaluation conclusion {} of valid rule {}", ruleClauseContainer.getOutputClause().getOutputNumber(), ruleNumber);
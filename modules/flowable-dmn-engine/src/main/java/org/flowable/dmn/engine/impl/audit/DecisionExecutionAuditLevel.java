@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.audit;
+
+/**
+ * Determines how much of a decision execution is recorded in its {@link org.flowable.dmn.api.DecisionExecutionAuditContainer}
+ * (and thus in the decision history).
+ */
+public enum DecisionExecutionAuditLevel {
+
+    /**
+     * No audit trail is created and no decision history is recorded. The audit container only contains the decision result.
+     */
+    NONE,
+
+    /**
+     * Only the rules that matched are audited, together with their output entries. The input entries of the rules are not audited.
+     */
+    SUMMARY,
+
+    /**
+     * Every evaluated rule is audited, including the result of each input entry.
+     */
+    FULL
+
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.dmn.engine.impl.audit;
 
+import java.util.Map;
+
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
@@ -28,6 +30,11 @@ public class DecisionExecutionAuditUtil {
     private static final Logger LOGGER = LoggerFactory.getLogger(DecisionExecutionAuditUtil.class);
 
     public static DecisionExecutionAuditContainer initializeRuleExecutionAudit(Decision decision, ExecuteDecisionInfo executeDecisionInfo) {
+        return initializeRuleExecutionAudit(decision, executeDecisionInfo, DecisionExecutionAuditLevel.FULL);
+    }
+
+    public static DecisionExecutionAuditContainer initializeRuleExecutionAudit(Decision decision, ExecuteDecisionInfo executeDecisionInfo,
+            DecisionExecutionAuditLevel auditLevel) {
 
         if (decision == null || decision.getId() == null) {
             LOGGER.error("decision does not contain key");
@@ -41,8 +48,11 @@ public class DecisionExecutionAuditUtil {
             throw new IllegalArgumentException("decision table does not contain a hit policy");
         }
 
+        // Without audit trail, the (defensive copy of the) input variables isn't needed
+        Map<String, Object> inputVariables = auditLevel != DecisionExecutionAuditLevel.NONE ? executeDecisionInfo.getVariables() : null;
+
         return new DecisionExecutionAuditContainer(decision.getId(), decision.getName(), executeDecisionInfo.getDecisionVersion(), 
-                        decisionTable.getHitPolicy(), CommandContextUtil.getDmnEngineConfiguration().isStrictMode(), executeDecisionInfo.getVariables());
+                        decisionTable.getHitPolicy(), CommandContextUtil.getDmnEngineConfiguration().isStrictMode(), inputVariables);
     }
 
 }
@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.api.DmnDecisionTable;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.RuleEngineExecutor;
+import org.flowable.dmn.engine.impl.ExecuteDecisionBuilderImpl;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
+import org.flowable.dmn.model.Decision;
+
+/**
+ * Executes a decision for a list of rows of input variables, resolving the decision only once.
+ *
+ * Only a sample of the rows is audited and stored in the history, see {@link DmnEngineConfiguration#getDecisionBatchHistorySampleInterval()}.
+ */
+public class ExecuteDecisionBatchCmd extends AbstractExecuteDecisionCmd implements Command<List<List<Map<String, Object>>>> {
+
+    private static final long serialVersionUID = 1L;
+
+    protected List<Map<String, Object>> variablesList;
+
+    /**
+     * The index of the first row within the complete batch, used to sample the rows of a batch that is executed in chunks.
+     */
+    protected int firstRowIndex;
+
+    public ExecuteDecisionBatchCmd(ExecuteDecisionBuilderImpl decisionBuilder, List<Map<String, Object>> variablesList) {
+        this(decisionBuilder, variablesList, 0);
+    }
+
+    public ExecuteDecisionBatchCmd(ExecuteDecisionBuilderImpl decisionBuilder, List<Map<String, Object>> variablesList, int firstRowIndex) {
+        super(decisionBuilder);
+        this.variablesList = variablesList;
+        this.firstRowIndex = firstRowIndex;
+    }
+
+    @Override
+    public List<List<Map<String, Object>>> execute(CommandContext commandContext) {
+        if (executeDecisionInfo.getDecisionKey() == null) {
+            throw new FlowableIllegalArgumentException("decisionKey is null");
+        }
+        if (variablesList == null) {
+            throw new FlowableIllegalArgumentException("variablesList is null");
+        }
+
+        DmnEngineConfiguration dmnEngineConfiguration = CommandContextUtil.getDmnEngineConfiguration(commandContext);
+        DmnDecisionTable decisionTable = resolveDecisionTable();
+        Decision decision = resolveDecision(decisionTable);
+
+        RuleEngineExecutor ruleEngineExecutor = dmnEngineConfiguration.getRuleEngineExecutor();
+        DecisionExecutionAuditLevel auditLevel = dmnEngineConfiguration.getDecisionExecutionAuditLevel();
+        int historySampleInterval = Math.max(1, dmnEngineConfiguration.getDecisionBatchHistorySampleInterval());
+
+        List<List<Map<String, Object>>> results = new ArrayList<>(variablesList.size());
+        for (int i = 0; i < variablesList.size(); i++) {
+            boolean sampled = (firstRowIndex + i) % historySampleInterval == 0;
+            ExecuteDecisionInfo rowExecuteDecisionInfo = createRowExecuteDecisionInfo(variablesList.get(i));
+            rowExecuteDecisionInfo.setAuditLevel(sampled ? auditLevel : DecisionExecutionAuditLevel.NONE);
+
+            DecisionExecutionAuditContainer executionResult = ruleEngineExecutor.execute(decision, rowExecuteDecisionInfo);
+
+            if (!sampled && auditLevel != DecisionExecutionAuditLevel.NONE && Boolean.TRUE.equals(executionResult.isFailed())) {
+                // failed rows are always stored, so the row is evaluated again with its audit trail
+                rowExecuteDecisionInfo.setAuditLevel(auditLevel);
+                executionResult = ruleEngineExecutor.execute(decision, rowExecuteDecisionInfo);
+            }
+
+            results.add(executionResult.getDecisionResult());
+        }
+
+        return results;
+    }
+
+    protected ExecuteDecisionInfo createRowExecuteDecisionInfo(Map<String, Object> rowVariables) {
+        ExecuteDecisionInfo rowExecuteDecisionInfo = new ExecuteDecisionInfo();
+        rowExecuteDecisionInfo.setDecisionKey(executeDecisionInfo.getDecisionKey());
+        rowExecuteDecisionInfo.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        rowExecuteDecisionInfo.setDecisionVersion(executeDecisionInfo.getDecisionVersion());
+        rowExecuteDecisionInfo.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        rowExecuteDecisionInfo.setParentDeploymentId(executeDecisionInfo.getParentDeploymentId());
+        rowExecuteDecisionInfo.setInstanceId(executeDecisionInfo.getInstanceId());
+        rowExecuteDecisionInfo.setExecutionId(executeDecisionInfo.getExecutionId());
+        rowExecuteDecisionInfo.setActivityId(executeDecisionInfo.getActivityId());
+        rowExecuteDecisionInfo.setScopeType(executeDecisionInfo.getScopeType());
+        rowExecuteDecisionInfo.setTenantId(executeDecisionInfo.getTenantId());
+        rowExecuteDecisionInfo.setFallbackToDefaultTenant(executeDecisionInfo.isFallbackToDefaultTenant());
+
+        // the variables of the builder are shared by all rows
+        Map<String, Object> variables = new HashMap<>();
+        if (executeDecisionInfo.getVariables() != null) {
+            variables.putAll(executeDecisionInfo.getVariables());
+        }
+        if (rowVariables != null) {
+            variables.putAll(rowVariables);
+        }
+        rowExecuteDecisionInfo.setVariables(variables);
+
+        return rowExecuteDecisionInfo;
+    }
+
+}
@@ -21,6 +21,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DmnDecisionTable;
 import org.flowable.dmn.engine.impl.ExecuteDecisionBuilderImpl;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 
@@ -34,10 +35,12 @@ public class ExecuteDecisionWithAuditTrailCmd extends AbstractExecuteDecisionCmd
 
     public ExecuteDecisionWithAuditTrailCmd(ExecuteDecisionBuilderImpl decisionBuilder) {
         super(decisionBuilder);
+        executeDecisionInfo.setAuditLevel(DecisionExecutionAuditLevel.FULL);
     }
     
     public ExecuteDecisionWithAuditTrailCmd(String decisionKey, Map<String, Object> variables) {
         super(decisionKey, variables);
+        executeDecisionInfo.setAuditLevel(DecisionExecutionAuditLevel.FULL);
     }
 
     public ExecuteDecisionWithAuditTrailCmd(String decisionKey, String parentDeploymentId, Map<String, Object> variables) {
@@ -14,11 +14,14 @@ package org.flowable.dmn.engine.impl.el;
 
 import java.util.HashMap;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.apache.commons.lang3.StringUtils;
 import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
 import org.flowable.dmn.model.BuiltinAggregator;
 
 /**
@@ -29,6 +32,8 @@ public class ELExecutionContext {
     protected Map<Integer, Map<String, Object>> ruleResults = new LinkedHashMap<>();
     protected Map<String, Object> stackVariables;
     protected DecisionExecutionAuditContainer auditContainer;
+    protected DecisionExecutionAuditLevel auditLevel = DecisionExecutionAuditLevel.FULL;
+    protected Set<Integer> validRuleNumbers = new LinkedHashSet<>();
     protected Map<String, List<Object>> outputValues = new LinkedHashMap<>();
     protected BuiltinAggregator aggregator;
     protected String instanceId;
@@ -78,6 +83,33 @@ public class ELExecutionContext {
         this.auditContainer = auditContainer;
     }
 
+    public DecisionExecutionAuditLevel getAuditLevel() {
+        return auditLevel;
+    }
+
+    public void setAuditLevel(DecisionExecutionAuditLevel auditLevel) {
+        this.auditLevel = auditLevel;
+    }
+
+    public boolean isAuditEnabled() {
+        return auditLevel != DecisionExecutionAuditLevel.NONE;
+    }
+
+    public boolean isFullAuditEnabled() {
+        return auditLevel == DecisionExecutionAuditLevel.FULL;
+    }
+
+    public void addValidRuleNumber(int ruleNumber) {
+        validRuleNumbers.add(ruleNumber);
+    }
+
+    /**
+     * Returns the numbers of the rules that matched so far, independent of the audit level.
+     */
+    public Set<Integer> getValidRuleNumbers() {
+        return validRuleNumbers;
+    }
+
     public Map<String, List<Object>> getOutputValues() {
         return outputValues;
     }
@@ -20,7 +20,9 @@ import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditUtil;
+import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.Decision;
 import org.flowable.dmn.model.DecisionTable;
 import org.flowable.dmn.model.InputClause;
@@ -44,7 +46,12 @@ public class ELExecutionContextBuilder {
         executionContext.setForceDMN11(decision.isForceDMN11());
 
         // initialize audit trail
-        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, executeDecisionInfo));
+        DecisionExecutionAuditLevel auditLevel = executeDecisionInfo.getAuditLevel();
+        if (auditLevel == null) {
+            auditLevel = CommandContextUtil.getDmnEngineConfiguration().getDecisionExecutionAuditLevel();
+        }
+        executionContext.setAuditLevel(auditLevel);
+        executionContext.setAuditContainer(DecisionExecutionAuditUtil.initializeRuleExecutionAudit(decision, executeDecisionInfo, auditLevel));
 
         DecisionTable decisionTable = (DecisionTable) decision.getExpression();
 
@@ -0,0 +1,70 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.dmn.engine.impl.history;
+
+import org.apache.commons.lang3.BooleanUtils;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
+import org.flowable.dmn.engine.DmnEngineConfiguration;
+import org.flowable.dmn.engine.impl.ExecuteDecisionInfo;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntity;
+import org.flowable.dmn.engine.impl.persistence.entity.HistoricDecisionExecutionEntityManager;
+
+/**
+ * Inserts the historic decision execution in the transaction of the decision execution.
+ */
+public class DefaultDmnHistoryManager implements DmnHistoryManager {
+
+    protected DmnEngineConfiguration dmnEngineConfiguration;
+
+    public DefaultDmnHistoryManager(DmnEngineConfiguration dmnEngineConfiguration) {
+        this.dmnEngineConfiguration = dmnEngineConfiguration;
+    }
+
+    @Override
+    public void recordDecisionExecution(ExecuteDecisionInfo executeDecisionInfo, DecisionExecutionAuditContainer decisionExecution) {
+        HistoricDecisionExecutionEntityManager historicDecisionExecutionEntityManager = dmnEngineConfiguration.getHistoricDecisionExecutionEntityManager();
+        HistoricDecisionExecutionEntity decisionExecutionEntity = historicDecisionExecutionEntityManager.create();
+        decisionExecutionEntity.setDecisionDefinitionId(executeDecisionInfo.getDecisionDefinitionId());
+        decisionExecutionEntity.setDeploymentId(executeDecisionInfo.getDeploymentId());
+        decisionExecutionEntity.setStartTime(decisionExecution.getStartTime());
+        decisionExecutionEntity.setEndTime(decisionExecution.getEndTime());
+        decisionExecutionEntity.setInstanceId(executeDecisionInfo.getInstanceId());
+        decisionExecutionEntity.setExecutionId(executeDecisionInfo.getExecutionId());
+        decisionExecutionEntity.setActivityId(executeDecisionInfo.getActivityId());
+        decisionExecutionEntity.setScopeType(executeDecisionInfo.getScopeType());
+        decisionExecutionEntity.setTenantId(executeDecisionInfo.getTenantId());
+
+        Boolean failed = decisionExecution.isFailed();
+        if (BooleanUtils.isTrue(failed)) {
+            decisionExecutionEntity.setFailed(failed.booleanValue());
+        }
+
+        try {
+            decisionExecutionEntity.setExecutionJson(dmnEngineConfiguration.getObjectMapper().writeValueAsString(decisionExecution));
+        } catch (Exception e) {
+            throw new FlowableException("Error writing execution json", e);
+        }
+
+        historicDecisionExecutionEntityManager.insert(decisionExecutionEntity);
+    }
+
+    public DmnEngineConfiguration getDmnEngineConfiguration() {
+        return dmnEngineConfiguration;
+    }
+
+    public void setDmnEngineConfiguration(DmnEngineConfiguration dmnEngineConfiguration) {
+        this.dmnEngineConfiguration = dmnEngineConfiguration;
+    }
+
+}
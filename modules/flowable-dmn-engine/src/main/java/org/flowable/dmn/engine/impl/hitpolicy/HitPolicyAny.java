@@ -50,15 +50,15 @@ public class HitPolicyAny extends AbstractHitPolicy implements ComposeDecisionRe
                                 getHitPolicyName(), otherRuleResults.getKey(), ruleResults.getKey(), outputValues.getKey());
 
                             if (CommandContextUtil.getDmnEngineConfiguration().isStrictMode()) {
-                                executionContext.getAuditContainer().getRuleExecutions().get(otherRuleResults.getKey()).setExceptionMessage(hitPolicyViolatedMessage);
-                                executionContext.getAuditContainer().getRuleExecutions().get(ruleResults.getKey()).setExceptionMessage(hitPolicyViolatedMessage);
+                                setRuleExceptionMessage(otherRuleResults.getKey(), hitPolicyViolatedMessage, executionContext);
+                                setRuleExceptionMessage(ruleResults.getKey(), hitPolicyViolatedMessage, executionContext);
 
                                 throw new FlowableException(String.format("HitPolicy %s violated.", getHitPolicyName()));
                             } else {
                                 validationFailed = true;
 
-                                executionContext.getAuditContainer().getRuleExecutions().get(otherRuleResults.getKey()).setValidationMessage(hitPolicyViolatedMessage);
-                                executionContext.getAuditContainer().getRuleExecutions().get(ruleResults.getKey()).setValidationMessage(hitPolicyViolatedMessage);
+                                setRuleValidationMessage(otherRuleResults.getKey(), hitPolicyViolatedMessage, executionContext);
+                                setRuleValidationMessage(ruleResults.getKey(), hitPolicyViolatedMessage, executionContext);
 
                                 break;
                             }
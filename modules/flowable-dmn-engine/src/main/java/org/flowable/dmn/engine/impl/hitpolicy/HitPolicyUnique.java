@@ -19,7 +19,6 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
-import org.flowable.dmn.api.RuleExecutionAuditContainer;
 import org.flowable.dmn.engine.impl.el.ELExecutionContext;
 import org.flowable.dmn.engine.impl.util.CommandContextUtil;
 import org.flowable.dmn.model.HitPolicy;
@@ -36,18 +35,17 @@ public class HitPolicyUnique extends AbstractHitPolicy implements EvaluateRuleVa
 
     @Override
     public void evaluateRuleValidity(int ruleNumber, ELExecutionContext executionContext) {
-        //TODO: not on audit container
-        for (Map.Entry<Integer, RuleExecutionAuditContainer> entry : executionContext.getAuditContainer().getRuleExecutions().entrySet()) {
-            if (entry.getKey().equals(ruleNumber) == false && entry.getValue().isValid()) {
-                String hitPolicyViolatedMessage = String.format("HitPolicy %s violated; at least rule %d and rule %d are valid.", getHitPolicyName(), ruleNumber, entry.getKey());
+        for (Integer validRuleNumber : executionContext.getValidRuleNumbers()) {
+            if (validRuleNumber.equals(ruleNumber) == false) {
+                String hitPolicyViolatedMessage = String.format("HitPolicy %s violated; at least rule %d and rule %d are valid.", getHitPolicyName(), ruleNumber, validRuleNumber);
 
                 if (CommandContextUtil.getDmnEngineConfiguration().isStrictMode()) {
-                    executionContext.getAuditContainer().getRuleExecutions().get(ruleNumber).setExceptionMessage(hitPolicyViolatedMessage);
-                    executionContext.getAuditContainer().getRuleExecutions().get(entry.getKey()).setExceptionMessage(hitPolicyViolatedMessage);
+                    setRuleExceptionMessage(ruleNumber, hitPolicyViolatedMessage, executionContext);
+                    setRuleExceptionMessage(validRuleNumber, hitPolicyViolatedMessage, executionContext);
                     throw new FlowableException("HitPolicy UNIQUE violated.");
                 } else {
-                    executionContext.getAuditContainer().getRuleExecutions().get(ruleNumber).setValidationMessage(hitPolicyViolatedMessage);
-                    executionContext.getAuditContainer().getRuleExecutions().get(entry.getKey()).setValidationMessage(hitPolicyViolatedMessage);
+                    setRuleValidationMessage(ruleNumber, hitPolicyViolatedMessage, executionContext);
+                    setRuleValidationMessage(validRuleNumber, hitPolicyViolatedMessage, executionContext);
                     break;
                 }
             }
@@ -12,10 +12,22 @@
  */
 package org.flowable.dmn.engine.test.history;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+
+import org.flowable.dmn.api.DecisionExecutionAuditContainer;
 import org.flowable.dmn.api.DmnHistoricDecisionExecution;
+import org.flowable.dmn.engine.impl.audit.DecisionExecutionAuditLevel;
 import org.flowable.dmn.engine.impl.test.PluggableFlowableDmnTestCase;
 import org.flowable.dmn.engine.test.DmnDeployment;
 
@@ -79,7 +91,182 @@ public class HistoryTest extends PluggableFlowableDmnTestCase {
         assertTrue(ruleExecutions.has("2"));
         assertTrue(ruleExecutions.get("2").get("valid").asBoolean());
     }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void testSummaryAuditLevel() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.SUMMARY);
+        try {
+            Map<String, Object> result = ruleService.createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variable("inputVariable1", 11)
+                    .executeWithSingleResult();
+            assertEquals("gt 10", result.get("outputVariable1"));
+
+            DmnHistoricDecisionExecution decisionExecution = historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").singleResult();
+            JsonNode executionNode = dmnEngineConfiguration.getObjectMapper().readTree(decisionExecution.getExecutionJson());
+            assertEquals(11, executionNode.get("inputVariables").get("inputVariable1").asLong());
+            assertEquals(1, executionNode.get("decisionResult").size());
+
+            // Only the matched rule is audited, without its input entries
+            JsonNode ruleExecutions = executionNode.get("ruleExecutions");
+            assertFalse(ruleExecutions.has("1"));
+            assertTrue(ruleExecutions.has("2"));
+            assertTrue(ruleExecutions.get("2").get("valid").asBoolean());
+            assertEquals(0, ruleExecutions.get("2").get("conditionResults").size());
+            assertEquals(2, ruleExecutions.get("2").get("conclusionResults").size());
+
+        } finally {
+            dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.FULL);
+        }
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void testNoneAuditLevel() throws Exception {
+        dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.NONE);
+        try {
+            Map<String, Object> result = ruleService.createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variable("inputVariable1", 11)
+                    .executeWithSingleResult();
+            assertEquals("gt 10", result.get("outputVariable1"));
+            assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+            // An execution with audit trail is always fully audited
+            DecisionExecutionAuditContainer auditContainer = ruleService.createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .variable("inputVariable1", 11)
+                    .executeWithAuditTrail();
+            assertEquals(2, auditContainer.getRuleExecutions().size());
+            assertEquals(1, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        } finally {
+            dmnEngineConfiguration.setDecisionExecutionAuditLevel(DecisionExecutionAuditLevel.FULL);
+        }
+    }
     
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void testDecisionBatch() {
+        int originalSampleInterval = dmnEngineConfiguration.getDecisionBatchHistorySampleInterval();
+        dmnEngineConfiguration.setDecisionBatchHistorySampleInterval(2);
+        try {
+            List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .executeDecisionBatch(createBatchRows(5, 11, 10, 11, 5));
+
+            assertBatchResults(results, "lt 10", "gt 10", "lt 20", "gt 10", "lt 10");
+
+            // Only the first and every second row are stored
+            assertEquals(3, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        } finally {
+            dmnEngineConfiguration.setDecisionBatchHistorySampleInterval(originalSampleInterval);
+        }
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void testParallelDecisionBatch() {
+        int originalSampleInterval = dmnEngineConfiguration.getDecisionBatchHistorySampleInterval();
+        int originalChunkSize = dmnEngineConfiguration.getDecisionBatchChunkSize();
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        dmnEngineConfiguration.setDecisionBatchHistorySampleInterval(1);
+        dmnEngineConfiguration.setDecisionBatchChunkSize(2);
+        dmnEngineConfiguration.setDecisionBatchExecutorService(executorService);
+        try {
+            List<List<Map<String, Object>>> results = ruleService.createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .parallelBatch()
+                    .executeDecisionBatch(createBatchRows(5, 11, 10, 11, 5));
+
+            assertBatchResults(results, "lt 10", "gt 10", "lt 20", "gt 10", "lt 10");
+            assertEquals(5, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        } finally {
+            dmnEngineConfiguration.setDecisionBatchHistorySampleInterval(originalSampleInterval);
+            dmnEngineConfiguration.setDecisionBatchChunkSize(originalChunkSize);
+            dmnEngineConfiguration.setDecisionBatchExecutorService(null);
+            executorService.shutdownNow();
+        }
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void testParallelDecisionBatchWithoutExecutorService() {
+        try {
+            ruleService.createExecuteDecisionBuilder()
+                    .decisionKey("decision1")
+                    .parallelBatch()
+                    .executeDecisionBatch(createBatchRows(5, 11));
+            fail("Expected exception, no decision batch executor service is configured");
+        } catch (FlowableIllegalArgumentException e) {
+            assertTrue(e.getMessage().contains("decisionBatchExecutorService"));
+        }
+
+        assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+    }
+
+    @DmnDeployment(resources = "org/flowable/dmn/engine/test/history/HistoryTest.testFirstHitPolicy.dmn")
+    public void testParallelDecisionBatchStopsAfterFailedChunk() {
+        int originalSampleInterval = dmnEngineConfiguration.getDecisionBatchHistorySampleInterval();
+        int originalChunkSize = dmnEngineConfiguration.getDecisionBatchChunkSize();
+        // a single thread evaluates the chunks in order, so the failing first chunk completes before the other chunks start
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        dmnEngineConfiguration.setDecisionBatchHistorySampleInterval(1);
+        dmnEngineConfiguration.setDecisionBatchChunkSize(1);
+        dmnEngineConfiguration.setDecisionBatchExecutorService(executorService);
+        try {
+            List<Map<String, Object>> rows = new ArrayList<>();
+            rows.add(new HashMap<String, Object>() {
+
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                public int size() {
+                    return 1;
+                }
+
+                @Override
+                public Set<Map.Entry<String, Object>> entrySet() {
+                    throw new FlowableException("Failing row");
+                }
+            });
+            rows.addAll(createBatchRows(5, 11, 10));
+
+            try {
+                ruleService.createExecuteDecisionBuilder()
+                        .decisionKey("decision1")
+                        .parallelBatch()
+                        .executeDecisionBatch(rows);
+                fail("Expected exception of the failing row");
+            } catch (FlowableException e) {
+                assertEquals("Failing row", e.getMessage());
+            }
+
+            // the chunks after the failed chunk are not evaluated
+            assertEquals(0, historyService.createHistoricDecisionExecutionQuery().decisionKey("decision1").count());
+
+        } finally {
+            dmnEngineConfiguration.setDecisionBatchHistorySampleInterval(originalSampleInterval);
+            dmnEngineConfiguration.setDecisionBatchChunkSize(originalChunkSize);
+            dmnEngineConfiguration.setDecisionBatchExecutorService(null);
+            executorService.shutdownNow();
+        }
+    }
+
+    protected List<Map<String, Object>> createBatchRows(int... inputValues) {
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int inputValue : inputValues) {
+            rows.add(Collections.<String, Object>singletonMap("inputVariable1", inputValue));
+        }
+        return rows;
+    }
+
+    protected void assertBatchResults(List<List<Map<String, Object>>> results, String... expectedOutputs) {
+        assertEquals(expectedOutputs.length, results.size());
+        for (int i = 0; i < expectedOutputs.length; i++) {
+            assertEquals(1, results.get(i).size());
+            assertEquals(expectedOutputs[i], results.get(i).get(0).get("outputVariable1"));
+        }
+    }
+
     @DmnDeployment
     public void testOutputOrderHitPolicy() throws Exception {
         ruleService.createExecuteDecisionBuilder()
@@ -0,0 +1,28 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.delegate.event;
+
+/**
+ * Marker for a {@link FlowableEventListener} that does not need to be called within the transaction in which the event occurred
+ * (e.g. a listener that only does auditing or collects metrics).
+ * <p>
+ * When the engine has an async event listener executor configured, the events for such a listener are queued after the transaction
+ * has been committed and are delivered by dedicated worker threads. Events of a transaction that is rolled back are never delivered.
+ * As the listener is not called within the transaction, {@link #isFailOnException()}, {@link #isFireOnTransactionLifecycleEvent()}
+ * and {@link #getOnTransaction()} are not taken into account.
+ * <p>
+ * Without an async event listener executor, the listener is called synchronously like any other listener.
+ */
+public interface AsyncFlowableEventListener extends FlowableEventListener {
+
+}
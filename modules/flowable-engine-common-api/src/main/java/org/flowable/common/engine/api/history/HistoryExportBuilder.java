@@ -0,0 +1,60 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.history;
+
+import java.util.Date;
+
+/**
+ * Exports the rows of history tables to a {@link HistoryExportSink}, e.g. to feed a data warehouse.
+ *
+ * The rows are streamed from the database without being turned into entities. Every table is divided in time range partitions,
+ * based on the time a row was last changed (e.g. the end time or last updated time), which are exported in parallel.
+ * An incremental export only contains the rows that changed since the watermark of the previous export
+ * (see {@link HistoryExportResult#getWatermark()}).
+ */
+public interface HistoryExportBuilder {
+
+    /**
+     * Only export the given tables (e.g. ACT_HI_PROCINST), instead of all history tables supported by the engine.
+     */
+    HistoryExportBuilder tables(String... tableNames);
+
+    /**
+     * Only export the rows changed at or after the given time, typically the watermark of the previous export.
+     */
+    HistoryExportBuilder since(Date since);
+
+    /**
+     * Only export the rows changed before the given time. Defaults to the current engine time minus the history export watermark lag
+     * of the engine configuration, which avoids missing rows of transactions that were not yet committed when the export ran.
+     */
+    HistoryExportBuilder until(Date until);
+
+    /**
+     * The number of partitions every table is divided in, which are exported in parallel by as many threads. Defaults to 1.
+     * The number is capped to the history export max partitions of the engine configuration.
+     */
+    HistoryExportBuilder partitions(int partitionCount);
+
+    /**
+     * The exclusive end of the exported time range, which is also returned as {@link HistoryExportResult#getWatermark()}.
+     * Either the until time or, when not set, the default determined on the first call.
+     */
+    Date getWatermark();
+
+    /**
+     * Exports the rows to the given sink.
+     */
+    HistoryExportResult export(HistoryExportSink sink);
+
+}
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.history;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * The outcome of a history export (see {@link HistoryExportBuilder}).
+ */
+public class HistoryExportResult {
+
+    protected Date watermark;
+    protected Map<String, Long> rowCounts = new LinkedHashMap<>();
+
+    public HistoryExportResult(Date watermark) {
+        this.watermark = watermark;
+    }
+
+    /**
+     * The time up to which the rows have been exported. Passing it to {@link HistoryExportBuilder#since(Date)} exports the rows changed afterwards.
+     */
+    public Date getWatermark() {
+        return watermark;
+    }
+
+    /**
+     * The number of exported rows per table.
+     */
+    public Map<String, Long> getRowCounts() {
+        return Collections.unmodifiableMap(rowCounts);
+    }
+
+    public long getTotalRowCount() {
+        long totalRowCount = 0;
+        for (Long rowCount : rowCounts.values()) {
+            totalRowCount += rowCount;
+        }
+        return totalRowCount;
+    }
+
+    public void addRowCount(String tableName, long rowCount) {
+        rowCounts.merge(tableName, rowCount, Long::sum);
+    }
+
+}
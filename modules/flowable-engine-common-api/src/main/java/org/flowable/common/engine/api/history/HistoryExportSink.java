@@ -0,0 +1,49 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.api.history;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Receives the rows of a history export (see {@link HistoryExportBuilder}).
+ *
+ * The tables are exported one after the other. The rows of a table can be produced by multiple threads,
+ * but the calls to a sink are never done concurrently, so implementations don't need to be thread-safe.
+ */
+public interface HistoryExportSink {
+
+    /**
+     * Called before the first row of a table is written.
+     *
+     * @param columnNames
+     *            the (upper case) column names of the table, in the order of the row values
+     */
+    void startTable(String tableName, List<String> columnNames);
+
+    /**
+     * Writes one row of the given table, mapping every column name to its value (which is null for empty columns).
+     */
+    void writeRow(String tableName, Map<String, Object> row);
+
+    /**
+     * Called after the last row of a table has been written.
+     */
+    void endTable(String tableName);
+
+    /**
+     * Called once all tables have been exported.
+     */
+    void finish();
+
+}
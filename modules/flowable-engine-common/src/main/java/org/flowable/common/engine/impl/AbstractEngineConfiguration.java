@@ -58,10 +58,13 @@ import org.flowable.common.engine.impl.cfg.TransactionContextFactory;
 import org.flowable.common.engine.impl.cfg.standalone.StandaloneMybatisTransactionContextFactory;
 import org.flowable.common.engine.impl.db.CommonDbSchemaManager;
 import org.flowable.common.engine.impl.db.DbSqlSessionFactory;
+import org.flowable.common.engine.impl.db.DefaultReadOnlyStalenessPolicy;
 import org.flowable.common.engine.impl.db.LogSqlExecutionTimePlugin;
 import org.flowable.common.engine.impl.db.MybatisTypeAliasConfigurator;
 import org.flowable.common.engine.impl.db.MybatisTypeHandlerConfigurator;
+import org.flowable.common.engine.impl.db.ReadOnlyStalenessPolicy;
 import org.flowable.common.engine.impl.db.SchemaManager;
+import org.flowable.common.engine.impl.event.AsyncFlowableEventListenerExecutor;
 import org.flowable.common.engine.impl.event.EventDispatchAction;
 import org.flowable.common.engine.impl.event.FlowableEventDispatcherImpl;
 import org.flowable.common.engine.impl.interceptor.Command;
@@ -141,6 +144,14 @@ public abstract class AbstractEngineConfiguration {
     protected int jdbcPingConnectionNotUsedFor;
     protected int jdbcDefaultTransactionIsolationLevel;
     protected DataSource dataSource;
+
+    /**
+     * Optional data source (e.g. a read replica of the database) used by read-only commands, such as queries.
+     * The {@link ReadOnlyStalenessPolicy} decides whether a read-only command can use it.
+     */
+    protected DataSource readOnlyDataSource;
+    protected ReadOnlyStalenessPolicy readOnlyStalenessPolicy;
+
     protected SchemaManager commonSchemaManager;
     protected SchemaManager schemaManager;
     protected Command<Void> schemaManagementCmd;
@@ -186,6 +197,7 @@ public abstract class AbstractEngineConfiguration {
     protected boolean isDbHistoryUsed = true;
     protected DbSqlSessionFactory dbSqlSessionFactory;
     protected SqlSessionFactory sqlSessionFactory;
+    protected SqlSessionFactory readOnlySqlSessionFactory;
     protected TransactionFactory transactionFactory;
     protected TransactionContextFactory transactionContextFactory;
 
@@ -224,6 +236,12 @@ public abstract class AbstractEngineConfiguration {
     protected Map<String, List<FlowableEventListener>> typedEventListeners;
     protected List<EventDispatchAction> additionalEventDispatchActions;
 
+    /**
+     * When set, events for {@link org.flowable.common.engine.api.delegate.event.AsyncFlowableEventListener}s are delivered
+     * after the transaction has been committed, by the worker threads of this executor.
+     */
+    protected AsyncFlowableEventListenerExecutor asyncEventListenerExecutor;
+
     protected LoggingListener loggingListener;
 
     protected boolean transactionsExternallyManaged;
@@ -384,6 +402,19 @@ public abstract class AbstractEngineConfiguration {
     protected Clock clock;
     protected ObjectMapper objectMapper = new ObjectMapper();
 
+    // History export
+
+    /**
+     * The maximum number of partitions (and threads) a history export uses. A larger number of requested partitions is capped to this value.
+     */
+    protected int historyExportMaxPartitions = 8;
+
+    /**
+     * When no until time is given, a history export ends this many milliseconds before the current engine time.
+     * This avoids missing the rows of transactions that were not yet committed when the export ran.
+     */
+    protected long historyExportWatermarkLagInMillis = 30000L;
+
     // Variables
 
     public static final int DEFAULT_GENERIC_MAX_LENGTH_STRING = 4000;
@@ -719,6 +750,8 @@ public abstract class AbstractEngineConfiguration {
         }
         dbSqlSessionFactory.setDatabaseType(databaseType);
         dbSqlSessionFactory.setSqlSessionFactory(sqlSessionFactory);
+        dbSqlSessionFactory.setReadOnlySqlSessionFactory(readOnlySqlSessionFactory);
+        dbSqlSessionFactory.setReadOnlyStalenessPolicy(readOnlyStalenessPolicy);
         dbSqlSessionFactory.setDbHistoryUsed(isDbHistoryUsed);
         dbSqlSessionFactory.setDatabaseTablePrefix(databaseTablePrefix);
         dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
@@ -770,43 +803,55 @@ public abstract class AbstractEngineConfiguration {
 
     public void initSqlSessionFactory() {
         if (sqlSessionFactory == null) {
-            InputStream inputStream = null;
-            try {
-                inputStream = getMyBatisXmlConfigurationStream();
+            sqlSessionFactory = createSqlSessionFactory(new Environment("default", transactionFactory, dataSource));
+        }
 
-                Environment environment = new Environment("default", transactionFactory, dataSource);
-                Reader reader = new InputStreamReader(inputStream);
-                Properties properties = new Properties();
-                properties.put("prefix", databaseTablePrefix);
+        if (readOnlySqlSessionFactory == null && readOnlyDataSource != null) {
+            // Connections of the read-only data source are never part of the (possibly externally managed) transaction of the primary data source
+            readOnlySqlSessionFactory = createSqlSessionFactory(new Environment("readOnly", new JdbcTransactionFactory(), readOnlyDataSource));
+        }
 
-                String wildcardEscapeClause = "";
-                if ((databaseWildcardEscapeCharacter != null) && (databaseWildcardEscapeCharacter.length() != 0)) {
-                    wildcardEscapeClause = " escape '" + databaseWildcardEscapeCharacter + "'";
-                }
-                properties.put("wildcardEscapeClause", wildcardEscapeClause);
-
-                // set default properties
-                properties.put("limitBefore", "");
-                properties.put("limitAfter", "");
-                properties.put("limitBetween", "");
-                properties.put("limitBetweenNoDistinct", "");
-                properties.put("limitOuterJoinBetween", "");
-                properties.put("limitBeforeNativeQuery", "");
-                properties.put("blobType", "BLOB");
-                properties.put("boolValue", "TRUE");
-
-                if (databaseType != null) {
-                    properties.load(getResourceAsStream(pathToEngineDbProperties()));
-                }
+        if (readOnlySqlSessionFactory != null && readOnlyStalenessPolicy == null) {
+            readOnlyStalenessPolicy = new DefaultReadOnlyStalenessPolicy();
+        }
+    }
+
+    protected SqlSessionFactory createSqlSessionFactory(Environment environment) {
+        InputStream inputStream = null;
+        try {
+            inputStream = getMyBatisXmlConfigurationStream();
 
-                Configuration configuration = initMybatisConfiguration(environment, reader, properties);
-                sqlSessionFactory = new DefaultSqlSessionFactory(configuration);
+            Reader reader = new InputStreamReader(inputStream);
+            Properties properties = new Properties();
+            properties.put("prefix", databaseTablePrefix);
 
-            } catch (Exception e) {
-                throw new FlowableException("Error while building ibatis SqlSessionFactory: " + e.getMessage(), e);
-            } finally {
-                IoUtil.closeSilently(inputStream);
+            String wildcardEscapeClause = "";
+            if ((databaseWildcardEscapeCharacter != null) && (databaseWildcardEscapeCharacter.length() != 0)) {
+                wildcardEscapeClause = " escape '" + databaseWildcardEscapeCharacter + "'";
             }
+            properties.put("wildcardEscapeClause", wildcardEscapeClause);
+
+            // set default properties
+            properties.put("limitBefore", "");
+            properties.put("limitAfter", "");
+            properties.put("limitBetween", "");
+            properties.put("limitBetweenNoDistinct", "");
+            properties.put("limitOuterJoinBetween", "");
+            properties.put("limitBeforeNativeQuery", "");
+            properties.put("blobType", "BLOB");
+            properties.put("boolValue", "TRUE");
+
+            if (databaseType != null) {
+                properties.load(getResourceAsStream(pathToEngineDbProperties()));
+            }
+
+            Configuration configuration = initMybatisConfiguration(environment, reader, properties);
+            return new DefaultSqlSessionFactory(configuration);
+
+        } catch (Exception e) {
+            throw new FlowableException("Error while building ibatis SqlSessionFactory: " + e.getMessage(), e);
+        } finally {
+            IoUtil.closeSilently(inputStream);
         }
     }
 
@@ -978,6 +1023,11 @@ public abstract class AbstractEngineConfiguration {
     }
 
     public void close() {
+        // The queued events are delivered first, async listeners can still need a connection from the pool
+        if (asyncEventListenerExecutor != null) {
+            asyncEventListenerExecutor.shutdown();
+        }
+
         if (forceCloseMybatisConnectionPool && dataSource instanceof PooledDataSource) {
             /*
              * When the datasource is created by a Flowable engine (i.e. it's an instance of PooledDataSource),
@@ -1068,6 +1118,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public DataSource getReadOnlyDataSource() {
+        return readOnlyDataSource;
+    }
+
+    public AbstractEngineConfiguration setReadOnlyDataSource(DataSource readOnlyDataSource) {
+        this.readOnlyDataSource = readOnlyDataSource;
+        return this;
+    }
+
+    public ReadOnlyStalenessPolicy getReadOnlyStalenessPolicy() {
+        return readOnlyStalenessPolicy;
+    }
+
+    public AbstractEngineConfiguration setReadOnlyStalenessPolicy(ReadOnlyStalenessPolicy readOnlyStalenessPolicy) {
+        this.readOnlyStalenessPolicy = readOnlyStalenessPolicy;
+        return this;
+    }
+
     public SchemaManager getSchemaManager() {
         return schemaManager;
     }
@@ -1391,6 +1459,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public SqlSessionFactory getReadOnlySqlSessionFactory() {
+        return readOnlySqlSessionFactory;
+    }
+
+    public AbstractEngineConfiguration setReadOnlySqlSessionFactory(SqlSessionFactory readOnlySqlSessionFactory) {
+        this.readOnlySqlSessionFactory = readOnlySqlSessionFactory;
+        return this;
+    }
+
     public boolean isDbHistoryUsed() {
         return isDbHistoryUsed;
     }
@@ -1691,6 +1768,15 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public AsyncFlowableEventListenerExecutor getAsyncEventListenerExecutor() {
+        return asyncEventListenerExecutor;
+    }
+
+    public AbstractEngineConfiguration setAsyncEventListenerExecutor(AsyncFlowableEventListenerExecutor asyncEventListenerExecutor) {
+        this.asyncEventListenerExecutor = asyncEventListenerExecutor;
+        return this;
+    }
+
     public List<EventDispatchAction> getAdditionalEventDispatchActions() {
         return additionalEventDispatchActions;
     }
@@ -1709,10 +1795,18 @@ public abstract class AbstractEngineConfiguration {
 
         this.eventDispatcher.setEnabled(enableEventDispatcher);
 
+        initAsyncEventListenerExecutor();
         initEventListeners();
         initTypedEventListeners();
     }
 
+    protected void initAsyncEventListenerExecutor() {
+        if (asyncEventListenerExecutor != null && eventDispatcher instanceof FlowableEventDispatcherImpl) {
+            ((FlowableEventDispatcherImpl) eventDispatcher).getEventSupport().setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+            asyncEventListenerExecutor.start();
+        }
+    }
+
     protected void initEventListeners() {
         if (eventListeners != null) {
             for (FlowableEventListener listenerToAdd : eventListeners) {
@@ -1770,6 +1864,24 @@ public abstract class AbstractEngineConfiguration {
         return this;
     }
 
+    public int getHistoryExportMaxPartitions() {
+        return historyExportMaxPartitions;
+    }
+
+    public AbstractEngineConfiguration setHistoryExportMaxPartitions(int historyExportMaxPartitions) {
+        this.historyExportMaxPartitions = historyExportMaxPartitions;
+        return this;
+    }
+
+    public long getHistoryExportWatermarkLagInMillis() {
+        return historyExportWatermarkLagInMillis;
+    }
+
+    public AbstractEngineConfiguration setHistoryExportWatermarkLagInMillis(long historyExportWatermarkLagInMillis) {
+        this.historyExportWatermarkLagInMillis = historyExportWatermarkLagInMillis;
+        return this;
+    }
+
     public int getMaxLengthString() {
         if (maxLengthStringVariableType == -1) {
             if ("oracle".equalsIgnoreCase(databaseType)) {
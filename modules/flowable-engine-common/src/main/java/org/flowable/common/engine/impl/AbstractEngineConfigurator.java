@@ -253,6 +253,8 @@ public abstract class AbstractEngineConfigurator implements EngineConfigurator {
     protected void initDataSource(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
         if (engineConfiguration.getDataSource() != null) {
             targetEngineConfiguration.setDataSource(engineConfiguration.getDataSource());
+            targetEngineConfiguration.setReadOnlyDataSource(engineConfiguration.getReadOnlyDataSource());
+            targetEngineConfiguration.setReadOnlyStalenessPolicy(engineConfiguration.getReadOnlyStalenessPolicy());
         } else {
             throw new FlowableException("A datasource is required for initializing the IDM engine ");
         }
@@ -261,6 +263,7 @@ public abstract class AbstractEngineConfigurator implements EngineConfigurator {
     protected void initDbSqlSessionFactory(AbstractEngineConfiguration engineConfiguration, AbstractEngineConfiguration targetEngineConfiguration) {
         targetEngineConfiguration.setDbSqlSessionFactory(engineConfiguration.getDbSqlSessionFactory());
         targetEngineConfiguration.setSqlSessionFactory(engineConfiguration.getSqlSessionFactory());
+        targetEngineConfiguration.setReadOnlySqlSessionFactory(engineConfiguration.getReadOnlySqlSessionFactory());
         targetEngineConfiguration.defaultInitDbSqlSessionFactoryEntitySettings(getEntityInsertionOrder(), getEntityDeletionOrder());
     }
 
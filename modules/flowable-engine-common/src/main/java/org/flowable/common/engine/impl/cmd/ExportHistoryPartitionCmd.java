@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cmd;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.history.HistoryExportSink;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.history.export.HistoryExportPartition;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Streams the rows of a {@link HistoryExportPartition} to a {@link HistoryExportSink} using a MyBatis {@link Cursor},
+ * so the rows are never turned into entities or kept in memory. Returns the number of exported rows.
+ */
+public class ExportHistoryPartitionCmd implements Command<Long> {
+
+    protected HistoryExportPartition partition;
+    protected List<String> columnNames;
+    protected HistoryExportSink sink;
+    protected AtomicBoolean exportAborted;
+
+    /**
+     * @param exportAborted
+     *            when set (e.g. because another partition failed), the remaining rows are not exported
+     */
+    public ExportHistoryPartitionCmd(HistoryExportPartition partition, List<String> columnNames, HistoryExportSink sink, AtomicBoolean exportAborted) {
+        this.partition = partition;
+        this.columnNames = columnNames;
+        this.sink = sink;
+        this.exportAborted = exportAborted;
+    }
+
+    @Override
+    public Long execute(CommandContext commandContext) {
+        DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+        String statement = dbSqlSession.getDbSqlSessionFactory().mapStatement("selectHistoryExportRows");
+        String tableName = partition.getTable().getTableName();
+
+        long rowCount = 0;
+        try (Cursor<Map<String, Object>> cursor = dbSqlSession.getSqlSession().selectCursor(statement, partition)) {
+            for (Map<String, Object> row : cursor) {
+                if (exportAborted.get()) {
+                    break;
+                }
+
+                Map<String, Object> exportRow = toExportRow(row);
+                synchronized (sink) {
+                    sink.writeRow(tableName, exportRow);
+                }
+                rowCount++;
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not close the history export cursor of " + tableName, e);
+        }
+
+        return rowCount;
+    }
+
+    protected Map<String, Object> toExportRow(Map<String, Object> row) {
+        // The case of the column names depends on the database, and MyBatis leaves out null columns
+        Map<String, Object> values = new HashMap<>();
+        for (Map.Entry<String, Object> column : row.entrySet()) {
+            values.put(column.getKey().toUpperCase(Locale.ROOT), column.getValue());
+        }
+
+        Map<String, Object> exportRow = new LinkedHashMap<>();
+        for (String columnName : columnNames) {
+            exportRow.put(columnName, values.get(columnName));
+        }
+        return exportRow;
+    }
+
+}
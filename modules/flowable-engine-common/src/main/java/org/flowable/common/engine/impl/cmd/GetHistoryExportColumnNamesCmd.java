@@ -0,0 +1,61 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cmd;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.history.export.HistoryExportTable;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Returns the (upper case) column names of a {@link HistoryExportTable}.
+ */
+public class GetHistoryExportColumnNamesCmd implements Command<List<String>> {
+
+    protected HistoryExportTable table;
+
+    public GetHistoryExportColumnNamesCmd(HistoryExportTable table) {
+        this.table = table;
+    }
+
+    @Override
+    public List<String> execute(CommandContext commandContext) {
+        DbSqlSession dbSqlSession = commandContext.getSession(DbSqlSession.class);
+        String tableName = dbSqlSession.getDbSqlSessionFactory().getDatabaseTablePrefix() + table.getTableName();
+
+        // The result set meta data is used, as it is the same for all databases (unlike the database meta data)
+        try (Statement statement = dbSqlSession.getSqlSession().getConnection().createStatement();
+                ResultSet resultSet = statement.executeQuery("select * from " + tableName + " where 1 = 0")) {
+
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            List<String> columnNames = new ArrayList<>(metaData.getColumnCount());
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                columnNames.add(metaData.getColumnLabel(i).toUpperCase(Locale.ROOT));
+            }
+            return columnNames;
+
+        } catch (SQLException e) {
+            throw new FlowableException("Could not retrieve the columns of " + tableName, e);
+        }
+    }
+
+}
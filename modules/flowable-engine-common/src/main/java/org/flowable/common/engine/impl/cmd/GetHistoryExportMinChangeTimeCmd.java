@@ -0,0 +1,38 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.cmd;
+
+import java.util.Date;
+
+import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.history.export.HistoryExportPartition;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Returns the earliest change time of the rows of a {@link HistoryExportPartition}, or null when it has no rows with a change time.
+ */
+public class GetHistoryExportMinChangeTimeCmd implements Command<Date> {
+
+    protected HistoryExportPartition partition;
+
+    public GetHistoryExportMinChangeTimeCmd(HistoryExportPartition partition) {
+        this.partition = partition;
+    }
+
+    @Override
+    public Date execute(CommandContext commandContext) {
+        return (Date) commandContext.getSession(DbSqlSession.class).selectOne("selectHistoryExportMinChangeTime", partition);
+    }
+
+}
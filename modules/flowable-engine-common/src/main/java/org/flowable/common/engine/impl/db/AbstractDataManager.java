@@ -17,6 +17,9 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
@@ -25,6 +28,9 @@ import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
+import org.flowable.common.engine.impl.util.CollectionUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * @author Joram Barrez
@@ -32,6 +38,23 @@ import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
  */
 public abstract class AbstractDataManager<EntityImpl extends Entity> implements DataManager<EntityImpl> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(AbstractDataManager.class);
+
+    /**
+     * The maximum amount of values in a single IN clause, Oracle for example does not allow more than 1000 values.
+     */
+    public static final int MAX_IN_CLAUSE_VALUES = 1000;
+
+    /**
+     * The amount of results fetched at once by {@link #forEachChunk}.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    /**
+     * Lists with at least this amount of results, fetched without any limit, are reported when debug logging is enabled.
+     */
+    public static final int UNBOUNDED_LIST_REPORT_THRESHOLD = 1000;
+
     public abstract Class<? extends EntityImpl> getManagedEntityClass();
 
     public List<Class<? extends EntityImpl>> getManagedEntitySubClasses() {
@@ -100,6 +123,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
     @SuppressWarnings("unchecked")
     protected List<EntityImpl> getList(String dbQueryName, Object parameter) {
         Collection<EntityImpl> result = getDbSqlSession().selectList(dbQueryName, parameter);
+        reportUnboundedList(dbQueryName, parameter, result.size());
         return new ArrayList<>(result);
     }
     
@@ -120,6 +144,102 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
         return null;
     }
     
+    /**
+     * Executes the given query for chunks of at most {@link #MAX_IN_CLAUSE_VALUES} values and combines the results.
+     *
+     * @param parameterFactory
+     *            creates the query parameter for a chunk of values
+     */
+    protected List<EntityImpl> getListInChunks(String dbQueryName, Collection<String> values, Function<List<String>, Object> parameterFactory) {
+        List<EntityImpl> result = new ArrayList<>();
+        for (List<String> chunk : CollectionUtil.partition(values, MAX_IN_CLAUSE_VALUES)) {
+            result.addAll(getList(dbQueryName, parameterFactory.apply(chunk)));
+        }
+        return result;
+    }
+
+    /**
+     * Executes the given query for every combination of a chunk of the values and a chunk of the other values (both of at most
+     * {@link #MAX_IN_CLAUSE_VALUES} values) and combines the results. Both collections are expected to be used in separate IN clauses
+     * that need to match, so every result is only returned once. When there are no other values, the other values are passed as is.
+     *
+     * @param parameterFactory
+     *            creates the query parameter for a chunk of values and a chunk of other values
+     */
+    protected List<EntityImpl> getListInChunks(String dbQueryName, Collection<String> values, Collection<String> otherValues,
+            BiFunction<List<String>, Collection<String>, Object> parameterFactory) {
+
+        if (otherValues == null || otherValues.isEmpty()) {
+            return getListInChunks(dbQueryName, values, chunk -> parameterFactory.apply(chunk, otherValues));
+        }
+
+        List<EntityImpl> result = new ArrayList<>();
+        for (List<String> otherChunk : CollectionUtil.partition(otherValues, MAX_IN_CLAUSE_VALUES)) {
+            result.addAll(getListInChunks(dbQueryName, values, chunk -> parameterFactory.apply(chunk, otherChunk)));
+        }
+        return result;
+    }
+
+    /**
+     * Executes the given query in chunks of at most {@code chunkSize} results and passes every chunk to the given consumer before the next chunk is fetched.
+     * The chunks are fetched using keyset paging: the results are ordered on their id and every next chunk only contains the results with an id
+     * after the last id of the previous chunk. Results that no longer match the query once a chunk has been processed (e.g. because they were migrated
+     * or deleted) therefore don't cause other results to be skipped, as would be the case when paging with an offset.
+     * <p>
+     * The query needs to alias the queried table as RES, only return the results after {@link ListQueryParameterObject#getAfterId()} when it is set,
+     * and apply the ${orderBy} and ${limitBefore}/${limitBetween}/${limitAfter} paging of the parameter.
+     *
+     * @param idProvider
+     *            returns the id of a result
+     * @param useCache
+     *            if true, the results are loaded in (or taken from) the entity cache, which is needed when the results are changed by the consumer.
+     *            The cached results are only released when the command context is closed, so this bounds the size of a single query result
+     *            but not the memory used by the complete command.
+     */
+    @SuppressWarnings("unchecked")
+    protected <T> void forEachChunk(String dbQueryName, ListQueryParameterObject parameter, int chunkSize, boolean useCache,
+            Function<T, String> idProvider, Consumer<List<T>> chunkConsumer) {
+
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        parameter.setOrderByColumns("RES.ID_ asc");
+        parameter.setFirstResult(0);
+        parameter.setMaxResults(chunkSize);
+        parameter.setAfterId(null);
+
+        while (true) {
+            List<T> chunk = useCache ? dbSqlSession.selectList(dbQueryName, parameter) : dbSqlSession.selectListNoCacheLoadAndStore(dbQueryName, parameter);
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            String lastId = idProvider.apply(chunk.get(chunk.size() - 1));
+            chunkConsumer.accept(chunk);
+
+            if (chunk.size() < chunkSize) {
+                return;
+            }
+            parameter.setAfterId(lastId);
+        }
+    }
+
+    /**
+     * Reports a list that was fetched without a limit when it is larger than {@link #UNBOUNDED_LIST_REPORT_THRESHOLD},
+     * as a hint to fetch it with {@link #forEachChunk} instead. Queries that are paged with a limit are not reported.
+     */
+    protected void reportUnboundedList(String dbQueryName, Object parameter, int resultSize) {
+        if (resultSize >= UNBOUNDED_LIST_REPORT_THRESHOLD && LOGGER.isDebugEnabled() && !isBoundedQuery(parameter)) {
+            LOGGER.debug("Query {} of {} returned {} results without a limit", dbQueryName, getClass().getSimpleName(), resultSize);
+        }
+    }
+
+    protected boolean isBoundedQuery(Object parameter) {
+        if (parameter instanceof ListQueryParameterObject) {
+            int maxResults = ((ListQueryParameterObject) parameter).getMaxResults();
+            return maxResults >= 0 && maxResults != Integer.MAX_VALUE;
+        }
+        return false;
+    }
+
     protected List<EntityImpl> getList(String dbQueryName, Object parameter, CachedEntityMatcher<EntityImpl> cachedEntityMatcher) {
         return getList(dbQueryName, parameter, cachedEntityMatcher, true);
     }
@@ -147,6 +267,7 @@ public abstract class AbstractDataManager<EntityImpl extends Entity> implements
             CachedEntityMatcher<EntityImpl> cachedEntityMatcher, boolean checkCache) {
 
         Collection<EntityImpl> result = dbSqlSession.selectList(dbQueryName, parameter);
+        reportUnboundedList(dbQueryName, parameter, result.size());
 
         if (checkCache) {
 
@@ -14,6 +14,7 @@
 package org.flowable.common.engine.impl.db;
 
 import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
@@ -25,6 +26,7 @@ import java.util.Map;
 import java.util.Set;
 
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
 import org.flowable.common.engine.api.query.QueryCacheValues;
@@ -59,12 +61,27 @@ public class DbSqlSession implements Session {
     protected Map<Class<? extends Entity>, List<BulkDeleteOperation>> bulkDeleteOperations = new HashMap<>();
     protected List<Entity> updatedObjects = new ArrayList<>();
 
+    protected boolean readOnly;
+    protected boolean resetConnectionReadOnly;
+    protected boolean directUpdatesExecuted;
+    protected boolean changesFlushed;
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
         this.sqlSession = dbSqlSessionFactory.getSqlSessionFactory().openSession();
     }
 
+    /**
+     * Creates a session using the given {@link SqlSessionFactory} instead of the one of the {@link DbSqlSessionFactory},
+     * e.g. the one of the read-only data source.
+     */
+    public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache, SqlSessionFactory sqlSessionFactory) {
+        this.dbSqlSessionFactory = dbSqlSessionFactory;
+        this.entityCache = entityCache;
+        this.sqlSession = sqlSessionFactory.openSession();
+    }
+
     public DbSqlSession(DbSqlSessionFactory dbSqlSessionFactory, EntityCache entityCache, Connection connection, String catalog, String schema) {
         this.dbSqlSessionFactory = dbSqlSessionFactory;
         this.entityCache = entityCache;
@@ -76,6 +93,7 @@ public class DbSqlSession implements Session {
     // insert ///////////////////////////////////////////////////////////////////
 
     public void insert(Entity entity) {
+        checkNotReadOnly();
         if (entity.getId() == null) {
             String id = Context.getCommandContext().getCurrentEngineConfiguration().getIdGenerator().getNextId();
             if (dbSqlSessionFactory.isUsePrefixId()) {
@@ -98,11 +116,14 @@ public class DbSqlSession implements Session {
     // ///////////////////////////////////////////////////////////////////
 
     public void update(Entity entity) {
+        checkNotReadOnly();
         entityCache.put(entity, false); // false -> we don't store state, meaning it will always be seen as changed
         entity.setUpdated(true);
     }
 
     public int update(String statement, Object parameters) {
+        checkNotReadOnly();
+        directUpdatesExecuted = true;
         String updateStatement = dbSqlSessionFactory.mapStatement(statement);
         return getSqlSession().update(updateStatement, parameters);
     }
@@ -115,6 +136,7 @@ public class DbSqlSession implements Session {
      * The passed class determines when this operation will be executed: it will be executed depending on the place of the class in the {@link EntityDependencyOrder}.
      */
     public void delete(String statement, Object parameter, Class<? extends Entity> entityClass) {
+        checkNotReadOnly();
         if (!bulkDeleteOperations.containsKey(entityClass)) {
             bulkDeleteOperations.put(entityClass, new ArrayList<>(1));
         }
@@ -122,6 +144,7 @@ public class DbSqlSession implements Session {
     }
 
     public void delete(Entity entity) {
+        checkNotReadOnly();
         Class<? extends Entity> clazz = entity.getClass();
         if (!deletedObjects.containsKey(clazz)) {
             deletedObjects.put(clazz, new LinkedHashMap<>()); // order of insert is important, hence LinkedHashMap
@@ -306,7 +329,8 @@ public class DbSqlSession implements Session {
             return null;
         }
 
-        entityCache.put(entity, true); // true -> store state so we can see later if it is updated later on
+        // store state so we can see later if it is updated later on, not needed in read-only mode as nothing is flushed
+        entityCache.put(entity, !readOnly);
         return entity;
     }
 
@@ -339,7 +363,7 @@ public class DbSqlSession implements Session {
         if (cachedEntity != null) {
             return cachedEntity;
         }
-        entityCache.put(entity, true);
+        entityCache.put(entity, !readOnly);
         return entity;
     }
 
@@ -348,9 +372,19 @@ public class DbSqlSession implements Session {
 
     @Override
     public void flush() {
+        if (readOnly) {
+            // Nothing can be changed in read-only mode (see checkNotReadOnly)
+            return;
+        }
+
         determineUpdatedObjects(); // Needs to be done before the removeUnnecessaryOperations, as removeUnnecessaryOperations will remove stuff from the cache
         removeUnnecessaryOperations();
 
+        if (!changesFlushed && (directUpdatesExecuted || !insertedObjects.isEmpty() || !updatedObjects.isEmpty() || !deletedObjects.isEmpty() || !bulkDeleteOperations.isEmpty())) {
+            changesFlushed = true;
+            dbSqlSessionFactory.changesFlushed(Context.getCommandContext());
+        }
+
         if (LOGGER.isDebugEnabled()) {
             debugFlush();
         }
@@ -645,6 +679,13 @@ public class DbSqlSession implements Session {
 
     @Override
     public void close() {
+        if (resetConnectionReadOnly) {
+            try {
+                sqlSession.getConnection().setReadOnly(false);
+            } catch (SQLException e) {
+                LOGGER.warn("Could not reset the read-only flag of the connection", e);
+            }
+        }
         sqlSession.close();
     }
 
@@ -663,6 +704,41 @@ public class DbSqlSession implements Session {
     // getters and setters
     // //////////////////////////////////////////////////////
 
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * In read-only mode, loaded entities are put in the {@link EntityCache} of the command without taking a state snapshot
+     * (the cache is still needed, e.g. for the eagerly fetched execution or plan item trees), nothing is flushed and the connection is marked as read-only (allowing the driver or data source to route it to a read replica).
+     */
+    public void setReadOnly(boolean readOnly) {
+        this.readOnly = readOnly;
+        if (readOnly) {
+            markConnectionReadOnly();
+        }
+    }
+
+    protected void checkNotReadOnly() {
+        // No state snapshot is taken for loaded entities in read-only mode, so changes to them could never be flushed correctly
+        if (readOnly) {
+            throw new FlowableException("Changes can not be persisted in a read-only command context");
+        }
+    }
+
+    protected void markConnectionReadOnly() {
+        try {
+            Connection connection = sqlSession.getConnection();
+            if (!connection.isReadOnly()) {
+                connection.setReadOnly(true);
+                resetConnectionReadOnly = true;
+            }
+        } catch (SQLException e) {
+            // E.g. the connection is already part of a transaction
+            LOGGER.debug("Could not mark the connection as read-only", e);
+        }
+    }
+
     public SqlSession getSqlSession() {
         return sqlSession;
     }
@@ -24,10 +24,13 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionContext;
+import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.Session;
 import org.flowable.common.engine.impl.interceptor.SessionFactory;
+import org.flowable.common.engine.impl.interceptor.TransactionContextInterceptor;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.entity.Entity;
 
@@ -46,6 +49,8 @@ public class DbSqlSessionFactory implements SessionFactory {
     protected String databaseCatalog;
     protected String databaseSchema;
     protected SqlSessionFactory sqlSessionFactory;
+    protected SqlSessionFactory readOnlySqlSessionFactory;
+    protected ReadOnlyStalenessPolicy readOnlyStalenessPolicy;
     protected Map<String, String> statementMappings;
 
     protected Map<Class<?>, String> insertStatements = new ConcurrentHashMap<>();
@@ -78,7 +83,7 @@ public class DbSqlSessionFactory implements SessionFactory {
 
     @Override
     public Session openSession(CommandContext commandContext) {
-        DbSqlSession dbSqlSession = createDbSqlSession();
+        DbSqlSession dbSqlSession = isReadOnlyDataSourceUsed(commandContext) ? createReadOnlyDbSqlSession() : createDbSqlSession();
         if (getDatabaseSchema() != null && getDatabaseSchema().length() > 0) {
             try {
                 dbSqlSession.getSqlSession().getConnection().setSchema(getDatabaseSchema());
@@ -96,6 +101,9 @@ public class DbSqlSessionFactory implements SessionFactory {
         if (dbSqlSession.getSqlSession().getConnection() == null) {
             throw new FlowableException("Invalid dbSqlSession: no active connection found");
         }
+        if (commandContext.isReadOnly()) {
+            dbSqlSession.setReadOnly(true);
+        }
         return dbSqlSession;
     }
 
@@ -103,6 +111,33 @@ public class DbSqlSessionFactory implements SessionFactory {
         return new DbSqlSession(this, Context.getCommandContext().getSession(EntityCache.class));
     }
 
+    protected boolean isReadOnlyDataSourceUsed(CommandContext commandContext) {
+        return commandContext.isReadOnly() && readOnlySqlSessionFactory != null
+                && (readOnlyStalenessPolicy == null || readOnlyStalenessPolicy.isReadOnlyDataSourceAllowed(commandContext));
+    }
+
+    protected DbSqlSession createReadOnlyDbSqlSession() {
+        return new DbSqlSession(this, Context.getCommandContext().getSession(EntityCache.class), readOnlySqlSessionFactory);
+    }
+
+    /**
+     * Called by a {@link DbSqlSession} of the primary data source that flushed changes.
+     * The {@link ReadOnlyStalenessPolicy} is notified once the transaction is committed, as the read-only data source can only catch up with committed changes.
+     */
+    public void changesFlushed(CommandContext commandContext) {
+        if (readOnlySqlSessionFactory == null || readOnlyStalenessPolicy == null) {
+            return;
+        }
+
+        TransactionContext transactionContext = (TransactionContext) commandContext.getAttribute(TransactionContextInterceptor.TRANSACTION_CONTEXT_ATTRIBUTE);
+        if (transactionContext != null) {
+            transactionContext.addTransactionListener(TransactionState.COMMITTED, readOnlyStalenessPolicy::changesCommitted);
+        } else {
+            // Without a transaction context, there is no transaction to wait for
+            readOnlyStalenessPolicy.changesCommitted(commandContext);
+        }
+    }
+
     // insert, update and delete statements
     // /////////////////////////////////////
 
@@ -220,6 +255,22 @@ public class DbSqlSessionFactory implements SessionFactory {
         this.sqlSessionFactory = sqlSessionFactory;
     }
 
+    public SqlSessionFactory getReadOnlySqlSessionFactory() {
+        return readOnlySqlSessionFactory;
+    }
+
+    public void setReadOnlySqlSessionFactory(SqlSessionFactory readOnlySqlSessionFactory) {
+        this.readOnlySqlSessionFactory = readOnlySqlSessionFactory;
+    }
+
+    public ReadOnlyStalenessPolicy getReadOnlyStalenessPolicy() {
+        return readOnlyStalenessPolicy;
+    }
+
+    public void setReadOnlyStalenessPolicy(ReadOnlyStalenessPolicy readOnlyStalenessPolicy) {
+        this.readOnlyStalenessPolicy = readOnlyStalenessPolicy;
+    }
+
     public String getDatabaseType() {
         return databaseType;
     }
@@ -0,0 +1,86 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * {@link ReadOnlyStalenessPolicy} that reads from the primary data source for a while after changes have been committed,
+ * giving the read-only data source the time to catch up ('read your writes').
+ *
+ * By default all read-only commands of the engine use the primary data source during that window.
+ * When the window is thread bound, only the thread that committed the changes reads from the primary data source during that window.
+ * Reads your writes then only holds within that thread: e.g. a follow-up request handled by another thread can still read stale data.
+ * The system time is used (and not the engine clock), as the window is about the replication lag.
+ */
+public class DefaultReadOnlyStalenessPolicy implements ReadOnlyStalenessPolicy {
+
+    protected long readYourWritesWindowInMs = 1000L;
+    protected boolean threadBoundWindow;
+
+    protected final ThreadLocal<Long> threadLastChangeTime = new ThreadLocal<>();
+    protected final AtomicLong lastChangeTime = new AtomicLong();
+
+    public DefaultReadOnlyStalenessPolicy() {
+    }
+
+    public DefaultReadOnlyStalenessPolicy(long readYourWritesWindowInMs, boolean threadBoundWindow) {
+        this.readYourWritesWindowInMs = readYourWritesWindowInMs;
+        this.threadBoundWindow = threadBoundWindow;
+    }
+
+    @Override
+    public boolean isReadOnlyDataSourceAllowed(CommandContext commandContext) {
+        long changeTime;
+        if (threadBoundWindow) {
+            Long threadChangeTime = threadLastChangeTime.get();
+            changeTime = threadChangeTime != null ? threadChangeTime : 0L;
+        } else {
+            changeTime = lastChangeTime.get();
+        }
+        return changeTime == 0L || System.currentTimeMillis() - changeTime >= readYourWritesWindowInMs;
+    }
+
+    @Override
+    public void changesCommitted(CommandContext commandContext) {
+        if (readYourWritesWindowInMs <= 0L) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        if (threadBoundWindow) {
+            threadLastChangeTime.set(now);
+        } else {
+            lastChangeTime.set(now);
+        }
+    }
+
+    public long getReadYourWritesWindowInMs() {
+        return readYourWritesWindowInMs;
+    }
+
+    public void setReadYourWritesWindowInMs(long readYourWritesWindowInMs) {
+        this.readYourWritesWindowInMs = readYourWritesWindowInMs;
+    }
+
+    public boolean isThreadBoundWindow() {
+        return threadBoundWindow;
+    }
+
+    public void setThreadBoundWindow(boolean threadBoundWindow) {
+        this.threadBoundWindow = threadBoundWindow;
+    }
+
+}
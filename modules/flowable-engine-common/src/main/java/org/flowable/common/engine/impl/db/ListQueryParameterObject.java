@@ -44,6 +44,7 @@ public class ListQueryParameterObject {
     protected NullHandlingOnOrder nullHandlingOnOrder;
     protected ResultType resultType;
     protected String databaseType;
+    protected String afterId;
     
     public ListQueryParameterObject() {
         
@@ -203,5 +204,17 @@ public class ListQueryParameterObject {
     public void setNullHandlingColumn(String nullHandlingColumn) {
         this.nullHandlingColumn = nullHandlingColumn;
     }
+
+    /**
+     * The id of the last result of the previous chunk when a query is executed in chunks (see {@link AbstractDataManager#forEachChunk}),
+     * only results with a higher id are part of the next chunk.
+     */
+    public String getAfterId() {
+        return afterId;
+    }
+
+    public void setAfterId(String afterId) {
+        this.afterId = afterId;
+    }
     
 }
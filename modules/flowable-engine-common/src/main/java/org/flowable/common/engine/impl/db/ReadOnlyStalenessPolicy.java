@@ -0,0 +1,35 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.db;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+/**
+ * Decides whether a read-only command (see {@link org.flowable.common.engine.impl.interceptor.CommandConfig#readOnly()}) can be executed
+ * against the read-only data source of the engine (e.g. a read replica), which can lag behind the primary data source.
+ * Commands that are not read-only always use the primary data source, so a query executed as part of a command always sees the changes of that command.
+ */
+public interface ReadOnlyStalenessPolicy {
+
+    /**
+     * Returns whether the given read-only command context can read from the read-only data source.
+     * When false is returned, the primary data source is used.
+     */
+    boolean isReadOnlyDataSourceAllowed(CommandContext commandContext);
+
+    /**
+     * Called after the transaction of the given command context committed changes to the primary data source.
+     */
+    void changesCommitted(CommandContext commandContext);
+
+}
@@ -17,6 +17,7 @@ package org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast;
 
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 
 import org.flowable.common.engine.impl.de.odysseus.el.misc.LocalMessages;
 import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
@@ -33,6 +34,9 @@ public abstract class AstProperty extends AstNode {
 	protected final boolean strict; // allow null as property value?
 	protected final boolean ignoreReturnType;
 
+	// Monomorphic inline cache: the node of a parsed expression is usually invoked on beans of the same class
+	private volatile CachedMethod cachedMethod;
+
 	public AstProperty(AstNode prefix, boolean lvalue, boolean strict) {
 		this(prefix, lvalue, strict, false);
 	}
@@ -181,6 +185,20 @@ public abstract class AstProperty extends AstNode {
 		}
 		return method;
 	}
+
+	/**
+	 * Same as {@link #findMethod(String, Class, Class, Class[])}, but remembers the last method found,
+	 * so the lookup is skipped while the node is invoked with the same name, class and types.
+	 */
+	protected Method getMethod(String name, Class<?> clazz, Class<?> returnType, Class<?>[] paramTypes) {
+		CachedMethod cached = cachedMethod;
+		if (cached != null && cached.matches(name, clazz, returnType, paramTypes)) {
+			return cached.method;
+		}
+		Method method = findMethod(name, clazz, returnType, paramTypes);
+		cachedMethod = new CachedMethod(name, clazz, returnType, paramTypes, method);
+		return method;
+	}
 	
 	@Override
 	public MethodInfo getMethodInfo(Bindings bindings, ELContext context, Class<?> returnType, Class<?>[] paramTypes) {
@@ -193,7 +211,7 @@ public abstract class AstProperty extends AstNode {
 			throw new PropertyNotFoundException(LocalMessages.get("error.property.method.notfound", "null", base));
 		}
 		String name = bindings.convert(property, String.class);
-		Method method = findMethod(name, base.getClass(), returnType, paramTypes);
+		Method method = getMethod(name, base.getClass(), returnType, paramTypes);
 		return new MethodInfo(method.getName(), method.getReturnType(), paramTypes);
 	}
 
@@ -208,7 +226,7 @@ public abstract class AstProperty extends AstNode {
 			throw new PropertyNotFoundException(LocalMessages.get("error.property.method.notfound", "null", base));
 		}
 		String name = bindings.convert(property, String.class);
-		Method method = findMethod(name, base.getClass(), returnType, paramTypes);
+		Method method = getMethod(name, base.getClass(), returnType, paramTypes);
 		try {
 			return method.invoke(base, paramValues);
 		} catch (IllegalAccessException e) {
@@ -224,4 +242,24 @@ public abstract class AstProperty extends AstNode {
 	public AstNode getChild(int i) {
 		return i == 0 ? prefix : null;
 	}
+
+	protected static final class CachedMethod {
+		private final String name;
+		private final Class<?> clazz;
+		private final Class<?> returnType;
+		private final Class<?>[] paramTypes;
+		private final Method method;
+
+		CachedMethod(String name, Class<?> clazz, Class<?> returnType, Class<?>[] paramTypes, Method method) {
+			this.name = name;
+			this.clazz = clazz;
+			this.returnType = returnType;
+			this.paramTypes = paramTypes == null ? null : paramTypes.clone();
+			this.method = method;
+		}
+
+		boolean matches(String name, Class<?> clazz, Class<?> returnType, Class<?>[] paramTypes) {
+			return this.clazz == clazz && this.returnType == returnType && this.name.equals(name) && Arrays.equals(this.paramTypes, paramTypes);
+		}
+	}
 }
@@ -49,6 +49,18 @@ public class DefaultExpressionManager implements ExpressionManager {
 
     protected ELContext parsingElContext;
     protected Map<Object, Object> beans;
+
+    /**
+     * The resolver chain is stateless (the variable container is taken from the {@link FlowableElContext}),
+     * so it is created once and shared by all evaluations.
+     */
+    protected volatile ELResolver staticElResolver;
+
+    /**
+     * Whether a subclass still overrides the deprecated {@link #createElResolver(VariableContainer)} or
+     * {@link #createVariableElResolver(VariableContainer)}, in which case a resolver chain is created per evaluation.
+     */
+    protected final boolean elResolverPerEvaluation;
     
     protected DeploymentCache<Expression> expressionCache;
     protected int expressionTextLengthCacheLimit = -1;
@@ -60,6 +72,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     public DefaultExpressionManager(Map<Object, Object> beans) {
         this.expressionFactory = ExpressionFactoryResolver.resolveExpressionFactory();
         this.beans = beans;
+        this.elResolverPerEvaluation = overridesDeprecatedMethod("createElResolver") || overridesDeprecatedMethod("createVariableElResolver");
     }
 
     @Override
@@ -109,13 +122,38 @@ public class DefaultExpressionManager implements ExpressionManager {
     
     @Override
     public ELContext getElContext(VariableContainer variableContainer) {
-        ELResolver elResolver = createElResolver(variableContainer);
-        return new FlowableElContext(elResolver, functionDelegates);
+        if (elResolverPerEvaluation) {
+            return new FlowableElContext(createElResolver(variableContainer), functionDelegates, variableContainer);
+        }
+        return new FlowableElContext(getStaticElResolver(), functionDelegates, variableContainer);
+    }
+
+    protected ELResolver getStaticElResolver() {
+        ELResolver elResolver = staticElResolver;
+        if (elResolver == null) {
+            elResolver = createElResolver();
+            staticElResolver = elResolver;
+        }
+        return elResolver;
     }
     
+    protected ELResolver createElResolver() {
+        return createCompositeElResolver(createVariableElResolver());
+    }
+
+    /**
+     * @deprecated the resolver chain is shared by all evaluations and the variable container is taken from the
+     * {@link FlowableElContext}, override {@link #createElResolver()} instead. As long as a subclass overrides this method,
+     * it is called for every evaluation.
+     */
+    @Deprecated
     protected ELResolver createElResolver(VariableContainer variableContainer) {
+        return createCompositeElResolver(createVariableElResolver(variableContainer));
+    }
+
+    protected ELResolver createCompositeElResolver(ELResolver variableElResolver) {
         List<ELResolver> elResolvers = new ArrayList<>();
-        elResolvers.add(createVariableElResolver(variableContainer));
+        elResolvers.add(variableElResolver);
         if (beans != null) {
             elResolvers.add(new ReadOnlyMapELResolver(beans));
         }
@@ -142,8 +180,29 @@ public class DefaultExpressionManager implements ExpressionManager {
         // to be extended if needed
     }
 
+    protected ELResolver createVariableElResolver() {
+        return new VariableContainerELResolver();
+    }
+
+    /**
+     * @deprecated override {@link #createVariableElResolver()}, the variable container is taken from the {@link FlowableElContext}.
+     * As long as a subclass overrides this method, a resolver chain is created for every evaluation.
+     */
+    @Deprecated
     protected ELResolver createVariableElResolver(VariableContainer variableContainer) {
-        return new VariableContainerELResolver(variableContainer);
+        return createVariableElResolver();
+    }
+
+    protected boolean overridesDeprecatedMethod(String methodName) {
+        for (Class<?> clazz = getClass(); clazz != DefaultExpressionManager.class; clazz = clazz.getSuperclass()) {
+            try {
+                clazz.getDeclaredMethod(methodName, VariableContainer.class);
+                return true;
+            } catch (NoSuchMethodException e) {
+                // not overridden in this class
+            }
+        }
+        return false;
     }
     
     protected ELResolver createBeanElResolver() {
@@ -158,6 +217,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public void setBeans(Map<Object, Object> beans) {
         this.beans = beans;
+        this.staticElResolver = null;
     }
 
     @Override
@@ -168,6 +228,7 @@ public class DefaultExpressionManager implements ExpressionManager {
     @Override
     public void setFunctionDelegates(List<FlowableFunctionDelegate> functionDelegates) {
         this.functionDelegates = functionDelegates;
+        this.staticElResolver = null;
     }
     
     @Override
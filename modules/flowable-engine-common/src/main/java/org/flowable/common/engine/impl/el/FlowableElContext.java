@@ -15,6 +15,7 @@ package org.flowable.common.engine.impl.el;
 import java.util.List;
 
 import org.flowable.common.engine.api.delegate.FlowableFunctionDelegate;
+import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.javax.el.ELContext;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
 import org.flowable.common.engine.impl.javax.el.FunctionMapper;
@@ -28,10 +29,16 @@ public class FlowableElContext extends ELContext {
 
     protected ELResolver elResolver;
     protected List<FlowableFunctionDelegate> functionDelegates;
+    protected VariableContainer variableContainer;
 
     public FlowableElContext(ELResolver elResolver, List<FlowableFunctionDelegate> functionDelegates) {
+        this(elResolver, functionDelegates, null);
+    }
+
+    public FlowableElContext(ELResolver elResolver, List<FlowableFunctionDelegate> functionDelegates, VariableContainer variableContainer) {
         this.elResolver = elResolver;
         this.functionDelegates = functionDelegates;
+        this.variableContainer = variableContainer;
     }
 
     @Override
@@ -48,4 +55,8 @@ public class FlowableElContext extends ELContext {
     public VariableMapper getVariableMapper() {
         return null;
     }
+
+    public VariableContainer getVariableContainer() {
+        return variableContainer;
+    }
 }
@@ -30,14 +30,31 @@ public class VariableContainerELResolver extends ELResolver {
 
     protected VariableContainer variableContainer;
 
+    public VariableContainerELResolver() {
+    }
+
     public VariableContainerELResolver(VariableContainer variableContainer) {
         this.variableContainer = variableContainer;
     }
+
+    /**
+     * Returns the variable container this resolver was created for or, when the resolver is shared
+     * between evaluations, the variable container of the {@link FlowableElContext} being evaluated.
+     */
+    protected VariableContainer getVariableContainer(ELContext context) {
+        if (variableContainer != null) {
+            return variableContainer;
+        } else if (context instanceof FlowableElContext) {
+            return ((FlowableElContext) context).getVariableContainer();
+        }
+        return (VariableContainer) context.getContext(VariableContainer.class);
+    }
     
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
         if (base == null) {
             String variable = (String) property; // according to javadoc, can only be a String
+            VariableContainer variableContainer = getVariableContainer(context);
             if (LOGGED_IN_USER_KEY.equals(property)) {
                 context.setPropertyResolved(true);
                 return Authentication.getAuthenticatedUserId();
@@ -57,7 +74,7 @@ public class VariableContainerELResolver extends ELResolver {
     public boolean isReadOnly(ELContext context, Object base, Object property) {
         if (base == null) {
             String variable = (String) property;
-            return !variableContainer.hasVariable(variable);
+            return !getVariableContainer(context).hasVariable(variable);
         }
         return true;
     }
@@ -66,6 +83,7 @@ public class VariableContainerELResolver extends ELResolver {
     public void setValue(ELContext context, Object base, Object property, Object value) {
         if (base == null) {
             String variable = (String) property;
+            VariableContainer variableContainer = getVariableContainer(context);
             if (variableContainer.hasVariable(variable)) {
                 context.setPropertyResolved(true);
                 variableContainer.setVariable(variable, value);
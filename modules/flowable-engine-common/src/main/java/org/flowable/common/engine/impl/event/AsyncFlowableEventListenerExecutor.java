@@ -0,0 +1,320 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.flowable.common.engine.api.delegate.event.AsyncFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events to {@link AsyncFlowableEventListener}s using dedicated worker threads.
+ * <p>
+ * Events are put in a bounded queue, the {@link QueueFullPolicy} determines what happens when the queue is full.
+ * The current queue depth and the amount of delivered and discarded events are exposed for monitoring.
+ * <p>
+ * Events are only queued while the executor is active (checked under the same lock as the queueing), events dispatched
+ * after {@link #shutdown()} are delivered by the calling thread.
+ */
+public class AsyncFlowableEventListenerExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncFlowableEventListenerExecutor.class);
+
+    public enum QueueFullPolicy {
+
+        /**
+         * The event is discarded (and counted in {@link #getDiscardedEventCount()}).
+         */
+        DISCARD,
+
+        /**
+         * The event is delivered by the thread that committed the transaction, which slows down the producers until the queue has room again.
+         */
+        CALLER_RUNS,
+
+        /**
+         * The thread that committed the transaction waits until the queue has room again.
+         */
+        BLOCK
+
+    }
+
+    protected int queueCapacity = 2048;
+    protected int workerCount = 1;
+    protected QueueFullPolicy queueFullPolicy = QueueFullPolicy.DISCARD;
+    protected String threadNamePrefix = "flowable-async-event-listener-";
+    protected long shutdownTimeoutInMs = 10000L;
+
+    protected volatile BlockingQueue<Delivery> queue;
+    protected List<Thread> workerThreads;
+    protected volatile boolean active;
+
+    // Queueing an event holds the read lock, changing the active state holds the write lock
+    protected final ReadWriteLock activeLock = new ReentrantReadWriteLock();
+
+    protected final AtomicLong deliveredEventCount = new AtomicLong();
+    protected final AtomicLong discardedEventCount = new AtomicLong();
+
+    public synchronized void start() {
+        if (active) {
+            return;
+        }
+
+        BlockingQueue<Delivery> workerQueue = new ArrayBlockingQueue<>(queueCapacity);
+        activeLock.writeLock().lock();
+        try {
+            queue = workerQueue;
+            active = true;
+        } finally {
+            activeLock.writeLock().unlock();
+        }
+
+        workerThreads = new ArrayList<>(workerCount);
+        for (int i = 0; i < workerCount; i++) {
+            Thread workerThread = new Thread(() -> processQueue(workerQueue), threadNamePrefix + (i + 1));
+            workerThread.setDaemon(true);
+            workerThread.start();
+            workerThreads.add(workerThread);
+        }
+    }
+
+    /**
+     * Stops accepting new events and waits (at most {@link #getShutdownTimeoutInMs()}) for the queued events to be delivered.
+     * When the timeout expires, the remaining events are discarded and the worker threads are interrupted.
+     */
+    public synchronized void shutdown() {
+        if (!active) {
+            return;
+        }
+
+        activeLock.writeLock().lock();
+        try {
+            active = false;
+        } finally {
+            activeLock.writeLock().unlock();
+        }
+
+        long deadline = System.currentTimeMillis() + shutdownTimeoutInMs;
+        boolean interrupted = false;
+        for (Thread workerThread : workerThreads) {
+            try {
+                workerThread.join(Math.max(1L, deadline - System.currentTimeMillis()));
+            } catch (InterruptedException e) {
+                interrupted = true;
+                break;
+            }
+        }
+
+        // The workers stop polling once the queue is empty, so the undelivered events are removed from the queue
+        List<Delivery> undeliveredDeliveries = new ArrayList<>();
+        queue.drainTo(undeliveredDeliveries);
+        if (!undeliveredDeliveries.isEmpty()) {
+            discardedEventCount.addAndGet(undeliveredDeliveries.size());
+            LOGGER.warn("Async event listener executor shut down with {} undelivered events", undeliveredDeliveries.size());
+        }
+
+        for (Thread workerThread : workerThreads) {
+            if (workerThread.isAlive()) {
+                LOGGER.warn("Async event listener worker {} did not stop in time and is interrupted", workerThread.getName());
+                workerThread.interrupt();
+            }
+        }
+        workerThreads = null;
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public void execute(FlowableEventListener listener, FlowableEvent event) {
+        Delivery delivery = new Delivery(listener, event);
+        if (offer(delivery)) {
+            return;
+        }
+
+        if (!active) {
+            // E.g. events dispatched while the engine is closing
+            deliver(delivery);
+            return;
+        }
+
+        switch (queueFullPolicy) {
+            case CALLER_RUNS:
+                deliver(delivery);
+                break;
+
+            case BLOCK:
+                put(delivery);
+                break;
+
+            default:
+                discard(delivery);
+        }
+    }
+
+    /**
+     * Queues the delivery if the executor is active and the queue has room. The executor can not be shut down while the
+     * delivery is being queued, so every queued delivery is seen by the worker threads.
+     */
+    protected boolean offer(Delivery delivery) {
+        activeLock.readLock().lock();
+        try {
+            return active && queue.offer(delivery);
+        } finally {
+            activeLock.readLock().unlock();
+        }
+    }
+
+    protected void put(Delivery delivery) {
+        try {
+            // Waiting for room in the queue releases the lock in between, so a shutdown is never blocked by a full queue
+            while (true) {
+                activeLock.readLock().lock();
+                try {
+                    if (!active) {
+                        break;
+                    }
+                    if (queue.offer(delivery, 100L, TimeUnit.MILLISECONDS)) {
+                        return;
+                    }
+                } finally {
+                    activeLock.readLock().unlock();
+                }
+            }
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            discard(delivery);
+            return;
+        }
+
+        deliver(delivery);
+    }
+
+    protected void processQueue(BlockingQueue<Delivery> workerQueue) {
+        // A worker stops when its queue is empty and it is no longer the queue of an active executor,
+        // so workers of a previous start never keep running after a restart
+        while ((active && workerQueue == queue) || !workerQueue.isEmpty()) {
+            try {
+                Delivery delivery = workerQueue.poll(100L, TimeUnit.MILLISECONDS);
+                if (delivery != null) {
+                    deliver(delivery);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    protected void deliver(Delivery delivery) {
+        try {
+            delivery.listener.onEvent(delivery.event);
+            deliveredEventCount.incrementAndGet();
+        } catch (Throwable t) {
+            // The transaction is already committed, so there is nothing left to fail
+            LOGGER.warn("Exception while executing async event-listener, which was ignored", t);
+        }
+    }
+
+    protected void discard(Delivery delivery) {
+        long discarded = discardedEventCount.incrementAndGet();
+        if (discarded == 1L || discarded % 1000L == 0L) {
+            LOGGER.warn("Async event listener queue is full, discarded {} events so far (latest: {})", discarded, delivery.event.getType());
+        }
+    }
+
+    public int getQueueDepth() {
+        BlockingQueue<Delivery> currentQueue = queue;
+        return currentQueue != null ? currentQueue.size() : 0;
+    }
+
+    public long getDeliveredEventCount() {
+        return deliveredEventCount.get();
+    }
+
+    public long getDiscardedEventCount() {
+        return discardedEventCount.get();
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public AsyncFlowableEventListenerExecutor setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    public AsyncFlowableEventListenerExecutor setWorkerCount(int workerCount) {
+        this.workerCount = workerCount;
+        return this;
+    }
+
+    public QueueFullPolicy getQueueFullPolicy() {
+        return queueFullPolicy;
+    }
+
+    public AsyncFlowableEventListenerExecutor setQueueFullPolicy(QueueFullPolicy queueFullPolicy) {
+        this.queueFullPolicy = queueFullPolicy;
+        return this;
+    }
+
+    public String getThreadNamePrefix() {
+        return threadNamePrefix;
+    }
+
+    public AsyncFlowableEventListenerExecutor setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+        return this;
+    }
+
+    public long getShutdownTimeoutInMs() {
+        return shutdownTimeoutInMs;
+    }
+
+    public AsyncFlowableEventListenerExecutor setShutdownTimeoutInMs(long shutdownTimeoutInMs) {
+        this.shutdownTimeoutInMs = shutdownTimeoutInMs;
+        return this;
+    }
+
+    protected static class Delivery {
+
+        protected final FlowableEventListener listener;
+        protected final FlowableEvent event;
+
+        public Delivery(FlowableEventListener listener, FlowableEvent event) {
+            this.listener = listener;
+            this.event = event;
+        }
+    }
+
+}
@@ -12,12 +12,13 @@
  */
 package org.flowable.common.engine.impl.event;
 
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.delegate.event.AsyncFlowableEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEventType;
@@ -38,10 +39,12 @@ public class FlowableEventSupport {
 
     protected List<FlowableEventListener> eventListeners;
     protected Map<FlowableEventType, List<FlowableEventListener>> typedListeners;
+    protected AsyncFlowableEventListenerExecutor asyncEventListenerExecutor;
 
     public FlowableEventSupport() {
         eventListeners = new CopyOnWriteArrayList<>();
-        typedListeners = new HashMap<>();
+        // Read without locking while dispatching, so listeners can be added and removed concurrently
+        typedListeners = new ConcurrentHashMap<>();
     }
 
     public synchronized void addEventListener(FlowableEventListener listenerToAdd) {
@@ -102,7 +105,9 @@ public class FlowableEventSupport {
     }
 
     protected void dispatchEvent(FlowableEvent event, FlowableEventListener listener) {
-        if (listener.isFireOnTransactionLifecycleEvent()) {
+        if (asyncEventListenerExecutor != null && listener instanceof AsyncFlowableEventListener) {
+            dispatchAsyncEventListener(event, listener);
+        } else if (listener.isFireOnTransactionLifecycleEvent()) {
             dispatchTransactionEventListener(event, listener);
         } else {
             dispatchNormalEventListener(event, listener);
@@ -123,6 +128,17 @@ public class FlowableEventSupport {
         }
     }
 
+    protected void dispatchAsyncEventListener(FlowableEvent event, FlowableEventListener listener) {
+        TransactionContext transactionContext = Context.getTransactionContext();
+        if (transactionContext != null) {
+            // Only events of committed transactions are handed to the async listeners
+            transactionContext.addTransactionListener(TransactionState.COMMITTED,
+                    commandContext -> asyncEventListenerExecutor.execute(listener, event));
+        } else {
+            asyncEventListenerExecutor.execute(listener, event);
+        }
+    }
+
     protected void dispatchTransactionEventListener(FlowableEvent event, FlowableEventListener listener) {
         TransactionContext transactionContext = Context.getTransactionContext();
         if (transactionContext == null) {
@@ -159,4 +175,12 @@ public class FlowableEventSupport {
             listeners.add(listener);
         }
     }
+
+    public AsyncFlowableEventListenerExecutor getAsyncEventListenerExecutor() {
+        return asyncEventListenerExecutor;
+    }
+
+    public void setAsyncEventListenerExecutor(AsyncFlowableEventListenerExecutor asyncEventListenerExecutor) {
+        this.asyncEventListenerExecutor = asyncEventListenerExecutor;
+    }
 }
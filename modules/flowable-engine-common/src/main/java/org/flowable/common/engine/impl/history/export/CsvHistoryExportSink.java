@@ -0,0 +1,103 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.history.HistoryExportSink;
+
+/**
+ * Writes the exported rows as comma separated values. Every table starts with a header line holding the column names,
+ * the first column of every line is the table name. Tables are separated by an empty line and dates are written in the ISO-8601 format.
+ */
+public class CsvHistoryExportSink implements HistoryExportSink {
+
+    protected Writer writer;
+    protected boolean firstTable = true;
+
+    public CsvHistoryExportSink(Writer writer) {
+        this.writer = writer;
+    }
+
+    @Override
+    public void startTable(String tableName, List<String> columnNames) {
+        try {
+            if (!firstTable) {
+                writer.write('\n');
+            }
+            firstTable = false;
+
+            writer.write("TABLE");
+            for (String columnName : columnNames) {
+                writer.write(',');
+                writer.write(escape(columnName));
+            }
+            writer.write('\n');
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not write header of " + tableName, e);
+        }
+    }
+
+    @Override
+    public void writeRow(String tableName, Map<String, Object> row) {
+        try {
+            writer.write(escape(tableName));
+            for (Object value : row.values()) {
+                writer.write(',');
+                writer.write(format(value));
+            }
+            writer.write('\n');
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not write row of " + tableName, e);
+        }
+    }
+
+    @Override
+    public void endTable(String tableName) {
+
+    }
+
+    @Override
+    public void finish() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new FlowableException("Could not flush the history export", e);
+        }
+    }
+
+    protected String format(Object value) {
+        if (value == null) {
+            return "";
+        } else if (value instanceof Date) {
+            return ((Date) value).toInstant().toString();
+        } else {
+            return escape(value.toString());
+        }
+    }
+
+    protected String escape(String value) {
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,223 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.export;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.history.HistoryExportBuilder;
+import org.flowable.common.engine.api.history.HistoryExportResult;
+import org.flowable.common.engine.api.history.HistoryExportSink;
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.common.engine.impl.cmd.ExportHistoryPartitionCmd;
+import org.flowable.common.engine.impl.cmd.GetHistoryExportColumnNamesCmd;
+import org.flowable.common.engine.impl.cmd.GetHistoryExportMinChangeTimeCmd;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+
+public class HistoryExportBuilderImpl implements HistoryExportBuilder {
+
+    protected static final AtomicInteger EXPORT_COUNTER = new AtomicInteger();
+
+    protected CommandExecutor commandExecutor;
+    protected AbstractEngineConfiguration engineConfiguration;
+    protected Map<String, HistoryExportTable> supportedTables = new LinkedHashMap<>();
+
+    protected List<String> tableNames;
+    protected Date since;
+    protected Date until;
+    protected Date watermark;
+    protected int partitionCount = 1;
+
+    public HistoryExportBuilderImpl(CommandExecutor commandExecutor, AbstractEngineConfiguration engineConfiguration, Collection<HistoryExportTable> supportedTables) {
+        this.commandExecutor = commandExecutor;
+        this.engineConfiguration = engineConfiguration;
+        for (HistoryExportTable supportedTable : supportedTables) {
+            this.supportedTables.put(supportedTable.getTableName(), supportedTable);
+        }
+    }
+
+    @Override
+    public HistoryExportBuilder tables(String... tableNames) {
+        for (String tableName : tableNames) {
+            if (!supportedTables.containsKey(tableName)) {
+                throw new FlowableIllegalArgumentException("Table " + tableName + " can not be exported, supported tables are " + supportedTables.keySet());
+            }
+        }
+        this.tableNames = Arrays.asList(tableNames);
+        return this;
+    }
+
+    @Override
+    public HistoryExportBuilder since(Date since) {
+        this.since = since;
+        this.watermark = null;
+        return this;
+    }
+
+    @Override
+    public HistoryExportBuilder until(Date until) {
+        this.until = until;
+        this.watermark = null;
+        return this;
+    }
+
+    @Override
+    public HistoryExportBuilder partitions(int partitionCount) {
+        if (partitionCount < 1) {
+            throw new FlowableIllegalArgumentException("The number of partitions must be at least 1");
+        }
+        this.partitionCount = Math.min(partitionCount, Math.max(1, engineConfiguration.getHistoryExportMaxPartitions()));
+        return this;
+    }
+
+    @Override
+    public Date getWatermark() {
+        if (watermark == null) {
+            if (until != null) {
+                watermark = until;
+
+            } else {
+                // Rows of transactions that are still running when the export starts are picked up by the next export
+                watermark = new Date(engineConfiguration.getClock().getCurrentTime().getTime() - engineConfiguration.getHistoryExportWatermarkLagInMillis());
+                if (since != null && watermark.before(since)) {
+                    watermark = since;
+                }
+            }
+        }
+        return watermark;
+    }
+
+    @Override
+    public HistoryExportResult export(HistoryExportSink sink) {
+        if (sink == null) {
+            throw new FlowableIllegalArgumentException("sink is null");
+        }
+
+        Date watermark = getWatermark();
+        HistoryExportResult result = new HistoryExportResult(watermark);
+
+        ExecutorService executorService = null;
+        if (partitionCount > 1) {
+            String threadNamePrefix = "flowable-history-export-" + EXPORT_COUNTER.incrementAndGet() + "-";
+            AtomicInteger threadCounter = new AtomicInteger();
+            executorService = Executors.newFixedThreadPool(partitionCount, runnable -> {
+                Thread thread = new Thread(runnable, threadNamePrefix + threadCounter.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        try {
+            List<String> tablesToExport = tableNames != null ? tableNames : new ArrayList<>(supportedTables.keySet());
+            for (String tableName : tablesToExport) {
+                HistoryExportTable table = supportedTables.get(tableName);
+                List<String> columnNames = commandExecutor.execute(new GetHistoryExportColumnNamesCmd(table));
+
+                sink.startTable(tableName, columnNames);
+                result.addRowCount(tableName, exportTable(table, columnNames, watermark, sink, executorService));
+                sink.endTable(tableName);
+            }
+            sink.finish();
+
+        } finally {
+            if (executorService != null) {
+                executorService.shutdownNow();
+            }
+        }
+
+        return result;
+    }
+
+    protected long exportTable(HistoryExportTable table, List<String> columnNames, Date watermark, HistoryExportSink sink, ExecutorService executorService) {
+        List<HistoryExportPartition> partitions = createPartitions(table, watermark);
+        AtomicBoolean exportAborted = new AtomicBoolean();
+
+        if (executorService == null) {
+            long rowCount = 0;
+            for (HistoryExportPartition partition : partitions) {
+                rowCount += commandExecutor.execute(new ExportHistoryPartitionCmd(partition, columnNames, sink, exportAborted));
+            }
+            return rowCount;
+        }
+
+        List<Future<Long>> futures = new ArrayList<>(partitions.size());
+        for (HistoryExportPartition partition : partitions) {
+            futures.add(executorService.submit(() -> commandExecutor.execute(new ExportHistoryPartitionCmd(partition, columnNames, sink, exportAborted))));
+        }
+
+        long rowCount = 0;
+        try {
+            for (Future<Long> future : futures) {
+                rowCount += future.get();
+            }
+
+        } catch (ExecutionException e) {
+            exportAborted.set(true);
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new FlowableException("Could not export " + table.getTableName(), e.getCause());
+
+        } catch (InterruptedException e) {
+            exportAborted.set(true);
+            Thread.currentThread().interrupt();
+            throw new FlowableException("Interrupted while exporting " + table.getTableName(), e);
+        }
+
+        return rowCount;
+    }
+
+    /**
+     * Divides the change time range of the exported rows in equal parts. When everything is exported (no since time),
+     * the range starts at the earliest change time and the first partition also contains the rows without a change time.
+     */
+    protected List<HistoryExportPartition> createPartitions(HistoryExportTable table, Date watermark) {
+        Date fromTime = since;
+        if (fromTime == null) {
+            fromTime = commandExecutor.execute(new GetHistoryExportMinChangeTimeCmd(new HistoryExportPartition(table, null, watermark, false)));
+        }
+
+        List<HistoryExportPartition> partitions = new ArrayList<>(partitionCount);
+        if (fromTime == null || !fromTime.before(watermark)) {
+            if (since == null) {
+                partitions.add(new HistoryExportPartition(table, null, watermark, true));
+            }
+            return partitions;
+        }
+
+        long rangeStart = fromTime.getTime();
+        long rangeSize = watermark.getTime() - rangeStart;
+        int count = (int) Math.min(partitionCount, rangeSize);
+        for (int i = 0; i < count; i++) {
+            Date partitionFromTime = new Date(rangeStart + rangeSize * i / count);
+            Date partitionToTime = i == count - 1 ? watermark : new Date(rangeStart + rangeSize * (i + 1) / count);
+            boolean firstPartitionOfFullExport = i == 0 && since == null;
+            partitions.add(new HistoryExportPartition(table, firstPartitionOfFullExport ? null : partitionFromTime, partitionToTime, firstPartitionOfFullExport));
+        }
+        return partitions;
+    }
+
+}
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.export;
+
+import java.util.Date;
+
+/**
+ * The rows of a {@link HistoryExportTable} changed in a time range, used as parameter of the history export statements.
+ */
+public class HistoryExportPartition {
+
+    protected HistoryExportTable table;
+    protected Date fromTime;
+    protected Date toTime;
+    protected boolean includeNullChangeTime;
+
+    /**
+     * @param fromTime
+     *            the (inclusive) start of the range, or null for all rows changed before the end
+     * @param toTime
+     *            the (exclusive) end of the range
+     * @param includeNullChangeTime
+     *            whether the rows without a change time are part of this partition
+     */
+    public HistoryExportPartition(HistoryExportTable table, Date fromTime, Date toTime, boolean includeNullChangeTime) {
+        this.table = table;
+        this.fromTime = fromTime;
+        this.toTime = toTime;
+        this.includeNullChangeTime = includeNullChangeTime;
+    }
+
+    public HistoryExportTable getTable() {
+        return table;
+    }
+
+    public Date getFromTime() {
+        return fromTime;
+    }
+
+    public Date getToTime() {
+        return toTime;
+    }
+
+    public boolean isIncludeNullChangeTime() {
+        return includeNullChangeTime;
+    }
+
+}
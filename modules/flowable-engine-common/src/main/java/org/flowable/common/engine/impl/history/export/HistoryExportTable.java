@@ -0,0 +1,48 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.export;
+
+/**
+ * A history table that can be exported, together with the SQL expressions (on the table alias RES) used to partition and filter its rows.
+ */
+public class HistoryExportTable {
+
+    protected String tableName;
+    protected String changeTimeExpression;
+    protected String scopeCondition;
+
+    /**
+     * @param changeTimeExpression
+     *            the time a row was last changed, e.g. coalesce(RES.END_TIME_, RES.START_TIME_)
+     * @param scopeCondition
+     *            an optional condition restricting the rows of a table shared between engines, e.g. RES.SCOPE_TYPE_ is null
+     */
+    public HistoryExportTable(String tableName, String changeTimeExpression, String scopeCondition) {
+        this.tableName = tableName;
+        this.changeTimeExpression = changeTimeExpression;
+        this.scopeCondition = scopeCondition;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getChangeTimeExpression() {
+        return changeTimeExpression;
+    }
+
+    public String getScopeCondition() {
+        return scopeCondition;
+    }
+
+}
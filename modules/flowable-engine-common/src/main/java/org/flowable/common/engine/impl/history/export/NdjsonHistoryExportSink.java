@@ -0,0 +1,81 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.history.export;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.history.HistoryExportSink;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * Writes every exported row as a JSON object on its own line (newline delimited JSON): {"table": "ACT_HI_PROCINST", "row": {"ID_": ...}}.
+ * Dates are written in the ISO-8601 format.
+ */
+public class NdjsonHistoryExportSink implements HistoryExportSink {
+
+    protected Writer writer;
+    protected ObjectMapper objectMapper;
+
+    public NdjsonHistoryExportSink(Writer writer) {
+        this(writer, new ObjectMapper().disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+    }
+
+    public NdjsonHistoryExportSink(Writer writer, ObjectMapper objectMapper) {
+        this.writer = writer;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public void startTable(String tableName, List<String> columnNames) {
+
+    }
+
+    @Override
+    public void writeRow(String tableName, Map<String, Object> row) {
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("table", tableName);
+        line.put("row", row);
+        try {
+            writer.write(objectMapper.writeValueAsString(line));
+            writer.write('\n');
+
+        } catch (JsonProcessingException e) {
+            throw new FlowableException("Could not serialize row of " + tableName, e);
+        } catch (IOException e) {
+            throw new FlowableException("Could not write row of " + tableName, e);
+        }
+    }
+
+    @Override
+    public void endTable(String tableName) {
+
+    }
+
+    @Override
+    public void finish() {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new FlowableException("Could not flush the history export", e);
+        }
+    }
+
+}
@@ -25,6 +25,7 @@ public class CommandConfig {
 
     private boolean contextReusePossible;
     private TransactionPropagation propagation;
+    private boolean readOnly;
 
     public CommandConfig() {
         this.contextReusePossible = true;
@@ -44,6 +45,7 @@ public class CommandConfig {
     protected CommandConfig(CommandConfig commandConfig) {
         this.contextReusePossible = commandConfig.contextReusePossible;
         this.propagation = commandConfig.propagation;
+        this.readOnly = commandConfig.readOnly;
     }
 
     public boolean isContextReusePossible() {
@@ -54,12 +56,31 @@ public class CommandConfig {
         return propagation;
     }
 
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
     public CommandConfig setContextReusePossible(boolean contextReusePossible) {
         CommandConfig config = new CommandConfig(this);
         config.contextReusePossible = contextReusePossible;
         return config;
     }
 
+    public CommandConfig setReadOnly(boolean readOnly) {
+        CommandConfig config = new CommandConfig(this);
+        config.readOnly = readOnly;
+        return config;
+    }
+
+    /**
+     * Executes the command in a read-only command context, when no command context is active yet.
+     * No state snapshot is taken of loaded entities, the connection is marked as read-only and nothing is flushed at the end of the command.
+     * When the command is executed as part of an existing command context, this setting is ignored.
+     */
+    public CommandConfig readOnly() {
+        return setReadOnly(true);
+    }
+
     public CommandConfig transactionRequired() {
         CommandConfig config = new CommandConfig(this);
         config.propagation = TransactionPropagation.REQUIRED;
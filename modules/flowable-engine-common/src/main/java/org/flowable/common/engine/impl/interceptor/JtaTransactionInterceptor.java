@@ -61,9 +61,11 @@ public class JtaTransactionInterceptor extends AbstractCommandInterceptor {
             if (isNew) {
                 doBegin();
             }
+            // The existing transaction could still write, so the command can't be executed in read-only mode
+            CommandConfig commandConfig = !isNew && config.isReadOnly() ? config.setReadOnly(false) : config;
             T result;
             try {
-                result = next.execute(config, command);
+                result = next.execute(commandConfig, command);
             } catch (RuntimeException ex) {
                 doRollback(isNew, ex);
                 throw ex;
@@ -23,6 +23,11 @@ import org.flowable.common.engine.impl.context.Context;
  */
 public class TransactionContextInterceptor extends AbstractCommandInterceptor {
 
+    /**
+     * Name of the {@link CommandContext} attribute holding the {@link TransactionContext} opened for that command context.
+     */
+    public static final String TRANSACTION_CONTEXT_ATTRIBUTE = "transactionContext";
+
     protected TransactionContextFactory transactionContextFactory;
 
     public TransactionContextInterceptor() {
@@ -47,6 +52,8 @@ public class TransactionContextInterceptor extends AbstractCommandInterceptor {
                 TransactionContext transactionContext = (TransactionContext) transactionContextFactory.openTransactionContext(commandContext);
                 Context.setTransactionContext(transactionContext);
                 isContextSet = true;
+                // The transaction context is removed from the stack before the command context is closed, while sessions can still need it when flushing
+                commandContext.addAttribute(TRANSACTION_CONTEXT_ATTRIBUTE, transactionContext);
                 commandContext.addCloseListener(new TransactionCommandContextCloseListener(transactionContext));
             }
 
@@ -48,6 +48,7 @@ import java.util.concurrent.ConcurrentHashMap;
 public class BeanELResolver extends ELResolver {
 	protected static final class BeanProperties {
 		private final Map<String, BeanProperty> map = new HashMap<>();
+		private final ConcurrentHashMap<String, ConcurrentHashMap<Integer, Method>> methods = new ConcurrentHashMap<>();
 
 		public BeanProperties(Class<?> baseClass) {
 			PropertyDescriptor[] descriptors;
@@ -64,6 +65,15 @@ public class BeanELResolver extends ELResolver {
 		public BeanProperty getBeanProperty(String property) {
 			return map.get(property);
 		}
+
+		public Method getMethod(String name, int paramCount) {
+			ConcurrentHashMap<Integer, Method> methodsByParamCount = methods.get(name);
+			return methodsByParamCount == null ? null : methodsByParamCount.get(paramCount);
+		}
+
+		public void putMethod(String name, int paramCount, Method method) {
+			methods.computeIfAbsent(name, key -> new ConcurrentHashMap<>(4)).putIfAbsent(paramCount, method);
+		}
 	}
 
 	protected static final class BeanProperty {
@@ -524,7 +534,7 @@ public class BeanELResolver extends ELResolver {
 		return result;
 	}
 
-    private Method findMethod(Object base, String name, Class<?>[] types, int paramCount) {
+	private Method findMethod(Object base, String name, Class<?>[] types, int paramCount) {
 		if (types != null) {
 			try {
 				return findAccessibleMethod(base.getClass().getMethod(name, types));
@@ -532,8 +542,22 @@ public class BeanELResolver extends ELResolver {
 				return null;
 			}
 		}
+		// Resolving by name and parameter count scans all public methods of the class, so the
+		// outcome is remembered per class (the cache entry is purged together with the bean properties)
+		BeanProperties beanProperties = toBeanProperties(base);
+		Method method = beanProperties.getMethod(name, paramCount);
+		if (method == null) {
+			method = findMethod(base.getClass(), name, paramCount);
+			if (method != null) {
+				beanProperties.putMethod(name, paramCount, method);
+			}
+		}
+		return method;
+	}
+
+	private Method findMethod(Class<?> baseClass, String name, int paramCount) {
 		Method varArgsMethod = null;
-		for (Method method : base.getClass().getMethods()) {
+		for (Method method : baseClass.getMethods()) {
 			if (method.getName().equals(name)) {
 				int formalParamCount = method.getParameterTypes().length;
 				if (method.isVarArgs() && paramCount >= formalParamCount - 1) {
@@ -643,6 +667,19 @@ public class BeanELResolver extends ELResolver {
 	 *             if no BeanProperty can be found.
 	 */
 	private final BeanProperty toBeanProperty(Object base, Object property) {
+		BeanProperties beanProperties = toBeanProperties(base);
+		BeanProperty beanProperty = property == null ? null : beanProperties.getBeanProperty(property.toString());
+		return beanProperty;
+	}
+
+	/**
+	 * Lookup the BeanProperties of the base object's class, creating and caching them if necessary.
+	 * 
+	 * @param base
+	 *            The bean to analyze.
+	 * @return The BeanProperties of the base object's class.
+	 */
+	private final BeanProperties toBeanProperties(Object base) {
 		BeanProperties beanProperties = cache.get(base.getClass());
 		if (beanProperties == null) {
 			BeanProperties newBeanProperties = new BeanProperties(base.getClass());
@@ -651,8 +688,7 @@ public class BeanELResolver extends ELResolver {
 				beanProperties = newBeanProperties;
 			}
 		}
-		BeanProperty beanProperty = property == null ? null : beanProperties.getBeanProperty(property.toString());
-		return beanProperty;
+		return beanProperties;
 	}
 
 	/**
@@ -0,0 +1,245 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deployment cache backed by a {@link ConcurrentHashMap}: lookups don't take a lock and don't modify the structure of the cache.
+ * 
+ * When a maximum weight is set, entries are evicted as soon as the sum of the weights of all cached objects exceeds that maximum.
+ * By default every object has weight 1, which makes the maximum weight a limit on the number of entries
+ * (the same semantics as the limit of the {@link DefaultDeploymentCache}). A {@link DeploymentCacheWeigher} can be passed to
+ * give large objects a higher weight than small ones.
+ * 
+ * Eviction approximates least recently used eviction with the 'clock' (second chance) algorithm: a lookup only marks an entry
+ * as accessed (which is a write the first time only), and the eviction sweeps over the entries, evicting the entries that weren't accessed
+ * since the previous sweep and clearing the mark of the others. Eviction only happens when an object is added, which for deployment caches
+ * means after loading it from the database, and is done under a lock that is never taken by lookups. To avoid a sweep for every added object
+ * once the cache is full, entries are evicted until the weight is {@link #EVICTION_BATCH_PERCENTAGE} percent below the maximum weight.
+ * 
+ * Hit, miss and eviction counts are kept and can be retrieved through the getters of this class.
+ */
+public class ConcurrentDeploymentCache<T> implements DeploymentCache<T> {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConcurrentDeploymentCache.class);
+
+    /**
+     * The percentage of the maximum weight that is evicted at once.
+     */
+    public static final int EVICTION_BATCH_PERCENTAGE = 5;
+
+    protected final ConcurrentMap<String, CacheEntry<T>> cache = new ConcurrentHashMap<>();
+    protected final long maxWeight;
+    protected final DeploymentCacheWeigher<? super T> weigher;
+
+    protected final AtomicLong weight = new AtomicLong();
+    protected final ReentrantLock evictionLock = new ReentrantLock();
+    protected Iterator<Map.Entry<String, CacheEntry<T>>> evictionHand;
+
+    protected final LongAdder hitCount = new LongAdder();
+    protected final LongAdder missCount = new LongAdder();
+    protected final LongAdder evictionCount = new LongAdder();
+
+    /** Cache with no limit */
+    public ConcurrentDeploymentCache() {
+        this(-1L, null);
+    }
+
+    /**
+     * Cache which has a hard limit: no more elements will be cached than the limit.
+     */
+    public ConcurrentDeploymentCache(int limit) {
+        this(limit, null);
+    }
+
+    /**
+     * Cache which has a maximum weight: when the sum of the weights of all cached objects, as calculated by the given weigher,
+     * exceeds the maximum weight, the least recently used objects are evicted.
+     */
+    public ConcurrentDeploymentCache(long maxWeight, DeploymentCacheWeigher<? super T> weigher) {
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public T get(String id) {
+        CacheEntry<T> entry = cache.get(id);
+        if (entry == null) {
+            missCount.increment();
+            return null;
+        }
+
+        hitCount.increment();
+        if (isLimited() && !entry.accessed) {
+            entry.accessed = true;
+        }
+        return entry.value;
+    }
+
+    @Override
+    public boolean contains(String id) {
+        return cache.containsKey(id);
+    }
+
+    @Override
+    public void add(String id, T object) {
+        CacheEntry<T> entry = new CacheEntry<>(object, weigh(object));
+        CacheEntry<T> previousEntry = cache.put(id, entry);
+        weight.addAndGet(previousEntry != null ? entry.weight - previousEntry.weight : entry.weight);
+
+        if (isLimited() && weight.get() > maxWeight) {
+            evict(id);
+        }
+    }
+
+    @Override
+    public void remove(String id) {
+        CacheEntry<T> removedEntry = cache.remove(id);
+        if (removedEntry != null) {
+            weight.addAndGet(-removedEntry.weight);
+        }
+    }
+
+    @Override
+    public void clear() {
+        for (String id : new ArrayList<>(cache.keySet())) {
+            remove(id);
+        }
+    }
+
+    @Override
+    public Collection<T> getAll() {
+        List<T> values = new ArrayList<>(cache.size());
+        for (CacheEntry<T> entry : cache.values()) {
+            values.add(entry.value);
+        }
+        return values;
+    }
+
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    protected boolean isLimited() {
+        return maxWeight > 0;
+    }
+
+    protected int weigh(T object) {
+        if (weigher == null) {
+            return 1;
+        }
+        return Math.max(1, weigher.weigh(object));
+    }
+
+    /**
+     * Evicts entries that weren't accessed since the previous sweep, until the weight of the cache is below its eviction target.
+     * The entry that was just added is never evicted, even if it exceeds the maximum weight on its own.
+     */
+    protected void evict(String addedId) {
+        evictionLock.lock();
+        try {
+            if (weight.get() <= maxWeight) {
+                return; // another thread has already evicted enough entries
+            }
+
+            long targetWeight = maxWeight - (maxWeight * EVICTION_BATCH_PERCENTAGE / 100);
+
+            // Every entry is visited at most twice: the first visit clears its accessed mark, the second one evicts it
+            long remainingVisits = 2L * cache.size();
+            while (weight.get() > targetWeight && remainingVisits-- > 0) {
+                if (evictionHand == null || !evictionHand.hasNext()) {
+                    evictionHand = cache.entrySet().iterator();
+                    if (!evictionHand.hasNext()) {
+                        break;
+                    }
+                }
+
+                Map.Entry<String, CacheEntry<T>> mapEntry = evictionHand.next();
+                String id = mapEntry.getKey();
+                CacheEntry<T> entry = mapEntry.getValue();
+                if (id.equals(addedId)) {
+                    continue;
+                }
+
+                if (entry.accessed) {
+                    entry.accessed = false;
+
+                } else if (cache.remove(id, entry)) {
+                    weight.addAndGet(-entry.weight);
+                    evictionCount.increment();
+                    LOGGER.trace("Cache limit is reached, {} will be evicted", id);
+                }
+            }
+
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @return the sum of the weights of all cached objects.
+     */
+    public long getWeight() {
+        return weight.get();
+    }
+
+    public long getHitCount() {
+        return hitCount.sum();
+    }
+
+    public long getMissCount() {
+        return missCount.sum();
+    }
+
+    public long getEvictionCount() {
+        return evictionCount.sum();
+    }
+
+    public void resetStatistics() {
+        hitCount.reset();
+        missCount.reset();
+        evictionCount.reset();
+    }
+
+    protected static class CacheEntry<T> {
+
+        protected final T value;
+        protected final int weight;
+        protected volatile boolean accessed;
+
+        public CacheEntry(T value, int weight) {
+            this.value = value;
+            this.weight = weight;
+        }
+
+    }
+
+}
@@ -0,0 +1,27 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+/**
+ * Calculates the relative weight of an object stored in a {@link ConcurrentDeploymentCache}.
+ * A cache with a maximum weight evicts entries when the sum of the weights of all cached objects exceeds that maximum.
+ */
+@FunctionalInterface
+public interface DeploymentCacheWeigher<T> {
+
+    /**
+     * @return the weight of the given object, should be 1 or higher.
+     */
+    int weigh(T object);
+
+}
@@ -66,7 +66,7 @@ public abstract class AbstractNativeQuery<T extends NativeQuery<?, ?>, U> extend
     public U singleResult() {
         this.resultType = ResultType.SINGLE_RESULT;
         if (commandExecutor != null) {
-            return (U) commandExecutor.execute(this);
+            return (U) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeSingleResult(Context.getCommandContext());
     }
@@ -76,7 +76,7 @@ public abstract class AbstractNativeQuery<T extends NativeQuery<?, ?>, U> extend
     public List<U> list() {
         this.resultType = ResultType.LIST;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeList(Context.getCommandContext(), generateParameterMap());
     }
@@ -88,7 +88,7 @@ public abstract class AbstractNativeQuery<T extends NativeQuery<?, ?>, U> extend
         this.maxResults = maxResults;
         this.resultType = ResultType.LIST_PAGE;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeList(Context.getCommandContext(), generateParameterMap());
     }
@@ -97,7 +97,7 @@ public abstract class AbstractNativeQuery<T extends NativeQuery<?, ?>, U> extend
     public long count() {
         this.resultType = ResultType.COUNT;
         if (commandExecutor != null) {
-            return (Long) commandExecutor.execute(this);
+            return (Long) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         return executeCount(Context.getCommandContext(), generateParameterMap());
     }
@@ -102,7 +102,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public U singleResult() {
         this.resultType = ResultType.SINGLE_RESULT;
         if (commandExecutor != null) {
-            return (U) commandExecutor.execute(this);
+            return (U) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
@@ -114,7 +114,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public List<U> list() {
         this.resultType = ResultType.LIST;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
@@ -128,7 +128,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
         this.maxResults = maxResults;
         this.resultType = ResultType.LIST_PAGE;
         if (commandExecutor != null) {
-            return (List<U>) commandExecutor.execute(this);
+            return (List<U>) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
@@ -139,7 +139,7 @@ public abstract class AbstractQuery<T extends Query<?, ?>, U> extends ListQueryP
     public long count() {
         this.resultType = ResultType.COUNT;
         if (commandExecutor != null) {
-            return (Long) commandExecutor.execute(this);
+            return (Long) commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), this);
         }
         // The execute has a checkQueryOk() call as well, so no need to do the call earlier
         checkQueryOk();
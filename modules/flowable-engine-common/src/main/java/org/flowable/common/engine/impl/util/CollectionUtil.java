@@ -12,8 +12,11 @@
  */
 package org.flowable.common.engine.impl.util;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -67,4 +70,25 @@ public class CollectionUtil {
         return !isEmpty(collection);
     }
 
+    /**
+     * Splits the given values in consecutive partitions of at most partitionSize values, keeping the iteration order of the values.
+     * Typically used to stay below the maximum amount of values in an IN clause.
+     */
+    public static <T> List<List<T>> partition(Collection<T> values, int partitionSize) {
+        if (partitionSize < 1) {
+            throw new FlowableIllegalArgumentException("The partition size should be at least 1, but was " + partitionSize);
+        }
+
+        if (isEmpty(values)) {
+            return Collections.emptyList();
+        }
+
+        List<T> valueList = values instanceof List ? (List<T>) values : new ArrayList<>(values);
+        List<List<T>> partitions = new ArrayList<>((valueList.size() + partitionSize - 1) / partitionSize);
+        for (int i = 0; i < valueList.size(); i += partitionSize) {
+            partitions.add(new ArrayList<>(valueList.subList(i, Math.min(i + partitionSize, valueList.size()))));
+        }
+        return partitions;
+    }
+
 }
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
+import org.flowable.common.engine.impl.event.AsyncFlowableEventListenerExecutor;
+import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
+import org.junit.jupiter.api.Test;
+
+class AbstractEngineConfigurationTest {
+
+    @Test
+    void closeShouldDeliverQueuedAsyncEventsBeforeClosingConnectionPool() throws InterruptedException {
+        TestPooledDataSource dataSource = new TestPooledDataSource();
+        AsyncFlowableEventListenerExecutor asyncEventListenerExecutor = new AsyncFlowableEventListenerExecutor();
+        asyncEventListenerExecutor.start();
+
+        TestEngineConfiguration engineConfiguration = new TestEngineConfiguration();
+        engineConfiguration.setDataSource(dataSource);
+        engineConfiguration.setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+
+        CountDownLatch firstEventStarted = new CountDownLatch(1);
+        List<Boolean> poolClosedOnDelivery = new CopyOnWriteArrayList<>();
+        AbstractFlowableEventListener listener = new AbstractFlowableEventListener() {
+
+            @Override
+            public void onEvent(FlowableEvent event) {
+                firstEventStarted.countDown();
+                try {
+                    Thread.sleep(50L);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                poolClosedOnDelivery.add(dataSource.closed);
+            }
+
+            @Override
+            public boolean isFailOnException() {
+                return false;
+            }
+        };
+
+        FlowableEvent event = () -> (FlowableEventType) () -> "test";
+        for (int i = 0; i < 5; i++) {
+            asyncEventListenerExecutor.execute(listener, event);
+        }
+        assertThat(firstEventStarted.await(10, TimeUnit.SECONDS)).isTrue();
+
+        engineConfiguration.close();
+
+        assertThat(dataSource.closed).isTrue();
+        assertThat(asyncEventListenerExecutor.isActive()).isFalse();
+        assertThat(poolClosedOnDelivery).containsExactly(false, false, false, false, false);
+    }
+
+    protected static class TestPooledDataSource extends PooledDataSource {
+
+        protected volatile boolean closed;
+
+        @Override
+        public void forceCloseAll() {
+            closed = true;
+        }
+    }
+
+    protected static class TestEngineConfiguration extends AbstractEngineConfiguration {
+
+        @Override
+        public String getEngineCfgKey() {
+            return "test";
+        }
+
+        @Override
+        public CommandInterceptor createTransactionInterceptor() {
+            return null;
+        }
+
+        @Override
+        protected void initDbSqlSessionFactoryEntitySettings() {
+
+        }
+
+        @Override
+        public InputStream getMyBatisXmlConfigurationStream() {
+            return null;
+        }
+
+        @Override
+        public String getEngineName() {
+            return "test";
+        }
+    }
+
+}
@@ -19,15 +19,18 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.AsyncFlowableEventListener;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEventType;
 import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.cfg.TransactionListener;
 import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.event.AsyncFlowableEventListenerExecutor;
 import org.flowable.common.engine.impl.event.FlowableEventSupport;
 import org.junit.jupiter.api.Test;
 
@@ -431,6 +434,58 @@ class FlowableEventSupportTest {
 
     }
 
+    @Test
+    void asyncListenerShouldReceiveEventsAfterCommit() {
+        AsyncFlowableEventListenerExecutor asyncEventListenerExecutor = new AsyncFlowableEventListenerExecutor();
+        asyncEventListenerExecutor.start();
+        flowableEventSupport.setAsyncEventListenerExecutor(asyncEventListenerExecutor);
+
+        TestAsyncFlowableEventListener asyncListener = new TestAsyncFlowableEventListener();
+        flowableEventSupport.addEventListener(asyncListener);
+
+        TestFlowableEventListener normalListener = new TestFlowableEventListener();
+        flowableEventSupport.addEventListener(normalListener);
+
+        try {
+            TestTransactionContext transactionContext = new TestTransactionContext();
+            Context.setTransactionContext(transactionContext);
+            TestFlowableEvent event = new TestFlowableEvent(new TestFlowableEventType("event"));
+
+            flowableEventSupport.dispatchEvent(event);
+
+            assertThat(normalListener.getReceivedEvents()).containsExactly(event);
+            assertThat(asyncListener.getReceivedEvents()).isEmpty();
+            assertThat(transactionContext.getTransactionStateListeners()).containsOnlyKeys(TransactionState.COMMITTED);
+
+            transactionContext.getTransactionStateListeners().get(TransactionState.COMMITTED)
+                .forEach(transactionListener -> transactionListener.execute(null));
+
+            // Shutting down waits for the queued events to be delivered
+            asyncEventListenerExecutor.shutdown();
+
+            assertThat(asyncListener.getReceivedEvents()).containsExactly(event);
+            assertThat(asyncListener.getThreadNames()).allMatch(threadName -> threadName.startsWith("flowable-async-event-listener-"));
+            assertThat(asyncEventListenerExecutor.getDeliveredEventCount()).isEqualTo(1);
+            assertThat(asyncEventListenerExecutor.getQueueDepth()).isZero();
+
+        } finally {
+            Context.removeTransactionContext();
+            asyncEventListenerExecutor.shutdown();
+        }
+    }
+
+    @Test
+    void asyncListenerShouldBeCalledSynchronouslyWithoutExecutor() {
+        TestAsyncFlowableEventListener asyncListener = new TestAsyncFlowableEventListener();
+        flowableEventSupport.addEventListener(asyncListener);
+
+        FlowableEvent event = new TestFlowableEvent(new TestFlowableEventType("event"));
+        flowableEventSupport.dispatchEvent(event);
+
+        assertThat(asyncListener.getReceivedEvents()).containsExactly(event);
+        assertThat(asyncListener.getThreadNames()).containsExactly(Thread.currentThread().getName());
+    }
+
     private static class TestFlowableEventType implements FlowableEventType {
 
         protected final String name;
@@ -509,6 +564,21 @@ class FlowableEventSupportTest {
         }
     }
 
+    private static class TestAsyncFlowableEventListener extends TestFlowableEventListener implements AsyncFlowableEventListener {
+
+        protected final List<String> threadNames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            threadNames.add(Thread.currentThread().getName());
+            super.onEvent(event);
+        }
+
+        public List<String> getThreadNames() {
+            return threadNames;
+        }
+    }
+
     private static class TestTransactionContext implements TransactionContext {
 
         protected final Map<TransactionState, List<TransactionListener>> transactionStateListeners = new HashMap<>();
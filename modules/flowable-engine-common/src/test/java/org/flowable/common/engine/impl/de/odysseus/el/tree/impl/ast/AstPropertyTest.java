@@ -0,0 +1,108 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.de.odysseus.el.tree.impl.ast;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.reflect.Method;
+
+import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
+import org.flowable.common.engine.impl.de.odysseus.el.tree.Bindings;
+import org.flowable.common.engine.impl.de.odysseus.el.util.SimpleContext;
+import org.flowable.common.engine.impl.javax.el.BeanELResolver;
+import org.flowable.common.engine.impl.javax.el.ValueExpression;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AstPropertyTest {
+
+    protected ExpressionFactoryImpl expressionFactory;
+    protected SimpleContext context;
+
+    @BeforeEach
+    void setUp() {
+        expressionFactory = new ExpressionFactoryImpl();
+        context = new SimpleContext(new BeanELResolver());
+    }
+
+    @Test
+    void invokeSkipsMethodLookupOnRepeatedEvaluation() {
+        CountingAstDot node = new CountingAstDot(new AstIdentifier("greeter", 0), "greet");
+        Bindings bindings = createBindings(new Greeter());
+        Class<?>[] paramTypes = { String.class };
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(node.invoke(bindings, context, String.class, paramTypes, new Object[] { "Kermit" })).isEqualTo("Hello Kermit");
+            assertThat(node.getMethodInfo(bindings, context, String.class, paramTypes).getName()).isEqualTo("greet");
+        }
+        assertThat(node.lookups).isEqualTo(1);
+    }
+
+    @Test
+    void invokeLooksUpMethodAgainForOtherClass() {
+        CountingAstDot node = new CountingAstDot(new AstIdentifier("greeter", 0), "greet");
+        Class<?>[] paramTypes = { String.class };
+
+        assertThat(node.invoke(createBindings(new Greeter()), context, String.class, paramTypes, new Object[] { "Kermit" })).isEqualTo("Hello Kermit");
+        assertThat(node.invoke(createBindings(new LoudGreeter()), context, String.class, paramTypes, new Object[] { "Kermit" })).isEqualTo("HELLO KERMIT");
+        assertThat(node.invoke(createBindings(new LoudGreeter()), context, String.class, paramTypes, new Object[] { "Kermit" })).isEqualTo("HELLO KERMIT");
+        assertThat(node.lookups).isEqualTo(2);
+
+        // Other parameter types need another lookup as well
+        assertThat(node.invoke(createBindings(new LoudGreeter()), context, String.class, new Class<?>[0], new Object[0])).isEqualTo("HELLO");
+        assertThat(node.lookups).isEqualTo(3);
+    }
+
+    protected Bindings createBindings(Object greeter) {
+        return new Bindings(null, new ValueExpression[] { expressionFactory.createValueExpression(greeter, Object.class) });
+    }
+
+    protected static class CountingAstDot extends AstDot {
+
+        protected int lookups;
+
+        public CountingAstDot(AstNode base, String property) {
+            super(base, property, false);
+        }
+
+        @Override
+        protected Method findMethod(String name, Class<?> clazz, Class<?> returnType, Class<?>[] paramTypes) {
+            lookups++;
+            return super.findMethod(name, clazz, returnType, paramTypes);
+        }
+    }
+
+    public static class Greeter {
+
+        public String greet() {
+            return "Hello";
+        }
+
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+
+    public static class LoudGreeter extends Greeter {
+
+        @Override
+        public String greet() {
+            return "HELLO";
+        }
+
+        @Override
+        public String greet(String name) {
+            return "HELLO " + name.toUpperCase();
+        }
+    }
+}
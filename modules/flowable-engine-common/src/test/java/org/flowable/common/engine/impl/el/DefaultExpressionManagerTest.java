@@ -0,0 +1,149 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.api.delegate.Expression;
+import org.flowable.common.engine.api.variable.VariableContainer;
+import org.flowable.common.engine.impl.el.function.VariableGetExpressionFunction;
+import org.flowable.common.engine.impl.javax.el.ELResolver;
+import org.junit.jupiter.api.Test;
+
+class DefaultExpressionManagerTest {
+
+    @Test
+    void concurrentEvaluationsShouldResolveOwnVariables() throws Exception {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        Expression expression = expressionManager.createExpression("${name.concat('-').concat(counter.toString())}");
+
+        int threadCount = 8;
+        int evaluationsPerThread = 1000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int i = 0; i < threadCount; i++) {
+                String name = "thread" + i;
+                Callable<List<String>> evaluations = () -> {
+                    start.await();
+                    List<String> mismatches = new ArrayList<>();
+                    for (int j = 0; j < evaluationsPerThread; j++) {
+                        Map<String, Object> variables = new HashMap<>();
+                        variables.put("name", name);
+                        variables.put("counter", j);
+                        Object value = expression.getValue(new VariableContainerWrapper(variables));
+                        if (!(name + "-" + j).equals(value)) {
+                            mismatches.add(name + "-" + j + " resolved to " + value);
+                        }
+                    }
+                    return mismatches;
+                };
+                futures.add(executorService.submit(evaluations));
+            }
+
+            start.countDown();
+            for (Future<List<String>> future : futures) {
+                assertThat(future.get(30, TimeUnit.SECONDS)).isEmpty();
+            }
+
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    @Test
+    void elResolverChainShouldBeShared() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        ELResolver elResolver = expressionManager.getElContext(new VariableContainerWrapper(Collections.emptyMap())).getELResolver();
+
+        assertThat(expressionManager.getElContext(new VariableContainerWrapper(Collections.emptyMap())).getELResolver()).isSameAs(elResolver);
+    }
+
+    @Test
+    void setBeansShouldResetElResolverChain() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager(Collections.singletonMap("bean", "first"));
+        Expression expression = expressionManager.createExpression("${bean}");
+        VariableContainer variableContainer = new VariableContainerWrapper(Collections.emptyMap());
+        ELResolver elResolver = expressionManager.getStaticElResolver();
+
+        assertThat(expression.getValue(variableContainer)).isEqualTo("first");
+
+        expressionManager.setBeans(Collections.singletonMap("bean", "second"));
+
+        assertThat(expressionManager.getStaticElResolver()).isNotSameAs(elResolver);
+        assertThat(expression.getValue(variableContainer)).isEqualTo("second");
+    }
+
+    @Test
+    void setFunctionDelegatesShouldResetElResolverChain() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager();
+        ELResolver elResolver = expressionManager.getStaticElResolver();
+
+        expressionManager.setFunctionDelegates(Collections.singletonList(new VariableGetExpressionFunction()));
+
+        ELResolver resetElResolver = expressionManager.getStaticElResolver();
+        assertThat(resetElResolver).isNotSameAs(elResolver);
+        assertThat(expressionManager.getElContext(new VariableContainerWrapper(Collections.emptyMap())).getELResolver()).isSameAs(resetElResolver);
+    }
+
+    @Test
+    void deprecatedCreateElResolverOverrideShouldBeCalledPerEvaluation() {
+        AtomicInteger createdElResolvers = new AtomicInteger();
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager() {
+
+            @Override
+            @SuppressWarnings("deprecation")
+            protected ELResolver createElResolver(VariableContainer variableContainer) {
+                createdElResolvers.incrementAndGet();
+                return super.createElResolver(variableContainer);
+            }
+        };
+        Expression expression = expressionManager.createExpression("${name}");
+
+        assertThat(expression.getValue(new VariableContainerWrapper(Collections.singletonMap("name", "first")))).isEqualTo("first");
+        assertThat(expression.getValue(new VariableContainerWrapper(Collections.singletonMap("name", "second")))).isEqualTo("second");
+        assertThat(createdElResolvers).hasValue(2);
+    }
+
+    @Test
+    void deprecatedCreateVariableElResolverOverrideShouldBeUsed() {
+        DefaultExpressionManager expressionManager = new DefaultExpressionManager() {
+
+            @Override
+            @SuppressWarnings("deprecation")
+            protected ELResolver createVariableElResolver(VariableContainer variableContainer) {
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("name", "legacy");
+                return new VariableContainerELResolver(new VariableContainerWrapper(variables));
+            }
+        };
+
+        assertThat(expressionManager.createExpression("${name}").getValue(new VariableContainerWrapper(Collections.singletonMap("name", "current"))))
+            .isEqualTo("legacy");
+    }
+
+}
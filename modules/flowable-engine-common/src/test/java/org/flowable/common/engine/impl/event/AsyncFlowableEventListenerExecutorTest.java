@@ -0,0 +1,158 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.flowable.common.engine.api.delegate.event.AbstractFlowableEventListener;
+import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.api.delegate.event.FlowableEventType;
+import org.flowable.common.engine.impl.event.AsyncFlowableEventListenerExecutor.QueueFullPolicy;
+import org.junit.jupiter.api.Test;
+
+class AsyncFlowableEventListenerExecutorTest {
+
+    private static final FlowableEvent EVENT = () -> (FlowableEventType) () -> "test";
+
+    @Test
+    void eventsAfterShutdownShouldBeDeliveredByCaller() {
+        AsyncFlowableEventListenerExecutor executor = new AsyncFlowableEventListenerExecutor();
+        executor.start();
+        executor.shutdown();
+
+        RecordingListener listener = new RecordingListener();
+        executor.execute(listener, EVENT);
+
+        assertThat(listener.getThreadNames()).containsExactly(Thread.currentThread().getName());
+        assertThat(executor.getDeliveredEventCount()).isEqualTo(1);
+    }
+
+    @Test
+    void concurrentShutdownShouldNotLoseEvents() throws InterruptedException {
+        for (QueueFullPolicy queueFullPolicy : QueueFullPolicy.values()) {
+            AsyncFlowableEventListenerExecutor executor = new AsyncFlowableEventListenerExecutor()
+                .setQueueCapacity(queueFullPolicy == QueueFullPolicy.DISCARD ? 100000 : 16)
+                .setWorkerCount(2)
+                .setQueueFullPolicy(queueFullPolicy);
+            executor.start();
+
+            RecordingListener listener = new RecordingListener();
+            int producerCount = 4;
+            int eventsPerProducer = 2000;
+            CountDownLatch producersStarted = new CountDownLatch(producerCount);
+            List<Thread> producers = new ArrayList<>();
+            for (int i = 0; i < producerCount; i++) {
+                Thread producer = new Thread(() -> {
+                    producersStarted.countDown();
+                    for (int j = 0; j < eventsPerProducer; j++) {
+                        executor.execute(listener, EVENT);
+                    }
+                });
+                producer.start();
+                producers.add(producer);
+            }
+
+            producersStarted.await();
+            executor.shutdown();
+            for (Thread producer : producers) {
+                producer.join();
+            }
+
+            // Every event is either delivered by a worker before the shutdown completed, or by the calling thread afterwards
+            assertThat(listener.getThreadNames())
+                .as("delivered events with %s", queueFullPolicy)
+                .hasSize(producerCount * eventsPerProducer);
+            assertThat(executor.getDiscardedEventCount()).isZero();
+            assertThat(executor.getQueueDepth()).isZero();
+        }
+    }
+
+    @Test
+    void timedOutShutdownShouldStopWorkers() throws InterruptedException {
+        AsyncFlowableEventListenerExecutor executor = new AsyncFlowableEventListenerExecutor()
+            .setShutdownTimeoutInMs(100L);
+        executor.start();
+
+        CountDownLatch listenerStarted = new CountDownLatch(1);
+        List<Thread> listenerThreads = new CopyOnWriteArrayList<>();
+        RecordingListener blockingListener = new RecordingListener() {
+
+            @Override
+            public void onEvent(FlowableEvent event) {
+                super.onEvent(event);
+                listenerThreads.add(Thread.currentThread());
+                listenerStarted.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+
+        executor.execute(blockingListener, EVENT);
+        assertThat(listenerStarted.await(10, TimeUnit.SECONDS)).isTrue();
+        executor.execute(blockingListener, EVENT);
+        executor.execute(blockingListener, EVENT);
+
+        executor.shutdown();
+
+        // The event that was being delivered is interrupted and the queued events are discarded
+        assertThat(executor.getDiscardedEventCount()).isEqualTo(2);
+        assertThat(executor.getQueueDepth()).isZero();
+        assertThat(listenerThreads).hasSize(1);
+        Thread workerThread = listenerThreads.get(0);
+        workerThread.join(10000L);
+        assertThat(workerThread.isAlive()).isFalse();
+        assertThat(blockingListener.getThreadNames()).hasSize(1);
+    }
+
+    @Test
+    void restartedExecutorShouldDeliverEvents() {
+        AsyncFlowableEventListenerExecutor executor = new AsyncFlowableEventListenerExecutor();
+        executor.start();
+        executor.shutdown();
+        executor.start();
+
+        RecordingListener listener = new RecordingListener();
+        executor.execute(listener, EVENT);
+        executor.shutdown();
+
+        assertThat(listener.getThreadNames()).hasSize(1).allMatch(threadName -> threadName.startsWith("flowable-async-event-listener-"));
+    }
+
+    private static class RecordingListener extends AbstractFlowableEventListener {
+
+        protected final List<String> threadNames = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void onEvent(FlowableEvent event) {
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public boolean isFailOnException() {
+            return false;
+        }
+
+        public List<String> getThreadNames() {
+            return threadNames;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import javax.transaction.Status;
+import javax.transaction.Transaction;
+import javax.transaction.TransactionManager;
+
+import org.junit.jupiter.api.Test;
+
+class JtaTransactionInterceptorTest {
+
+    @Test
+    void readOnlyCommandInNewTransaction() {
+        TestTransactionManager transactionManager = new TestTransactionManager(Status.STATUS_NO_TRANSACTION);
+        ConfigCapturingInterceptor next = new ConfigCapturingInterceptor();
+        JtaTransactionInterceptor interceptor = new JtaTransactionInterceptor(transactionManager);
+        interceptor.setNext(next);
+
+        interceptor.execute(new CommandConfig().readOnly(), commandContext -> null);
+
+        assertThat(next.config.isReadOnly()).isTrue();
+        assertThat(transactionManager.begun).isTrue();
+        assertThat(transactionManager.committed).isTrue();
+    }
+
+    @Test
+    void readOnlyCommandJoinsExistingTransaction() {
+        TestTransactionManager transactionManager = new TestTransactionManager(Status.STATUS_ACTIVE);
+        ConfigCapturingInterceptor next = new ConfigCapturingInterceptor();
+        JtaTransactionInterceptor interceptor = new JtaTransactionInterceptor(transactionManager);
+        interceptor.setNext(next);
+
+        interceptor.execute(new CommandConfig().readOnly(), commandContext -> null);
+
+        // The existing transaction could still write, so the command is not executed in read-only mode
+        assertThat(next.config.isReadOnly()).isFalse();
+        assertThat(transactionManager.begun).isFalse();
+        assertThat(transactionManager.committed).isFalse();
+    }
+
+    @Test
+    void readOnlyCommandRequiringNewTransaction() {
+        TestTransactionManager transactionManager = new TestTransactionManager(Status.STATUS_ACTIVE);
+        ConfigCapturingInterceptor next = new ConfigCapturingInterceptor();
+        JtaTransactionInterceptor interceptor = new JtaTransactionInterceptor(transactionManager);
+        interceptor.setNext(next);
+
+        interceptor.execute(new CommandConfig().transactionRequiresNew().readOnly(), commandContext -> null);
+
+        assertThat(next.config.isReadOnly()).isTrue();
+        assertThat(transactionManager.suspended).isTrue();
+        assertThat(transactionManager.begun).isTrue();
+        assertThat(transactionManager.committed).isTrue();
+    }
+
+    protected static class ConfigCapturingInterceptor extends AbstractCommandInterceptor {
+
+        protected CommandConfig config;
+
+        @Override
+        public <T> T execute(CommandConfig config, Command<T> command) {
+            this.config = config;
+            return null;
+        }
+    }
+
+    protected static class TestTransactionManager implements TransactionManager {
+
+        protected int status;
+        protected boolean begun;
+        protected boolean committed;
+        protected boolean suspended;
+
+        public TestTransactionManager(int status) {
+            this.status = status;
+        }
+
+        @Override
+        public void begin() {
+            begun = true;
+            status = Status.STATUS_ACTIVE;
+        }
+
+        @Override
+        public void commit() {
+            committed = true;
+            status = Status.STATUS_NO_TRANSACTION;
+        }
+
+        @Override
+        public int getStatus() {
+            return status;
+        }
+
+        @Override
+        public Transaction getTransaction() {
+            return null;
+        }
+
+        @Override
+        public void resume(Transaction transaction) {
+
+        }
+
+        @Override
+        public void rollback() {
+            status = Status.STATUS_NO_TRANSACTION;
+        }
+
+        @Override
+        public void setRollbackOnly() {
+            status = Status.STATUS_MARKED_ROLLBACK;
+        }
+
+        @Override
+        public void setTransactionTimeout(int seconds) {
+
+        }
+
+        @Override
+        public Transaction suspend() {
+            suspended = true;
+            status = Status.STATUS_NO_TRANSACTION;
+            return null;
+        }
+    }
+
+}
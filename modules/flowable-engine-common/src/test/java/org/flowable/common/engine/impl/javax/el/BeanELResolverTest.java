@@ -0,0 +1,100 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.javax.el;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.flowable.common.engine.impl.de.odysseus.el.ExpressionFactoryImpl;
+import org.flowable.common.engine.impl.de.odysseus.el.util.SimpleContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BeanELResolverTest {
+
+    protected BeanELResolver resolver;
+    protected SimpleContext context;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new BeanELResolver();
+        context = new SimpleContext(resolver);
+        context.putContext(ExpressionFactory.class, new ExpressionFactoryImpl());
+    }
+
+    @Test
+    void invokeOverloadedMethodsByParameterCount() {
+        Greeter greeter = new Greeter();
+
+        // The resolved methods are cached per name and parameter count, so the overloads must not mix up
+        for (int i = 0; i < 2; i++) {
+            assertThat(resolver.invoke(context, greeter, "greet", null, null)).isEqualTo("Hello");
+            assertThat(resolver.invoke(context, greeter, "greet", null, new Object[] { "Kermit" })).isEqualTo("Hello Kermit");
+            assertThat(resolver.invoke(context, greeter, "greet", null, new Object[] { "Kermit", "Gonzo" })).isEqualTo("Hello Kermit and Gonzo");
+        }
+    }
+
+    @Test
+    void invokeVarArgsMethod() {
+        Greeter greeter = new Greeter();
+
+        assertThat(resolver.invoke(context, greeter, "count", null, new Object[] { "a", "b", "c" })).isEqualTo(3);
+        assertThat(resolver.invoke(context, greeter, "count", null, new Object[] { "a", "b", "c" })).isEqualTo(3);
+        assertThat(resolver.invoke(context, greeter, "count", null, new Object[] { "a" })).isEqualTo(1);
+    }
+
+    @Test
+    void invokeSameMethodNameOnDifferentClasses() {
+        assertThat(resolver.invoke(context, new Greeter(), "greet", null, null)).isEqualTo("Hello");
+        assertThat(resolver.invoke(context, new LoudGreeter(), "greet", null, null)).isEqualTo("HELLO");
+        assertThat(resolver.invoke(context, new Greeter(), "greet", null, null)).isEqualTo("Hello");
+    }
+
+    @Test
+    void invokeUnknownMethod() {
+        Greeter greeter = new Greeter();
+
+        for (int i = 0; i < 2; i++) {
+            assertThatThrownBy(() -> resolver.invoke(context, greeter, "greet", null, new Object[] { "a", "b", "c" }))
+                    .isInstanceOf(MethodNotFoundException.class)
+                    .hasMessageContaining("Cannot find method greet with 3 parameters");
+        }
+    }
+
+    public static class Greeter {
+
+        public String greet() {
+            return "Hello";
+        }
+
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+
+        public String greet(String name, String otherName) {
+            return "Hello " + name + " and " + otherName;
+        }
+
+        public int count(String... values) {
+            return values.length;
+        }
+    }
+
+    public static class LoudGreeter extends Greeter {
+
+        @Override
+        public String greet() {
+            return "HELLO";
+        }
+    }
+}
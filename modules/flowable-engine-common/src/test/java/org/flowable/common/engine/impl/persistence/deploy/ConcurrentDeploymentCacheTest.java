@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.persistence.deploy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class ConcurrentDeploymentCacheTest {
+
+    @Test
+    void cacheWithoutLimitKeepsEverything() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>();
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.get("id0")).isEqualTo("value0");
+        assertThat(cache.getAll()).hasSize(100);
+        assertThat(cache.getEvictionCount()).isZero();
+    }
+
+    @Test
+    void cacheWithLimitEvictsLeastRecentlyUsed() throws Exception {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(2);
+        cache.add("a", "A");
+        Thread.sleep(1);
+        cache.add("b", "B");
+        Thread.sleep(1);
+        assertThat(cache.get("a")).isEqualTo("A");
+        Thread.sleep(1);
+
+        cache.add("c", "C");
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.contains("a")).isTrue();
+        assertThat(cache.contains("b")).isFalse();
+        assertThat(cache.contains("c")).isTrue();
+        assertThat(cache.getEvictionCount()).isEqualTo(1);
+    }
+
+    @Test
+    void fullCacheEvictsInBatches() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100);
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+        assertThat(cache.getEvictionCount()).isZero();
+
+        cache.add("id100", "value100");
+        assertThat(cache.size()).isEqualTo(95);
+        assertThat(cache.getEvictionCount()).isEqualTo(6);
+        assertThat(cache.contains("id100")).isTrue();
+
+        // The next additions fit in the room made by the batch
+        for (int i = 101; i < 106; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getEvictionCount()).isEqualTo(6);
+    }
+
+    @Test
+    void accessedEntriesGetASecondChance() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100);
+        for (int i = 0; i < 100; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+        for (int i = 0; i < 50; i++) {
+            cache.get("id" + i);
+        }
+
+        for (int i = 100; i < 120; i++) {
+            cache.add("id" + i, "value" + i);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        for (int i = 0; i < 50; i++) {
+            assertThat(cache.contains("id" + i)).as("id" + i).isTrue();
+        }
+    }
+
+    @Test
+    void cacheWithMaxWeightUsesWeigher() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(10, String::length);
+        cache.add("small1", "aa");
+        cache.add("small2", "bb");
+        assertThat(cache.getWeight()).isEqualTo(4);
+
+        cache.add("large", "cccccccc");
+
+        assertThat(cache.contains("large")).isTrue();
+        assertThat(cache.getWeight()).isLessThanOrEqualTo(10);
+        assertThat(cache.size()).isEqualTo(2);
+
+        cache.remove("large");
+        assertThat(cache.getWeight()).isEqualTo(2);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+        assertThat(cache.getWeight()).isZero();
+    }
+
+    @Test
+    void replacingAnEntryUpdatesTheWeight() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(100, String::length);
+        cache.add("id", "aaaa");
+        cache.add("id", "bb");
+
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.getWeight()).isEqualTo(2);
+    }
+
+    @Test
+    void hitsAndMissesAreCounted() {
+        ConcurrentDeploymentCache<String> cache = new ConcurrentDeploymentCache<>(5);
+        cache.add("a", "A");
+
+        cache.get("a");
+        cache.get("a");
+        cache.get("unknown");
+
+        assertThat(cache.getHitCount()).isEqualTo(2);
+        assertThat(cache.getMissCount()).isEqualTo(1);
+
+        cache.resetStatistics();
+        assertThat(cache.getHitCount()).isZero();
+        assertThat(cache.getMissCount()).isZero();
+    }
+
+}
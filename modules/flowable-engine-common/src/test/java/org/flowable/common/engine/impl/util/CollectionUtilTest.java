@@ -0,0 +1,67 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.common.engine.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.junit.jupiter.api.Test;
+
+class CollectionUtilTest {
+
+    @Test
+    void partitionKeepsOrderAndLimitsSize() {
+        List<List<String>> partitions = CollectionUtil.partition(Arrays.asList("a", "b", "c", "d", "e"), 2);
+
+        assertThat(partitions).containsExactly(
+                Arrays.asList("a", "b"),
+                Arrays.asList("c", "d"),
+                Collections.singletonList("e"));
+    }
+
+    @Test
+    void partitionOfSet() {
+        List<List<String>> partitions = CollectionUtil.partition(new LinkedHashSet<>(Arrays.asList("a", "b", "c")), 3);
+
+        assertThat(partitions).containsExactly(Arrays.asList("a", "b", "c"));
+    }
+
+    @Test
+    void partitionOfEmptyCollection() {
+        assertThat(CollectionUtil.partition(Collections.emptyList(), 10)).isEmpty();
+        assertThat(CollectionUtil.partition(null, 10)).isEmpty();
+    }
+
+    @Test
+    void partitionsAreIndependentOfTheValues() {
+        List<String> values = new ArrayList<>(Arrays.asList("a", "b", "c"));
+        List<List<String>> partitions = CollectionUtil.partition(values, 2);
+        values.clear();
+
+        assertThat(partitions).containsExactly(Arrays.asList("a", "b"), Collections.singletonList("c"));
+    }
+
+    @Test
+    void partitionWithInvalidSize() {
+        assertThatThrownBy(() -> CollectionUtil.partition(Arrays.asList("a"), 0))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+}
@@ -16,6 +16,7 @@ package org.flowable.engine;
 
 import java.util.List;
 
+import org.flowable.common.engine.api.history.HistoryExportBuilder;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.history.HistoricDetail;
@@ -188,4 +189,9 @@ public interface HistoryService {
      */
     NativeHistoricTaskLogEntryQuery createNativeHistoricTaskLogEntryQuery();
 
+    /**
+     * Returns a new {@link HistoryExportBuilder} that streams the raw rows of the process history tables to a {@link org.flowable.common.engine.api.history.HistoryExportSink}.
+     */
+    HistoryExportBuilder createHistoryExport();
+
 }
@@ -592,6 +592,18 @@ public interface RuntimeService {
      */
     List<VariableInstance> getVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    /**
+     * The variable values that are defined in the scope of each of the given executions, without taking outer scopes into account.
+     * The variables of all executions are fetched with one query (per chunk of execution ids), instead of one query per execution.
+     *
+     * @param executionIds
+     *     ids of the executions, cannot be null.
+     * @param variableNames
+     *     the names of the variables to fetch, or null to fetch all variables.
+     * @return the variable values per execution id. Every given execution id is contained in the map, with an empty map when no variables are found.
+     */
+    Map<String, Map<String, Object>> getVariablesForExecutions(Collection<String> executionIds, Collection<String> variableNames);
+
     /**
      * All variable values that are defined in the execution scope, without taking outer scopes into account. If you have many task local variables and you only need a few, consider using
      * {@link #getVariablesLocal(String, Collection)} for better performance.
@@ -14,8 +14,12 @@
 
 package org.flowable.engine.impl;
 
+import java.util.Arrays;
 import java.util.List;
 
+import org.flowable.common.engine.api.history.HistoryExportBuilder;
+import org.flowable.common.engine.impl.history.export.HistoryExportBuilderImpl;
+import org.flowable.common.engine.impl.history.export.HistoryExportTable;
 import org.flowable.common.engine.impl.service.CommonEngineServiceImpl;
 import org.flowable.engine.HistoryService;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
@@ -195,4 +199,18 @@ public class HistoryServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         return new NativeHistoricTaskLogEntryQueryImpl(commandExecutor);
     }
 
+    @Override
+    public HistoryExportBuilder createHistoryExport() {
+        return new HistoryExportBuilderImpl(commandExecutor, configuration, getHistoryExportTables());
+    }
+
+    protected List<HistoryExportTable> getHistoryExportTables() {
+        // Tasks and variables of other engines share their history tables with the process engine
+        return Arrays.asList(
+                new HistoryExportTable("ACT_HI_PROCINST", "coalesce(RES.END_TIME_, RES.START_TIME_)", null),
+                new HistoryExportTable("ACT_HI_ACTINST", "coalesce(RES.END_TIME_, RES.START_TIME_)", null),
+                new HistoryExportTable("ACT_HI_TASKINST", "coalesce(RES.END_TIME_, RES.LAST_UPDATED_TIME_, RES.START_TIME_)", "RES.SCOPE_TYPE_ is null"),
+                new HistoryExportTable("ACT_HI_VARINST", "coalesce(RES.LAST_UPDATED_TIME_, RES.CREATE_TIME_)", "RES.SCOPE_TYPE_ is null"));
+    }
+
 }
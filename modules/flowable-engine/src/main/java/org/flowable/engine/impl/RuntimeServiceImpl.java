@@ -60,6 +60,7 @@ import org.flowable.engine.impl.cmd.GetIdentityLinksForProcessInstanceCmd;
 import org.flowable.engine.impl.cmd.GetProcessInstanceEventsCmd;
 import org.flowable.engine.impl.cmd.GetStartFormCmd;
 import org.flowable.engine.impl.cmd.GetStartFormModelCmd;
+import org.flowable.engine.impl.cmd.GetVariablesForExecutionsCmd;
 import org.flowable.engine.impl.cmd.HasExecutionVariableCmd;
 import org.flowable.engine.impl.cmd.MessageEventReceivedCmd;
 import org.flowable.engine.impl.cmd.RemoveEventConsumerCommand;
@@ -226,6 +227,11 @@ public class RuntimeServiceImpl extends CommonEngineServiceImpl<ProcessEngineCon
         return commandExecutor.execute(new GetExecutionsVariablesCmd(executionIds));
     }
 
+    @Override
+    public Map<String, Map<String, Object>> getVariablesForExecutions(Collection<String> executionIds, Collection<String> variableNames) {
+        return commandExecutor.execute(new GetVariablesForExecutionsCmd(executionIds, variableNames));
+    }
+
     @Override
     public Map<String, Object> getVariablesLocal(String executionId) {
         return commandExecutor.execute(new GetExecutionVariablesCmd(executionId, null, true));
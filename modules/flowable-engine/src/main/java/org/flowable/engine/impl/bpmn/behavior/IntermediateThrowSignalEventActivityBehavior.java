@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.bpmn.behavior;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.lang3.StringUtils;
@@ -35,6 +36,7 @@ import org.flowable.entitylink.api.EntityLink;
 import org.flowable.entitylink.api.EntityLinkType;
 import org.flowable.eventsubscription.service.EventSubscriptionService;
 import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Tijs Rademakers
@@ -77,9 +79,8 @@ public class IntermediateThrowSignalEventActivityBehavior extends AbstractBpmnAc
         }
 
         EventSubscriptionService eventSubscriptionService = CommandContextUtil.getEventSubscriptionService(commandContext);
-        List<SignalEventSubscriptionEntity> subscriptionEntities = null;
         if (processInstanceScope) {
-            subscriptionEntities = eventSubscriptionService.findSignalEventSubscriptionsByProcessInstanceAndEventName(
+            List<SignalEventSubscriptionEntity> subscriptionEntities = eventSubscriptionService.findSignalEventSubscriptionsByProcessInstanceAndEventName(
                             execution.getProcessInstanceId(), eventSubscriptionName);
             
             if (CommandContextUtil.getProcessEngineConfiguration(commandContext).isEnableEntityLinks()) {
@@ -98,12 +99,20 @@ public class IntermediateThrowSignalEventActivityBehavior extends AbstractBpmnAc
                     }
                 }
             }
+
+            signalEventSubscriptions(subscriptionEntities, eventSubscriptionName, commandContext);
             
         } else {
-            subscriptionEntities = eventSubscriptionService
-                    .findSignalEventSubscriptionsByEventName(eventSubscriptionName, execution.getTenantId());
+            String signalName = eventSubscriptionName;
+            eventSubscriptionService.findSignalEventSubscriptionsByEventNameInChunks(eventSubscriptionName, execution.getTenantId(),
+                    subscriptionEntities -> signalEventSubscriptions(subscriptionEntities, signalName, commandContext));
         }
 
+        CommandContextUtil.getAgenda(commandContext).planTakeOutgoingSequenceFlowsOperation((ExecutionEntity) execution, true);
+    }
+
+    protected void signalEventSubscriptions(List<SignalEventSubscriptionEntity> subscriptionEntities, String eventSubscriptionName, CommandContext commandContext) {
+        List<JobEntity> asyncEventJobs = new ArrayList<>();
         for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : subscriptionEntities) {
             CommandContextUtil.getProcessEngineConfiguration().getEventDispatcher().dispatchEvent(
                     FlowableEventBuilder.createSignalEvent(FlowableEngineEventType.ACTIVITY_SIGNALED, signalEventSubscriptionEntity.getActivityId(), eventSubscriptionName,
@@ -114,12 +123,17 @@ public class IntermediateThrowSignalEventActivityBehavior extends AbstractBpmnAc
                 Flowable5CompatibilityHandler compatibilityHandler = Flowable5Util.getFlowable5CompatibilityHandler();
                 compatibilityHandler.signalEventReceived(signalEventSubscriptionEntity, null, signalEventDefinition.isAsync());
                 
+            } else if (signalEventDefinition.isAsync()) {
+                asyncEventJobs.add(EventSubscriptionUtil.createAsyncEventJob(signalEventSubscriptionEntity, null));
+
             } else {
-                EventSubscriptionUtil.eventReceived(signalEventSubscriptionEntity, null, signalEventDefinition.isAsync());
+                EventSubscriptionUtil.eventReceived(signalEventSubscriptionEntity, null, false);
             }
         }
 
-        CommandContextUtil.getAgenda(commandContext).planTakeOutgoingSequenceFlowsOperation((ExecutionEntity) execution, true);
+        if (!asyncEventJobs.isEmpty()) {
+            CommandContextUtil.getJobService(commandContext).scheduleAsyncJobs(asyncEventJobs);
+        }
     }
 
 }
@@ -46,6 +46,8 @@ import org.flowable.engine.impl.persistence.entity.ProcessDefinitionEntityManage
 import org.flowable.engine.impl.persistence.entity.ResourceEntity;
 import org.flowable.engine.impl.persistence.entity.ResourceEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.eventregistry.api.EventRegistryEventConsumer;
+import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -105,6 +107,7 @@ public class BpmnDeployer implements EngineDeployer {
         }
 
         cachingAndArtifactsManager.updateCachingAndArtifacts(parsedDeployment);
+        resetEventRegistryCorrelationParameterNames();
 
         if (deployment.isNew()) {
             dispatchProcessDefinitionEntityInitializedEvent(parsedDeployment);
@@ -345,6 +348,17 @@ public class BpmnDeployer implements EngineDeployer {
         }
     }
 
+    /**
+     * The event registry consumers cache the correlation parameters used by the cached process definitions.
+     */
+    protected void resetEventRegistryCorrelationParameterNames() {
+        for (EventRegistryEventConsumer eventRegistryEventConsumer : CommandContextUtil.getProcessEngineConfiguration().getEventRegistryEventConsumers().values()) {
+            if (eventRegistryEventConsumer instanceof BaseEventRegistryEventConsumer) {
+                ((BaseEventRegistryEventConsumer) eventRegistryEventConsumer).resetCorrelationParameterNames();
+            }
+        }
+    }
+
     protected void createLocalizationValues(String processDefinitionId, Process process) {
         if (process == null)
             return;
@@ -49,9 +49,8 @@ public class SignalThrowingEventListener extends BaseDelegateEventListener {
 
             CommandContext commandContext = Context.getCommandContext();
             EventSubscriptionService eventSubscriptionService = CommandContextUtil.getEventSubscriptionService(commandContext);
-            List<SignalEventSubscriptionEntity> subscriptionEntities = null;
             if (processInstanceScope) {
-                subscriptionEntities = eventSubscriptionService.findSignalEventSubscriptionsByProcessInstanceAndEventName(engineEvent.getProcessInstanceId(), signalName);
+                triggerSignalEventSubscriptions(eventSubscriptionService.findSignalEventSubscriptionsByProcessInstanceAndEventName(engineEvent.getProcessInstanceId(), signalName));
             } else {
                 String tenantId = null;
                 if (engineEvent.getProcessDefinitionId() != null) {
@@ -60,12 +59,14 @@ public class SignalThrowingEventListener extends BaseDelegateEventListener {
                             .findDeployedProcessDefinitionById(engineEvent.getProcessDefinitionId());
                     tenantId = processDefinition.getTenantId();
                 }
-                subscriptionEntities = eventSubscriptionService.findSignalEventSubscriptionsByEventName(signalName, tenantId);
+                eventSubscriptionService.findSignalEventSubscriptionsByEventNameInChunks(signalName, tenantId, this::triggerSignalEventSubscriptions);
             }
+        }
+    }
 
-            for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : subscriptionEntities) {
-                EventSubscriptionUtil.eventReceived(signalEventSubscriptionEntity, null, false);
-            }
+    protected void triggerSignalEventSubscriptions(List<SignalEventSubscriptionEntity> subscriptionEntities) {
+        for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : subscriptionEntities) {
+            EventSubscriptionUtil.eventReceived(signalEventSubscriptionEntity, null, false);
         }
     }
 
@@ -155,6 +155,21 @@ public class DefaultInternalJobManager implements InternalJobManager {
         }
     }
 
+    @Override
+    public void lockJobScopeRow(Job job) {
+        ExecutionEntityManager executionEntityManager = getExecutionEntityManager();
+        executionEntityManager.lockProcessInstanceRow(job.getProcessInstanceId());
+        
+        if (processEngineConfiguration.isLoggingSessionEnabled()) {
+            ExecutionEntity execution = executionEntityManager.findById(job.getExecutionId());
+            if (execution != null) {
+                FlowElement flowElement = execution.getCurrentFlowElement();
+                BpmnLoggingSessionUtil.addAsyncActivityLoggingData("Locking job for " + flowElement.getId() + ", with job id " + job.getId(),
+                                LoggingSessionConstants.TYPE_SERVICE_TASK_LOCK_JOB, (JobEntity) job, flowElement, execution);
+            }
+        }
+    }
+
     @Override
     public void clearJobScopeLock(Job job) {
         ExecutionEntityManager executionEntityManager = getExecutionEntityManager();
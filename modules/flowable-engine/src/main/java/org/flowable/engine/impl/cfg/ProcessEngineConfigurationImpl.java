@@ -86,8 +86,9 @@ import org.flowable.common.engine.impl.logging.LoggingSessionFactory;
 import org.flowable.common.engine.impl.persistence.GenericManagerFactory;
 import org.flowable.common.engine.impl.persistence.cache.EntityCache;
 import org.flowable.common.engine.impl.persistence.cache.EntityCacheImpl;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
 import org.flowable.common.engine.impl.persistence.entity.PropertyEntityManager;
 import org.flowable.common.engine.impl.persistence.entity.data.PropertyDataManager;
 import org.flowable.common.engine.impl.runtime.Clock;
@@ -224,6 +225,7 @@ import org.flowable.engine.impl.history.DefaultHistoryVariableManager;
 import org.flowable.engine.impl.history.HistoryManager;
 import org.flowable.engine.impl.history.async.AsyncHistoryManager;
 import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.json.BpmnHistoryJsonPrefetcher;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityEndHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityFullHistoryJsonTransformer;
 import org.flowable.engine.impl.history.async.json.transformer.ActivityStartHistoryJsonTransformer;
@@ -273,6 +275,7 @@ import org.flowable.engine.impl.jobexecutor.TriggerTimerEventJobHandler;
 import org.flowable.engine.impl.migration.ProcessInstanceMigrationManagerImpl;
 import org.flowable.engine.impl.persistence.deploy.DeploymentManager;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntryWeigher;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCache;
 import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionInfoCacheObject;
 import org.flowable.engine.impl.persistence.entity.ActivityInstanceEntityManager;
@@ -359,6 +362,7 @@ import org.flowable.identitylink.service.impl.db.IdentityLinkDbSchemaManager;
 import org.flowable.idm.api.IdmEngineConfigurationApi;
 import org.flowable.idm.engine.configurator.IdmEngineConfigurator;
 import org.flowable.image.impl.DefaultProcessDiagramGenerator;
+import org.flowable.job.service.ExclusiveJobLockStrategy;
 import org.flowable.job.service.HistoryJobHandler;
 import org.flowable.job.service.HistoryJobProcessor;
 import org.flowable.job.service.InternalJobCompatibilityManager;
@@ -375,6 +379,7 @@ import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncRunnableExecution
 import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnableFactory;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.asyncexecutor.RowLockExclusiveJobLockStrategy;
 import org.flowable.job.service.impl.db.JobDbSchemaManager;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobHandler;
 import org.flowable.job.service.impl.history.async.AsyncHistoryJobZippedHandler;
@@ -382,6 +387,7 @@ import org.flowable.job.service.impl.history.async.AsyncHistoryListener;
 import org.flowable.job.service.impl.history.async.AsyncHistorySession;
 import org.flowable.job.service.impl.history.async.AsyncHistorySessionFactory;
 import org.flowable.job.service.impl.history.async.DefaultAsyncHistoryJobProducer;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonPrefetcher;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.task.api.TaskQueryInterceptor;
 import org.flowable.task.api.history.HistoricTaskQueryInterceptor;
@@ -400,6 +406,7 @@ import org.flowable.variable.service.VariableServiceConfiguration;
 import org.flowable.variable.service.history.InternalHistoryVariableManager;
 import org.flowable.variable.service.impl.db.IbatisVariableTypeHandler;
 import org.flowable.variable.service.impl.db.VariableDbSchemaManager;
+import org.flowable.variable.service.impl.storage.LargeVariableValueStore;
 import org.flowable.variable.service.impl.types.BooleanType;
 import org.flowable.variable.service.impl.types.ByteArrayType;
 import org.flowable.variable.service.impl.types.DateType;
@@ -543,6 +550,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected DeploymentManager deploymentManager;
 
     protected int processDefinitionCacheLimit = -1; // By default, no limit
+    /**
+     * When set to a positive value, the process definition cache evicts entries based on their weight instead of their number.
+     * The weight of an entry is calculated by the {@link #processDefinitionCacheWeigher}, which defaults to the number of
+     * elements of the BPMN model. Takes precedence over the {@link #processDefinitionCacheLimit}.
+     */
+    protected long processDefinitionCacheMaxWeight = -1;
+    protected DeploymentCacheWeigher<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher;
     protected DeploymentCache<ProcessDefinitionCacheEntry> processDefinitionCache;
 
     protected int processDefinitionInfoCacheLimit = -1; // By default, no limit
@@ -566,6 +580,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     protected Map<String, HistoryJobHandler> historyJobHandlers;
     protected List<HistoryJobHandler> customHistoryJobHandlers;
     protected List<HistoryJsonTransformer> customHistoryJsonTransformers;
+    protected List<HistoryJsonPrefetcher> customHistoryJsonPrefetchers;
 
     // HELPERS //////////////////////////////////////////////////////////////////
     protected ProcessInstanceHelper processInstanceHelper;
@@ -639,6 +654,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected int asyncExecutorMaxTimerJobsPerAcquisition = 1;
 
+    /**
+     * When enabled, the timer jobs of one acquisition are locked with one update statement and timers locked by another node in the meantime are skipped,
+     * instead of locking every timer with an optimistic locking update that fails the whole acquisition on a conflict.
+     * Combine this with a larger {@link #asyncExecutorMaxTimerJobsPerAcquisition} to drain large amounts of due timers quickly.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorTimerJobBulkAcquisitionEnabled;
+
+    /**
+     * When enabled, the exclusive jobs of one process instance are executed one after the other on a single thread, keeping the process instance locked
+     * in between. Consecutive jobs of the same process instance then don't need to lock it again, and don't fail on the lock held by another thread.
+     * <p>
+     * (This property is only applicable when using the {@link DefaultAsyncJobExecutor}).
+     */
+    protected boolean asyncExecutorExclusiveJobAffinityEnabled;
+
+    /**
+     * Determines how the process instance of an exclusive job is locked. By default, the lock time of the process instance is set in a separate transaction
+     * before the job is executed. The {@link RowLockExclusiveJobLockStrategy} locks the process instance row in the job transaction instead,
+     * which is only supported on PostgreSQL and Oracle (the default is used on other databases).
+     */
+    protected ExclusiveJobLockStrategy exclusiveJobLockStrategy;
+
     /**
      * The number of async jobs that are acquired during one query (before a job is executed, an acquirement thread fetches jobs from the database and puts them on the queue).
      * <p>
@@ -832,6 +871,13 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
      */
     protected boolean serializableVariableTypeTrackDeserializedObjects = true;
 
+    /**
+     * When set, the byte array values of variables of at least largeVariableValueThreshold bytes are kept in this store
+     * instead of in the ACT_GE_BYTEARRAY table.
+     */
+    protected LargeVariableValueStore largeVariableValueStore;
+    protected int largeVariableValueThreshold = 1024 * 1024;
+
     protected ExpressionManager expressionManager;
     protected List<String> customScriptingEngineClasses;
     protected ScriptingEngines scriptingEngines;
@@ -1466,6 +1512,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
         this.variableServiceConfiguration.setMaxLengthString(this.getMaxLengthString());
         this.variableServiceConfiguration.setSerializableVariableTypeTrackDeserializedObjects(this.isSerializableVariableTypeTrackDeserializedObjects());
+        this.variableServiceConfiguration.setLargeVariableValueStore(this.largeVariableValueStore);
+        this.variableServiceConfiguration.setLargeVariableValueThreshold(this.largeVariableValueThreshold);
         this.variableServiceConfiguration.setLoggingSessionEnabled(isLoggingSessionEnabled());
 
         this.variableServiceConfiguration.init();
@@ -1627,6 +1675,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 this.jobServiceConfiguration.setInternalJobManager(new DefaultInternalJobManager(this));
             }
 
+            if (this.exclusiveJobLockStrategy instanceof RowLockExclusiveJobLockStrategy && !RowLockExclusiveJobLockStrategy.isSupportedDatabaseType(databaseType)) {
+                logger.warn("Row locking of exclusive jobs is not supported on {}, the lock time of the process instance is used instead", databaseType);
+            } else {
+                this.jobServiceConfiguration.setExclusiveJobLockStrategy(this.exclusiveJobLockStrategy);
+            }
+
             if (this.internalJobCompatibilityManager != null) {
                 this.jobServiceConfiguration.setInternalJobCompatibilityManager(internalJobCompatibilityManager);
             } else {
@@ -1743,10 +1797,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     public void initProcessDefinitionCache() {
         if (processDefinitionCache == null) {
-            if (processDefinitionCacheLimit <= 0) {
-                processDefinitionCache = new DefaultDeploymentCache<>();
+            if (processDefinitionCacheMaxWeight > 0) {
+                if (processDefinitionCacheWeigher == null) {
+                    processDefinitionCacheWeigher = new ProcessDefinitionCacheEntryWeigher();
+                }
+                processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheMaxWeight, processDefinitionCacheWeigher);
+            } else if (processDefinitionCacheLimit <= 0) {
+                processDefinitionCache = new ConcurrentDeploymentCache<>();
             } else {
-                processDefinitionCache = new DefaultDeploymentCache<>(processDefinitionCacheLimit);
+                processDefinitionCache = new ConcurrentDeploymentCache<>(processDefinitionCacheLimit);
             }
         }
     }
@@ -1764,9 +1823,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public void initAppResourceCache() {
         if (appResourceCache == null) {
             if (appResourceCacheLimit <= 0) {
-                appResourceCache = new DefaultDeploymentCache<>();
+                appResourceCache = new ConcurrentDeploymentCache<>();
             } else {
-                appResourceCache = new DefaultDeploymentCache<>(appResourceCacheLimit);
+                appResourceCache = new ConcurrentDeploymentCache<>(appResourceCacheLimit);
             }
         }
     }
@@ -1774,9 +1833,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     public void initKnowledgeBaseCache() {
         if (knowledgeBaseCache == null) {
             if (knowledgeBaseCacheLimit <= 0) {
-                knowledgeBaseCache = new DefaultDeploymentCache<>();
+                knowledgeBaseCache = new ConcurrentDeploymentCache<>();
             } else {
-                knowledgeBaseCache = new DefaultDeploymentCache<>(knowledgeBaseCacheLimit);
+                knowledgeBaseCache = new ConcurrentDeploymentCache<>(knowledgeBaseCacheLimit);
             }
         }
     }
@@ -2064,13 +2123,20 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
                 allHistoryJsonTransformers.addAll(customHistoryJsonTransformers);
             }
 
+            List<HistoryJsonPrefetcher> allHistoryJsonPrefetchers = new ArrayList<>(initDefaultHistoryJsonPrefetchers());
+            if (customHistoryJsonPrefetchers != null) {
+                allHistoryJsonPrefetchers.addAll(customHistoryJsonPrefetchers);
+            }
+
             AsyncHistoryJobHandler asyncHistoryJobHandler = new AsyncHistoryJobHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY);
             allHistoryJsonTransformers.forEach(asyncHistoryJobHandler::addHistoryJsonTransformer);
+            allHistoryJsonPrefetchers.forEach(asyncHistoryJobHandler::addHistoryJsonPrefetcher);
             asyncHistoryJobHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             historyJobHandlers.put(asyncHistoryJobHandler.getType(), asyncHistoryJobHandler);
 
             AsyncHistoryJobZippedHandler asyncHistoryJobZippedHandler = new AsyncHistoryJobZippedHandler(HistoryJsonConstants.JOB_HANDLER_TYPE_DEFAULT_ASYNC_HISTORY_ZIPPED);
             allHistoryJsonTransformers.forEach(asyncHistoryJobZippedHandler::addHistoryJsonTransformer);
+            allHistoryJsonPrefetchers.forEach(asyncHistoryJobZippedHandler::addHistoryJsonPrefetcher);
             asyncHistoryJobZippedHandler.setAsyncHistoryJsonGroupingEnabled(isAsyncHistoryJsonGroupingEnabled);
             historyJobHandlers.put(asyncHistoryJobZippedHandler.getType(), asyncHistoryJobZippedHandler);
 
@@ -2082,6 +2148,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         }
     }
 
+    protected List<HistoryJsonPrefetcher> initDefaultHistoryJsonPrefetchers() {
+        List<HistoryJsonPrefetcher> historyJsonPrefetchers = new ArrayList<>();
+        historyJsonPrefetchers.add(new BpmnHistoryJsonPrefetcher());
+        return historyJsonPrefetchers;
+    }
+
     protected List<HistoryJsonTransformer> initDefaultHistoryJsonTransformers() {
         List<HistoryJsonTransformer> historyJsonTransformers = new ArrayList<>();
         historyJsonTransformers.add(new ProcessInstanceStartHistoryJsonTransformer());
@@ -2153,6 +2225,12 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
             // Acquisition wait time
             defaultAsyncExecutor.setDefaultTimerJobAcquireWaitTimeInMillis(asyncExecutorDefaultTimerJobAcquireWaitTime);
+
+            // Acquisition size
+            defaultAsyncExecutor.setMaxTimerJobsPerAcquisition(asyncExecutorMaxTimerJobsPerAcquisition);
+            defaultAsyncExecutor.setMaxAsyncJobsDuePerAcquisition(asyncExecutorMaxAsyncJobsDuePerAcquisition);
+            defaultAsyncExecutor.setTimerJobBulkAcquisitionEnabled(asyncExecutorTimerJobBulkAcquisitionEnabled);
+            defaultAsyncExecutor.setExclusiveJobAffinityEnabled(asyncExecutorExclusiveJobAffinityEnabled);
             defaultAsyncExecutor.setDefaultAsyncJobAcquireWaitTimeInMillis(asyncExecutorDefaultAsyncJobAcquireWaitTime);
 
             // Queue full wait time
@@ -2400,7 +2478,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
             ProcessExpressionManager processExpressionManager = new ProcessExpressionManager(delegateInterceptor, beans);
 
             if (isExpressionCacheEnabled) {
-                processExpressionManager.setExpressionCache(new DefaultDeploymentCache<>(expressionCacheSize));
+                processExpressionManager.setExpressionCache(new ConcurrentDeploymentCache<>(expressionCacheSize));
                 processExpressionManager.setExpressionTextLengthCacheLimit(expressionTextLengthCacheLimit);
             }
 
@@ -3110,6 +3188,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         this.serializableVariableTypeTrackDeserializedObjects = serializableVariableTypeTrackDeserializedObjects;
     }
 
+    public LargeVariableValueStore getLargeVariableValueStore() {
+        return largeVariableValueStore;
+    }
+
+    public ProcessEngineConfigurationImpl setLargeVariableValueStore(LargeVariableValueStore largeVariableValueStore) {
+        this.largeVariableValueStore = largeVariableValueStore;
+        return this;
+    }
+
+    public int getLargeVariableValueThreshold() {
+        return largeVariableValueThreshold;
+    }
+
+    public ProcessEngineConfigurationImpl setLargeVariableValueThreshold(int largeVariableValueThreshold) {
+        this.largeVariableValueThreshold = largeVariableValueThreshold;
+        return this;
+    }
+
     @Override
     public ExpressionManager getExpressionManager() {
         return expressionManager;
@@ -3378,6 +3474,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public List<HistoryJsonPrefetcher> getCustomHistoryJsonPrefetchers() {
+        return customHistoryJsonPrefetchers;
+    }
+
+    public ProcessEngineConfigurationImpl setCustomHistoryJsonPrefetchers(List<HistoryJsonPrefetcher> customHistoryJsonPrefetchers) {
+        this.customHistoryJsonPrefetchers = customHistoryJsonPrefetchers;
+        return this;
+    }
+
     public List<FormEngine> getCustomFormEngines() {
         return customFormEngines;
     }
@@ -3562,6 +3667,24 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public long getProcessDefinitionCacheMaxWeight() {
+        return processDefinitionCacheMaxWeight;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheMaxWeight(long processDefinitionCacheMaxWeight) {
+        this.processDefinitionCacheMaxWeight = processDefinitionCacheMaxWeight;
+        return this;
+    }
+
+    public DeploymentCacheWeigher<ProcessDefinitionCacheEntry> getProcessDefinitionCacheWeigher() {
+        return processDefinitionCacheWeigher;
+    }
+
+    public ProcessEngineConfigurationImpl setProcessDefinitionCacheWeigher(DeploymentCacheWeigher<ProcessDefinitionCacheEntry> processDefinitionCacheWeigher) {
+        this.processDefinitionCacheWeigher = processDefinitionCacheWeigher;
+        return this;
+    }
+
     public DeploymentCache<ProcessDefinitionCacheEntry> getProcessDefinitionCache() {
         return processDefinitionCache;
     }
@@ -4562,6 +4685,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         return this;
     }
 
+    public boolean isAsyncExecutorTimerJobBulkAcquisitionEnabled() {
+        return asyncExecutorTimerJobBulkAcquisitionEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorTimerJobBulkAcquisitionEnabled(boolean asyncExecutorTimerJobBulkAcquisitionEnabled) {
+        this.asyncExecutorTimerJobBulkAcquisitionEnabled = asyncExecutorTimerJobBulkAcquisitionEnabled;
+        return this;
+    }
+
+    public boolean isAsyncExecutorExclusiveJobAffinityEnabled() {
+        return asyncExecutorExclusiveJobAffinityEnabled;
+    }
+
+    public ProcessEngineConfigurationImpl setAsyncExecutorExclusiveJobAffinityEnabled(boolean asyncExecutorExclusiveJobAffinityEnabled) {
+        this.asyncExecutorExclusiveJobAffinityEnabled = asyncExecutorExclusiveJobAffinityEnabled;
+        return this;
+    }
+
+    public ExclusiveJobLockStrategy getExclusiveJobLockStrategy() {
+        return exclusiveJobLockStrategy;
+    }
+
+    public ProcessEngineConfigurationImpl setExclusiveJobLockStrategy(ExclusiveJobLockStrategy exclusiveJobLockStrategy) {
+        this.exclusiveJobLockStrategy = exclusiveJobLockStrategy;
+        return this;
+    }
+
     public int getAsyncExecutorMaxAsyncJobsDuePerAcquisition() {
         return asyncExecutorMaxAsyncJobsDuePerAcquisition;
     }
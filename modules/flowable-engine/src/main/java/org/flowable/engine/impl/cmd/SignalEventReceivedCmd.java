@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.cmd;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,6 +32,7 @@ import org.flowable.engine.impl.util.Flowable5Util;
 import org.flowable.engine.runtime.Execution;
 import org.flowable.eventsubscription.service.EventSubscriptionService;
 import org.flowable.eventsubscription.service.impl.persistence.entity.SignalEventSubscriptionEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 
 /**
  * @author Joram Barrez
@@ -68,11 +70,10 @@ public class SignalEventReceivedCmd implements Command<Void> {
     @Override
     public Void execute(CommandContext commandContext) {
 
-        List<SignalEventSubscriptionEntity> signalEvents = null;
-
         EventSubscriptionService eventSubscriptionService = CommandContextUtil.getEventSubscriptionService(commandContext);
         if (executionId == null) {
-            signalEvents = eventSubscriptionService.findSignalEventSubscriptionsByEventName(eventName, tenantId);
+            eventSubscriptionService.findSignalEventSubscriptionsByEventNameInChunks(eventName, tenantId,
+                    signalEvents -> signalEventSubscriptions(signalEvents, commandContext));
         } else {
 
             ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(executionId);
@@ -91,13 +92,20 @@ public class SignalEventReceivedCmd implements Command<Void> {
                 return null;
             }
 
-            signalEvents = eventSubscriptionService.findSignalEventSubscriptionsByNameAndExecution(eventName, executionId);
+            List<SignalEventSubscriptionEntity> signalEvents = eventSubscriptionService.findSignalEventSubscriptionsByNameAndExecution(eventName, executionId);
 
             if (signalEvents.isEmpty()) {
                 throw new FlowableException("Execution '" + executionId + "' has not subscribed to a signal event with name '" + eventName + "'.");
             }
+
+            signalEventSubscriptions(signalEvents, commandContext);
         }
 
+        return null;
+    }
+
+    protected void signalEventSubscriptions(List<SignalEventSubscriptionEntity> signalEvents, CommandContext commandContext) {
+        List<JobEntity> asyncEventJobs = new ArrayList<>();
         for (SignalEventSubscriptionEntity signalEventSubscriptionEntity : signalEvents) {
             // We only throw the event to globally scoped signals.
             // Process instance scoped signals must be thrown within the process itself
@@ -113,12 +121,18 @@ public class SignalEventReceivedCmd implements Command<Void> {
                                     payload, signalEventSubscriptionEntity.getExecutionId(), signalEventSubscriptionEntity.getProcessInstanceId(),
                                     signalEventSubscriptionEntity.getProcessDefinitionId()));
 
-                    EventSubscriptionUtil.eventReceived(signalEventSubscriptionEntity, payload, async);
+                    if (async) {
+                        asyncEventJobs.add(EventSubscriptionUtil.createAsyncEventJob(signalEventSubscriptionEntity, payload));
+                    } else {
+                        EventSubscriptionUtil.eventReceived(signalEventSubscriptionEntity, payload, false);
+                    }
                 }
             }
         }
 
-        return null;
+        if (!asyncEventJobs.isEmpty()) {
+            CommandContextUtil.getJobService(commandContext).scheduleAsyncJobs(asyncEventJobs);
+        }
     }
 
 }
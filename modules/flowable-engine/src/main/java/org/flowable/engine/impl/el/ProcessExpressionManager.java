@@ -16,7 +16,6 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.delegate.Expression;
-import org.flowable.common.engine.api.variable.VariableContainer;
 import org.flowable.common.engine.impl.el.DynamicBeanPropertyELResolver;
 import org.flowable.common.engine.impl.javax.el.BeanELResolver;
 import org.flowable.common.engine.impl.javax.el.ELResolver;
@@ -52,8 +51,8 @@ public class ProcessExpressionManager extends VariableScopeExpressionManager {
     }
     
     @Override
-    protected ELResolver createVariableElResolver(VariableContainer variableContainer) {
-        return new ProcessVariableScopeELResolver(variableContainer);
+    protected ELResolver createVariableElResolver() {
+        return new ProcessVariableScopeELResolver();
     }
 
     @Override
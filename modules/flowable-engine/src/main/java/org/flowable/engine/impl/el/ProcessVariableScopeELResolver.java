@@ -24,6 +24,9 @@ import org.flowable.task.service.impl.persistence.entity.TaskEntity;
  */
 public class ProcessVariableScopeELResolver extends VariableContainerELResolver  {
     
+    public ProcessVariableScopeELResolver() {
+    }
+
     public ProcessVariableScopeELResolver(VariableContainer variableContainer) {
         super(variableContainer);
     }
@@ -34,6 +37,7 @@ public class ProcessVariableScopeELResolver extends VariableContainerELResolver
     @Override
     public Object getValue(ELContext context, Object base, Object property) {
         if (base == null) {
+            VariableContainer variableContainer = getVariableContainer(context);
             if ((EXECUTION_KEY.equals(property) && variableContainer instanceof ExecutionEntity) || (TASK_KEY.equals(property) && variableContainer instanceof TaskEntity)) {
                 context.setPropertyResolved(true);
                 return variableContainer;
@@ -15,19 +15,25 @@ package org.flowable.engine.impl.eventregistry;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import org.flowable.bpmn.constants.BpmnXMLConstants;
 import org.flowable.bpmn.model.BpmnModel;
 import org.flowable.bpmn.model.ExtensionElement;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.Process;
 import org.flowable.bpmn.model.StartEvent;
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.engine.ProcessEngineConfiguration;
 import org.flowable.engine.RuntimeService;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.persistence.deploy.ProcessDefinitionCacheEntry;
+import org.flowable.engine.impl.util.ProcessDefinitionUtil;
 import org.flowable.engine.runtime.ProcessInstanceBuilder;
 import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.impl.constant.EventConstants;
@@ -64,7 +70,7 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
         // The reason for this is that the handling of one event subscription
         // should not influence (i.e. roll back) the handling of another.
 
-        Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances());
+        Collection<CorrelationKey> correlationKeys = generateCorrelationKeys(eventInstance);
         List<EventSubscription> eventSubscriptions = findEventSubscriptions(ScopeTypes.BPMN, eventInstance, correlationKeys);
         RuntimeService runtimeService = processEngineConfiguration.getRuntimeService();
         for (EventSubscription eventSubscription : eventSubscriptions) {
@@ -130,6 +136,65 @@ public class BpmnEventRegistryEventConsumer extends BaseEventRegistryEventConsum
 
     }
 
+    /**
+     * Collects the correlation parameters of the process definitions that have event subscriptions for the given event definition key,
+     * and of the process definitions in the deployment cache, as these can create new event subscriptions.
+     */
+    @Override
+    protected Collection<Set<String>> findCorrelationParameterNames(String eventDefinitionKey) {
+        return commandExecutor.execute(commandContext -> {
+            Set<String> processDefinitionIds = new HashSet<>();
+            List<EventSubscription> eventSubscriptions = createEventSubscriptionQuery()
+                .eventType(eventDefinitionKey)
+                .scopeType(ScopeTypes.BPMN)
+                .list();
+            for (EventSubscription eventSubscription : eventSubscriptions) {
+                if (eventSubscription.getProcessDefinitionId() == null) {
+                    // Created through the API, matched against all correlation parameter combinations
+                    continue;
+                }
+                processDefinitionIds.add(eventSubscription.getProcessDefinitionId());
+            }
+
+            Set<Set<String>> correlationParameterNames = new HashSet<>();
+            for (ProcessDefinitionCacheEntry cacheEntry : processEngineConfiguration.getProcessDefinitionCache().getAll()) {
+                processDefinitionIds.remove(cacheEntry.getProcessDefinition().getId());
+                collectCorrelationParameterNames(cacheEntry.getBpmnModel(), eventDefinitionKey, correlationParameterNames);
+            }
+
+            for (String processDefinitionId : processDefinitionIds) {
+                collectCorrelationParameterNames(ProcessDefinitionUtil.getBpmnModel(processDefinitionId), eventDefinitionKey, correlationParameterNames);
+            }
+
+            return correlationParameterNames;
+        });
+    }
+
+    @Override
+    protected void withoutDefinitionId(EventSubscriptionQuery eventSubscriptionQuery) {
+        eventSubscriptionQuery.withoutProcessDefinitionId();
+    }
+
+    protected void collectCorrelationParameterNames(BpmnModel bpmnModel, String eventDefinitionKey, Set<Set<String>> correlationParameterNames) {
+        for (Process process : bpmnModel.getProcesses()) {
+            for (FlowElement flowElement : process.findFlowElementsOfType(FlowElement.class, true)) {
+                List<ExtensionElement> eventTypes = flowElement.getExtensionElements().get(BpmnXMLConstants.ELEMENT_EVENT_TYPE);
+                if (eventTypes == null || eventTypes.isEmpty() || !isEventTypeMatching(eventTypes.get(0).getElementText(), eventDefinitionKey)) {
+                    continue;
+                }
+
+                List<ExtensionElement> eventCorrelations = flowElement.getExtensionElements().get(BpmnXMLConstants.ELEMENT_EVENT_CORRELATION_PARAMETER);
+                if (eventCorrelations != null && !eventCorrelations.isEmpty()) {
+                    Set<String> parameterNames = new HashSet<>();
+                    for (ExtensionElement eventCorrelation : eventCorrelations) {
+                        parameterNames.add(eventCorrelation.getAttributeValue(null, "name"));
+                    }
+                    correlationParameterNames.add(parameterNames);
+                }
+            }
+        }
+    }
+
     protected String getStartCorrelationConfiguration(EventSubscription eventSubscription) {
         BpmnModel bpmnModel = processEngineConfiguration.getRepositoryService().getBpmnModel(eventSubscription.getProcessDefinitionId());
         if (bpmnModel != null) {
@@ -0,0 +1,102 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.history.async.json;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntityManager;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntityManager;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.service.impl.history.async.transformer.AbstractHistoryJsonPrefetcher;
+import org.flowable.task.service.HistoricTaskService;
+import org.flowable.variable.service.HistoricVariableService;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Prefetches the historic process instances, activity instances, tasks and variables
+ * referenced by a grouped BPMN async history job with IN queries.
+ */
+public class BpmnHistoryJsonPrefetcher extends AbstractHistoryJsonPrefetcher {
+
+    protected static final List<String> ACTIVITY_TYPES = Arrays.asList(
+            HistoryJsonConstants.TYPE_ACTIVITY_END,
+            HistoryJsonConstants.TYPE_UPDATE_HISTORIC_ACTIVITY_INSTANCE);
+
+    protected static final List<String> TASK_TYPES = Arrays.asList(
+            HistoryJsonConstants.TYPE_TASK_ENDED,
+            HistoryJsonConstants.TYPE_TASK_PROPERTY_CHANGED,
+            HistoryJsonConstants.TYPE_TASK_ASSIGNEE_CHANGED,
+            HistoryJsonConstants.TYPE_TASK_OWNER_CHANGED);
+
+    protected static final List<String> VARIABLE_TYPES = Arrays.asList(
+            HistoryJsonConstants.TYPE_VARIABLE_UPDATED,
+            HistoryJsonConstants.TYPE_VARIABLE_REMOVED);
+
+    @Override
+    public void prefetch(Map<String, List<ObjectNode>> historicalDataByType, CommandContext commandContext) {
+        prefetchHistoricProcessInstances(historicalDataByType, commandContext);
+        prefetchHistoricActivityInstances(historicalDataByType, commandContext);
+        prefetchHistoricTasks(historicalDataByType, commandContext);
+        prefetchHistoricVariables(historicalDataByType, commandContext);
+    }
+
+    protected void prefetchHistoricProcessInstances(Map<String, List<ObjectNode>> historicalDataByType, CommandContext commandContext) {
+        Set<String> processInstanceIds = collectValues(historicalDataByType, historicalDataByType.keySet(), HistoryJsonConstants.PROCESS_INSTANCE_ID);
+
+        // Process instances started in this job are created by it, there's nothing to fetch for those
+        processInstanceIds.removeAll(collectValues(historicalDataByType, 
+                Arrays.asList(HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START, HistoryJsonConstants.TYPE_SUBPROCESS_INSTANCE_START), 
+                HistoryJsonConstants.PROCESS_INSTANCE_ID));
+
+        HistoricProcessInstanceEntityManager historicProcessInstanceEntityManager = CommandContextUtil.getHistoricProcessInstanceEntityManager(commandContext);
+        fetch(processInstanceIds, historicProcessInstanceEntityManager::findHistoricProcessInstancesByIds);
+    }
+
+    protected void prefetchHistoricActivityInstances(Map<String, List<ObjectNode>> historicalDataByType, CommandContext commandContext) {
+        HistoricActivityInstanceEntityManager historicActivityInstanceEntityManager = CommandContextUtil.getHistoricActivityInstanceEntityManager(commandContext);
+
+        Set<String> activityInstanceIds = collectValues(historicalDataByType, ACTIVITY_TYPES, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID);
+        fetch(activityInstanceIds, historicActivityInstanceEntityManager::findHistoricActivityInstancesByIds);
+
+        // Older data (or data without runtime activity instance id) looks up the unfinished activity instance through the execution
+        Set<String> executionIds = collectValues(historicalDataByType, 
+                Arrays.asList(HistoryJsonConstants.TYPE_ACTIVITY_END, HistoryJsonConstants.TYPE_TASK_ENDED), HistoryJsonConstants.EXECUTION_ID);
+        fetch(executionIds, historicActivityInstanceEntityManager::findUnfinishedHistoricActivityInstancesByExecutionIds);
+    }
+
+    protected void prefetchHistoricTasks(Map<String, List<ObjectNode>> historicalDataByType, CommandContext commandContext) {
+        Set<String> taskIds = collectValues(historicalDataByType, TASK_TYPES, HistoryJsonConstants.ID);
+        taskIds.removeAll(collectValues(historicalDataByType, 
+                Collections.singletonList(HistoryJsonConstants.TYPE_TASK_CREATED), HistoryJsonConstants.ID));
+
+        HistoricTaskService historicTaskService = CommandContextUtil.getHistoricTaskService(commandContext);
+        fetch(taskIds, historicTaskService::findHistoricTasksByIds);
+    }
+
+    protected void prefetchHistoricVariables(Map<String, List<ObjectNode>> historicalDataByType, CommandContext commandContext) {
+        Set<String> variableIds = collectValues(historicalDataByType, VARIABLE_TYPES, HistoryJsonConstants.ID);
+        variableIds.removeAll(collectValues(historicalDataByType, 
+                Collections.singletonList(HistoryJsonConstants.TYPE_VARIABLE_CREATED), HistoryJsonConstants.ID));
+
+        HistoricVariableService historicVariableService = CommandContextUtil.getHistoricVariableService();
+        fetch(variableIds, historicVariableService::findHistoricVariableInstancesByIds);
+    }
+
+}
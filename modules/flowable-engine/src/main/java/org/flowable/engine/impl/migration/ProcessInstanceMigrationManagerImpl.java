@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -111,11 +112,11 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
                 BpmnModel newModel = ProcessDefinitionUtil.getBpmnModel(processDefinition.getId());
         
                 ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
-                List<ProcessInstance> processInstances = executionEntityManager.findProcessInstanceByQueryCriteria(new ProcessInstanceQueryImpl().processDefinitionId(processDefinitionId));
-        
-                for (ProcessInstance processInstance : processInstances) {
-                    doValidateProcessInstanceMigration(processInstance.getId(), processDefinition.getTenantId(), newModel, document, validationResult, commandContext);
-                }
+                executionEntityManager.findProcessInstanceByQueryCriteriaInChunks(new ProcessInstanceQueryImpl().processDefinitionId(processDefinitionId), processInstances -> {
+                    for (ProcessInstance processInstance : processInstances) {
+                        doValidateProcessInstanceMigration(processInstance.getId(), processDefinition.getTenantId(), newModel, document, validationResult, commandContext);
+                    }
+                });
             }
         }
         
@@ -313,9 +314,6 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
         // Check of the target definition exists before submitting the batch
         ProcessDefinition targetProcessDefinition = resolveProcessDefinition(document, commandContext);
 
-        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
-        List<ProcessInstance> processInstances = executionEntityManager.findProcessInstanceByQueryCriteria( new ProcessInstanceQueryImpl().processDefinitionId(sourceProcDefId));
-
         BatchService batchService = CommandContextUtil.getBatchService(commandContext);
         Batch batch = batchService.createBatchBuilder().batchType(Batch.PROCESS_MIGRATION_TYPE)
             .searchKey(sourceProcDefId)
@@ -325,19 +323,26 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
             .create();
         
         JobService jobService = CommandContextUtil.getJobService(commandContext);
-        for (ProcessInstance processInstance : processInstances) {
-            BatchPart batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
-                            processInstance.getId(), null, ScopeTypes.BPMN);
-            
-            JobEntity job = jobService.createJob();
-            job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
-            job.setProcessInstanceId(processInstance.getId());
-            job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
-            jobService.createAsyncJob(job, false);
-            jobService.scheduleAsyncJob(job);
-        }
+        ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
+        AtomicBoolean hasProcessInstances = new AtomicBoolean();
+        executionEntityManager.findProcessInstanceByQueryCriteriaInChunks(new ProcessInstanceQueryImpl().processDefinitionId(sourceProcDefId), processInstances -> {
+            List<JobEntity> migrationJobs = new ArrayList<>(processInstances.size());
+            for (ProcessInstance processInstance : processInstances) {
+                BatchPart batchPart = batchService.createBatchPart(batch, ProcessInstanceBatchMigrationResult.STATUS_WAITING, 
+                                processInstance.getId(), null, ScopeTypes.BPMN);
+                
+                JobEntity job = jobService.createJob();
+                job.setJobHandlerType(ProcessInstanceMigrationJobHandler.TYPE);
+                job.setProcessInstanceId(processInstance.getId());
+                job.setJobHandlerConfiguration(ProcessInstanceMigrationJobHandler.getHandlerCfgForBatchPartId(batchPart.getId()));
+                migrationJobs.add(job);
+            }
+            jobService.createAsyncJobs(migrationJobs, false);
+            jobService.scheduleAsyncJobs(migrationJobs);
+            hasProcessInstances.set(true);
+        });
         
-        if (!processInstances.isEmpty()) {
+        if (hasProcessInstances.get()) {
             TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
             TimerJobEntity timerJob = timerJobService.createTimerJob();
             timerJob.setJobType(JobEntity.JOB_TYPE_TIMER);
@@ -371,11 +376,11 @@ public class ProcessInstanceMigrationManagerImpl extends AbstractDynamicStateMan
 
         ProcessInstanceQueryImpl processInstanceQueryByProcessDefinitionId = new ProcessInstanceQueryImpl().processDefinitionId(processDefinitionId);
         ExecutionEntityManager executionEntityManager = CommandContextUtil.getExecutionEntityManager(commandContext);
-        List<ProcessInstance> processInstances = executionEntityManager.findProcessInstanceByQueryCriteria(processInstanceQueryByProcessDefinitionId);
-
-        for (ProcessInstance processInstance : processInstances) {
-            doMigrateProcessInstance(processInstance, processDefinition, document, commandContext);
-        }
+        executionEntityManager.findProcessInstanceByQueryCriteriaInChunks(processInstanceQueryByProcessDefinitionId, processInstances -> {
+            for (ProcessInstance processInstance : processInstances) {
+                doMigrateProcessInstance(processInstance, processDefinition, document, commandContext);
+            }
+        });
     }
 
     @Override
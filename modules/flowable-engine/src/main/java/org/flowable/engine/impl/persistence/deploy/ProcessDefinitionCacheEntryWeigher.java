@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.impl.persistence.deploy;
+
+import java.util.Collection;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.FlowElement;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SubProcess;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCacheWeigher;
+
+/**
+ * Weighs a {@link ProcessDefinitionCacheEntry} by the number of flow elements (including those of nested sub processes)
+ * and diagram interchange elements of its {@link BpmnModel}, as those make up most of the memory used by a cache entry.
+ */
+public class ProcessDefinitionCacheEntryWeigher implements DeploymentCacheWeigher<ProcessDefinitionCacheEntry> {
+
+    @Override
+    public int weigh(ProcessDefinitionCacheEntry cacheEntry) {
+        BpmnModel bpmnModel = cacheEntry.getBpmnModel();
+        if (bpmnModel == null) {
+            return 1;
+        }
+
+        int weight = 0;
+        for (Process process : bpmnModel.getProcesses()) {
+            weight += countFlowElements(process.getFlowElements());
+        }
+        weight += bpmnModel.getLocationMap().size();
+        weight += bpmnModel.getFlowLocationMap().size();
+        return Math.max(1, weight);
+    }
+
+    protected int countFlowElements(Collection<FlowElement> flowElements) {
+        int count = flowElements.size();
+        for (FlowElement flowElement : flowElements) {
+            if (flowElement instanceof SubProcess) {
+                count += countFlowElements(((SubProcess) flowElement).getFlowElements());
+            }
+        }
+        return count;
+    }
+
+}
@@ -13,22 +13,17 @@
 package org.flowable.engine.impl.persistence.deploy;
 
 import java.util.Collection;
-import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedHashMap;
-import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntity;
 import org.flowable.engine.impl.persistence.entity.ProcessDefinitionInfoEntityManager;
 import org.flowable.engine.impl.util.CommandContextUtil;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ObjectNode;
@@ -40,36 +35,19 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
  */
 public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefinitionInfoCacheObject> {
 
-    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessDefinitionInfoCache.class);
-
-    protected Map<String, ProcessDefinitionInfoCacheObject> cache;
+    protected DeploymentCache<ProcessDefinitionInfoCacheObject> cache;
     protected CommandExecutor commandExecutor;
 
     /** Cache with no limit */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor) {
         this.commandExecutor = commandExecutor;
-        this.cache = Collections.synchronizedMap(new HashMap<>());
+        this.cache = new ConcurrentDeploymentCache<>();
     }
 
     /** Cache which has a hard limit: no more elements will be cached than the limit. */
     public ProcessDefinitionInfoCache(CommandExecutor commandExecutor, final int limit) {
         this.commandExecutor = commandExecutor;
-        this.cache = Collections.synchronizedMap(new LinkedHashMap<String, ProcessDefinitionInfoCacheObject>(limit + 1, 0.75f, true) {
-            // +1 is needed, because the entry is inserted first, before it is removed
-            // 0.75 is the default (see javadocs)
-            // true will keep the 'access-order', which is needed to have a real LRU cache
-            private static final long serialVersionUID = 1L;
-
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<String, ProcessDefinitionInfoCacheObject> eldest) {
-                boolean removeEldest = size() > limit;
-                if (removeEldest) {
-                    LOGGER.trace("Cache limit is reached, {} will be evicted", eldest.getKey());
-                }
-                return removeEldest;
-            }
-
-        });
+        this.cache = new ConcurrentDeploymentCache<>(limit);
     }
 
     @Override
@@ -94,12 +72,12 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
 
     @Override
     public boolean contains(String id) {
-        return cache.containsKey(id);
+        return cache.contains(id);
     }
 
     @Override
     public void add(String id, ProcessDefinitionInfoCacheObject obj) {
-        cache.put(id, obj);
+        cache.add(id, obj);
     }
 
     @Override
@@ -114,7 +92,7 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
 
     @Override
     public Collection<ProcessDefinitionInfoCacheObject> getAll() {
-        return cache.values();
+        return cache.getAll();
     }
 
     @Override
@@ -126,10 +104,8 @@ public class ProcessDefinitionInfoCache implements DeploymentCache<ProcessDefini
         ProcessDefinitionInfoEntityManager infoEntityManager = CommandContextUtil.getProcessDefinitionInfoEntityManager(commandContext);
         ObjectMapper objectMapper = CommandContextUtil.getProcessEngineConfiguration(commandContext).getObjectMapper();
 
-        ProcessDefinitionInfoCacheObject cacheObject = null;
-        if (cache.containsKey(processDefinitionId)) {
-            cacheObject = cache.get(processDefinitionId);
-        } else {
+        ProcessDefinitionInfoCacheObject cacheObject = cache.get(processDefinitionId);
+        if (cacheObject == null) {
             cacheObject = new ProcessDefinitionInfoCacheObject();
             cacheObject.setRevision(0);
             cacheObject.setInfoNode(objectMapper.createObjectNode());
@@ -15,6 +15,7 @@ package org.flowable.engine.impl.persistence.entity;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.bpmn.model.FlowElement;
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
@@ -59,6 +60,13 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+    /**
+     * Passes the process instances matching the query to the given consumer in chunks, ordered by id, ignoring the order and paging of the query.
+     * Only one chunk of process instances is fetched at a time, so this should be used instead of {@link #findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl)}
+     * for internal operations on a potentially large amount of process instances.
+     */
+    void findProcessInstanceByQueryCriteriaInChunks(ProcessInstanceQueryImpl executionQuery, Consumer<List<ProcessInstance>> chunkConsumer);
+
     List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
     Collection<ExecutionEntity> findInactiveExecutionsByProcessInstanceId(String processInstanceId);
@@ -106,6 +114,8 @@ public interface ExecutionEntityManager extends EntityManager<ExecutionEntity> {
 
     void updateProcessInstanceLockTime(String processInstanceId);
 
+    void lockProcessInstanceRow(String processInstanceId);
+
     void clearProcessInstanceLockTime(String processInstanceId);
 
 }
\ No newline at end of file
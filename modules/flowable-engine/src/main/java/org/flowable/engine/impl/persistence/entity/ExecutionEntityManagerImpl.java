@@ -22,6 +22,7 @@ import java.util.GregorianCalendar;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.bpmn.model.BoundaryEvent;
 import org.flowable.bpmn.model.CaseServiceTask;
@@ -145,6 +146,11 @@ public class ExecutionEntityManagerImpl
         return dataManager.findProcessInstanceByQueryCriteria(executionQuery);
     }
 
+    @Override
+    public void findProcessInstanceByQueryCriteriaInChunks(ProcessInstanceQueryImpl executionQuery, Consumer<List<ProcessInstance>> chunkConsumer) {
+        dataManager.findProcessInstanceByQueryCriteriaInChunks(executionQuery, chunkConsumer);
+    }
+
     @Override
     public ExecutionEntity findByRootProcessInstanceId(String rootProcessInstanceId) {
         List<ExecutionEntity> executions = dataManager.findExecutionsByRootProcessInstanceId(rootProcessInstanceId);
@@ -418,11 +424,11 @@ public class ExecutionEntityManagerImpl
 
     @Override
     public void deleteProcessInstancesByProcessDefinition(String processDefinitionId, String deleteReason, boolean cascade) {
-        List<String> processInstanceIds = dataManager.findProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
-
-        for (String processInstanceId : processInstanceIds) {
-            deleteProcessInstanceCascade(findById(processInstanceId), deleteReason, cascade);
-        }
+        dataManager.findProcessInstanceIdsByProcessDefinitionIdInChunks(processDefinitionId, processInstanceIds -> {
+            for (String processInstanceId : processInstanceIds) {
+                deleteProcessInstanceCascade(findById(processInstanceId), deleteReason, cascade);
+            }
+        });
 
         if (cascade) {
             getHistoryManager().recordDeleteHistoricProcessInstancesByProcessDefinitionId(processDefinitionId);
@@ -892,8 +898,9 @@ public class ExecutionEntityManagerImpl
                 }
                 
                 // First byte arrays that reference variable, then variables in bulk
+                // (through the variable service, which also releases values kept in the large variable value store)
                 for (VariableByteArrayRef variableByteArrayRef : variableByteArrayRefs) {
-                    getByteArrayEntityManager().deleteByteArrayById(variableByteArrayRef.getId());
+                    CommandContextUtil.getVariableServiceConfiguration(commandContext).getByteArrayEntityManager().deleteByteArrayById(variableByteArrayRef.getId());
                 }
                 
                 CommandContextUtil.getVariableService(commandContext).deleteVariablesByExecutionId(executionEntity.getId());
@@ -980,6 +987,11 @@ public class ExecutionEntityManagerImpl
         dataManager.updateProcessInstanceLockTime(processInstanceId, lockDate, expirationTime);
     }
 
+    @Override
+    public void lockProcessInstanceRow(String processInstanceId) {
+        dataManager.lockProcessInstanceRow(processInstanceId, getClock().getCurrentTime());
+    }
+
     @Override
     public void clearProcessInstanceLockTime(String processInstanceId) {
         dataManager.clearProcessInstanceLockTime(processInstanceId);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +31,10 @@ public interface HistoricActivityInstanceEntityManager extends EntityManager<His
 
     List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByProcessInstanceId(String processInstanceId);
 
+    List<HistoricActivityInstanceEntity> findHistoricActivityInstancesByIds(Collection<String> ids);
+
+    List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByExecutionIds(Collection<String> executionIds);
+
     long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
 
     List<HistoricActivityInstance> findHistoricActivityInstancesByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
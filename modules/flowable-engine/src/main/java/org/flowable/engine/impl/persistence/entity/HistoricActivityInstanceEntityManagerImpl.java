@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -50,6 +51,16 @@ public class HistoricActivityInstanceEntityManagerImpl
         return dataManager.findUnfinishedHistoricActivityInstancesByProcessInstanceId(processInstanceId);
     }
 
+    @Override
+    public List<HistoricActivityInstanceEntity> findHistoricActivityInstancesByIds(Collection<String> ids) {
+        return dataManager.findHistoricActivityInstancesByIds(ids);
+    }
+
+    @Override
+    public List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByExecutionIds(Collection<String> executionIds) {
+        return dataManager.findUnfinishedHistoricActivityInstancesByExecutionIds(executionIds);
+    }
+
     @Override
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
         if (getHistoryManager().isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -41,6 +42,8 @@ public interface HistoricProcessInstanceEntityManager extends EntityManager<Hist
     
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
     
+    List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> processInstanceIds);
+    
     long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap);
     
     void deleteHistoricProcessInstances(HistoricProcessInstanceQueryImpl historicProcessInstanceQuery);
@@ -13,6 +13,7 @@
 
 package org.flowable.engine.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -81,6 +82,11 @@ public class HistoricProcessInstanceEntityManagerImpl
         return dataManager.findHistoricProcessInstanceIdsByProcessDefinitionId(processDefinitionId);
     }
 
+    @Override
+    public List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        return dataManager.findHistoricProcessInstancesByIds(processInstanceIds);
+    }
+
     @Override
     public long findHistoricProcessInstanceCountByNativeQuery(Map<String, Object> parameterMap) {
         return dataManager.findHistoricProcessInstanceCountByNativeQuery(parameterMap);
@@ -16,6 +16,7 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.engine.impl.ExecutionQueryImpl;
@@ -45,6 +46,11 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<ProcessInstance> findProcessInstanceByQueryCriteria(ProcessInstanceQueryImpl executionQuery);
 
+    /**
+     * Passes the process instances matching the query to the given consumer in chunks, ordered by id, ignoring the order and paging of the query.
+     */
+    void findProcessInstanceByQueryCriteriaInChunks(ProcessInstanceQueryImpl executionQuery, Consumer<List<ProcessInstance>> chunkConsumer);
+
     List<ExecutionEntity> findExecutionsByRootProcessInstanceId(String rootProcessInstanceId);
 
     List<ExecutionEntity> findExecutionsByProcessInstanceId(String processInstanceId);
@@ -57,6 +63,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     List<String> findProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
 
+    void findProcessInstanceIdsByProcessDefinitionIdInChunks(String processDefinitionId, Consumer<List<String>> chunkConsumer);
+
     List<Execution> findExecutionsByNativeQuery(Map<String, Object> parameterMap);
 
     List<ProcessInstance> findProcessInstanceByNativeQuery(Map<String, Object> parameterMap);
@@ -67,6 +75,8 @@ public interface ExecutionDataManager extends DataManager<ExecutionEntity> {
 
     void updateProcessInstanceLockTime(String processInstanceId, Date lockDate, Date expirationTime);
 
+    void lockProcessInstanceRow(String processInstanceId, Date expirationTime);
+
     void updateAllExecutionRelatedEntityCountFlags(boolean newValue);
 
     void clearProcessInstanceLockTime(String processInstanceId);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -31,6 +32,10 @@ public interface HistoricActivityInstanceDataManager extends DataManager<Histori
 
     List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByProcessInstanceId(String processInstanceId);
 
+    List<HistoricActivityInstanceEntity> findHistoricActivityInstancesByIds(Collection<String> ids);
+
+    List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByExecutionIds(Collection<String> executionIds);
+
     void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId);
 
     long findHistoricActivityInstanceCountByQueryCriteria(HistoricActivityInstanceQueryImpl historicActivityInstanceQuery);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -28,6 +29,8 @@ public interface HistoricProcessInstanceDataManager extends DataManager<Historic
 
     HistoricProcessInstanceEntity create(ExecutionEntity processInstanceExecutionEntity);
 
+    List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> processInstanceIds);
+
     List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId);
 
     List<HistoricProcessInstance> findHistoricProcessInstancesBySuperProcessInstanceId(String superProcessInstanceId);
@@ -18,8 +18,11 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.db.SingleCachedEntityMatcher;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.engine.impl.ExecutionQueryImpl;
@@ -221,6 +224,13 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         return getDbSqlSession().selectListNoCacheLoadAndStore("selectProcessInstanceIdsByProcessDefinitionId", processDefinitionId);
     }
 
+    @Override
+    public void findProcessInstanceIdsByProcessDefinitionIdInChunks(String processDefinitionId, Consumer<List<String>> chunkConsumer) {
+        ListQueryParameterObject parameter = new ListQueryParameterObject();
+        parameter.setParameter(processDefinitionId);
+        forEachChunk("selectProcessInstanceIdsChunkByProcessDefinitionId", parameter, DEFAULT_CHUNK_SIZE, false, Function.<String>identity(), chunkConsumer);
+    }
+
     @Override
     public long findExecutionCountByQueryCriteria(ExecutionQueryImpl executionQuery) {
         return (Long) getDbSqlSession().selectOne("selectExecutionCountByQueryCriteria", executionQuery);
@@ -255,6 +265,13 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public void findProcessInstanceByQueryCriteriaInChunks(ProcessInstanceQueryImpl executionQuery, Consumer<List<ProcessInstance>> chunkConsumer) {
+        // False -> executions should not be cached if using executionTreeFetching
+        boolean useCache = !performanceSettings.isEnableEagerExecutionTreeFetching();
+        forEachChunk("selectProcessInstanceByQueryCriteria", executionQuery, DEFAULT_CHUNK_SIZE, useCache, ProcessInstance::getId, chunkConsumer);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<ProcessInstance> findProcessInstanceAndVariablesByQueryCriteria(ProcessInstanceQueryImpl executionQuery) {
@@ -329,6 +346,19 @@ public class MybatisExecutionDataManager extends AbstractProcessDataManager<Exec
         }
     }
 
+    @Override
+    public void lockProcessInstanceRow(String processInstanceId, Date expirationTime) {
+        HashMap<String, Object> params = new HashMap<>();
+        params.put("id", processInstanceId);
+        params.put("expirationTime", expirationTime);
+
+        // Fails immediately when the row is locked by another transaction
+        Object lockedProcessInstanceId = getDbSqlSession().selectOne("selectProcessInstanceForUpdateNoWait", params);
+        if (lockedProcessInstanceId == null) {
+            throw new FlowableOptimisticLockingException("Could not lock process instance");
+        }
+    }
+
     @Override
     public void updateAllExecutionRelatedEntityCountFlags(boolean newValue) {
         getDbSqlSession().update("updateExecutionRelatedEntityCountEnabled", newValue);
@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -72,6 +73,16 @@ public class MybatisHistoricActivityInstanceDataManager extends AbstractProcessD
         return getList("selectUnfinishedHistoricActivityInstanceByProcessInstanceId", params, unfinishedHistoricActivityInstanceMatcher, true);
     }
 
+    @Override
+    public List<HistoricActivityInstanceEntity> findHistoricActivityInstancesByIds(Collection<String> ids) {
+        return getListInChunks("selectHistoricActivityInstancesByIds", ids, chunk -> chunk);
+    }
+
+    @Override
+    public List<HistoricActivityInstanceEntity> findUnfinishedHistoricActivityInstancesByExecutionIds(Collection<String> executionIds) {
+        return getListInChunks("selectUnfinishedHistoricActivityInstancesByExecutionIds", executionIds, chunk -> chunk);
+    }
+
     @Override
     public void deleteHistoricActivityInstancesByProcessInstanceId(String historicProcessInstanceId) {
         getDbSqlSession().delete("deleteHistoricActivityInstancesByProcessInstanceId", historicProcessInstanceId, HistoricActivityInstanceEntityImpl.class);
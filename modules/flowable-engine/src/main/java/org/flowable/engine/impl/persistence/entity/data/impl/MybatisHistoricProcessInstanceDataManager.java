@@ -12,6 +12,7 @@
  */
 package org.flowable.engine.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -49,6 +50,11 @@ public class MybatisHistoricProcessInstanceDataManager extends AbstractProcessDa
         return new HistoricProcessInstanceEntityImpl(processInstanceExecutionEntity);
     }
 
+    @Override
+    public List<HistoricProcessInstanceEntity> findHistoricProcessInstancesByIds(Collection<String> processInstanceIds) {
+        return getListInChunks("selectHistoricProcessInstancesByIds", processInstanceIds, chunk -> chunk);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<String> findHistoricProcessInstanceIdsByProcessDefinitionId(String processDefinitionId) {
@@ -12,6 +12,8 @@
  */
 package org.flowable.engine.impl.util;
 
+import java.util.List;
+
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.engine.impl.event.EventHandler;
 import org.flowable.engine.impl.jobexecutor.ProcessEventJobHandler;
@@ -46,6 +48,14 @@ public class EventSubscriptionUtil {
     }
 
     protected static void scheduleEventAsync(EventSubscriptionEntity eventSubscriptionEntity, Object payload) {
+        CommandContextUtil.getJobService().scheduleAsyncJob(createAsyncEventJob(eventSubscriptionEntity, payload));
+    }
+
+    /**
+     * Creates, but does not schedule, the job that handles the event asynchronously.
+     * This allows callers that deliver an event to many subscriptions to schedule all jobs at once with {@link JobService#scheduleAsyncJobs(List)}.
+     */
+    public static JobEntity createAsyncEventJob(EventSubscriptionEntity eventSubscriptionEntity, Object payload) {
         JobService jobService = CommandContextUtil.getJobService();
         JobEntity message = jobService.createJob();
         message.setJobType(JobEntity.JOB_TYPE_MESSAGE);
@@ -59,6 +69,6 @@ public class EventSubscriptionUtil {
         // message.setEventPayload(payload);
         // }
 
-        jobService.scheduleAsyncJob(message);
+        return message;
     }
 }
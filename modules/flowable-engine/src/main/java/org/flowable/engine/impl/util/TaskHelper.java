@@ -356,7 +356,7 @@ public class TaskHelper {
             }
             
             for (VariableByteArrayRef variableByteArrayRef : variableByteArrayRefs) {
-                CommandContextUtil.getByteArrayEntityManager(commandContext).deleteByteArrayById(variableByteArrayRef.getId());
+                CommandContextUtil.getVariableServiceConfiguration(commandContext).getByteArrayEntityManager().deleteByteArrayById(variableByteArrayRef.getId());
             }
             
             if (!taskVariables.isEmpty()) {
@@ -551,6 +551,47 @@ public class HistoricTaskAndVariablesQueryTest extends PluggableFlowableTestCase
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/history/HistoricTaskAndVariablesQueryTest.testQuery.bpmn20.xml")
+    public void testQueryWithVariablesInSeparateQuery() {
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            Map<String, Object> startMap = new HashMap<>();
+            startMap.put("processVar", true);
+            runtimeService.startProcessInstanceByKey("oneTaskProcess", startMap);
+            String taskId = taskService.createTaskQuery().taskAssignee("kermit").singleResult().getId();
+            taskService.setVariableLocal(taskId, "localVar", "test");
+            waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+            HistoricTaskInstance task = historyService.createHistoricTaskInstanceQuery().includeTaskLocalVariables().fetchVariablesInSeparateQuery()
+                    .taskAssignee("gonzo").singleResult();
+            Map<String, Object> variableMap = task.getTaskLocalVariables();
+            assertEquals(2, variableMap.size());
+            assertEquals(0, task.getProcessVariables().size());
+            assertEquals("someVariable", variableMap.get("testVar"));
+            assertEquals(123, variableMap.get("testVar2"));
+
+            task = historyService.createHistoricTaskInstanceQuery().includeTaskLocalVariables().includeProcessVariables().fetchVariablesInSeparateQuery()
+                    .taskAssignee("kermit").singleResult();
+            assertEquals(1, task.getProcessVariables().size());
+            assertEquals(1, task.getTaskLocalVariables().size());
+            assertEquals(true, task.getProcessVariables().get("processVar"));
+            assertEquals("test", task.getTaskLocalVariables().get("localVar"));
+
+            // The variables of all tasks of the page are fetched together, the results match the join based query
+            List<HistoricTaskInstance> tasks = historyService.createHistoricTaskInstanceQuery().includeTaskLocalVariables().includeProcessVariables()
+                    .fetchVariablesInSeparateQuery().orderByTaskPriority().asc().orderByTaskId().asc().listPage(0, 10);
+            List<HistoricTaskInstance> joinedTasks = historyService.createHistoricTaskInstanceQuery().includeTaskLocalVariables().includeProcessVariables()
+                    .orderByTaskPriority().asc().orderByTaskId().asc().listPage(0, 10);
+            assertEquals(4, tasks.size());
+            assertEquals(joinedTasks.size(), tasks.size());
+            for (int i = 0; i < tasks.size(); i++) {
+                assertEquals(joinedTasks.get(i).getId(), tasks.get(i).getId());
+                assertEquals(joinedTasks.get(i).getTaskLocalVariables().keySet(), tasks.get(i).getTaskLocalVariables().keySet());
+                assertEquals(joinedTasks.get(i).getProcessVariables().keySet(), tasks.get(i).getProcessVariables().keySet());
+            }
+        }
+    }
+
     @Test
     public void testQueryWithPagingVariablesAndIdentityLinks() {
         if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
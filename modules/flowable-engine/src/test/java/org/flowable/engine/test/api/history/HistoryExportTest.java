@@ -0,0 +1,266 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.history.HistoryExportResult;
+import org.flowable.common.engine.api.history.HistoryExportSink;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.history.export.CsvHistoryExportSink;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class HistoryExportTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testExportAllTables() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("var", "value1"));
+        ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("var", "value2"));
+        Task task = taskService.createTaskQuery().processInstanceId(processInstance1.getId()).singleResult();
+        taskService.complete(task.getId());
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 200);
+        moveClockPastWatermarkLag();
+
+        CollectingHistoryExportSink sink = new CollectingHistoryExportSink();
+        HistoryExportResult result = historyService.createHistoryExport().export(sink);
+
+        assertThat(sink.tables).containsExactly("ACT_HI_PROCINST", "ACT_HI_ACTINST", "ACT_HI_TASKINST", "ACT_HI_VARINST");
+        assertThat(sink.finished).isTrue();
+        assertThat(sink.getValues("ACT_HI_PROCINST", "ID_")).containsExactlyInAnyOrder(processInstance1.getId(), processInstance2.getId());
+        assertThat(sink.getValues("ACT_HI_TASKINST", "PROC_INST_ID_")).containsExactlyInAnyOrder(processInstance1.getId(), processInstance2.getId());
+        assertThat(sink.getValues("ACT_HI_VARINST", "TEXT_")).containsExactlyInAnyOrder("value1", "value2");
+
+        // Every row contains all columns, in the order of the header
+        assertThat(sink.rows.get("ACT_HI_PROCINST").get(0).keySet()).containsExactlyElementsOf(sink.columnNames.get("ACT_HI_PROCINST"));
+
+        assertThat(result.getRowCounts().get("ACT_HI_PROCINST")).isEqualTo(2L);
+        assertThat(result.getRowCounts().get("ACT_HI_ACTINST")).isEqualTo((long) sink.rows.get("ACT_HI_ACTINST").size());
+        assertThat(result.getTotalRowCount()).isEqualTo(sink.rows.values().stream().mapToLong(List::size).sum());
+        assertThat(result.getWatermark()).isNotNull();
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testExportInParallelPartitions() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 200);
+        moveClockPastWatermarkLag();
+
+        CollectingHistoryExportSink sink = new CollectingHistoryExportSink();
+        historyService.createHistoryExport()
+                .tables("ACT_HI_PROCINST", "ACT_HI_TASKINST")
+                .partitions(4)
+                .export(sink);
+
+        assertThat(sink.tables).containsExactly("ACT_HI_PROCINST", "ACT_HI_TASKINST");
+        assertThat(sink.getValues("ACT_HI_PROCINST", "ID_")).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+        assertThat(sink.getValues("ACT_HI_TASKINST", "PROC_INST_ID_")).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testIncrementalExport() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        processEngineConfiguration.getClock().setCurrentTime(new Date());
+        ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 200);
+        moveClockPastWatermarkLag();
+
+        HistoryExportResult result = historyService.createHistoryExport()
+                .tables("ACT_HI_PROCINST")
+                .export(new CollectingHistoryExportSink());
+        assertThat(result.getRowCounts().get("ACT_HI_PROCINST")).isEqualTo(1L);
+
+        // The next process instance is started at the current engine time, which is after the watermark
+        ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 200);
+        moveClockPastWatermarkLag();
+
+        CollectingHistoryExportSink sink = new CollectingHistoryExportSink();
+        historyService.createHistoryExport()
+                .tables("ACT_HI_PROCINST")
+                .since(result.getWatermark())
+                .export(sink);
+
+        assertThat(sink.getValues("ACT_HI_PROCINST", "ID_"))
+                .containsExactly(processInstance2.getId())
+                .doesNotContain(processInstance1.getId());
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testCsvExport() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess", "key,with \"quotes\"");
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 200);
+        moveClockPastWatermarkLag();
+
+        StringWriter writer = new StringWriter();
+        historyService.createHistoryExport()
+                .tables("ACT_HI_PROCINST")
+                .export(new CsvHistoryExportSink(writer));
+
+        String[] lines = writer.toString().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).startsWith("TABLE,").contains("ID_", "BUSINESS_KEY_");
+        assertThat(lines[1]).startsWith("ACT_HI_PROCINST,").contains(processInstance.getId(), "\"key,with \"\"quotes\"\"\"");
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testDefaultWatermarkLagsBehindEngineClock() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        Date now = new Date();
+        processEngineConfiguration.getClock().setCurrentTime(now);
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 200);
+
+        // The process instance was changed within the watermark lag, so it is left for the next export
+        CollectingHistoryExportSink sink = new CollectingHistoryExportSink();
+        HistoryExportResult result = historyService.createHistoryExport()
+                .tables("ACT_HI_PROCINST")
+                .export(sink);
+
+        assertThat(result.getWatermark()).isEqualTo(new Date(now.getTime() - processEngineConfiguration.getHistoryExportWatermarkLagInMillis()));
+        assertThat(result.getRowCounts().get("ACT_HI_PROCINST")).isZero();
+        assertThat(sink.rows.get("ACT_HI_PROCINST")).isEmpty();
+
+        // An incremental export never moves the watermark back before its since time
+        result = historyService.createHistoryExport()
+                .tables("ACT_HI_PROCINST")
+                .since(now)
+                .export(new CollectingHistoryExportSink());
+        assertThat(result.getWatermark()).isEqualTo(now);
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testPartitionsCappedToMaximum() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        List<String> processInstanceIds = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            processInstanceIds.add(runtimeService.startProcessInstanceByKey("oneTaskProcess").getId());
+        }
+        waitForHistoryJobExecutorToProcessAllJobs(7000, 200);
+        moveClockPastWatermarkLag();
+
+        int originalMaxPartitions = processEngineConfiguration.getHistoryExportMaxPartitions();
+        processEngineConfiguration.setHistoryExportMaxPartitions(2);
+        try {
+            CollectingHistoryExportSink sink = new CollectingHistoryExportSink();
+            historyService.createHistoryExport()
+                    .tables("ACT_HI_PROCINST")
+                    .partitions(1000)
+                    .export(sink);
+
+            assertThat(sink.getValues("ACT_HI_PROCINST", "ID_")).containsExactlyInAnyOrderElementsOf(processInstanceIds);
+            assertThat(sink.threadNames).hasSizeLessThanOrEqualTo(2);
+
+        } finally {
+            processEngineConfiguration.setHistoryExportMaxPartitions(originalMaxPartitions);
+        }
+    }
+
+    @Test
+    public void testExportUnknownTable() {
+        assertThatThrownBy(() -> historyService.createHistoryExport().tables("ACT_RU_EXECUTION"))
+                .isInstanceOf(FlowableIllegalArgumentException.class);
+    }
+
+    protected void moveClockPastWatermarkLag() {
+        Date currentTime = processEngineConfiguration.getClock().getCurrentTime();
+        processEngineConfiguration.getClock().setCurrentTime(new Date(currentTime.getTime() + processEngineConfiguration.getHistoryExportWatermarkLagInMillis() + 1000L));
+    }
+
+    protected static class CollectingHistoryExportSink implements HistoryExportSink {
+
+        protected List<String> tables = new ArrayList<>();
+        protected Map<String, List<String>> columnNames = new LinkedHashMap<>();
+        protected Map<String, List<Map<String, Object>>> rows = new LinkedHashMap<>();
+        protected Set<String> threadNames = new HashSet<>();
+        protected boolean finished;
+
+        @Override
+        public void startTable(String tableName, List<String> columnNames) {
+            tables.add(tableName);
+            this.columnNames.put(tableName, columnNames);
+            rows.put(tableName, new ArrayList<>());
+        }
+
+        @Override
+        public void writeRow(String tableName, Map<String, Object> row) {
+            rows.get(tableName).add(row);
+            threadNames.add(Thread.currentThread().getName());
+        }
+
+        @Override
+        public void endTable(String tableName) {
+
+        }
+
+        @Override
+        public void finish() {
+            finished = true;
+        }
+
+        protected List<Object> getValues(String tableName, String columnName) {
+            List<Object> values = new ArrayList<>();
+            for (Map<String, Object> row : rows.get(tableName)) {
+                values.add(row.get(columnName));
+            }
+            return values;
+        }
+    }
+
+}
@@ -30,6 +30,7 @@ import org.flowable.bpmn.model.UserTask;
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
 import org.flowable.engine.repository.Model;
 import org.flowable.engine.repository.ProcessDefinition;
@@ -144,6 +145,24 @@ public class RepositoryServiceTest extends PluggableFlowableTestCase {
         repositoryService.deleteDeployment(processDefinition.getDeploymentId(), true);
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testDeleteDeploymentCascadeWithMoreRunningInstancesThanChunkSize() {
+        ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+
+        // The process instances are deleted in chunks, deleting a chunk must not make the next chunk skip process instances
+        int nrOfProcessInstances = AbstractDataManager.DEFAULT_CHUNK_SIZE + 10;
+        for (int i = 0; i < nrOfProcessInstances; i++) {
+            runtimeService.startProcessInstanceById(processDefinition.getId());
+        }
+        assertEquals(nrOfProcessInstances, runtimeService.createProcessInstanceQuery().processDefinitionId(processDefinition.getId()).count());
+
+        repositoryService.deleteDeployment(processDefinition.getDeploymentId(), true);
+
+        assertEquals(0, runtimeService.createProcessInstanceQuery().processDefinitionId(processDefinition.getId()).count());
+        assertEquals(0, taskService.createTaskQuery().processDefinitionId(processDefinition.getId()).count());
+    }
+
     @Test
     public void testFindDeploymentResourceNamesNullDeploymentId() {
         try {
@@ -12,6 +12,9 @@
  */
 package org.flowable.engine.test.api.runtime;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -89,6 +92,73 @@ public class RuntimeVariablesTest extends PluggableFlowableTestCase {
         assertEquals(serializableTypeVar, variables.get(0).getValue());
     }
 
+    @Test
+    @Deployment(resources = {
+            "org/flowable/engine/test/api/runtime/RuntimeVariablesTest.testGetVariablesByExecutionIds.bpmn20.xml"
+    })
+    public void testGetVariablesForExecutions() {
+        ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        ProcessInstance processInstance3 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        org.flowable.task.api.Task task1 = taskService.createTaskQuery().processInstanceId(processInstance1.getId()).singleResult();
+
+        taskService.setVariableLocal(task1.getId(), "taskVar1", "sayHello1");
+        runtimeService.setVariable(processInstance1.getId(), "var1", "value1");
+        runtimeService.setVariable(processInstance1.getId(), "var2", "value2");
+        runtimeService.setVariable(processInstance2.getId(), "var1", "otherValue1");
+
+        Map<String, Map<String, Object>> variables = runtimeService.getVariablesForExecutions(
+                Arrays.asList(processInstance1.getId(), processInstance2.getId(), processInstance3.getId()), null);
+        assertEquals(3, variables.size());
+        assertEquals(2, variables.get(processInstance1.getId()).size());
+        assertEquals("value1", variables.get(processInstance1.getId()).get("var1"));
+        assertEquals("value2", variables.get(processInstance1.getId()).get("var2"));
+        assertEquals(1, variables.get(processInstance2.getId()).size());
+        assertEquals("otherValue1", variables.get(processInstance2.getId()).get("var1"));
+        assertTrue(variables.get(processInstance3.getId()).isEmpty());
+
+        variables = runtimeService.getVariablesForExecutions(Arrays.asList(processInstance1.getId(), processInstance2.getId()),
+                Collections.singletonList("var2"));
+        assertEquals(1, variables.get(processInstance1.getId()).size());
+        assertEquals("value2", variables.get(processInstance1.getId()).get("var2"));
+        assertTrue(variables.get(processInstance2.getId()).isEmpty());
+
+        assertTrue(runtimeService.getVariablesForExecutions(Collections.<String>emptyList(), null).isEmpty());
+    }
+
+    @Test
+    @Deployment(resources = {
+            "org/flowable/engine/test/api/runtime/RuntimeVariablesTest.testGetVariablesByExecutionIds.bpmn20.xml"
+    })
+    public void testGetVariablesForExecutionsWithManyIdsAndNames() {
+        ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        runtimeService.setVariable(processInstance1.getId(), "var1", "value1");
+        runtimeService.setVariable(processInstance1.getId(), "var2500", "value2500");
+        runtimeService.setVariable(processInstance2.getId(), "var1200", "value1200");
+
+        // More ids and names than fit in a single IN clause, the query is executed per chunk of ids and names
+        List<String> executionIds = new ArrayList<>();
+        for (int i = 0; i < 1500; i++) {
+            executionIds.add("unknown" + i);
+        }
+        executionIds.add(processInstance1.getId());
+        executionIds.add(processInstance2.getId());
+        List<String> variableNames = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            variableNames.add("var" + (i + 1));
+        }
+
+        Map<String, Map<String, Object>> variables = runtimeService.getVariablesForExecutions(executionIds, variableNames);
+        assertEquals(executionIds.size(), variables.size());
+        assertEquals(2, variables.get(processInstance1.getId()).size());
+        assertEquals("value1", variables.get(processInstance1.getId()).get("var1"));
+        assertEquals("value2500", variables.get(processInstance1.getId()).get("var2500"));
+        assertEquals(1, variables.get(processInstance2.getId()).size());
+        assertEquals("value1200", variables.get(processInstance2.getId()).get("var1200"));
+        assertTrue(variables.get("unknown0").isEmpty());
+    }
+
     private void checkVariable(String executionId, String name, String value, List<VariableInstance> variables) {
         for (VariableInstance variable : variables) {
             if (executionId.equals(variable.getExecutionId())) {
@@ -28,6 +28,7 @@ import java.util.Optional;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEntityEvent;
 import org.flowable.common.engine.api.delegate.event.FlowableEngineEventType;
 import org.flowable.common.engine.api.delegate.event.FlowableEvent;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.delegate.event.FlowableActivityEvent;
 import org.flowable.engine.delegate.event.FlowableMessageEvent;
@@ -2696,4 +2697,30 @@ public class ProcessInstanceMigrationTest extends AbstractProcessInstanceMigrati
 
         assertProcessEnded(processInstanceToMigrate.getId());
     }
+
+    @Test
+    public void testMigrateProcessInstancesOfProcessDefinitionInChunks() {
+        ProcessDefinition version1ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/one-task-simple-process.bpmn20.xml");
+
+        // The process instances are migrated in chunks, migrating a chunk must not make the next chunk skip process instances
+        int nrOfProcessInstances = AbstractDataManager.DEFAULT_CHUNK_SIZE + 10;
+        for (int i = 0; i < nrOfProcessInstances; i++) {
+            runtimeService.startProcessInstanceById(version1ProcessDef.getId());
+        }
+
+        ProcessDefinition version2ProcessDef = deployProcessDefinition("my deploy", "org/flowable/engine/test/api/runtime/migration/two-tasks-simple-process.bpmn20.xml");
+
+        ProcessInstanceMigrationBuilder processInstanceMigrationBuilder = processMigrationService.createProcessInstanceMigrationBuilder()
+            .migrateToProcessDefinition(version2ProcessDef.getId());
+        ProcessInstanceMigrationValidationResult validationResult = processInstanceMigrationBuilder.validateMigrationOfProcessInstances(version1ProcessDef.getId());
+        assertThat(validationResult.isMigrationValid()).isTrue();
+
+        processInstanceMigrationBuilder.migrateProcessInstances(version1ProcessDef.getId());
+
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version1ProcessDef.getId()).count()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().processDefinitionId(version2ProcessDef.getId()).count()).isEqualTo(nrOfProcessInstances);
+        assertThat(taskService.createTaskQuery().processDefinitionId(version2ProcessDef.getId()).taskDefinitionKey("userTask1Id").count())
+            .isEqualTo(nrOfProcessInstances);
+    }
+
 }
@@ -231,6 +231,51 @@ public class TaskAndVariablesQueryTest extends PluggableFlowableTestCase {
         assertEquals(0, tasks.size());
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/task/TaskAndVariablesQueryTest.testQuery.bpmn20.xml")
+    public void testQueryWithVariablesInSeparateQuery() {
+        Map<String, Object> startMap = new HashMap<>();
+        startMap.put("processVar", true);
+        startMap.put("binaryVariable", "This is a binary process variable".getBytes());
+        runtimeService.startProcessInstanceByKey("oneTaskProcess", startMap);
+
+        org.flowable.task.api.Task processTask = taskService.createTaskQuery().taskAssignee("kermit").singleResult();
+        taskService.setVariableLocal(processTask.getId(), "localVar", "test");
+
+        org.flowable.task.api.Task task = taskService.createTaskQuery().includeTaskLocalVariables().fetchVariablesInSeparateQuery()
+                .taskAssignee("gonzo").singleResult();
+        Map<String, Object> variableMap = task.getTaskLocalVariables();
+        assertEquals(3, variableMap.size());
+        assertEquals(0, task.getProcessVariables().size());
+        assertEquals("someVariable", variableMap.get("testVar"));
+        assertEquals(123, variableMap.get("testVar2"));
+        assertEquals("This is a binary variable", new String((byte[]) variableMap.get("testVarBinary")));
+
+        task = taskService.createTaskQuery().includeTaskLocalVariables().includeProcessVariables().fetchVariablesInSeparateQuery()
+                .taskAssignee("kermit").singleResult();
+        assertEquals(2, task.getProcessVariables().size());
+        assertEquals(1, task.getTaskLocalVariables().size());
+        assertEquals("test", task.getTaskLocalVariables().get("localVar"));
+        assertEquals(true, task.getProcessVariables().get("processVar"));
+        assertEquals("This is a binary process variable", new String((byte[]) task.getProcessVariables().get("binaryVariable")));
+
+        // The variables of all tasks of the page are fetched together, the results match the join based query
+        List<org.flowable.task.api.Task> tasks = taskService.createTaskQuery().includeTaskLocalVariables().includeProcessVariables()
+                .fetchVariablesInSeparateQuery().orderByTaskPriority().asc().orderByTaskId().asc().listPage(0, 10);
+        List<org.flowable.task.api.Task> joinedTasks = taskService.createTaskQuery().includeTaskLocalVariables().includeProcessVariables()
+                .orderByTaskPriority().asc().orderByTaskId().asc().listPage(0, 10);
+        assertEquals(4, tasks.size());
+        assertEquals(joinedTasks.size(), tasks.size());
+        for (int i = 0; i < tasks.size(); i++) {
+            assertEquals(joinedTasks.get(i).getId(), tasks.get(i).getId());
+            assertEquals(joinedTasks.get(i).getTaskLocalVariables().keySet(), tasks.get(i).getTaskLocalVariables().keySet());
+            assertEquals(joinedTasks.get(i).getProcessVariables().keySet(), tasks.get(i).getProcessVariables().keySet());
+        }
+
+        // An empty page does not need a variable query
+        assertEquals(0, taskService.createTaskQuery().includeProcessVariables().fetchVariablesInSeparateQuery().listPage(10, 10).size());
+    }
+
     // Unit test for https://activiti.atlassian.net/browse/ACT-4152
     @Test
     public void testQueryWithIncludeTaskVariableAndTaskCategory() {
@@ -0,0 +1,259 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.api.variables;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayRef;
+import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
+import org.flowable.variable.service.impl.storage.FileSystemLargeVariableValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests keeping large variable values in a {@link FileSystemLargeVariableValueStore}.
+ */
+public class LargeVariableValueStoreTest extends CustomConfigurationFlowableTestCase {
+
+    protected static final int THRESHOLD = 1024;
+
+    protected Path rootFolder;
+
+    public LargeVariableValueStoreTest() {
+        super(LargeVariableValueStoreTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        try {
+            rootFolder = Files.createTempDirectory("flowable-large-variable-values");
+        } catch (IOException e) {
+            throw new FlowableException("Could not create folder for the large variable values", e);
+        }
+        processEngineConfiguration.setLargeVariableValueStore(new FileSystemLargeVariableValueStore(rootFolder.toFile()));
+        processEngineConfiguration.setLargeVariableValueThreshold(THRESHOLD);
+    }
+
+    @AfterEach
+    protected void deleteRootFolder() throws IOException {
+        if (rootFolder != null) {
+            try (Stream<Path> paths = Files.walk(rootFolder)) {
+                for (Path path : paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testStoreLargeValue() {
+        byte[] largeValue = createValue(THRESHOLD);
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("largeValue", largeValue)
+                .variable("smallValue", createValue(10))
+                .start();
+
+        assertThat(storedValues()).hasSize(HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration) ? 2 : 1);
+        assertThat((byte[]) runtimeService.getVariable(processInstance.getId(), "largeValue")).isEqualTo(largeValue);
+        assertThat((byte[]) runtimeService.getVariable(processInstance.getId(), "smallValue")).isEqualTo(createValue(10));
+
+        // Only the reference to the stored value is kept in the database
+        managementService.executeCommand(commandContext -> {
+            VariableInstanceEntity variable = CommandContextUtil.getVariableService(commandContext)
+                    .findVariableInstanceByExecutionAndName(processInstance.getId(), "largeValue");
+            assertThat(variable.getByteArrayRef().isStoredValue()).isTrue();
+            assertThat(variable.getByteArrayRef().getEntity().getName()).startsWith(VariableByteArrayRef.STORED_VALUE_NAME_PREFIX);
+            assertThat(variable.getByteArrayRef().getEntity().getBytes()).isNull();
+
+            VariableInstanceEntity smallVariable = CommandContextUtil.getVariableService(commandContext)
+                    .findVariableInstanceByExecutionAndName(processInstance.getId(), "smallValue");
+            assertThat(smallVariable.getByteArrayRef().isStoredValue()).isFalse();
+            return null;
+        });
+
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            assertThat((byte[]) historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId())
+                    .variableName("largeValue").singleResult().getValue()).isEqualTo(largeValue);
+        }
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            assertThat(storedValues()).hasSize(1);
+            historyService.deleteHistoricProcessInstance(processInstance.getId());
+        }
+        assertThat(storedValues()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReleaseValueOnUpdate() {
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("largeValue", createValue(THRESHOLD))
+                .start();
+        List<Path> originalStoredValues = storedValues();
+
+        byte[] updatedValue = createValue(2 * THRESHOLD);
+        runtimeService.setVariable(processInstance.getId(), "largeValue", updatedValue);
+
+        // The replaced values are deleted after the commit
+        assertThat(storedValues()).hasSameSizeAs(originalStoredValues).doesNotContainAnyElementsOf(originalStoredValues);
+        assertThat((byte[]) runtimeService.getVariable(processInstance.getId(), "largeValue")).isEqualTo(updatedValue);
+
+        // A value that is no longer large is kept in the database again
+        runtimeService.setVariable(processInstance.getId(), "largeValue", createValue(10));
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            assertThat(storedValues()).isEmpty();
+        }
+        assertThat((byte[]) runtimeService.getVariable(processInstance.getId(), "largeValue")).isEqualTo(createValue(10));
+
+        runtimeService.removeVariable(processInstance.getId(), "largeValue");
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            historyService.deleteHistoricProcessInstance(processInstance.getId());
+        }
+        assertThat(storedValues()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testDeleteStoredValueOnRollback() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> {
+            runtimeService.setVariable(processInstance.getId(), "largeValue", createValue(THRESHOLD));
+            throw new FlowableException("rollback");
+        })).isInstanceOf(FlowableException.class).hasMessage("rollback");
+
+        // The value stored by the rolled back transaction is deleted again
+        assertThat(storedValues()).isEmpty();
+        assertThat(runtimeService.hasVariable(processInstance.getId(), "largeValue")).isFalse();
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            historyService.deleteHistoricProcessInstance(processInstance.getId());
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testDeleteStoredValuesOfTaskVariables() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        String taskId = taskService.createTaskQuery().processInstanceId(processInstance.getId()).singleResult().getId();
+        taskService.setVariableLocal(taskId, "largeValue", createValue(THRESHOLD));
+        assertThat(storedValues()).isNotEmpty();
+
+        // The task variables are deleted in bulk when the task is completed
+        taskService.complete(taskId);
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            assertThat(storedValues()).hasSize(1);
+            historyService.deleteHistoricProcessInstance(processInstance.getId());
+        }
+        assertThat(storedValues()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testDeleteStoredValuesOfHistoricVariablesForNonExistingProcessInstances() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY, processEngineConfiguration)) {
+            return;
+        }
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("largeValue", createValue(THRESHOLD))
+                .start();
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        assertThat(storedValues()).hasSize(1);
+
+        // Only the historic process instance is deleted, the related data is deleted in bulk afterwards
+        historyService.createHistoricProcessInstanceQuery().processInstanceId(processInstance.getId()).delete();
+        historyService.deleteTaskAndActivityDataOfRemovedHistoricProcessInstances();
+        assertThat(storedValues()).hasSize(1);
+
+        historyService.deleteRelatedDataOfRemovedHistoricProcessInstances();
+
+        assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId()).count()).isZero();
+        assertThat(storedValues()).isEmpty();
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml")
+    public void testReadSerializableValuesFromStore() {
+        char[] chars = new char[10 * THRESHOLD];
+        Arrays.fill(chars, 'a');
+        String longString = new String(chars);
+        List<String> serializableValue = Collections.singletonList(longString);
+
+        ProcessInstance processInstance = runtimeService.createProcessInstanceBuilder()
+                .processDefinitionKey("oneTaskProcess")
+                .variable("longString", longString)
+                .variable("serializable", serializableValue)
+                .start();
+        assertThat(storedValues()).isNotEmpty();
+
+        assertThat(runtimeService.getVariable(processInstance.getId(), "longString")).isEqualTo(longString);
+        assertThat(runtimeService.getVariable(processInstance.getId(), "serializable")).isEqualTo(serializableValue);
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            // Historic values are deserialized while they are streamed from the store
+            assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId())
+                    .variableName("longString").singleResult().getValue()).isEqualTo(longString);
+            assertThat(historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstance.getId())
+                    .variableName("serializable").singleResult().getValue()).isEqualTo(serializableValue);
+        }
+
+        runtimeService.deleteProcessInstance(processInstance.getId(), "test");
+        if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            historyService.deleteHistoricProcessInstance(processInstance.getId());
+        }
+        assertThat(storedValues()).isEmpty();
+    }
+
+    protected byte[] createValue(int length) {
+        byte[] value = new byte[length];
+        for (int i = 0; i < length; i++) {
+            value[i] = (byte) i;
+        }
+        return value;
+    }
+
+    protected List<Path> storedValues() {
+        try (Stream<Path> paths = Files.walk(rootFolder)) {
+            return paths.filter(Files::isRegularFile).collect(Collectors.toList());
+        } catch (IOException e) {
+            throw new FlowableException("Could not list the stored values in " + rootFolder, e);
+        }
+    }
+
+}
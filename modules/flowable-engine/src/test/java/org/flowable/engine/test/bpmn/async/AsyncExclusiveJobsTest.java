@@ -12,11 +12,28 @@
  */
 package org.flowable.engine.test.bpmn.async;
 
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.engine.history.HistoricActivityInstance;
 import org.flowable.engine.impl.test.HistoryTestHelper;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.ExclusiveJobLockStrategy;
+import org.flowable.job.service.InternalJobManager;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.ExecuteAsyncRunnable;
+import org.flowable.job.service.impl.asyncexecutor.RowLockExclusiveJobLockStrategy;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
 
@@ -55,4 +72,214 @@ public class AsyncExclusiveJobsTest extends PluggableFlowableTestCase {
 
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncExclusiveJobsTest.testExclusiveJobs.bpmn20.xml")
+    @DisabledIfSystemProperty(named = "database", matches = "cockroachdb")
+    public void testExclusiveJobsWithAffinity() {
+        DefaultAsyncJobExecutor asyncExecutor = (DefaultAsyncJobExecutor) processEngineConfiguration.getAsyncExecutor();
+        asyncExecutor.setExclusiveJobAffinityEnabled(true);
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testExclusiveJobs");
+            waitForJobExecutorToProcessAllJobs(20000L, 500L);
+
+            assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+            assertEquals(0, managementService.createDeadLetterJobQuery().processInstanceId(processInstance.getId()).count());
+            assertEquals(0, asyncExecutor.getActiveExclusiveJobLaneCount());
+
+            if (HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+                waitForHistoryJobExecutorToProcessAllJobs(7000, 100);
+
+                HistoricActivityInstance scriptTaskAInstance = historyService.createHistoricActivityInstanceQuery().activityId("scriptTaskA").singleResult();
+                HistoricActivityInstance scriptTaskBInstance = historyService.createHistoricActivityInstanceQuery().activityId("scriptTaskB").singleResult();
+                assertTrue(Math.abs(scriptTaskBInstance.getEndTime().getTime() - scriptTaskAInstance.getEndTime().getTime()) > 6000);
+            }
+
+        } finally {
+            asyncExecutor.setExclusiveJobAffinityEnabled(false);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncExclusiveJobsTest.testExclusiveJobs.bpmn20.xml")
+    @DisabledIfSystemProperty(named = "database", matches = "cockroachdb")
+    public void testExclusiveJobsLockedInJobTransaction() {
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        ExclusiveJobLockStrategy originalExclusiveJobLockStrategy = jobServiceConfiguration.getExclusiveJobLockStrategy();
+        AtomicInteger lockCount = new AtomicInteger();
+        jobServiceConfiguration.setExclusiveJobLockStrategy(new RowLockExclusiveJobLockStrategy() {
+
+            @Override
+            public void lockJobScope(InternalJobManager internalJobManager, Job job) {
+                lockCount.incrementAndGet();
+                // The row lock is only available on some databases, the job transaction is the same on the others
+                if (isSupportedDatabaseType(processEngineConfiguration.getDatabaseType())) {
+                    super.lockJobScope(internalJobManager, job);
+                }
+            }
+        });
+
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testExclusiveJobs");
+            waitForJobExecutorToProcessAllJobs(20000L, 500L);
+
+            assertEquals(0, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+            assertEquals(0, managementService.createDeadLetterJobQuery().processInstanceId(processInstance.getId()).count());
+            assertTrue(lockCount.get() >= 2);
+
+        } finally {
+            jobServiceConfiguration.setExclusiveJobLockStrategy(originalExclusiveJobLockStrategy);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncExclusiveJobsTest.testExclusiveJobs.bpmn20.xml")
+    public void testExclusiveJobUnacquiredWhenRowIsLocked() throws Exception {
+        // The row lock is only available on PostgreSQL and Oracle
+        if (!RowLockExclusiveJobLockStrategy.isSupportedDatabaseType(processEngineConfiguration.getDatabaseType())) {
+            return;
+        }
+
+        JobServiceConfiguration jobServiceConfiguration = processEngineConfiguration.getJobServiceConfiguration();
+        ExclusiveJobLockStrategy originalExclusiveJobLockStrategy = jobServiceConfiguration.getExclusiveJobLockStrategy();
+        jobServiceConfiguration.setExclusiveJobLockStrategy(new RowLockExclusiveJobLockStrategy());
+
+        try {
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testExclusiveJobs");
+            Job job = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertNotNull(job);
+
+            // Another transaction holds the row lock of the process instance, so the select for update nowait fails
+            try (Connection connection = processEngineConfiguration.getDataSource().getConnection()) {
+                connection.setAutoCommit(false);
+                try (PreparedStatement statement = connection.prepareStatement(
+                        "select ID_ from " + processEngineConfiguration.getDatabaseTablePrefix() + "ACT_RU_EXECUTION where ID_ = ? for update")) {
+                    statement.setString(1, processInstance.getId());
+                    statement.executeQuery().close();
+
+                    new ExecuteAsyncRunnable(job, jobServiceConfiguration, jobServiceConfiguration.getJobEntityManager(), null).run();
+
+                } finally {
+                    connection.rollback();
+                }
+            }
+
+            // The job is unacquired (inserted again with a new id) without using a retry and was not executed
+            Job unacquiredJob = managementService.createJobQuery().processInstanceId(processInstance.getId()).singleResult();
+            assertNotNull(unacquiredJob);
+            assertFalse(job.getId().equals(unacquiredJob.getId()));
+            assertEquals(job.getRetries(), unacquiredJob.getRetries());
+            assertNull(((JobEntity) unacquiredJob).getLockOwner());
+            assertNull(((JobEntity) unacquiredJob).getLockExpirationTime());
+            assertNull(unacquiredJob.getExceptionMessage());
+            assertEquals(0, managementService.createDeadLetterJobQuery().processInstanceId(processInstance.getId()).count());
+            assertEquals(1, runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).activityId("servicetask1").count());
+
+        } finally {
+            jobServiceConfiguration.setExclusiveJobLockStrategy(originalExclusiveJobLockStrategy);
+        }
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncExclusiveJobsTest.testExclusiveJobLane.bpmn20.xml")
+    public void testFullExclusiveJobLaneDoesNotRejectJobsOfOtherInstances() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testExclusiveJobLane");
+        ProcessInstance otherProcessInstance = runtimeService.startProcessInstanceByKey("testExclusiveJobLane");
+        List<Job> jobs = managementService.createJobQuery().processInstanceId(processInstance.getId()).list();
+        List<Job> otherJobs = managementService.createJobQuery().processInstanceId(otherProcessInstance.getId()).list();
+        assertEquals(3, jobs.size());
+        assertEquals(3, otherJobs.size());
+
+        LaneRecordingAsyncExecutor asyncExecutor = new LaneRecordingAsyncExecutor(processEngineConfiguration.getJobServiceConfiguration());
+        asyncExecutor.setExclusiveJobLaneCapacity(2);
+
+        // The third job doesn't fit in the lane and is unacquired, without reporting a full job queue
+        for (Job job : jobs) {
+            assertTrue(asyncExecutor.executeAsyncJob(job));
+        }
+        assertTrue(asyncExecutor.executeAsyncJob(otherJobs.get(0)));
+
+        assertEquals(2, asyncExecutor.getActiveExclusiveJobLaneCount());
+        assertEquals(2, asyncExecutor.submittedRunnables.size());
+
+        // The unacquired job is inserted again with a new id
+        List<Job> currentJobs = managementService.createJobQuery().processInstanceId(processInstance.getId()).list();
+        assertEquals(3, currentJobs.size());
+        assertEquals(1, currentJobs.stream().filter(job -> !job.getId().equals(jobs.get(0).getId()) && !job.getId().equals(jobs.get(1).getId())
+                && !job.getId().equals(jobs.get(2).getId())).count());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/async/AsyncExclusiveJobsTest.testExclusiveJobLane.bpmn20.xml")
+    public void testExclusiveJobLaneIsResubmittedAfterMaxJobsPerTurn() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("testExclusiveJobLane");
+        List<Job> jobs = managementService.createJobQuery().processInstanceId(processInstance.getId()).list();
+        assertEquals(3, jobs.size());
+
+        LaneRecordingAsyncExecutor asyncExecutor = new LaneRecordingAsyncExecutor(processEngineConfiguration.getJobServiceConfiguration());
+        asyncExecutor.setExclusiveJobLaneMaxJobsPerTurn(2);
+        for (Job job : jobs) {
+            assertTrue(asyncExecutor.executeAsyncJob(job));
+        }
+        assertEquals(1, asyncExecutor.submittedRunnables.size());
+
+        // The lane gives up the thread after two jobs and is submitted again for the remaining job
+        asyncExecutor.submittedRunnables.get(0).run();
+        assertEquals(1, managementService.createJobQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(2, asyncExecutor.submittedRunnables.size());
+        assertSame(asyncExecutor.submittedRunnables.get(0), asyncExecutor.submittedRunnables.get(1));
+        assertEquals(1, asyncExecutor.getActiveExclusiveJobLaneCount());
+
+        asyncExecutor.submittedRunnables.get(1).run();
+        assertEquals(0, managementService.createDeadLetterJobQuery().processInstanceId(processInstance.getId()).count());
+        assertEquals(0, asyncExecutor.getActiveExclusiveJobLaneCount());
+        assertEquals(2, asyncExecutor.submittedRunnables.size());
+        assertProcessEnded(processInstance.getId());
+    }
+
+    /**
+     * Executes exclusive jobs in lanes, but only records the lanes submitted to the thread pool so the test can run them.
+     */
+    protected static class LaneRecordingAsyncExecutor extends DefaultAsyncJobExecutor {
+
+        protected final List<Runnable> submittedRunnables = new ArrayList<>();
+
+        public LaneRecordingAsyncExecutor(JobServiceConfiguration jobServiceConfiguration) {
+            setJobServiceConfiguration(jobServiceConfiguration);
+            setJobEntityManager(jobServiceConfiguration.getJobEntityManager());
+            setExclusiveJobAffinityEnabled(true);
+            setExecutorService(new AbstractExecutorService() {
+
+                @Override
+                public void execute(Runnable command) {
+                    submittedRunnables.add(command);
+                }
+
+                @Override
+                public void shutdown() {
+                }
+
+                @Override
+                public List<Runnable> shutdownNow() {
+                    return new ArrayList<>();
+                }
+
+                @Override
+                public boolean isShutdown() {
+                    return false;
+                }
+
+                @Override
+                public boolean isTerminated() {
+                    return false;
+                }
+
+                @Override
+                public boolean awaitTermination(long timeout, TimeUnit unit) {
+                    return true;
+                }
+            });
+            isActive = true;
+        }
+    }
+
 }
@@ -20,6 +20,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.history.HistoryLevel;
 import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.engine.impl.test.HistoryTestHelper;
@@ -53,6 +54,24 @@ public class SignalEventTest extends PluggableFlowableTestCase {
         assertEquals(0, runtimeService.createProcessInstanceQuery().count());
     }
 
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignal.bpmn20.xml",
+            "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignal.bpmn20.xml" })
+    public void testSignalCatchIntermediateInMultipleChunks() {
+        // More subscriptions than fit in a single chunk
+        int processInstanceCount = AbstractDataManager.DEFAULT_CHUNK_SIZE + 10;
+        for (int i = 0; i < processInstanceCount; i++) {
+            runtimeService.startProcessInstanceByKey("catchSignal");
+        }
+
+        assertEquals(processInstanceCount, createEventSubscriptionQuery().count());
+
+        runtimeService.startProcessInstanceByKey("throwSignal");
+
+        assertEquals(0, createEventSubscriptionQuery().count());
+        assertEquals(0, runtimeService.createProcessInstanceQuery().count());
+    }
+
     @Test
     @Deployment(resources = { "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.catchAlertSignalExpression.bpmn20.xml",
             "org/flowable/engine/test/bpmn/event/signal/SignalEventTests.throwAlertSignalExpression.bpmn20.xml" })
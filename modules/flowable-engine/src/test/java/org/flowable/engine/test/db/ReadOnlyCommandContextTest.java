@@ -0,0 +1,142 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.persistence.cache.CachedEntity;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntity;
+import org.flowable.engine.impl.persistence.entity.ExecutionEntityImpl;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class ReadOnlyCommandContextTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testLoadedEntitiesAreCachedWithoutState() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), commandContext -> {
+            assertThat(commandContext.isReadOnly()).isTrue();
+            assertThat(CommandContextUtil.getDbSqlSession(commandContext).isReadOnly()).isTrue();
+
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            assertThat(execution).isNotNull();
+            assertThat(CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId())).isSameAs(execution);
+            assertThat(CommandContextUtil.getEntityCache(commandContext).findInCacheAsCachedObjects(ExecutionEntityImpl.class))
+                    .extracting(CachedEntity::getOriginalPersistentState)
+                    .containsOnlyNulls();
+            return null;
+        });
+
+        // The same command without read-only mode stores the state of the loaded entity
+        commandExecutor.execute(commandContext -> {
+            assertThat(commandContext.isReadOnly()).isFalse();
+
+            CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            assertThat(CommandContextUtil.getEntityCache(commandContext).findInCacheAsCachedObjects(ExecutionEntityImpl.class))
+                    .extracting(CachedEntity::getOriginalPersistentState)
+                    .doesNotContainNull();
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testEagerExecutionTreeFetching() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        boolean originalEagerExecutionTreeFetching = processEngineConfiguration.getPerformanceSettings().isEnableEagerExecutionTreeFetching();
+        processEngineConfiguration.getPerformanceSettings().setEnableEagerExecutionTreeFetching(true);
+        try {
+            CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+            commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), commandContext -> {
+                // The fetched execution tree is looked up in the entity cache of the command
+                ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+                assertThat(execution).isNotNull();
+                assertThat(CommandContextUtil.getExecutionEntityManager(commandContext).findChildExecutionsByParentExecutionId(processInstance.getId()))
+                        .extracting(ExecutionEntity::getActivityId)
+                        .containsExactly("theTask");
+                return null;
+            });
+
+            assertThat(runtimeService.createExecutionQuery().processInstanceId(processInstance.getId()).list()).hasSize(2);
+            assertThat(runtimeService.getVariables(processInstance.getId())).isEmpty();
+
+        } finally {
+            processEngineConfiguration.getPerformanceSettings().setEnableEagerExecutionTreeFetching(originalEagerExecutionTreeFetching);
+        }
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testChangesAreRejected() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        assertThatThrownBy(() -> commandExecutor.execute(commandExecutor.getDefaultConfig().readOnly(), commandContext -> {
+            ExecutionEntity execution = CommandContextUtil.getExecutionEntityManager(commandContext).findById(processInstance.getId());
+            execution.setName("changed");
+            CommandContextUtil.getExecutionEntityManager(commandContext).update(execution);
+            return null;
+        })).isInstanceOf(FlowableException.class);
+
+        assertThat(runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).singleResult().getName()).isNull();
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testReadOnlyIsIgnoredInExistingCommandContext() {
+        ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+        commandExecutor.execute(outerCommandContext -> {
+            CommandConfig readOnlyConfig = commandExecutor.getDefaultConfig().readOnly();
+            commandExecutor.execute(readOnlyConfig, commandContext -> {
+                assertThat(commandContext).isSameAs(outerCommandContext);
+                assertThat(commandContext.isReadOnly()).isFalse();
+                return null;
+            });
+
+            // Queries executed as part of a command use the entity cache of that command
+            runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).list();
+            assertThat(CommandContextUtil.getEntityCache(outerCommandContext).findInCache(ExecutionEntityImpl.class, processInstance.getId())).isNotNull();
+            return null;
+        });
+    }
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testQueryResultsCanBeUsedAfterwards() {
+        runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        // The query is executed in read-only mode, completing the task afterwards uses a regular (writable) command context again
+        Task task = taskService.createTaskQuery().singleResult();
+        assertThat(task).isNotNull();
+        taskService.complete(task.getId());
+
+        assertThat(taskService.createTaskQuery().count()).isZero();
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    }
+
+}
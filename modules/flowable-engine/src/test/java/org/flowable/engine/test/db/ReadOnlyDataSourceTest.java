@@ -0,0 +1,173 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.ibatis.datasource.pooled.PooledDataSource;
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.db.DefaultReadOnlyStalenessPolicy;
+import org.flowable.engine.ProcessEngine;
+import org.flowable.engine.ProcessEngineConfiguration;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.cfg.StandaloneInMemProcessEngineConfiguration;
+import org.flowable.task.api.Task;
+import org.junit.jupiter.api.Test;
+
+public class ReadOnlyDataSourceTest {
+
+    @Test
+    public void testQueriesUseReadOnlyDataSource() {
+        String jdbcUrl = "jdbc:h2:mem:flowable-read-only-data-source;DB_CLOSE_DELAY=1000";
+        CountingDataSource readOnlyDataSource = new CountingDataSource(jdbcUrl);
+        ProcessEngine processEngine = buildProcessEngine("read-only-data-source", jdbcUrl, readOnlyDataSource, new DefaultReadOnlyStalenessPolicy(0L, true));
+        try {
+            processEngine.getRepositoryService().createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+
+            readOnlyDataSource.connectionCount.set(0);
+            Task task = processEngine.getTaskService().createTaskQuery().singleResult();
+            assertThat(task).isNotNull();
+            assertThat(processEngine.getHistoryService().createHistoricProcessInstanceQuery().count()).isEqualTo(1);
+            assertThat(readOnlyDataSource.connectionCount.get()).isEqualTo(2);
+
+            // Changes always use the primary data source
+            readOnlyDataSource.connectionCount.set(0);
+            processEngine.getTaskService().complete(task.getId());
+            assertThat(readOnlyDataSource.connectionCount.get()).isZero();
+
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testReadYourWritesWindow() throws Exception {
+        String jdbcUrl = "jdbc:h2:mem:flowable-read-only-data-source-window;DB_CLOSE_DELAY=1000";
+        CountingDataSource readOnlyDataSource = new CountingDataSource(jdbcUrl);
+        ProcessEngine processEngine = buildProcessEngine("read-only-data-source-window", jdbcUrl, readOnlyDataSource, new DefaultReadOnlyStalenessPolicy(60000L, true));
+        try {
+            processEngine.getRepositoryService().createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+
+            // The thread that changed data reads from the primary data source during the window
+            readOnlyDataSource.connectionCount.set(0);
+            assertThat(processEngine.getTaskService().createTaskQuery().count()).isEqualTo(1);
+            assertThat(readOnlyDataSource.connectionCount.get()).isZero();
+
+            // Other threads keep using the read-only data source, reading your writes only holds within the thread
+            AtomicLong taskCount = new AtomicLong();
+            Thread thread = new Thread(() -> taskCount.set(processEngine.getTaskService().createTaskQuery().count()));
+            thread.start();
+            thread.join();
+            assertThat(taskCount.get()).isEqualTo(1);
+            assertThat(readOnlyDataSource.connectionCount.get()).isEqualTo(1);
+
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testEngineWideReadYourWritesWindow() throws Exception {
+        assertThat(new DefaultReadOnlyStalenessPolicy().isThreadBoundWindow()).isFalse();
+
+        String jdbcUrl = "jdbc:h2:mem:flowable-read-only-data-source-engine-window;DB_CLOSE_DELAY=1000";
+        CountingDataSource readOnlyDataSource = new CountingDataSource(jdbcUrl);
+        ProcessEngine processEngine = buildProcessEngine("read-only-data-source-engine-window", jdbcUrl, readOnlyDataSource, new DefaultReadOnlyStalenessPolicy(60000L, false));
+        try {
+            processEngine.getRepositoryService().createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+
+            // All threads read from the primary data source during the window
+            readOnlyDataSource.connectionCount.set(0);
+            AtomicLong taskCount = new AtomicLong();
+            Thread thread = new Thread(() -> taskCount.set(processEngine.getTaskService().createTaskQuery().count()));
+            thread.start();
+            thread.join();
+            assertThat(taskCount.get()).isEqualTo(1);
+            assertThat(readOnlyDataSource.connectionCount.get()).isZero();
+
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    @Test
+    public void testReadYourWritesWindowStartsAfterCommit() {
+        String jdbcUrl = "jdbc:h2:mem:flowable-read-only-data-source-commit;DB_CLOSE_DELAY=1000";
+        CountingDataSource readOnlyDataSource = new CountingDataSource(jdbcUrl);
+        DefaultReadOnlyStalenessPolicy stalenessPolicy = new DefaultReadOnlyStalenessPolicy(0L, false);
+        ProcessEngine processEngine = buildProcessEngine("read-only-data-source-commit", jdbcUrl, readOnlyDataSource, stalenessPolicy);
+        try {
+            processEngine.getRepositoryService().createDeployment().addClasspathResource("org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml").deploy();
+            stalenessPolicy.setReadYourWritesWindowInMs(60000L);
+
+            // The changes are flushed, but the transaction is rolled back afterwards
+            assertThatThrownBy(() -> processEngine.getManagementService().executeCommand(commandContext -> {
+                processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+                Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTING, transactionCommandContext -> {
+                    throw new FlowableException("rollback after the flush");
+                });
+                return null;
+            })).isInstanceOf(FlowableException.class);
+
+            readOnlyDataSource.connectionCount.set(0);
+            assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().count()).isZero();
+            assertThat(readOnlyDataSource.connectionCount.get()).isEqualTo(1);
+
+            // Committed changes start the window
+            processEngine.getRuntimeService().startProcessInstanceByKey("oneTaskProcess");
+            readOnlyDataSource.connectionCount.set(0);
+            assertThat(processEngine.getRuntimeService().createProcessInstanceQuery().count()).isEqualTo(1);
+            assertThat(readOnlyDataSource.connectionCount.get()).isZero();
+
+        } finally {
+            processEngine.close();
+        }
+    }
+
+    protected ProcessEngine buildProcessEngine(String engineName, String jdbcUrl, CountingDataSource readOnlyDataSource, DefaultReadOnlyStalenessPolicy stalenessPolicy) {
+        ProcessEngineConfigurationImpl processEngineConfiguration = new StandaloneInMemProcessEngineConfiguration();
+        processEngineConfiguration.setEngineName(engineName);
+        processEngineConfiguration.setJdbcUrl(jdbcUrl);
+        processEngineConfiguration.setDatabaseSchemaUpdate(ProcessEngineConfiguration.DB_SCHEMA_UPDATE_CREATE_DROP);
+        processEngineConfiguration.setReadOnlyDataSource(readOnlyDataSource);
+        processEngineConfiguration.setReadOnlyStalenessPolicy(stalenessPolicy);
+        return processEngineConfiguration.buildProcessEngine();
+    }
+
+    protected static class CountingDataSource extends PooledDataSource {
+
+        protected AtomicInteger connectionCount = new AtomicInteger();
+
+        public CountingDataSource(String jdbcUrl) {
+            super("org.h2.Driver", jdbcUrl, "sa", "");
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            connectionCount.incrementAndGet();
+            return super.getConnection();
+        }
+    }
+
+}
@@ -15,15 +15,22 @@ package org.flowable.engine.test.eventregistry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.constant.ReferenceTypes;
 import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.eventregistry.BpmnEventRegistryEventConsumer;
 import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.repository.ProcessDefinition;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
@@ -32,9 +39,16 @@ import org.flowable.eventregistry.api.EventRegistry;
 import org.flowable.eventregistry.api.EventRepositoryService;
 import org.flowable.eventregistry.api.InboundEventChannelAdapter;
 import org.flowable.eventregistry.api.model.EventPayloadTypes;
+import org.flowable.eventregistry.api.runtime.EventCorrelationParameterInstance;
+import org.flowable.eventregistry.api.runtime.EventInstance;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
+import org.flowable.eventregistry.impl.consumer.CorrelationKey;
+import org.flowable.eventregistry.impl.runtime.EventCorrelationParameterInstanceImpl;
+import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
+import org.flowable.eventregistry.model.EventCorrelationParameter;
 import org.flowable.eventregistry.model.InboundChannelModel;
 import org.flowable.eventsubscription.api.EventSubscription;
+import org.flowable.eventsubscription.service.impl.persistence.entity.EventSubscriptionEntity;
 import org.flowable.task.api.Task;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -268,6 +282,72 @@ public class BpmnEventRegistryConsumerTest extends PluggableFlowableTestCase {
         }
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/eventregistry/BpmnEventRegistryConsumerTest.testBoundaryEventListenerWithCorrelation.bpmn20.xml")
+    public void testCorrelationKeysOfDeployedModels() {
+        TestBpmnEventRegistryEventConsumer eventConsumer = new TestBpmnEventRegistryEventConsumer(processEngineConfiguration);
+        EventInstance eventInstance = new EventInstanceImpl(getEventRepositoryService().getEventModelByKey("myEvent"), Arrays.asList(
+            new EventCorrelationParameterInstanceImpl(new EventCorrelationParameter("customerId", EventPayloadTypes.STRING), "kermit"),
+            new EventCorrelationParameterInstanceImpl(new EventCorrelationParameter("orderId", EventPayloadTypes.STRING), "order1")),
+            Collections.emptyList());
+
+        // The boundary event only correlates on the customer id, the key with all parameters is always generated
+        assertThat(eventConsumer.generateCorrelationKeys(eventInstance))
+            .extracting(correlationKey -> correlationKey.getParameterInstances().stream()
+                .map(EventCorrelationParameterInstance::getDefinitionName)
+                .collect(Collectors.joining(",")))
+            .containsExactlyInAnyOrder("customerId", "customerId,orderId");
+
+        // The correlation parameters of event subscriptions created through the API are unknown,
+        // these are matched against the keys of all combinations
+        Map<String, Object> orderCorrelation = new HashMap<>();
+        orderCorrelation.put("orderId", "order1");
+        EventSubscription matchingEventSubscription = createApiEventSubscription(
+            getEventRegistry().generateKey(orderCorrelation));
+        EventSubscription otherEventSubscription = createApiEventSubscription("apiCorrelationKey");
+
+        try {
+            Collection<CorrelationKey> correlationKeys = eventConsumer.generateCorrelationKeys(eventInstance);
+            assertThat(correlationKeys).hasSize(2);
+            assertThat(eventConsumer.findEventSubscriptions(ScopeTypes.BPMN, eventInstance, correlationKeys))
+                .extracting(EventSubscription::getId)
+                .containsExactly(matchingEventSubscription.getId());
+
+        } finally {
+            managementService.executeCommand(commandContext -> {
+                CommandContextUtil.getEventSubscriptionService(commandContext).deleteEventSubscription((EventSubscriptionEntity) matchingEventSubscription);
+                CommandContextUtil.getEventSubscriptionService(commandContext).deleteEventSubscription((EventSubscriptionEntity) otherEventSubscription);
+                return null;
+            });
+        }
+    }
+
+    protected EventSubscription createApiEventSubscription(String configuration) {
+        return managementService.executeCommand(commandContext -> CommandContextUtil.getEventSubscriptionService(commandContext)
+            .createEventSubscriptionBuilder()
+            .eventType("myEvent")
+            .scopeType(ScopeTypes.BPMN)
+            .configuration(configuration)
+            .create());
+    }
+
+    protected static class TestBpmnEventRegistryEventConsumer extends BpmnEventRegistryEventConsumer {
+
+        public TestBpmnEventRegistryEventConsumer(ProcessEngineConfigurationImpl processEngineConfiguration) {
+            super(processEngineConfiguration);
+        }
+
+        @Override
+        protected Collection<CorrelationKey> generateCorrelationKeys(EventInstance eventInstance) {
+            return super.generateCorrelationKeys(eventInstance);
+        }
+
+        @Override
+        protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance, Collection<CorrelationKey> correlationKeys) {
+            return super.findEventSubscriptions(scopeType, eventInstance, correlationKeys);
+        }
+    }
+
     private static class TestInboundEventChannelAdapter implements InboundEventChannelAdapter {
 
         public InboundChannelModel inboundChannelModel;
@@ -0,0 +1,211 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.Deployment;
+import org.flowable.engine.test.impl.CustomConfigurationFlowableTestCase;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobServiceConfiguration;
+import org.flowable.job.service.impl.asyncexecutor.DefaultJobManager;
+import org.flowable.job.service.impl.asyncexecutor.JobManager;
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
+import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
+import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.variable.api.delegate.VariableScope;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests a {@link JobManager} that only implements the methods for single jobs.
+ */
+public class CustomJobManagerTest extends CustomConfigurationFlowableTestCase {
+
+    protected SingleJobManager jobManager = new SingleJobManager();
+
+    public CustomJobManagerTest() {
+        super(CustomJobManagerTest.class.getName());
+    }
+
+    @Override
+    protected void configureConfiguration(ProcessEngineConfigurationImpl processEngineConfiguration) {
+        processEngineConfiguration.setJobManager(jobManager);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/api/tenant/TenancyTest.testMultiTenancySignals.bpmn20.xml")
+    public void testAsyncSignalWithSingleJobManager() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("testMtSignalCatch");
+        }
+
+        runtimeService.signalEventReceivedAsync("The Signal");
+
+        // The bulk scheduling falls back to scheduling every job on its own
+        assertThat(jobManager.scheduledAsyncJobCount.get()).isEqualTo(3);
+        List<Job> jobs = managementService.createJobQuery().list();
+        assertThat(jobs).hasSize(3);
+
+        for (Job job : jobs) {
+            managementService.executeJob(job.getId());
+        }
+        assertThat(taskService.createTaskQuery().taskName("Task after signal").count()).isEqualTo(3);
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/engine/test/bpmn/event/timer/IntermediateTimerEventTest.testCatchingTimerEvent.bpmn20.xml")
+    public void testMoveTimerJobsWithSingleJobManager() {
+        for (int i = 0; i < 3; i++) {
+            runtimeService.startProcessInstanceByKey("intermediateTimerEventExample");
+        }
+        assertThat(managementService.createTimerJobQuery().count()).isEqualTo(3);
+
+        // The bulk move falls back to moving every timer job on its own
+        List<JobEntity> executableJobs = managementService.executeCommand(commandContext -> {
+            List<TimerJobEntity> timerJobs = new ArrayList<>();
+            for (Job timerJob : managementService.createTimerJobQuery().list()) {
+                timerJobs.add(CommandContextUtil.getTimerJobService(commandContext).findTimerJobById(timerJob.getId()));
+            }
+            return jobManager.moveTimerJobsToExecutableJobs(timerJobs);
+        });
+        assertThat(executableJobs).hasSize(3);
+        assertThat(jobManager.movedTimerJobCount.get()).isEqualTo(3);
+        assertThat(managementService.createTimerJobQuery().count()).isZero();
+
+        for (Job job : managementService.createJobQuery().list()) {
+            managementService.executeJob(job.getId());
+        }
+        assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    }
+
+    protected static class SingleJobManager implements JobManager {
+
+        protected DefaultJobManager delegate = new DefaultJobManager();
+        protected AtomicInteger scheduledAsyncJobCount = new AtomicInteger();
+        protected AtomicInteger movedTimerJobCount = new AtomicInteger();
+
+        @Override
+        public void execute(JobInfo job) {
+            delegate.execute(job);
+        }
+
+        @Override
+        public void unacquire(JobInfo job) {
+            delegate.unacquire(job);
+        }
+
+        @Override
+        public void unacquireWithDecrementRetries(JobInfo job) {
+            delegate.unacquireWithDecrementRetries(job);
+        }
+
+        @Override
+        public void createAsyncJob(JobEntity jobEntity, boolean exclusive) {
+            delegate.createAsyncJob(jobEntity, exclusive);
+        }
+
+        @Override
+        public void scheduleAsyncJob(JobEntity job) {
+            scheduledAsyncJobCount.incrementAndGet();
+            delegate.scheduleAsyncJob(job);
+        }
+
+        @Override
+        public void scheduleTimerJob(TimerJobEntity timerJob) {
+            delegate.scheduleTimerJob(timerJob);
+        }
+
+        @Override
+        public String getBusinessCalendarName(JobEntity timerEntity, VariableScope variableScope) {
+            return delegate.getBusinessCalendarName(timerEntity, variableScope);
+        }
+
+        @Override
+        public JobEntity moveTimerJobToExecutableJob(TimerJobEntity timerJob) {
+            movedTimerJobCount.incrementAndGet();
+            return delegate.moveTimerJobToExecutableJob(timerJob);
+        }
+
+        @Override
+        public TimerJobEntity moveJobToTimerJob(AbstractRuntimeJobEntity job) {
+            return delegate.moveJobToTimerJob(job);
+        }
+
+        @Override
+        public SuspendedJobEntity moveJobToSuspendedJob(AbstractRuntimeJobEntity job) {
+            return delegate.moveJobToSuspendedJob(job);
+        }
+
+        @Override
+        public AbstractRuntimeJobEntity activateSuspendedJob(SuspendedJobEntity job) {
+            return delegate.activateSuspendedJob(job);
+        }
+
+        @Override
+        public DeadLetterJobEntity moveJobToDeadLetterJob(AbstractRuntimeJobEntity job) {
+            return delegate.moveJobToDeadLetterJob(job);
+        }
+
+        @Override
+        public JobEntity moveDeadLetterJobToExecutableJob(DeadLetterJobEntity deadLetterJobEntity, int retries) {
+            return delegate.moveDeadLetterJobToExecutableJob(deadLetterJobEntity, retries);
+        }
+
+        @Override
+        public HistoryJobEntity scheduleHistoryJob(HistoryJobEntity historyJobEntity) {
+            return delegate.scheduleHistoryJob(historyJobEntity);
+        }
+
+        @Override
+        public void setJobServiceConfiguration(JobServiceConfiguration jobServiceConfiguration) {
+            delegate.setJobServiceConfiguration(jobServiceConfiguration);
+        }
+
+        @Override
+        public JobEntity createExecutableJobFromOtherJob(AbstractRuntimeJobEntity job) {
+            return delegate.createExecutableJobFromOtherJob(job);
+        }
+
+        @Override
+        public TimerJobEntity createTimerJobFromOtherJob(AbstractRuntimeJobEntity otherJob) {
+            return delegate.createTimerJobFromOtherJob(otherJob);
+        }
+
+        @Override
+        public SuspendedJobEntity createSuspendedJobFromOtherJob(AbstractRuntimeJobEntity otherJob) {
+            return delegate.createSuspendedJobFromOtherJob(otherJob);
+        }
+
+        @Override
+        public DeadLetterJobEntity createDeadLetterJobFromOtherJob(AbstractRuntimeJobEntity otherJob) {
+            return delegate.createDeadLetterJobFromOtherJob(otherJob);
+        }
+
+        @Override
+        public AbstractRuntimeJobEntity copyJobInfo(AbstractRuntimeJobEntity copyToJob, AbstractRuntimeJobEntity copyFromJob) {
+            return delegate.copyJobInfo(copyToJob, copyFromJob);
+        }
+
+    }
+
+}
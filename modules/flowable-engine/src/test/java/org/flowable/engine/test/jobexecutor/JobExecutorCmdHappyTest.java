@@ -12,13 +12,19 @@
  */
 package org.flowable.engine.test.jobexecutor;
 
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Collections;
 import java.util.Date;
+import java.util.List;
 
+import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.job.api.Job;
+import org.flowable.job.service.TimerJobService;
 import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.cmd.AcquireTimerJobsCmd;
@@ -99,4 +105,146 @@ public class JobExecutorCmdHappyTest extends JobExecutorTestCase {
         assertEquals("i'm coding a test", tweetHandler.getMessages().get(0));
         assertEquals(1, tweetHandler.getMessages().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testBulkAcquireTimerJobs() {
+        processEngineConfiguration.getClock().setCurrentTime(new Date(SOME_TIME));
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        int originalMaxTimerJobsPerAcquisition = asyncExecutor.getMaxTimerJobsPerAcquisition();
+        boolean originalTimerJobBulkAcquisitionEnabled = asyncExecutor.isTimerJobBulkAcquisitionEnabled();
+        try {
+            asyncExecutor.setMaxTimerJobsPerAcquisition(10);
+            asyncExecutor.setTimerJobBulkAcquisitionEnabled(true);
+
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    for (int i = 0; i < 3; i++) {
+                        TimerJobEntity timer = createTweetTimer("timer " + i, new Date(SOME_TIME + (10 * SECOND)));
+                        CommandContextUtil.getTimerJobService(commandContext).scheduleTimerJob(timer);
+                    }
+                    return null;
+                }
+            });
+
+            AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+            assertEquals(0, acquiredJobs.size());
+
+            processEngineConfiguration.getClock().setCurrentTime(new Date(SOME_TIME + (20 * SECOND)));
+
+            final AcquiredTimerJobEntities bulkAcquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+            assertEquals(3, bulkAcquiredJobs.size());
+            for (TimerJobEntity timerJob : bulkAcquiredJobs.getJobs()) {
+                assertEquals(asyncExecutor.getLockOwner(), timerJob.getLockOwner());
+                assertNotNull(timerJob.getLockExpirationTime());
+            }
+
+            // All timers are locked now, so nothing is left to acquire
+            assertEquals(0, commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor)).size());
+
+            List<JobEntity> executableJobs = commandExecutor.execute(new Command<List<JobEntity>>() {
+
+                @Override
+                public List<JobEntity> execute(CommandContext commandContext) {
+                    return CommandContextUtil.getJobServiceConfiguration(commandContext).getJobManager()
+                            .moveTimerJobsToExecutableJobs(bulkAcquiredJobs.getJobs());
+                }
+            });
+            assertEquals(3, executableJobs.size());
+            assertEquals(0, managementService.createTimerJobQuery().count());
+            assertEquals(3, managementService.createJobQuery().count());
+
+            for (JobEntity executableJob : executableJobs) {
+                commandExecutor.execute(new ExecuteAsyncJobCmd(executableJob.getId()));
+            }
+            assertEquals(3, tweetHandler.getMessages().size());
+
+        } finally {
+            asyncExecutor.setMaxTimerJobsPerAcquisition(originalMaxTimerJobsPerAcquisition);
+            asyncExecutor.setTimerJobBulkAcquisitionEnabled(originalTimerJobBulkAcquisitionEnabled);
+        }
+    }
+
+    @Test
+    public void testBulkAcquireTimerJobsSkipsTimersLockedByOtherOwner() {
+        processEngineConfiguration.getClock().setCurrentTime(new Date(SOME_TIME));
+
+        AsyncExecutor asyncExecutor = processEngineConfiguration.getAsyncExecutor();
+        CommandExecutor commandExecutor = processEngineConfiguration.getCommandExecutor();
+
+        int originalMaxTimerJobsPerAcquisition = asyncExecutor.getMaxTimerJobsPerAcquisition();
+        boolean originalTimerJobBulkAcquisitionEnabled = asyncExecutor.isTimerJobBulkAcquisitionEnabled();
+        try {
+            asyncExecutor.setMaxTimerJobsPerAcquisition(10);
+            asyncExecutor.setTimerJobBulkAcquisitionEnabled(true);
+
+            final String lockedTimerJobId = commandExecutor.execute(new Command<String>() {
+
+                @Override
+                public String execute(CommandContext commandContext) {
+                    TimerJobEntity lockedTimer = null;
+                    for (int i = 0; i < 3; i++) {
+                        TimerJobEntity timer = createTweetTimer("timer " + i, new Date(SOME_TIME));
+                        CommandContextUtil.getTimerJobService(commandContext).scheduleTimerJob(timer);
+                        lockedTimer = timer;
+                    }
+
+                    // Simulates another node that has locked the timer between the select and the update
+                    lockedTimer.setLockOwner("otherNode");
+                    lockedTimer.setLockExpirationTime(new Date(SOME_TIME + (300 * SECOND)));
+                    return lockedTimer.getId();
+                }
+            });
+
+            AcquiredTimerJobEntities acquiredJobs = commandExecutor.execute(new AcquireTimerJobsCmd(asyncExecutor));
+            assertEquals(2, acquiredJobs.size());
+            for (TimerJobEntity timerJob : acquiredJobs.getJobs()) {
+                assertFalse(lockedTimerJobId.equals(timerJob.getId()));
+                assertEquals(asyncExecutor.getLockOwner(), timerJob.getLockOwner());
+            }
+
+            List<JobEntity> executableJobs = commandExecutor.execute(new Command<List<JobEntity>>() {
+
+                @Override
+                public List<JobEntity> execute(CommandContext commandContext) {
+                    return CommandContextUtil.getJobServiceConfiguration(commandContext).getJobManager()
+                            .moveTimerJobsToExecutableJobs(acquiredJobs.getJobs());
+                }
+            });
+            for (JobEntity executableJob : executableJobs) {
+                commandExecutor.execute(new ExecuteAsyncJobCmd(executableJob.getId()));
+            }
+            assertEquals(2, tweetHandler.getMessages().size());
+
+            TimerJobEntity lockedTimerJob = (TimerJobEntity) managementService.createTimerJobQuery().singleResult();
+            assertEquals(lockedTimerJobId, lockedTimerJob.getId());
+            assertEquals("otherNode", lockedTimerJob.getLockOwner());
+
+            commandExecutor.execute(new Command<Void>() {
+
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    TimerJobService timerJobService = CommandContextUtil.getTimerJobService(commandContext);
+                    timerJobService.deleteTimerJob(timerJobService.findTimerJobById(lockedTimerJobId));
+                    return null;
+                }
+            });
+
+        } finally {
+            asyncExecutor.setMaxTimerJobsPerAcquisition(originalMaxTimerJobsPerAcquisition);
+            asyncExecutor.setTimerJobBulkAcquisitionEnabled(originalTimerJobBulkAcquisitionEnabled);
+        }
+    }
+
+    @Test
+    public void testMoveEmptyTimerJobsToExecutableJobs() {
+        assertThatThrownBy(() -> managementService.executeCommand(commandContext -> CommandContextUtil.getJobServiceConfiguration(commandContext)
+                .getJobManager().moveTimerJobsToExecutableJobs(Collections.singletonList(null))))
+                .isInstanceOf(FlowableException.class)
+                .hasMessage("Empty timer job can not be scheduled");
+    }
+}
@@ -0,0 +1,109 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.job.api.Job;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.JobService;
+import org.flowable.job.service.impl.asyncexecutor.DefaultAsyncJobExecutor;
+import org.flowable.job.service.impl.asyncexecutor.JobsAddedTransactionListener;
+import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+public class JobsAddedTransactionListenerTest extends PluggableFlowableTestCase {
+
+    @AfterEach
+    protected void deleteJobs() {
+        managementService.executeCommand((Command<Void>) commandContext -> {
+            for (Job job : managementService.createJobQuery().list()) {
+                CommandContextUtil.getJobServiceConfiguration(commandContext).getJobEntityManager().delete(job.getId());
+            }
+            return null;
+        });
+    }
+
+    @Test
+    public void testAllJobsHandedToAsyncExecutor() {
+        List<JobEntity> jobs = createLockedJobs(3);
+        LimitedAsyncExecutor asyncExecutor = new LimitedAsyncExecutor(3);
+
+        JobsAddedTransactionListener.executeAsyncJobs(jobs, asyncExecutor, processEngineConfiguration.getCommandExecutor());
+
+        assertThat(asyncExecutor.offeredJobCount.get()).isEqualTo(3);
+        assertThat(managementService.createJobQuery().locked().count()).isEqualTo(3);
+        assertThat(managementService.createJobQuery().unlocked().count()).isZero();
+    }
+
+    @Test
+    public void testRemainingJobsUnacquiredWhenQueueIsFull() {
+        List<JobEntity> jobs = createLockedJobs(5);
+        LimitedAsyncExecutor asyncExecutor = new LimitedAsyncExecutor(1);
+
+        JobsAddedTransactionListener.executeAsyncJobs(jobs, asyncExecutor, processEngineConfiguration.getCommandExecutor());
+
+        // The jobs after the first rejected job are not offered anymore, but unacquired together
+        assertThat(asyncExecutor.offeredJobCount.get()).isEqualTo(2);
+        assertThat(managementService.createJobQuery().unlocked().count()).isEqualTo(3);
+
+        // The accepted job and the rejected job (unacquired by the async executor itself) are left alone
+        assertThat(managementService.createJobQuery().locked().count()).isEqualTo(2);
+    }
+
+    protected List<JobEntity> createLockedJobs(int count) {
+        return managementService.executeCommand(commandContext -> {
+            JobService jobService = CommandContextUtil.getJobService(commandContext);
+            List<JobEntity> jobs = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                JobEntity job = jobService.createJob();
+                job.setJobType(Job.JOB_TYPE_MESSAGE);
+                job.setJobHandlerType("testHandler");
+                job.setLockOwner("testLockOwner");
+                job.setLockExpirationTime(new Date(processEngineConfiguration.getClock().getCurrentTime().getTime() + 60000L));
+                jobService.insertJob(job);
+                jobs.add(job);
+            }
+            return jobs;
+        });
+    }
+
+    /**
+     * Async executor that accepts a limited amount of jobs, as if its queue is full afterwards.
+     */
+    protected static class LimitedAsyncExecutor extends DefaultAsyncJobExecutor {
+
+        protected int acceptedJobCount;
+        protected AtomicInteger offeredJobCount = new AtomicInteger();
+
+        public LimitedAsyncExecutor(int acceptedJobCount) {
+            this.acceptedJobCount = acceptedJobCount;
+        }
+
+        @Override
+        public boolean executeAsyncJob(JobInfo job) {
+            return offeredJobCount.incrementAndGet() <= acceptedJobCount;
+        }
+
+    }
+
+}
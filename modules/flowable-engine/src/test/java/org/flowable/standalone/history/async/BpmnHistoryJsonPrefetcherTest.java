@@ -0,0 +1,94 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.standalone.history.async;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.history.HistoryLevel;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.persistence.cache.EntityCache;
+import org.flowable.engine.impl.history.async.HistoryJsonConstants;
+import org.flowable.engine.impl.history.async.json.BpmnHistoryJsonPrefetcher;
+import org.flowable.engine.impl.persistence.entity.HistoricActivityInstanceEntity;
+import org.flowable.engine.impl.persistence.entity.HistoricProcessInstanceEntity;
+import org.flowable.engine.impl.test.HistoryTestHelper;
+import org.flowable.engine.impl.test.PluggableFlowableTestCase;
+import org.flowable.engine.impl.util.CommandContextUtil;
+import org.flowable.engine.test.Deployment;
+import org.flowable.task.api.Task;
+import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+public class BpmnHistoryJsonPrefetcherTest extends PluggableFlowableTestCase {
+
+    @Test
+    @Deployment(resources = { "org/flowable/engine/test/api/oneTaskProcess.bpmn20.xml" })
+    public void testPrefetchReferencedEntities() {
+        if (!HistoryTestHelper.isHistoryLevelAtLeast(HistoryLevel.AUDIT, processEngineConfiguration)) {
+            return;
+        }
+
+        String processInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess", Collections.singletonMap("var", "value")).getId();
+        String startedProcessInstanceId = runtimeService.startProcessInstanceByKey("oneTaskProcess").getId();
+        Task task = taskService.createTaskQuery().processInstanceId(processInstanceId).singleResult();
+        String activityInstanceId = historyService.createHistoricActivityInstanceQuery().processInstanceId(processInstanceId).activityId("theTask").singleResult().getId();
+        String variableId = historyService.createHistoricVariableInstanceQuery().processInstanceId(processInstanceId).singleResult().getId();
+
+        Map<String, List<ObjectNode>> historicalDataByType = new HashMap<>();
+        addHistoricalData(historicalDataByType, HistoryJsonConstants.TYPE_PROCESS_INSTANCE_START, HistoryJsonConstants.PROCESS_INSTANCE_ID, startedProcessInstanceId);
+        addHistoricalData(historicalDataByType, HistoryJsonConstants.TYPE_PROCESS_INSTANCE_END, HistoryJsonConstants.PROCESS_INSTANCE_ID, processInstanceId);
+        addHistoricalData(historicalDataByType, HistoryJsonConstants.TYPE_ACTIVITY_END, HistoryJsonConstants.RUNTIME_ACTIVITY_INSTANCE_ID, activityInstanceId);
+        addHistoricalData(historicalDataByType, HistoryJsonConstants.TYPE_TASK_ENDED, HistoryJsonConstants.ID, task.getId());
+        addHistoricalData(historicalDataByType, HistoryJsonConstants.TYPE_VARIABLE_UPDATED, HistoryJsonConstants.ID, variableId);
+
+        managementService.executeCommand((Command<Void>) commandContext -> {
+            new BpmnHistoryJsonPrefetcher().prefetch(historicalDataByType, commandContext);
+
+            EntityCache entityCache = CommandContextUtil.getEntityCache(commandContext);
+            assertThat(entityCache.findInCache(HistoricProcessInstanceEntity.class, processInstanceId)).isNotNull();
+            assertThat(entityCache.findInCache(HistoricActivityInstanceEntity.class, activityInstanceId)).isNotNull();
+            assertThat(entityCache.findInCache(HistoricTaskInstanceEntity.class, task.getId())).isNotNull();
+            assertThat(entityCache.findInCache(HistoricVariableInstanceEntity.class, variableId)).isNotNull();
+
+            // Process instances started by the job itself are not fetched
+            assertThat(entityCache.findInCache(HistoricProcessInstanceEntity.class, startedProcessInstanceId)).isNull();
+            return null;
+        });
+    }
+
+    @Test
+    public void testPrefetchWithoutReferencedEntities() {
+        managementService.executeCommand((Command<Void>) commandContext -> {
+            new BpmnHistoryJsonPrefetcher().prefetch(new HashMap<>(), commandContext);
+
+            assertThat(CommandContextUtil.getEntityCache(commandContext).findInCache(HistoricProcessInstanceEntity.class)).isEmpty();
+            return null;
+        });
+    }
+
+    protected void addHistoricalData(Map<String, List<ObjectNode>> historicalDataByType, String type, String fieldName, String value) {
+        ObjectNode historicalData = processEngineConfiguration.getObjectMapper().createObjectNode();
+        historicalData.put(fieldName, value);
+        historicalDataByType.computeIfAbsent(type, key -> new ArrayList<>()).add(historicalData);
+    }
+
+}
@@ -53,6 +53,7 @@ public class DefaultCorrelationKeyGenerator implements CorrelationKeyGenerator<M
         }
 
         byte[] bytes = digest.digest(sb.toString().getBytes(StandardCharsets.UTF_8));
-        return String.format("%x", new BigInteger(1, bytes));
+        // Same value as String.format("%x", ...), without parsing the format
+        return new BigInteger(1, bytes).toString(16);
     }
 }
@@ -25,7 +25,7 @@ import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.eventregistry.api.ChannelModelProcessor;
 import org.flowable.eventregistry.api.EventManagementService;
@@ -336,6 +336,8 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
             dbSqlSessionFactory = createDbSqlSessionFactory();
             dbSqlSessionFactory.setDatabaseType(databaseType);
             dbSqlSessionFactory.setSqlSessionFactory(sqlSessionFactory);
+            dbSqlSessionFactory.setReadOnlySqlSessionFactory(readOnlySqlSessionFactory);
+            dbSqlSessionFactory.setReadOnlyStalenessPolicy(readOnlyStalenessPolicy);
             dbSqlSessionFactory.setDatabaseTablePrefix(databaseTablePrefix);
             dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
             dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
@@ -417,17 +419,17 @@ public class EventRegistryEngineConfiguration extends AbstractEngineConfiguratio
 
         if (eventDefinitionCache == null) {
             if (eventDefinitionCacheLimit <= 0) {
-                eventDefinitionCache = new DefaultDeploymentCache<>();
+                eventDefinitionCache = new ConcurrentDeploymentCache<>();
             } else {
-                eventDefinitionCache = new DefaultDeploymentCache<>(eventDefinitionCacheLimit);
+                eventDefinitionCache = new ConcurrentDeploymentCache<>(eventDefinitionCacheLimit);
             }
         }
         
         if (channelDefinitionCache == null) {
             if (channelDefinitionCacheLimit <= 0) {
-                channelDefinitionCache = new DefaultDeploymentCache<>();
+                channelDefinitionCache = new ConcurrentDeploymentCache<>();
             } else {
-                channelDefinitionCache = new DefaultDeploymentCache<>(channelDefinitionCacheLimit);
+                channelDefinitionCache = new ConcurrentDeploymentCache<>(channelDefinitionCacheLimit);
             }
         }
 
@@ -21,6 +21,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
@@ -43,6 +44,18 @@ import org.flowable.eventsubscription.api.EventSubscriptionQuery;
  */
 public abstract class BaseEventRegistryEventConsumer implements EventRegistryEventConsumer {
 
+    /**
+     * The correlation parameter combinations (as index ranges) for every amount of correlation parameters, see {@link #getCorrelationParameterCombinations(int)}.
+     */
+    protected static final Map<Integer, List<int[]>> CORRELATION_PARAMETER_COMBINATIONS = new ConcurrentHashMap<>();
+
+    /**
+     * The combinations of correlation parameter names used by the models of the engine, by event definition key, see {@link #getCorrelationParameterNames(String)}.
+     * Guarded by itself when adding an entry or resetting the map.
+     */
+    protected final Map<String, Collection<Set<String>>> correlationParameterNamesByEventDefinitionKey = new ConcurrentHashMap<>();
+    protected volatile long correlationParameterNamesVersion;
+
     protected AbstractEngineConfiguration engingeConfiguration;
     protected CommandExecutor commandExecutor;
 
@@ -66,6 +79,63 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
     protected abstract void eventReceived(EventInstance eventInstance);
 
+    /**
+     * Generates the correlation keys of the given event that can match the event subscription of a definition: only the combinations of correlation
+     * parameters used by the models of the engine when these are known (see {@link #getCorrelationParameterNames(String)}), all combinations otherwise.
+     */
+    protected Collection<CorrelationKey> generateCorrelationKeys(EventInstance eventInstance) {
+        Collection<EventCorrelationParameterInstance> correlationParameterInstances = eventInstance.getCorrelationParameterInstances();
+        if (correlationParameterInstances.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        Collection<Set<String>> correlationParameterNames = getCorrelationParameterNames(eventInstance.getEventModel().getKey());
+        if (correlationParameterNames == null) {
+            return generateCorrelationKeys(correlationParameterInstances);
+        }
+
+        return generateCorrelationKeys(correlationParameterInstances, correlationParameterNames);
+    }
+
+    /**
+     * Generates the correlation keys for the given combinations of correlation parameter names. Like {@link #generateCorrelationKeys(Collection)},
+     * only combinations of parameters next to each other are used. The key with all parameters is always included,
+     * as it is used as reference of the instances started by the event.
+     */
+    protected Collection<CorrelationKey> generateCorrelationKeys(Collection<EventCorrelationParameterInstance> correlationParameterInstances,
+            Collection<Set<String>> correlationParameterNames) {
+
+        List<EventCorrelationParameterInstance> list = new ArrayList<>(correlationParameterInstances);
+        Map<String, Integer> parameterIndexes = new HashMap<>(list.size() * 2);
+        for (int i = 0; i < list.size(); i++) {
+            parameterIndexes.put(list.get(i).getDefinitionName(), i);
+        }
+
+        EventRegistry eventRegistry = getEventRegistry();
+        Collection<CorrelationKey> correlationKeys = new HashSet<>();
+        for (Set<String> parameterNames : correlationParameterNames) {
+            int start = list.size();
+            int end = 0;
+            for (String parameterName : parameterNames) {
+                Integer index = parameterIndexes.get(parameterName);
+                if (index == null) {
+                    end = -1;
+                    break;
+                }
+                start = Math.min(start, index);
+                end = Math.max(end, index + 1);
+            }
+
+            if (end - start == parameterNames.size()) {
+                List<EventCorrelationParameterInstance> parameterSubList = list.subList(start, end);
+                correlationKeys.add(new CorrelationKey(generateCorrelationKey(eventRegistry, parameterSubList), parameterSubList));
+            }
+        }
+
+        correlationKeys.add(new CorrelationKey(generateCorrelationKey(eventRegistry, list), list));
+        return correlationKeys;
+    }
+
     /**
      * Generates all possible correlation keys for the given correlation parameters.
      * The first element in the list will only have used one parameter. The last element in the list has included all parameters.
@@ -77,25 +147,96 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
         }
 
         List<EventCorrelationParameterInstance> list = new ArrayList<>(correlationParameterInstances);
-        Collection<CorrelationKey> correlationKeys = new HashSet<>();
-        for (int i = 1; i <= list.size(); i++) {
-            for (int j = 0; j <= list.size() - i; j++) {
-                List<EventCorrelationParameterInstance> parameterSubList = list.subList(j, j + i);
-                String correlationKey = generateCorrelationKey(parameterSubList);
-                correlationKeys.add(new CorrelationKey(correlationKey, parameterSubList));
-            }
+        List<int[]> combinations = getCorrelationParameterCombinations(list.size());
+        EventRegistry eventRegistry = getEventRegistry();
+
+        Collection<CorrelationKey> correlationKeys = new HashSet<>(combinations.size() * 2);
+        for (int[] combination : combinations) {
+            List<EventCorrelationParameterInstance> parameterSubList = list.subList(combination[0], combination[1]);
+            String correlationKey = generateCorrelationKey(eventRegistry, parameterSubList);
+            correlationKeys.add(new CorrelationKey(correlationKey, parameterSubList));
         }
 
         return correlationKeys;
     }
 
+    /**
+     * Returns the start (inclusive) and end (exclusive) index of every contiguous combination of the given amount of correlation parameters,
+     * ordered by the size of the combination. The combinations only depend on the amount of parameters, so they are only calculated once.
+     */
+    protected List<int[]> getCorrelationParameterCombinations(int parameterCount) {
+        return CORRELATION_PARAMETER_COMBINATIONS.computeIfAbsent(parameterCount, count -> {
+            List<int[]> combinations = new ArrayList<>(count * (count + 1) / 2);
+            for (int i = 1; i <= count; i++) {
+                for (int j = 0; j <= count - i; j++) {
+                    combinations.add(new int[] { j, j + i });
+                }
+            }
+            return Collections.unmodifiableList(combinations);
+        });
+    }
+
+    /**
+     * Returns the combinations of correlation parameter names that the models of the engine use for the given event definition key,
+     * or null when the correlation keys of all combinations need to be generated. Entries are cached until {@link #resetCorrelationParameterNames()}
+     * is called, which happens when a definition is deployed or loaded into the deployment cache. A null value is not cached.
+     */
+    protected Collection<Set<String>> getCorrelationParameterNames(String eventDefinitionKey) {
+        Collection<Set<String>> correlationParameterNames = correlationParameterNamesByEventDefinitionKey.get(eventDefinitionKey);
+        if (correlationParameterNames == null) {
+            long version = correlationParameterNamesVersion;
+            correlationParameterNames = findCorrelationParameterNames(eventDefinitionKey);
+            if (correlationParameterNames != null) {
+                synchronized (correlationParameterNamesByEventDefinitionKey) {
+                    // Not cached when a definition was deployed in the meantime, it might be missing
+                    if (version == correlationParameterNamesVersion) {
+                        correlationParameterNamesByEventDefinitionKey.put(eventDefinitionKey, correlationParameterNames);
+                    }
+                }
+            }
+        }
+        return correlationParameterNames;
+    }
+
+    /**
+     * Finds the combinations of correlation parameter names that the models of the engine use for the given event definition key.
+     * Event subscriptions that don't belong to a definition (e.g. created through the API) don't need to be taken into account,
+     * see {@link #findEventSubscriptions(String, EventInstance, Collection)}. By default, null is returned, so the correlation keys
+     * of all combinations are generated.
+     */
+    protected Collection<Set<String>> findCorrelationParameterNames(String eventDefinitionKey) {
+        return null;
+    }
+
+    /**
+     * Clears the cached combinations of correlation parameter names, to be called when a definition is deployed or loaded into the deployment cache.
+     */
+    public void resetCorrelationParameterNames() {
+        synchronized (correlationParameterNamesByEventDefinitionKey) {
+            correlationParameterNamesVersion++;
+            correlationParameterNamesByEventDefinitionKey.clear();
+        }
+    }
+
+    /**
+     * Returns whether the given event type of a model element matches the event definition key.
+     * An expression is considered to match any key, as its value is only known at runtime.
+     */
+    protected boolean isEventTypeMatching(String eventType, String eventDefinitionKey) {
+        return eventType != null && (eventType.equals(eventDefinitionKey) || eventType.contains("${") || eventType.contains("#{"));
+    }
+
     protected String generateCorrelationKey(Collection<EventCorrelationParameterInstance> correlationParameterInstances) {
-        Map<String, Object> data = new HashMap<>();
+        return generateCorrelationKey(getEventRegistry(), correlationParameterInstances);
+    }
+
+    protected String generateCorrelationKey(EventRegistry eventRegistry, Collection<EventCorrelationParameterInstance> correlationParameterInstances) {
+        Map<String, Object> data = new HashMap<>(correlationParameterInstances.size() * 2);
         for (EventCorrelationParameterInstance correlationParameterInstance : correlationParameterInstances) {
             data.put(correlationParameterInstance.getDefinitionName(), correlationParameterInstance.getValue());
         }
 
-        return getEventRegistry().generateKey(data);
+        return eventRegistry.generateKey(data);
     }
 
     protected EventRegistry getEventRegistry() {
@@ -115,7 +256,7 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
     }
 
     protected List<EventSubscription> findEventSubscriptions(String scopeType, EventInstance eventInstance,  Collection<CorrelationKey> correlationKeys) {
-        return commandExecutor.execute(commandContext -> {
+        List<EventSubscription> eventSubscriptions = commandExecutor.execute(commandContext -> {
 
             EventSubscriptionQuery eventSubscriptionQuery = createEventSubscriptionQuery()
                 .eventType(eventInstance.getEventModel().getKey())
@@ -125,10 +266,13 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
 
                 Set<String> allCorrelationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
 
+                // When only the correlation keys used by the models were generated, the event subscriptions that don't belong to a definition
+                // (e.g. created through the API) are fetched as well, and matched against the keys of all combinations afterwards
                 eventSubscriptionQuery.or()
                     .withoutConfiguration()
-                    .configurations(allCorrelationKeyValues)
-                    .endOr();
+                    .configurations(allCorrelationKeyValues);
+                withoutDefinitionId(eventSubscriptionQuery);
+                eventSubscriptionQuery.endOr();
 
             } else {
                 eventSubscriptionQuery.withoutConfiguration();
@@ -165,6 +309,47 @@ public abstract class BaseEventRegistryEventConsumer implements EventRegistryEve
             return eventSubscriptionQuery.list();
 
         });
+
+        if (!correlationKeys.isEmpty()) {
+            return filterEventSubscriptionsWithoutDefinition(eventSubscriptions, eventInstance, correlationKeys);
+        }
+        return eventSubscriptions;
+    }
+
+    /**
+     * Removes the event subscriptions that don't match any correlation key of the event. Only needed for the event subscriptions
+     * that don't belong to a definition, the other ones already match one of the given correlation keys.
+     */
+    protected List<EventSubscription> filterEventSubscriptionsWithoutDefinition(List<EventSubscription> eventSubscriptions, EventInstance eventInstance,
+            Collection<CorrelationKey> correlationKeys) {
+
+        Set<String> correlationKeyValues = correlationKeys.stream().map(CorrelationKey::getValue).collect(Collectors.toSet());
+        Set<String> allCorrelationKeyValues = null;
+
+        List<EventSubscription> result = new ArrayList<>(eventSubscriptions.size());
+        for (EventSubscription eventSubscription : eventSubscriptions) {
+            String configuration = eventSubscription.getConfiguration();
+            if (configuration != null && !correlationKeyValues.contains(configuration)) {
+                if (allCorrelationKeyValues == null) {
+                    allCorrelationKeyValues = generateCorrelationKeys(eventInstance.getCorrelationParameterInstances()).stream()
+                        .map(CorrelationKey::getValue)
+                        .collect(Collectors.toSet());
+                }
+
+                if (!allCorrelationKeyValues.contains(configuration)) {
+                    continue;
+                }
+            }
+            result.add(eventSubscription);
+        }
+        return result;
+    }
+
+    /**
+     * Restricts the given query to the event subscriptions that don't belong to a definition of the engine.
+     */
+    protected void withoutDefinitionId(EventSubscriptionQuery eventSubscriptionQuery) {
+        eventSubscriptionQuery.withoutScopeDefinitionId();
     }
 
     protected abstract EventSubscriptionQuery createEventSubscriptionQuery();
@@ -13,11 +13,15 @@
 package org.flowable.eventregistry.impl.management;
 
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.eventregistry.api.ChannelDefinition;
 import org.flowable.eventregistry.api.management.EventRegistryChangeDetectionManager;
 import org.flowable.eventregistry.impl.EventRegistryEngineConfiguration;
@@ -27,6 +31,14 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
+ * Detects channel definitions that were deployed or removed on other nodes.
+ *
+ * The first detection compares all latest channel definitions with the channel definition cache.
+ * Afterwards, only the channel definitions created since the previous detection are fetched (using the create time,
+ * minus a margin for clock differences between the nodes and for deployments that were committed late).
+ * Removed channel definitions are detected by counting how many of the cached channel definitions are still the latest version:
+ * only when that count differs from the cache size, a full comparison is done again.
+ *
  * @author Joram Barrez
  */
 public class DefaultEventRegistryChangeDetectionManager implements EventRegistryChangeDetectionManager {
@@ -35,45 +47,146 @@ public class DefaultEventRegistryChangeDetectionManager implements EventRegistry
 
     protected EventRegistryEngineConfiguration eventRegistryEngineConfiguration;
 
+    protected long changeDetectionTimeMarginInMs = 5L * 60L * 1000L;
+    protected Date lastChangeDetectionTime;
+
     public DefaultEventRegistryChangeDetectionManager(EventRegistryEngineConfiguration eventRegistryEngineConfiguration) {
         this.eventRegistryEngineConfiguration = eventRegistryEngineConfiguration;
     }
 
     @Override
-    public void detectChanges() {
-        // This query could be optimized in the future by keeping a timestamp of the last query
-        // and querying by createtime (but detecting deletes would need dedicated logic!).
-        // The amount of channel definitions however, should typically not be large.
+    public synchronized void detectChanges() {
+        // The create time of a channel definition is set using the engine clock of the deploying node (see ChannelDefinitionParse)
+        Date changeDetectionTime = eventRegistryEngineConfiguration.getClock().getCurrentTime();
+
+        if (lastChangeDetectionTime == null) {
+            detectAllChanges();
+        } else {
+            detectNewChannelDefinitions(new Date(lastChangeDetectionTime.getTime() - changeDetectionTimeMarginInMs));
+            if (hasRemovedChannelDefinitions()) {
+                detectAllChanges();
+            }
+        }
+
+        lastChangeDetectionTime = changeDetectionTime;
+    }
+
+    protected void detectAllChanges() {
         List<ChannelDefinition> channelDefinitions = eventRegistryEngineConfiguration.getEventRepositoryService()
             .createChannelDefinitionQuery()
             .latestVersion()
             .list();
-        
-        Set<String> channelDefinitionCacheIds = new HashSet<>();
-        EventDeploymentManager deploymentManager = eventRegistryEngineConfiguration.getDeploymentManager();
-        List<ChannelDefinitionCacheEntry> cacheEntries = new ArrayList<>(deploymentManager.getChannelDefinitionCache().getAll());
-        for (ChannelDefinitionCacheEntry channelDefinitionCacheEntry : cacheEntries) {
-            channelDefinitionCacheIds.add(channelDefinitionCacheEntry.getChannelDefinitionEntity().getId());
-        }
+
+        Set<String> channelDefinitionCacheIds = getChannelDefinitionCacheIds();
 
         // Check for new deployments
         for (ChannelDefinition channelDefinition : channelDefinitions) {
 
             // When no instance is returned, the channel definition has not yet been deployed before (e.g. deployed on another node)
             if (!channelDefinitionCacheIds.contains(channelDefinition.getId())) {
-                eventRegistryEngineConfiguration.getEventRepositoryService().getChannelModelById(channelDefinition.getId());
-                LOGGER.info("Deployed channel definition with key {}", channelDefinition.getKey());
+                deployChannelDefinition(channelDefinition);
             }
 
         }
 
         // Check for removed deployments
         Set<String> latestChannelDefinitionIds = channelDefinitions.stream().map(ChannelDefinition::getId).collect(Collectors.toSet());
-        for (ChannelDefinitionCacheEntry channelDefinitionCacheEntry : cacheEntries) {
+        EventDeploymentManager deploymentManager = eventRegistryEngineConfiguration.getDeploymentManager();
+        for (ChannelDefinitionCacheEntry channelDefinitionCacheEntry : new ArrayList<>(deploymentManager.getChannelDefinitionCache().getAll())) {
             if (!latestChannelDefinitionIds.contains(channelDefinitionCacheEntry.getChannelDefinitionEntity().getId())) {
-                deploymentManager.removeChannelDefinitionFromCache(channelDefinitionCacheEntry.getChannelDefinitionEntity());
+                removeChannelDefinition(channelDefinitionCacheEntry.getChannelDefinitionEntity(), channelDefinitions);
+            }
+        }
+    }
+
+    protected void detectNewChannelDefinitions(Date createTimeAfter) {
+        List<ChannelDefinition> channelDefinitions = eventRegistryEngineConfiguration.getEventRepositoryService()
+            .createChannelDefinitionQuery()
+            .latestVersion()
+            .channelCreateTimeAfter(createTimeAfter)
+            .list();
+
+        if (channelDefinitions.isEmpty()) {
+            return;
+        }
+
+        Set<String> channelDefinitionCacheIds = getChannelDefinitionCacheIds();
+        for (ChannelDefinition channelDefinition : channelDefinitions) {
+            if (!channelDefinitionCacheIds.contains(channelDefinition.getId())) {
+                deployChannelDefinition(channelDefinition);
             }
         }
     }
 
+    protected boolean hasRemovedChannelDefinitions() {
+        Set<String> channelDefinitionCacheIds = getChannelDefinitionCacheIds();
+        if (channelDefinitionCacheIds.isEmpty()) {
+            return false;
+        }
+
+        // A cached channel definition that is no longer the latest version has been removed or replaced by a new version.
+        // The ids are counted in chunks, as some databases limit the number of values in an IN clause
+        long latestCachedChannelDefinitionCount = 0;
+        for (List<String> channelDefinitionIds : CollectionUtil.partition(channelDefinitionCacheIds, AbstractDataManager.MAX_IN_CLAUSE_VALUES)) {
+            latestCachedChannelDefinitionCount += eventRegistryEngineConfiguration.getEventRepositoryService()
+                .createChannelDefinitionQuery()
+                .channelDefinitionIds(new HashSet<>(channelDefinitionIds))
+                .latestVersion()
+                .count();
+        }
+
+        return latestCachedChannelDefinitionCount != channelDefinitionCacheIds.size();
+    }
+
+    protected void deployChannelDefinition(ChannelDefinition channelDefinition) {
+        // Resolving the channel model deploys it, which (re)registers the channel with the same key and tenant
+        eventRegistryEngineConfiguration.getEventRepositoryService().getChannelModelById(channelDefinition.getId());
+        LOGGER.info("Deployed channel definition with key {}", channelDefinition.getKey());
+    }
+
+    protected void removeChannelDefinition(ChannelDefinition channelDefinition, List<ChannelDefinition> latestChannelDefinitions) {
+        EventDeploymentManager deploymentManager = eventRegistryEngineConfiguration.getDeploymentManager();
+        if (isReplacedByLatestChannelDefinition(channelDefinition, latestChannelDefinitions)) {
+            // The latest version with the same key and tenant has already been registered under the same channel,
+            // unregistering the channel model would stop the listener of that version
+            deploymentManager.getChannelDefinitionCache().remove(channelDefinition.getId());
+        } else {
+            deploymentManager.removeChannelDefinitionFromCache(channelDefinition);
+            LOGGER.info("Removed channel definition with key {}", channelDefinition.getKey());
+        }
+    }
+
+    protected boolean isReplacedByLatestChannelDefinition(ChannelDefinition channelDefinition, List<ChannelDefinition> latestChannelDefinitions) {
+        for (ChannelDefinition latestChannelDefinition : latestChannelDefinitions) {
+            if (latestChannelDefinition.getKey().equals(channelDefinition.getKey())
+                    && Objects.equals(latestChannelDefinition.getTenantId(), channelDefinition.getTenantId())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    protected Set<String> getChannelDefinitionCacheIds() {
+        Set<String> channelDefinitionCacheIds = new HashSet<>();
+        for (ChannelDefinitionCacheEntry channelDefinitionCacheEntry : eventRegistryEngineConfiguration.getDeploymentManager().getChannelDefinitionCache().getAll()) {
+            channelDefinitionCacheIds.add(channelDefinitionCacheEntry.getChannelDefinitionEntity().getId());
+        }
+        return channelDefinitionCacheIds;
+    }
+
+    public long getChangeDetectionTimeMarginInMs() {
+        return changeDetectionTimeMarginInMs;
+    }
+
+    public void setChangeDetectionTimeMarginInMs(long changeDetectionTimeMarginInMs) {
+        this.changeDetectionTimeMarginInMs = changeDetectionTimeMarginInMs;
+    }
+
+    /**
+     * Forces the next detection to compare all latest channel definitions with the channel definition cache again.
+     */
+    public synchronized void resetChangeDetection() {
+        lastChangeDetectionTime = null;
+    }
+
 }
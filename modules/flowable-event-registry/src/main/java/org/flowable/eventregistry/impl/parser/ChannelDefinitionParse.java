@@ -18,7 +18,6 @@ import java.io.UnsupportedEncodingException;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.List;
 
 import org.apache.commons.io.IOUtils;
@@ -75,7 +74,7 @@ public class ChannelDefinitionParse {
 
             if (channelModel != null && channelModel.getKey() != null) {
                 ChannelDefinitionEntity channelDefinitionEntity = eventEngineConfig.getChannelDefinitionEntityManager().create();
-                channelDefinitionEntity.setCreateTime(new Date());
+                channelDefinitionEntity.setCreateTime(eventEngineConfig.getClock().getCurrentTime());
                 channelDefinitionEntity.setKey(channelModel.getKey());
                 channelDefinitionEntity.setCategory(channelModel.getCategory());
                 channelDefinitionEntity.setName(channelModel.getName());
@@ -0,0 +1,178 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.eventregistry.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.eventregistry.api.runtime.EventCorrelationParameterInstance;
+import org.flowable.eventregistry.api.runtime.EventInstance;
+import org.flowable.eventregistry.impl.consumer.BaseEventRegistryEventConsumer;
+import org.flowable.eventregistry.impl.consumer.CorrelationKey;
+import org.flowable.eventregistry.impl.runtime.EventCorrelationParameterInstanceImpl;
+import org.flowable.eventregistry.impl.runtime.EventInstanceImpl;
+import org.flowable.eventregistry.model.EventCorrelationParameter;
+import org.flowable.eventregistry.model.EventModel;
+import org.flowable.eventsubscription.api.EventSubscriptionQuery;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BaseEventRegistryEventConsumerTest extends AbstractFlowableEventTest {
+
+    protected TestEventConsumer eventConsumer;
+
+    @BeforeEach
+    void setUp() {
+        eventConsumer = new TestEventConsumer(eventEngineConfiguration);
+    }
+
+    @Test
+    void generateCorrelationKeysForAllCombinations() {
+        for (int parameterCount = 1; parameterCount <= 6; parameterCount++) {
+            List<EventCorrelationParameterInstance> parameterInstances = createCorrelationParameterInstances(parameterCount);
+
+            assertThat(eventConsumer.generateCorrelationKeys(parameterInstances))
+                .as("%d correlation parameters", parameterCount)
+                .hasSize(parameterCount * (parameterCount + 1) / 2)
+                .containsExactlyInAnyOrderElementsOf(generateCorrelationKeysWithNestedLoops(parameterInstances));
+        }
+    }
+
+    @Test
+    void generateCorrelationKeysForUsedCombinations() {
+        List<EventCorrelationParameterInstance> parameterInstances = createCorrelationParameterInstances(4);
+        Collection<CorrelationKey> allCorrelationKeys = eventConsumer.generateCorrelationKeys(parameterInstances);
+
+        List<Set<String>> correlationParameterNames = Arrays.asList(
+            new HashSet<>(Collections.singletonList("param1")),
+            new HashSet<>(Arrays.asList("param3", "param2")),
+            // Not next to each other, not generated when using all combinations either
+            new HashSet<>(Arrays.asList("param0", "param2")),
+            // Not a parameter of the event
+            new HashSet<>(Collections.singletonList("otherParam")));
+
+        Collection<CorrelationKey> correlationKeys = eventConsumer.generateCorrelationKeys(parameterInstances, correlationParameterNames);
+        assertThat(correlationKeys)
+            .extracting(correlationKey -> correlationKey.getParameterInstances().stream()
+                .map(EventCorrelationParameterInstance::getDefinitionName)
+                .collect(Collectors.toSet()))
+            .containsExactlyInAnyOrder(
+                new HashSet<>(Collections.singletonList("param1")),
+                new HashSet<>(Arrays.asList("param2", "param3")),
+                new HashSet<>(Arrays.asList("param0", "param1", "param2", "param3")));
+        assertThat(allCorrelationKeys).containsAll(correlationKeys);
+    }
+
+    @Test
+    void generateCorrelationKeysForEventInstance() {
+        EventModel eventModel = new EventModel();
+        eventModel.setKey("myEvent");
+        EventInstance eventInstance = new EventInstanceImpl(eventModel, createCorrelationParameterInstances(3), Collections.emptyList());
+
+        assertThat(eventConsumer.generateCorrelationKeys(eventInstance)).hasSize(6);
+        assertThat(eventConsumer.findCount).isEqualTo(1);
+
+        eventConsumer.correlationParameterNames = Collections.singletonList(new HashSet<>(Collections.singletonList("param2")));
+        assertThat(eventConsumer.generateCorrelationKeys(eventInstance)).hasSize(2);
+        assertThat(eventConsumer.findCount).isEqualTo(2);
+
+        // The names are cached until they are reset
+        eventConsumer.correlationParameterNames = null;
+        assertThat(eventConsumer.generateCorrelationKeys(eventInstance)).hasSize(2);
+        assertThat(eventConsumer.findCount).isEqualTo(2);
+
+        eventConsumer.resetCorrelationParameterNames();
+        assertThat(eventConsumer.generateCorrelationKeys(eventInstance)).hasSize(6);
+        assertThat(eventConsumer.findCount).isEqualTo(3);
+    }
+
+    protected List<EventCorrelationParameterInstance> createCorrelationParameterInstances(int parameterCount) {
+        List<EventCorrelationParameterInstance> parameterInstances = new ArrayList<>(parameterCount);
+        for (int i = 0; i < parameterCount; i++) {
+            parameterInstances.add(new EventCorrelationParameterInstanceImpl(new EventCorrelationParameter("param" + i, "string"), "value" + i));
+        }
+        return parameterInstances;
+    }
+
+    protected Collection<CorrelationKey> generateCorrelationKeysWithNestedLoops(List<EventCorrelationParameterInstance> parameterInstances) {
+        Collection<CorrelationKey> correlationKeys = new HashSet<>();
+        for (int i = 1; i <= parameterInstances.size(); i++) {
+            for (int j = 0; j <= parameterInstances.size() - i; j++) {
+                List<EventCorrelationParameterInstance> parameterSubList = parameterInstances.subList(j, j + i);
+                Map<String, Object> data = new HashMap<>();
+                for (EventCorrelationParameterInstance parameterInstance : parameterSubList) {
+                    data.put(parameterInstance.getDefinitionName(), parameterInstance.getValue());
+                }
+                correlationKeys.add(new CorrelationKey(eventEngineConfiguration.getEventRegistry().generateKey(data), parameterSubList));
+            }
+        }
+        return correlationKeys;
+    }
+
+    protected static class TestEventConsumer extends BaseEventRegistryEventConsumer {
+
+        protected Collection<Set<String>> correlationParameterNames;
+        protected int findCount;
+
+        public TestEventConsumer(AbstractEngineConfiguration engineConfiguration) {
+            super(engineConfiguration);
+        }
+
+        @Override
+        public String getConsumerKey() {
+            return "testEventConsumer";
+        }
+
+        @Override
+        protected void eventReceived(EventInstance eventInstance) {
+        }
+
+        @Override
+        protected Collection<CorrelationKey> generateCorrelationKeys(EventInstance eventInstance) {
+            return super.generateCorrelationKeys(eventInstance);
+        }
+
+        @Override
+        protected Collection<CorrelationKey> generateCorrelationKeys(Collection<EventCorrelationParameterInstance> correlationParameterInstances) {
+            return super.generateCorrelationKeys(correlationParameterInstances);
+        }
+
+        @Override
+        protected Collection<CorrelationKey> generateCorrelationKeys(Collection<EventCorrelationParameterInstance> correlationParameterInstances,
+                Collection<Set<String>> correlationParameterNames) {
+            return super.generateCorrelationKeys(correlationParameterInstances, correlationParameterNames);
+        }
+
+        @Override
+        protected Collection<Set<String>> findCorrelationParameterNames(String eventDefinitionKey) {
+            findCount++;
+            return correlationParameterNames;
+        }
+
+        @Override
+        protected EventSubscriptionQuery createEventSubscriptionQuery() {
+            return null;
+        }
+    }
+}
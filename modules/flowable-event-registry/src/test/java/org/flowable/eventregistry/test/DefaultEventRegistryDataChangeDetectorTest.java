@@ -14,8 +14,17 @@ package org.flowable.eventregistry.test;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.flowable.common.engine.impl.db.AbstractDataManager;
+import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.eventregistry.api.management.EventRegistryChangeDetectionExecutor;
 import org.flowable.eventregistry.impl.management.DefaultEventRegistryChangeDetectionExecutor;
+import org.flowable.eventregistry.impl.management.DefaultEventRegistryChangeDetectionManager;
+import org.flowable.eventregistry.impl.persistence.deploy.ChannelDefinitionCacheEntry;
+import org.flowable.eventregistry.impl.persistence.entity.ChannelDefinitionEntityImpl;
 import org.junit.jupiter.api.Test;
 
 /**
@@ -35,4 +44,117 @@ public class DefaultEventRegistryDataChangeDetectorTest extends AbstractFlowable
         assertThat(executor.getChangeDetectionRunnable()).isNotNull();
     }
 
+    @Test
+    public void testDetectNewChannelDefinitionsUsingEngineClock() {
+        DefaultEventRegistryChangeDetectionManager changeDetectionManager = getChangeDetectionManager();
+        changeDetectionManager.resetChangeDetection();
+        DeploymentCache<ChannelDefinitionCacheEntry> channelDefinitionCache = eventEngineConfiguration.getDeploymentManager().getChannelDefinitionCache();
+
+        Date startTime = new Date();
+        eventEngineConfiguration.getClock().setCurrentTime(startTime);
+        String deploymentId = repositoryService.createDeployment()
+            .addClasspathResource("org/flowable/eventregistry/test/deployment/simpleChannel.channel")
+            .deploy()
+            .getId();
+        String otherDeploymentId = null;
+        String lateDeploymentId = null;
+
+        try {
+            // Removing the channel definition from the cache simulates a deployment on another node
+            String channelDefinitionId = getChannelDefinitionId("myChannel");
+            channelDefinitionCache.remove(channelDefinitionId);
+
+            // The first detection compares all channel definitions
+            changeDetectionManager.detectChanges();
+            assertThat(channelDefinitionCache.contains(channelDefinitionId)).isTrue();
+
+            // A deployment committed within the margin of the previous detection is picked up
+            eventEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() - 4 * 60 * 1000));
+            otherDeploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/eventregistry/test/deployment/orderChannel.channel")
+                .deploy()
+                .getId();
+            String otherChannelDefinitionId = repositoryService.createChannelDefinitionQuery().deploymentId(otherDeploymentId).singleResult().getId();
+            channelDefinitionCache.remove(otherChannelDefinitionId);
+
+            eventEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 60 * 1000));
+            changeDetectionManager.detectChanges();
+            assertThat(channelDefinitionCache.contains(otherChannelDefinitionId)).isTrue();
+
+            // A deployment created before the margin is only picked up by a full comparison
+            eventEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() - 10 * 60 * 1000));
+            lateDeploymentId = repositoryService.createDeployment()
+                .addClasspathResource("org/flowable/eventregistry/test/deployment/simpleChannelWithFixedTenant.channel")
+                .deploy()
+                .getId();
+            String lateChannelDefinitionId = repositoryService.createChannelDefinitionQuery().deploymentId(lateDeploymentId).singleResult().getId();
+            channelDefinitionCache.remove(lateChannelDefinitionId);
+
+            eventEngineConfiguration.getClock().setCurrentTime(new Date(startTime.getTime() + 2 * 60 * 1000));
+            changeDetectionManager.detectChanges();
+            assertThat(channelDefinitionCache.contains(lateChannelDefinitionId)).isFalse();
+
+            changeDetectionManager.resetChangeDetection();
+            changeDetectionManager.detectChanges();
+            assertThat(channelDefinitionCache.contains(lateChannelDefinitionId)).isTrue();
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId);
+            if (otherDeploymentId != null) {
+                repositoryService.deleteDeployment(otherDeploymentId);
+            }
+            if (lateDeploymentId != null) {
+                repositoryService.deleteDeployment(lateDeploymentId);
+            }
+        }
+    }
+
+    @Test
+    public void testDetectRemovedChannelDefinitions() {
+        DefaultEventRegistryChangeDetectionManager changeDetectionManager = getChangeDetectionManager();
+        changeDetectionManager.resetChangeDetection();
+        DeploymentCache<ChannelDefinitionCacheEntry> channelDefinitionCache = eventEngineConfiguration.getDeploymentManager().getChannelDefinitionCache();
+
+        String deploymentId = repositoryService.createDeployment()
+            .addClasspathResource("org/flowable/eventregistry/test/deployment/simpleChannel.channel")
+            .deploy()
+            .getId();
+
+        try {
+            changeDetectionManager.detectChanges();
+            String channelDefinitionId = getChannelDefinitionId("myChannel");
+            ChannelDefinitionCacheEntry cacheEntry = channelDefinitionCache.get(channelDefinitionId);
+
+            // Cache entries of channel definitions that no longer exist simulate removals on another node.
+            // There are more of them than the number of values in a single IN clause, so the ids are checked in chunks.
+            List<String> removedChannelDefinitionIds = new ArrayList<>();
+            for (int i = 0; i < AbstractDataManager.MAX_IN_CLAUSE_VALUES + 10; i++) {
+                ChannelDefinitionEntityImpl removedChannelDefinition = new ChannelDefinitionEntityImpl();
+                removedChannelDefinition.setId("removed-" + i);
+                removedChannelDefinition.setKey(cacheEntry.getChannelDefinitionEntity().getKey());
+                removedChannelDefinition.setTenantId(cacheEntry.getChannelDefinitionEntity().getTenantId());
+                channelDefinitionCache.add(removedChannelDefinition.getId(), new ChannelDefinitionCacheEntry(removedChannelDefinition, cacheEntry.getChannelModel()));
+                removedChannelDefinitionIds.add(removedChannelDefinition.getId());
+            }
+
+            changeDetectionManager.detectChanges();
+
+            assertThat(removedChannelDefinitionIds).noneMatch(channelDefinitionCache::contains);
+            // The latest channel definition with the same key is still registered
+            assertThat(channelDefinitionCache.contains(channelDefinitionId)).isTrue();
+            assertThat(repositoryService.getChannelModelById(channelDefinitionId)).isNotNull();
+
+        } finally {
+            repositoryService.deleteDeployment(deploymentId);
+        }
+    }
+
+    protected DefaultEventRegistryChangeDetectionManager getChangeDetectionManager() {
+        return (DefaultEventRegistryChangeDetectionManager) eventEngineConfiguration.getEventRegistryChangeDetectionManager();
+    }
+
+    protected String getChannelDefinitionId(String key) {
+        return repositoryService.createChannelDefinitionQuery().channelDefinitionKey(key).latestVersion().singleResult().getId();
+    }
+
 }
@@ -81,6 +81,12 @@ public interface EventSubscriptionQuery extends Query<EventSubscriptionQuery, Ev
     /** Only select event subscriptions that have no configuration. **/
     EventSubscriptionQuery withoutConfiguration();
 
+    /** Only select event subscriptions that have no process definition id. **/
+    EventSubscriptionQuery withoutProcessDefinitionId();
+
+    /** Only select event subscriptions that have no scope definition id. **/
+    EventSubscriptionQuery withoutScopeDefinitionId();
+
     /**
      * Begin an OR statement. Make sure you invoke the endOr() method at the end of your OR statement.
      */
@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.api.EventSubscriptionBuilder;
@@ -50,6 +51,12 @@ public interface EventSubscriptionService {
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByScopeAndEventName(String scopeId, String scopeType, String eventName);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
+
+    /**
+     * Passes the signal event subscriptions with the given event name to the given consumer in chunks,
+     * so that only one chunk of subscriptions is fetched at a time.
+     */
+    void findSignalEventSubscriptionsByEventNameInChunks(String eventName, String tenantId, Consumer<List<SignalEventSubscriptionEntity>> chunkConsumer);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String eventName, String executionId);
     
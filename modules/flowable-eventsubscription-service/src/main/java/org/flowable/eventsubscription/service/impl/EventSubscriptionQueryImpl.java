@@ -54,6 +54,8 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
     protected String configuration;
     protected Collection<String> configurations;
     protected boolean withoutConfiguration;
+    protected boolean withoutProcessDefinitionId;
+    protected boolean withoutScopeDefinitionId;
 
     protected List<EventSubscriptionQueryImpl> orQueryObjects = new ArrayList<>();
     protected EventSubscriptionQueryImpl currentOrQueryObject;
@@ -346,6 +348,26 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return this;
     }
 
+    @Override
+    public EventSubscriptionQueryImpl withoutProcessDefinitionId() {
+        if (inOrStatement) {
+            this.currentOrQueryObject.withoutProcessDefinitionId = true;
+        } else {
+            this.withoutProcessDefinitionId = true;
+        }
+        return this;
+    }
+
+    @Override
+    public EventSubscriptionQueryImpl withoutScopeDefinitionId() {
+        if (inOrStatement) {
+            this.currentOrQueryObject.withoutScopeDefinitionId = true;
+        } else {
+            this.withoutScopeDefinitionId = true;
+        }
+        return this;
+    }
+
     @Override
     public EventSubscriptionQuery or() {
         if (inOrStatement) {
@@ -490,6 +512,14 @@ public class EventSubscriptionQueryImpl extends AbstractQuery<EventSubscriptionQ
         return withoutConfiguration;
     }
 
+    public boolean isWithoutProcessDefinitionId() {
+        return withoutProcessDefinitionId;
+    }
+
+    public boolean isWithoutScopeDefinitionId() {
+        return withoutScopeDefinitionId;
+    }
+
     public List<EventSubscriptionQueryImpl> getOrQueryObjects() {
         return orQueryObjects;
     }
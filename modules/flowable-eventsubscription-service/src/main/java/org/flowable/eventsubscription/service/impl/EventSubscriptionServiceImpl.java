@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service.impl;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.service.CommonServiceImpl;
 import org.flowable.eventsubscription.api.EventSubscription;
@@ -89,6 +90,11 @@ public class EventSubscriptionServiceImpl extends CommonServiceImpl<EventSubscri
         return getEventSubscriptionEntityManager().findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
 
+    @Override
+    public void findSignalEventSubscriptionsByEventNameInChunks(String eventName, String tenantId, Consumer<List<SignalEventSubscriptionEntity>> chunkConsumer) {
+        getEventSubscriptionEntityManager().findSignalEventSubscriptionsByEventNameInChunks(eventName, tenantId, chunkConsumer);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByNameAndExecution(String eventName, String executionId) {
         return getEventSubscriptionEntityManager().findSignalEventSubscriptionsByNameAndExecution(eventName, executionId);
@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.EntityManager;
 import org.flowable.eventsubscription.api.EventSubscription;
@@ -76,6 +77,8 @@ public interface EventSubscriptionEntityManager extends EntityManager<EventSubsc
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(String eventName, String tenantId);
 
+    void findSignalEventSubscriptionsByEventNameInChunks(String eventName, String tenantId, Consumer<List<SignalEventSubscriptionEntity>> chunkConsumer);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByScopeAndEventName(String scopeId, String scopeType, String eventName);
@@ -15,6 +15,7 @@ package org.flowable.eventsubscription.service.impl.persistence.entity;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.bpmn.model.Signal;
 import org.flowable.common.engine.impl.persistence.entity.AbstractServiceEngineEntityManager;
@@ -123,6 +124,11 @@ public class EventSubscriptionEntityManagerImpl
         return dataManager.findSignalEventSubscriptionsByEventName(eventName, tenantId);
     }
 
+    @Override
+    public void findSignalEventSubscriptionsByEventNameInChunks(String eventName, String tenantId, Consumer<List<SignalEventSubscriptionEntity>> chunkConsumer) {
+        dataManager.findSignalEventSubscriptionsByEventNameInChunks(eventName, tenantId, chunkConsumer);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(String processInstanceId, String eventName) {
         return dataManager.findSignalEventSubscriptionsByProcessInstanceAndEventName(processInstanceId, eventName);
@@ -13,6 +13,7 @@
 package org.flowable.eventsubscription.service.impl.persistence.entity.data;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.persistence.entity.data.DataManager;
 import org.flowable.eventsubscription.api.EventSubscription;
@@ -44,6 +45,8 @@ public interface EventSubscriptionDataManager extends DataManager<EventSubscript
 
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByEventName(final String eventName, final String tenantId);
 
+    void findSignalEventSubscriptionsByEventNameInChunks(final String eventName, final String tenantId, Consumer<List<SignalEventSubscriptionEntity>> chunkConsumer);
+
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName);
     
     List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByScopeAndEventName(final String scopeId, final String scopeType, final String eventName);
@@ -16,8 +16,10 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.common.engine.impl.db.DbSqlSession;
+import org.flowable.common.engine.impl.db.ListQueryParameterObject;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
 import org.flowable.eventsubscription.api.EventSubscription;
 import org.flowable.eventsubscription.service.EventSubscriptionServiceConfiguration;
@@ -160,6 +162,31 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return toSignalEventSubscriptionEntityList(result);
     }
 
+    @Override
+    public void findSignalEventSubscriptionsByEventNameInChunks(final String eventName, final String tenantId, Consumer<List<SignalEventSubscriptionEntity>> chunkConsumer) {
+        final Map<String, String> params = new HashMap<>();
+        params.put("eventName", eventName);
+        if (tenantId != null && !tenantId.equals(EventSubscriptionServiceConfiguration.NO_TENANT_ID)) {
+            params.put("tenantId", tenantId);
+        }
+
+        // Subscriptions inserted in the current transaction are not in the database yet.
+        // They are determined up front, so subscriptions created while processing the chunks are not included.
+        List<EventSubscriptionEntity> insertedSubscriptions = new ArrayList<>();
+        for (EventSubscriptionEntity cachedSubscription : getListFromCache(signalEventSubscriptionByEventNameMatcher, params)) {
+            if (cachedSubscription.isInserted()) {
+                insertedSubscriptions.add(cachedSubscription);
+            }
+        }
+
+        ListQueryParameterObject parameter = new ListQueryParameterObject();
+        parameter.setParameter(params);
+        this.<EventSubscriptionEntity>forEachChunk("selectSignalEventSubscriptionsChunkByEventName", parameter, DEFAULT_CHUNK_SIZE, true,
+                EventSubscriptionEntity::getId, chunk -> acceptSignalEventSubscriptions(chunk, chunkConsumer));
+
+        acceptSignalEventSubscriptions(insertedSubscriptions, chunkConsumer);
+    }
+
     @Override
     public List<SignalEventSubscriptionEntity> findSignalEventSubscriptionsByProcessInstanceAndEventName(final String processInstanceId, final String eventName) {
         final String query = "selectSignalEventSubscriptionsByProcessInstanceAndEventName";
@@ -325,6 +352,21 @@ public class MybatisEventSubscriptionDataManager extends AbstractEventSubscripti
         return signalEventSubscriptionEntities;
     }
 
+    protected void acceptSignalEventSubscriptions(List<EventSubscriptionEntity> eventSubscriptions, Consumer<List<SignalEventSubscriptionEntity>> chunkConsumer) {
+        // Subscriptions deleted while processing a previous chunk are skipped
+        DbSqlSession dbSqlSession = getDbSqlSession();
+        List<SignalEventSubscriptionEntity> signalEventSubscriptionEntities = new ArrayList<>(eventSubscriptions.size());
+        for (EventSubscriptionEntity eventSubscriptionEntity : eventSubscriptions) {
+            if (!dbSqlSession.isEntityToBeDeleted(eventSubscriptionEntity)) {
+                signalEventSubscriptionEntities.add((SignalEventSubscriptionEntity) eventSubscriptionEntity);
+            }
+        }
+
+        if (!signalEventSubscriptionEntities.isEmpty()) {
+            chunkConsumer.accept(signalEventSubscriptionEntities);
+        }
+    }
+
     protected List<MessageEventSubscriptionEntity> toMessageEventSubscriptionEntityList(List<EventSubscriptionEntity> result) {
         List<MessageEventSubscriptionEntity> messageEventSubscriptionEntities = new ArrayList<>(result.size());
         for (EventSubscriptionEntity eventSubscriptionEntity : result) {
@@ -25,7 +25,7 @@ import org.flowable.common.engine.impl.el.DefaultExpressionManager;
 import org.flowable.common.engine.impl.el.ExpressionManager;
 import org.flowable.common.engine.impl.interceptor.CommandInterceptor;
 import org.flowable.common.engine.impl.interceptor.EngineConfigurationConstants;
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.form.api.FormEngineConfigurationApi;
@@ -290,6 +290,8 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
             dbSqlSessionFactory = createDbSqlSessionFactory();
             dbSqlSessionFactory.setDatabaseType(databaseType);
             dbSqlSessionFactory.setSqlSessionFactory(sqlSessionFactory);
+            dbSqlSessionFactory.setReadOnlySqlSessionFactory(readOnlySqlSessionFactory);
+            dbSqlSessionFactory.setReadOnlyStalenessPolicy(readOnlyStalenessPolicy);
             dbSqlSessionFactory.setDatabaseTablePrefix(databaseTablePrefix);
             dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
             dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
@@ -368,9 +370,9 @@ public class FormEngineConfiguration extends AbstractEngineConfiguration
         // Decision cache
         if (formDefinitionCache == null) {
             if (formDefinitionCacheLimit <= 0) {
-                formDefinitionCache = new DefaultDeploymentCache<>();
+                formDefinitionCache = new ConcurrentDeploymentCache<>();
             } else {
-                formDefinitionCache = new DefaultDeploymentCache<>(formDefinitionCacheLimit);
+                formDefinitionCache = new ConcurrentDeploymentCache<>(formDefinitionCacheLimit);
             }
         }
 
@@ -30,7 +30,6 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.el.VariableContainerWrapper;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
-import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.form.api.FormDeployment;
 import org.flowable.form.api.FormInstance;
 import org.flowable.form.api.FormInstanceInfo;
@@ -43,6 +42,7 @@ import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManager;
 import org.flowable.form.engine.impl.persistence.entity.FormInstanceEntity;
 import org.flowable.form.engine.impl.util.CommandContextUtil;
+import org.flowable.form.engine.impl.util.FormUtil;
 import org.flowable.form.model.ExpressionFormField;
 import org.flowable.form.model.FormField;
 import org.flowable.form.model.FormFieldTypes;
@@ -446,8 +446,7 @@ public class AbstractGetFormInstanceModelCmd implements Command<FormInstanceInfo
             FormInstance formInstance, CommandContext commandContext) {
 
         FormDefinitionEntity formDefinitionEntity = formCacheEntry.getFormDefinitionEntity();
-        FormJsonConverter formJsonConverter = CommandContextUtil.getFormEngineConfiguration().getFormJsonConverter();
-        SimpleFormModel formModel = formJsonConverter.convertToFormModel(formCacheEntry.getFormDefinitionJson());
+        SimpleFormModel formModel = FormUtil.getFormModel(formCacheEntry);
         FormInstanceInfo formInstanceModel = new FormInstanceInfo();
         formInstanceModel.setId(formDefinitionEntity.getId());
         formInstanceModel.setName(formDefinitionEntity.getName());
@@ -29,7 +29,6 @@ import org.flowable.common.engine.api.scope.ScopeTypes;
 import org.flowable.common.engine.impl.el.VariableContainerWrapper;
 import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
-import org.flowable.editor.form.converter.FormJsonConverter;
 import org.flowable.form.api.FormDeployment;
 import org.flowable.form.api.FormInfo;
 import org.flowable.form.api.FormInstance;
@@ -40,6 +39,7 @@ import org.flowable.form.engine.impl.persistence.deploy.FormDefinitionCacheEntry
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntityManager;
 import org.flowable.form.engine.impl.util.CommandContextUtil;
+import org.flowable.form.engine.impl.util.FormUtil;
 import org.flowable.form.model.ExpressionFormField;
 import org.flowable.form.model.FormField;
 import org.flowable.form.model.FormFieldTypes;
@@ -388,8 +388,7 @@ public class GetFormModelWithVariablesCmd implements Command<FormInfo>, Serializ
 
     protected FormInfo resolveFormModel(FormDefinitionCacheEntry formCacheEntry, CommandContext commandContext) {
         FormDefinitionEntity formEntity = formCacheEntry.getFormDefinitionEntity();
-        FormJsonConverter formJsonConverter = CommandContextUtil.getFormEngineConfiguration().getFormJsonConverter();
-        SimpleFormModel formModel = formJsonConverter.convertToFormModel(formCacheEntry.getFormDefinitionJson());
+        SimpleFormModel formModel = FormUtil.getFormModel(formCacheEntry);
         FormInfo formInfo = new FormInfo();
         formInfo.setId(formEntity.getId());
         formInfo.setName(formEntity.getName());
@@ -15,6 +15,7 @@ package org.flowable.form.engine.impl.persistence.deploy;
 import java.io.Serializable;
 
 import org.flowable.form.engine.impl.persistence.entity.FormDefinitionEntity;
+import org.flowable.form.model.SimpleFormModel;
 
 /**
  * @author Tijs Rademakers
@@ -26,11 +27,22 @@ public class FormDefinitionCacheEntry implements Serializable {
     protected FormDefinitionEntity formDefinitionEntity;
     protected String formDefinitionJson;
 
+    /**
+     * The parsed form definition, shared by all users of this cache entry. It must not be modified:
+     * use {@link SimpleFormModel#clone()} to get a copy that can be filled in.
+     */
+    protected SimpleFormModel formModel;
+
     public FormDefinitionCacheEntry(FormDefinitionEntity formDefinitionEntity, String formDefinitionJson) {
         this.formDefinitionEntity = formDefinitionEntity;
         this.formDefinitionJson = formDefinitionJson;
     }
 
+    public FormDefinitionCacheEntry(FormDefinitionEntity formDefinitionEntity, String formDefinitionJson, SimpleFormModel formModel) {
+        this(formDefinitionEntity, formDefinitionJson);
+        this.formModel = formModel;
+    }
+
     public FormDefinitionEntity getFormDefinitionEntity() {
         return formDefinitionEntity;
     }
@@ -46,4 +58,12 @@ public class FormDefinitionCacheEntry implements Serializable {
     public void setFormDefinitionJson(String formDefinitionJson) {
         this.formDefinitionJson = formDefinitionJson;
     }
+
+    public SimpleFormModel getFormModel() {
+        return formModel;
+    }
+
+    public void setFormModel(SimpleFormModel formModel) {
+        this.formModel = formModel;
+    }
 }
@@ -53,18 +53,31 @@ public class FormUtil {
         // This will check the cache in the findDeployedFormDefinitionById and resolveFormDefinition method
         FormDefinitionEntity formDefinitionEntity = deploymentManager.findDeployedFormDefinitionById(formDefinitionId);
         FormDefinitionCacheEntry cacheEntry = deploymentManager.resolveFormDefinition(formDefinitionEntity);
-        return formEngineConfiguration.getFormJsonConverter().convertToFormModel(cacheEntry.getFormDefinitionJson());
+        return getFormModel(cacheEntry);
     }
 
     public static SimpleFormModel getFormDefinitionFromCache(String formId) {
         FormEngineConfiguration formEngineConfiguration = CommandContextUtil.getFormEngineConfiguration();
         FormDefinitionCacheEntry cacheEntry = formEngineConfiguration.getFormDefinitionCache().get(formId);
         if (cacheEntry != null) {
-            return formEngineConfiguration.getFormJsonConverter().convertToFormModel(cacheEntry.getFormDefinitionJson());
+            return getFormModel(cacheEntry);
         }
         return null;
     }
 
+    /**
+     * Returns a copy of the form model of the given cache entry, which can be freely modified (e.g. filled in with variable values).
+     * The form definition json is only parsed once per cache entry.
+     */
+    public static SimpleFormModel getFormModel(FormDefinitionCacheEntry cacheEntry) {
+        SimpleFormModel formModel = cacheEntry.getFormModel();
+        if (formModel == null) {
+            formModel = CommandContextUtil.getFormEngineConfiguration().getFormJsonConverter().convertToFormModel(cacheEntry.getFormDefinitionJson());
+            cacheEntry.setFormModel(formModel);
+        }
+        return formModel.clone();
+    }
+
     public static FormDefinitionEntity getFormDefinitionFromDatabase(String formDefinitionId) {
         FormDefinitionEntityManager formDefinitionEntityManager = CommandContextUtil.getFormEngineConfiguration().getFormDefinitionEntityManager();
         FormDefinitionEntity formDefinition = formDefinitionEntityManager.findById(formDefinitionId);
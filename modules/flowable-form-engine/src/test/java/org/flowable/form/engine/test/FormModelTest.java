@@ -13,6 +13,8 @@
 package org.flowable.form.engine.test;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.fail;
 
 import java.util.HashMap;
@@ -198,6 +200,26 @@ public class FormModelTest extends AbstractFlowableFormTest {
         }
     }
     
+    @Test
+    @FormDeploymentAnnotation(resources = "org/flowable/form/engine/test/deployment/simple.form")
+    public void getSimpleFormModelWithVariablesDoesNotChangeCachedFormModel() throws Exception {
+        String formDefinitionId = repositoryService.getFormModelByKey("form1").getId();
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("input1", "test");
+
+        FormInfo formInfo = formService.getFormModelWithVariablesById(formDefinitionId, null, variables, null, false);
+        assertFormModel(formInfo);
+
+        FormInfo otherFormInfo = formService.getFormModelWithVariablesById(formDefinitionId, null, new HashMap<>(), null, false);
+        SimpleFormModel otherFormModel = (SimpleFormModel) otherFormInfo.getFormModel();
+        assertNotSame(formInfo.getFormModel(), otherFormModel);
+        assertNull(otherFormModel.getFields().get(0).getValue());
+
+        SimpleFormModel formModel = (SimpleFormModel) repositoryService.getFormModelById(formDefinitionId).getFormModel();
+        assertNull(formModel.getFields().get(0).getValue());
+    }
+
     protected void assertFormModel(FormInfo formInfo) {
         SimpleFormModel formModel = (SimpleFormModel) formInfo.getFormModel();
         assertEquals(1, formModel.getFields().size());
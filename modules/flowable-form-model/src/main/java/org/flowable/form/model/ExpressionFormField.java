@@ -12,6 +12,8 @@
  */
 package org.flowable.form.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * @author Tijs Rademakers
  *
@@ -29,4 +31,17 @@ public class ExpressionFormField extends FormField {
     public void setExpression(String expression) {
         this.expression = expression;
     }
+
+    @Override
+    public ExpressionFormField clone() {
+        ExpressionFormField clone = new ExpressionFormField();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(ExpressionFormField otherField) {
+        super.setValues(otherField);
+        setExpression(otherField.getExpression());
+    }
 }
\ No newline at end of file
@@ -15,6 +15,8 @@ package org.flowable.form.model;
 import java.util.ArrayList;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
 /**
  * @author Erik Winlof
  *
@@ -32,4 +34,25 @@ public class FormContainer extends FormField {
     public void setFields(List<List<FormField>> fields) {
         this.fields = fields;
     }
+
+    @Override
+    public FormContainer clone() {
+        FormContainer clone = new FormContainer();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(FormContainer otherContainer) {
+        super.setValues(otherContainer);
+        if (otherContainer.getFields() != null) {
+            List<List<FormField>> fieldsCopy = new ArrayList<>(otherContainer.getFields().size());
+            for (List<FormField> otherFields : otherContainer.getFields()) {
+                fieldsCopy.add(SimpleFormModel.cloneFields(otherFields));
+            }
+            setFields(fieldsCopy);
+        } else {
+            setFields(null);
+        }
+    }
 }
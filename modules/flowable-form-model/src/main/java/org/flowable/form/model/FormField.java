@@ -133,4 +133,29 @@ public class FormField implements Serializable {
         }
         return null;
     }
+
+    /**
+     * Creates a copy of this field that can be modified (e.g. its value) without affecting this field.
+     * The params and layout are shared with this field.
+     */
+    @Override
+    public FormField clone() {
+        FormField clone = new FormField();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(FormField otherField) {
+        setId(otherField.getId());
+        setName(otherField.getName());
+        setType(otherField.getType());
+        setValue(otherField.getValue());
+        setRequired(otherField.isRequired());
+        setReadOnly(otherField.isReadOnly());
+        setOverrideId(otherField.isOverrideId());
+        setPlaceholder(otherField.getPlaceholder());
+        setParams(otherField.getParams());
+        setLayout(otherField.getLayout());
+    }
 }
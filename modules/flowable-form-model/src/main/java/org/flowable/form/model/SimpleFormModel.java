@@ -19,6 +19,7 @@ import java.util.Map;
 
 import org.flowable.form.api.FormModel;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonInclude.Include;
 
@@ -143,4 +144,37 @@ public class SimpleFormModel implements FormModel {
         }
     }
 
+    /**
+     * Creates a copy of this form model of which the fields can be modified (e.g. filled in with variable values)
+     * without affecting this form model. Field params, layouts, options and the outcomes are shared.
+     */
+    @Override
+    public SimpleFormModel clone() {
+        SimpleFormModel clone = new SimpleFormModel();
+        clone.setValues(this);
+        return clone;
+    }
+
+    @JsonIgnore
+    public void setValues(SimpleFormModel otherModel) {
+        setName(otherModel.getName());
+        setKey(otherModel.getKey());
+        setVersion(otherModel.getVersion());
+        setDescription(otherModel.getDescription());
+        setFields(cloneFields(otherModel.getFields()));
+        setOutcomes(otherModel.getOutcomes() != null ? new ArrayList<>(otherModel.getOutcomes()) : null);
+        setOutcomeVariableName(otherModel.getOutcomeVariableName());
+    }
+
+    protected static List<FormField> cloneFields(List<FormField> fields) {
+        if (fields == null) {
+            return null;
+        }
+        List<FormField> clonedFields = new ArrayList<>(fields.size());
+        for (FormField field : fields) {
+            clonedFields.add(field != null ? field.clone() : null);
+        }
+        return clonedFields;
+    }
+
 }
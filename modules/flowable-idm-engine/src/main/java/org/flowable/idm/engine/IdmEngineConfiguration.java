@@ -303,6 +303,8 @@ public class IdmEngineConfiguration extends AbstractEngineConfiguration implemen
             dbSqlSessionFactory = createDbSqlSessionFactory();
             dbSqlSessionFactory.setDatabaseType(databaseType);
             dbSqlSessionFactory.setSqlSessionFactory(sqlSessionFactory);
+            dbSqlSessionFactory.setReadOnlySqlSessionFactory(readOnlySqlSessionFactory);
+            dbSqlSessionFactory.setReadOnlyStalenessPolicy(readOnlyStalenessPolicy);
             dbSqlSessionFactory.setDatabaseTablePrefix(databaseTablePrefix);
             dbSqlSessionFactory.setTablePrefixIsSchema(tablePrefixIsSchema);
             dbSqlSessionFactory.setDatabaseCatalog(databaseCatalog);
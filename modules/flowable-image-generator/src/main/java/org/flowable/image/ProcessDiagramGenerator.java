@@ -49,6 +49,21 @@ public interface ProcessDiagramGenerator {
     public InputStream generateDiagram(BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
             String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor,boolean drawSequenceFlowNameWithNoLabelDI);
 
+    /**
+     * Generates a diagram of the deployed process definition with the given id, e.g. with the active activities of one of its instances highlighted.
+     * As the model of a deployed process definition does not change, the parts of the diagram that do not depend on the highlights can be reused.
+     * 
+     * @param processDefinitionId
+     *            id of the process definition of the bpmn model
+     * @see #generateDiagram(BpmnModel, String, List, List, String, String, String, ClassLoader, double, boolean)
+     */
+    default InputStream generateDiagram(String processDefinitionId, BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        return generateDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+    }
+
     /**
      * Generates a diagram of the given process definition, using the diagram interchange information of the process.
      * 
@@ -137,6 +137,8 @@ public class DefaultProcessDiagramCanvas {
     protected static BufferedImage SIGNAL_CATCH_IMAGE;
     protected static BufferedImage SIGNAL_THROW_IMAGE;
 
+    protected static boolean defaultIconsLoaded;
+
     protected int canvasWidth = -1;
     protected int canvasHeight = -1;
     protected int minX = -1;
@@ -221,6 +223,29 @@ public class DefaultProcessDiagramCanvas {
         LABEL_FONT = new Font(labelFontName, Font.ITALIC, 10);
         ANNOTATION_FONT = new Font(annotationFontName, Font.PLAIN, FONT_SIZE);
 
+        loadIcons(customClassLoader);
+    }
+
+    /**
+     * Creates a canvas that draws on a copy of the given image, e.g. a cached diagram without highlights,
+     * so that only the highlights need to be drawn.
+     */
+    public DefaultProcessDiagramCanvas(BufferedImage baseImage, int minX, int minY, String imageType,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader) {
+
+        this(baseImage.getWidth(), baseImage.getHeight(), minX, minY, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader);
+        g.drawImage(baseImage, 0, 0, null);
+    }
+
+    /**
+     * Loads the icons used in the diagrams. The icons of the default class loader are only read once,
+     * icons of a custom class loader are read for every canvas (no reference to the class loader is kept).
+     */
+    protected static synchronized void loadIcons(ClassLoader customClassLoader) {
+        if (customClassLoader == null && defaultIconsLoaded) {
+            return;
+        }
+
         try {
             USERTASK_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/userTask.png", customClassLoader));
             SCRIPTTASK_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/scriptTask.png", customClassLoader));
@@ -247,7 +272,9 @@ public class DefaultProcessDiagramCanvas {
             MESSAGE_CATCH_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/message.png", customClassLoader));
             SIGNAL_THROW_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/signal-throw.png", customClassLoader));
             SIGNAL_CATCH_IMAGE = ImageIO.read(ReflectUtil.getResource("org/flowable/icons/signal.png", customClassLoader));
-            
+
+            defaultIconsLoaded = customClassLoader == null;
+
         } catch (IOException e) {
             LOGGER.warn("Could not load image for process diagram creation: {}", e.getMessage());
         }
@@ -299,6 +326,28 @@ public class DefaultProcessDiagramCanvas {
         return imageToSerialize;
     }
 
+    /**
+     * Returns the complete image drawn on the canvas, without removing the white space.
+     */
+    public BufferedImage getProcessDiagram() {
+        return processDiagram;
+    }
+
+    public int getMinX() {
+        return minX;
+    }
+
+    public int getMinY() {
+        return minY;
+    }
+
+    /**
+     * Draws the given image, e.g. a cached layer of the diagram, on top of what is already drawn on the canvas.
+     */
+    public void drawImage(BufferedImage image) {
+        g.drawImage(image, 0, 0, null);
+    }
+
     /**
      * Closes the canvas which disallows further drawing and releases graphical resources.
      */
@@ -16,10 +16,14 @@ package org.flowable.image.impl;
 import java.awt.image.BufferedImage;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 import org.flowable.bpmn.model.Activity;
 import org.flowable.bpmn.model.AdhocSubProcess;
@@ -87,6 +91,15 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
     protected Map<Class<? extends BaseElement>, ActivityDrawInstruction> activityDrawInstructions = new HashMap<>();
     protected Map<Class<? extends BaseElement>, ArtifactDrawInstruction> artifactDrawInstructions = new HashMap<>();
 
+    /**
+     * Layers of diagrams without highlights, per process definition id and rendering options, see {@link #setDiagramCacheSize(int)}.
+     * Only diagrams generated for a process definition id are cached.
+     */
+    protected int diagramCacheSize = 100;
+    protected long diagramCacheMaxBytes = 32L * 1024L * 1024L;
+    protected long diagramCacheBytes;
+    protected final Map<DiagramCacheKey, DiagramLayers> diagramCache = new LinkedHashMap<>(16, 0.75f, true);
+
     public DefaultProcessDiagramGenerator() {
         this(1.0);
     }
@@ -588,14 +601,150 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         return generateImage(bpmnModel, "png", Collections.<String>emptyList(), Collections.<String>emptyList(), scaleFactor,false);
     }
 
+    @Override
+    public InputStream generateDiagram(String processDefinitionId, BpmnModel bpmnModel, String imageType, List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        return generateProcessDiagram(processDefinitionId, bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI).generateImage(imageType);
+    }
+
     protected DefaultProcessDiagramCanvas generateProcessDiagram(BpmnModel bpmnModel, String imageType,
             List<String> highLightedActivities, List<String> highLightedFlows,
             String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor,boolean drawSequenceFlowNameWithNoLabelDI) {
 
+        return generateProcessDiagram(null, bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+    }
+
+    /**
+     * Draws the diagram. When the process definition id is known and the diagram cache is enabled, the diagram is composed of the cached
+     * layers of the process definition: the highlighted activities are drawn on top of the flow nodes, but below the sequence flows,
+     * labels and artifacts. The highlighted sequence flows are drawn on top.
+     */
+    protected DefaultProcessDiagramCanvas generateProcessDiagram(String processDefinitionId, BpmnModel bpmnModel, String imageType,
+            List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        if (diagramCacheSize <= 0 || processDefinitionId == null) {
+            return drawProcessDiagram(bpmnModel, imageType, highLightedActivities, highLightedFlows,
+                    activityFontName, labelFontName, annotationFontName, customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+        }
+
+        DiagramCacheKey cacheKey = new DiagramCacheKey(processDefinitionId, imageType, activityFontName, labelFontName, annotationFontName,
+                customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+
+        DiagramLayers diagramLayers;
+        synchronized (diagramCache) {
+            diagramLayers = diagramCache.get(cacheKey);
+        }
+
+        if (diagramLayers == null) {
+            diagramLayers = drawDiagramLayers(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName,
+                    customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+            cacheDiagram(cacheKey, diagramLayers);
+        }
+
+        // The cached layers are never handed out, the returned canvas draws on a copy of the flow node layer
+        DefaultProcessDiagramCanvas processDiagramCanvas = new DefaultProcessDiagramCanvas(diagramLayers.flowNodeImage, diagramLayers.minX, diagramLayers.minY,
+                imageType, activityFontName, labelFontName, annotationFontName, customClassLoader);
+
+        if (!highLightedActivities.isEmpty()) {
+            visitFlowNodes(bpmnModel, flowNode -> {
+                if (activityDrawInstructions.containsKey(flowNode.getClass()) && highLightedActivities.contains(flowNode.getId())) {
+                    drawHighLight(processDiagramCanvas, bpmnModel.getGraphicInfo(flowNode.getId()));
+                }
+            });
+        }
+
+        processDiagramCanvas.drawImage(diagramLayers.connectionImage);
+
+        if (!highLightedFlows.isEmpty()) {
+            visitFlowNodes(bpmnModel, flowNode -> {
+                for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                    if (highLightedFlows.contains(sequenceFlow.getId())) {
+                        drawSequenceFlow(processDiagramCanvas, bpmnModel, flowNode, sequenceFlow, true, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+                    }
+                }
+            });
+        }
+
+        return processDiagramCanvas;
+    }
+
+    /**
+     * Draws the layers of a diagram without highlights: the pools, lanes and flow nodes on the one hand,
+     * and the sequence flows, their labels and the artifacts on a transparent image on the other hand.
+     */
+    protected DiagramLayers drawDiagramLayers(BpmnModel bpmnModel, String imageType,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        prepareBpmnModel(bpmnModel);
+
+        DefaultProcessDiagramCanvas flowNodeCanvas = initProcessDiagramCanvas(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader);
+        drawPoolsAndLanes(flowNodeCanvas, bpmnModel, scaleFactor);
+        visitFlowNodes(bpmnModel, flowNode -> drawFlowNode(flowNodeCanvas, bpmnModel, flowNode, scaleFactor));
+        flowNodeCanvas.close();
+
+        BufferedImage flowNodeImage = flowNodeCanvas.getProcessDiagram();
+        DefaultProcessDiagramCanvas connectionCanvas = new DefaultProcessDiagramCanvas(flowNodeImage.getWidth(), flowNodeImage.getHeight(),
+                flowNodeCanvas.getMinX(), flowNodeCanvas.getMinY(), "png", activityFontName, labelFontName, annotationFontName, customClassLoader);
+        visitFlowNodes(bpmnModel, flowNode -> {
+            for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
+                drawSequenceFlow(connectionCanvas, bpmnModel, flowNode, sequenceFlow, false, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+            }
+        });
+        drawArtifacts(connectionCanvas, bpmnModel);
+        connectionCanvas.close();
+
+        return new DiagramLayers(flowNodeImage, connectionCanvas.getProcessDiagram(), flowNodeCanvas.getMinX(), flowNodeCanvas.getMinY());
+    }
+
+    /**
+     * Adds the diagram to the cache and removes the least recently used diagrams
+     * until both the amount of diagrams and their size are within the configured limits.
+     */
+    protected void cacheDiagram(DiagramCacheKey cacheKey, DiagramLayers diagramLayers) {
+        synchronized (diagramCache) {
+            DiagramLayers previousDiagramLayers = diagramCache.put(cacheKey, diagramLayers);
+            if (previousDiagramLayers != null) {
+                diagramCacheBytes -= previousDiagramLayers.getSizeInBytes();
+            }
+            diagramCacheBytes += diagramLayers.getSizeInBytes();
+
+            Iterator<DiagramLayers> diagrams = diagramCache.values().iterator();
+            while ((diagramCache.size() > diagramCacheSize || diagramCacheBytes > diagramCacheMaxBytes) && diagrams.hasNext()) {
+                diagramCacheBytes -= diagrams.next().getSizeInBytes();
+                diagrams.remove();
+            }
+        }
+    }
+
+    protected DefaultProcessDiagramCanvas drawProcessDiagram(BpmnModel bpmnModel, String imageType,
+            List<String> highLightedActivities, List<String> highLightedFlows,
+            String activityFontName, String labelFontName, String annotationFontName, ClassLoader customClassLoader, double scaleFactor,boolean drawSequenceFlowNameWithNoLabelDI) {
+
         prepareBpmnModel(bpmnModel);
 
         DefaultProcessDiagramCanvas processDiagramCanvas = initProcessDiagramCanvas(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName, customClassLoader);
 
+        drawPoolsAndLanes(processDiagramCanvas, bpmnModel, scaleFactor);
+
+        // Draw activities and their sequence-flows
+        for (Process process : bpmnModel.getProcesses()) {
+            for (FlowNode flowNode : process.findFlowElementsOfType(FlowNode.class)) {
+                if (!isPartOfCollapsedSubProcess(flowNode, bpmnModel)) {
+                    drawActivity(processDiagramCanvas, bpmnModel, flowNode, highLightedActivities, highLightedFlows, scaleFactor,drawSequenceFlowNameWithNoLabelDI);
+                }
+            }
+        }
+
+        drawArtifacts(processDiagramCanvas, bpmnModel);
+
+        return processDiagramCanvas;
+    }
+
+    protected void drawPoolsAndLanes(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel, double scaleFactor) {
         // Draw pool shape, if process is participant in collaboration
         for (Pool pool : bpmnModel.getPools()) {
             GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(pool.getId());
@@ -609,17 +758,9 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
                 processDiagramCanvas.drawPoolOrLane(lane.getName(), graphicInfo, scaleFactor);
             }
         }
+    }
 
-        // Draw activities and their sequence-flows
-        for (Process process : bpmnModel.getProcesses()) {
-            for (FlowNode flowNode : process.findFlowElementsOfType(FlowNode.class)) {
-                if (!isPartOfCollapsedSubProcess(flowNode, bpmnModel)) {
-                    drawActivity(processDiagramCanvas, bpmnModel, flowNode, highLightedActivities, highLightedFlows, scaleFactor,drawSequenceFlowNameWithNoLabelDI);
-                }
-            }
-        }
-
-        // Draw artifacts
+    protected void drawArtifacts(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel) {
         for (Process process : bpmnModel.getProcesses()) {
 
             for (Artifact artifact : process.getArtifacts()) {
@@ -643,8 +784,30 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
                 }
             }
         }
+    }
 
-        return processDiagramCanvas;
+    /**
+     * Visits the flow nodes in the order in which {@link #drawProcessDiagram} draws them.
+     */
+    protected void visitFlowNodes(BpmnModel bpmnModel, Consumer<FlowNode> visitor) {
+        for (Process process : bpmnModel.getProcesses()) {
+            for (FlowNode flowNode : process.findFlowElementsOfType(FlowNode.class)) {
+                if (!isPartOfCollapsedSubProcess(flowNode, bpmnModel)) {
+                    visitFlowNode(bpmnModel, flowNode, visitor);
+                }
+            }
+        }
+    }
+
+    protected void visitFlowNode(BpmnModel bpmnModel, FlowNode flowNode, Consumer<FlowNode> visitor) {
+        visitor.accept(flowNode);
+        if (flowNode instanceof FlowElementsContainer) {
+            for (FlowElement nestedFlowElement : ((FlowElementsContainer) flowNode).getFlowElements()) {
+                if (nestedFlowElement instanceof FlowNode && !isPartOfCollapsedSubProcess(nestedFlowElement, bpmnModel)) {
+                    visitFlowNode(bpmnModel, (FlowNode) nestedFlowElement, visitor);
+                }
+            }
+        }
     }
 
     protected void prepareBpmnModel(BpmnModel bpmnModel) {
@@ -713,37 +876,7 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
     protected void drawActivity(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel,
             FlowNode flowNode, List<String> highLightedActivities, List<String> highLightedFlows, double scaleFactor,Boolean drawSequenceFlowNameWithNoLabelDI ) {
 
-        ActivityDrawInstruction drawInstruction = activityDrawInstructions.get(flowNode.getClass());
-        if (drawInstruction != null) {
-
-            drawInstruction.draw(processDiagramCanvas, bpmnModel, flowNode);
-
-            // Gather info on the multi instance marker
-            boolean multiInstanceSequential = false;
-            boolean multiInstanceParallel = false;
-            boolean collapsed = false;
-            if (flowNode instanceof Activity) {
-                Activity activity = (Activity) flowNode;
-                MultiInstanceLoopCharacteristics multiInstanceLoopCharacteristics = activity.getLoopCharacteristics();
-                if (multiInstanceLoopCharacteristics != null) {
-                    multiInstanceSequential = multiInstanceLoopCharacteristics.isSequential();
-                    multiInstanceParallel = !multiInstanceSequential;
-                }
-            }
-
-            // Gather info on the collapsed marker
-            GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(flowNode.getId());
-            if (flowNode instanceof SubProcess) {
-                collapsed = graphicInfo.getExpanded() != null && !graphicInfo.getExpanded();
-            } else if (flowNode instanceof CallActivity) {
-                collapsed = true;
-            }
-
-            if (scaleFactor == 1.0) {
-                // Actually draw the markers
-                processDiagramCanvas.drawActivityMarkers((int) graphicInfo.getX(), (int) graphicInfo.getY(), (int) graphicInfo.getWidth(), (int) graphicInfo.getHeight(),
-                        multiInstanceSequential, multiInstanceParallel, collapsed);
-            }
+        if (drawFlowNode(processDiagramCanvas, bpmnModel, flowNode, scaleFactor)) {
 
             // Draw highlighted activities
             if (highLightedActivities.contains(flowNode.getId())) {
@@ -755,65 +888,117 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         // Outgoing transitions of activity
         for (SequenceFlow sequenceFlow : flowNode.getOutgoingFlows()) {
             boolean highLighted = (highLightedFlows.contains(sequenceFlow.getId()));
-            String defaultFlow = null;
-            if (flowNode instanceof Activity) {
-                defaultFlow = ((Activity) flowNode).getDefaultFlow();
-            } else if (flowNode instanceof Gateway) {
-                defaultFlow = ((Gateway) flowNode).getDefaultFlow();
+            drawSequenceFlow(processDiagramCanvas, bpmnModel, flowNode, sequenceFlow, highLighted, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+        }
+
+        // Nested elements
+        if (flowNode instanceof FlowElementsContainer) {
+            for (FlowElement nestedFlowElement : ((FlowElementsContainer) flowNode).getFlowElements()) {
+                if (nestedFlowElement instanceof FlowNode && !isPartOfCollapsedSubProcess(nestedFlowElement, bpmnModel)) {
+                    drawActivity(processDiagramCanvas, bpmnModel, (FlowNode) nestedFlowElement,
+                            highLightedActivities, highLightedFlows, scaleFactor,drawSequenceFlowNameWithNoLabelDI);
+                }
             }
+        }
+    }
+
+    /**
+     * Draws the flow node and its markers, without its nested elements.
+     *
+     * @return whether the flow node is drawn, i.e. a draw instruction exists for its type
+     */
+    protected boolean drawFlowNode(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel, FlowNode flowNode, double scaleFactor) {
+        ActivityDrawInstruction drawInstruction = activityDrawInstructions.get(flowNode.getClass());
+        if (drawInstruction == null) {
+            return false;
+        }
 
-            boolean isDefault = false;
-            if (defaultFlow != null && defaultFlow.equalsIgnoreCase(sequenceFlow.getId())) {
-                isDefault = true;
+        drawInstruction.draw(processDiagramCanvas, bpmnModel, flowNode);
+
+        // Gather info on the multi instance marker
+        boolean multiInstanceSequential = false;
+        boolean multiInstanceParallel = false;
+        boolean collapsed = false;
+        if (flowNode instanceof Activity) {
+            Activity activity = (Activity) flowNode;
+            MultiInstanceLoopCharacteristics multiInstanceLoopCharacteristics = activity.getLoopCharacteristics();
+            if (multiInstanceLoopCharacteristics != null) {
+                multiInstanceSequential = multiInstanceLoopCharacteristics.isSequential();
+                multiInstanceParallel = !multiInstanceSequential;
             }
-            boolean drawConditionalIndicator = sequenceFlow.getConditionExpression() != null && sequenceFlow.getConditionExpression().trim().length() > 0 && !(flowNode instanceof Gateway);
-
-            String sourceRef = sequenceFlow.getSourceRef();
-            String targetRef = sequenceFlow.getTargetRef();
-            FlowElement sourceElement = bpmnModel.getFlowElement(sourceRef);
-            FlowElement targetElement = bpmnModel.getFlowElement(targetRef);
-            List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
-            if (graphicInfoList != null && graphicInfoList.size() > 0) {
-                graphicInfoList = connectionPerfectionizer(processDiagramCanvas, bpmnModel, sourceElement, targetElement, graphicInfoList);
-                int xPoints[] = new int[graphicInfoList.size()];
-                int yPoints[] = new int[graphicInfoList.size()];
+        }
 
-                for (int i = 1; i < graphicInfoList.size(); i++) {
-                    GraphicInfo graphicInfo = graphicInfoList.get(i);
-                    GraphicInfo previousGraphicInfo = graphicInfoList.get(i - 1);
+        // Gather info on the collapsed marker
+        GraphicInfo graphicInfo = bpmnModel.getGraphicInfo(flowNode.getId());
+        if (flowNode instanceof SubProcess) {
+            collapsed = graphicInfo.getExpanded() != null && !graphicInfo.getExpanded();
+        } else if (flowNode instanceof CallActivity) {
+            collapsed = true;
+        }
 
-                    if (i == 1) {
-                        xPoints[0] = (int) previousGraphicInfo.getX();
-                        yPoints[0] = (int) previousGraphicInfo.getY();
-                    }
-                    xPoints[i] = (int) graphicInfo.getX();
-                    yPoints[i] = (int) graphicInfo.getY();
+        if (scaleFactor == 1.0) {
+            // Actually draw the markers
+            processDiagramCanvas.drawActivityMarkers((int) graphicInfo.getX(), (int) graphicInfo.getY(), (int) graphicInfo.getWidth(), (int) graphicInfo.getHeight(),
+                    multiInstanceSequential, multiInstanceParallel, collapsed);
+        }
 
-                }
+        return true;
+    }
 
-                processDiagramCanvas.drawSequenceflow(xPoints, yPoints, drawConditionalIndicator, isDefault, highLighted, scaleFactor);
+    /**
+     * Draws an outgoing sequence flow of the flow node and its label.
+     */
+    protected void drawSequenceFlow(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel, FlowNode flowNode, SequenceFlow sequenceFlow,
+            boolean highLighted, double scaleFactor, Boolean drawSequenceFlowNameWithNoLabelDI) {
+
+        String defaultFlow = null;
+        if (flowNode instanceof Activity) {
+            defaultFlow = ((Activity) flowNode).getDefaultFlow();
+        } else if (flowNode instanceof Gateway) {
+            defaultFlow = ((Gateway) flowNode).getDefaultFlow();
+        }
 
-                // Draw sequenceflow label
-                GraphicInfo labelGraphicInfo = bpmnModel.getLabelGraphicInfo(sequenceFlow.getId());
-                if (labelGraphicInfo != null) {
-                    processDiagramCanvas.drawLabel(sequenceFlow.getName(), labelGraphicInfo, false);
-                }else {
-                    if (drawSequenceFlowNameWithNoLabelDI) {
-                        GraphicInfo lineCenter = getLineCenter(graphicInfoList);
-                        processDiagramCanvas.drawLabel(sequenceFlow.getName(), lineCenter, false); 
-                    }
-                    
+        boolean isDefault = false;
+        if (defaultFlow != null && defaultFlow.equalsIgnoreCase(sequenceFlow.getId())) {
+            isDefault = true;
+        }
+        boolean drawConditionalIndicator = sequenceFlow.getConditionExpression() != null && sequenceFlow.getConditionExpression().trim().length() > 0 && !(flowNode instanceof Gateway);
+
+        String sourceRef = sequenceFlow.getSourceRef();
+        String targetRef = sequenceFlow.getTargetRef();
+        FlowElement sourceElement = bpmnModel.getFlowElement(sourceRef);
+        FlowElement targetElement = bpmnModel.getFlowElement(targetRef);
+        List<GraphicInfo> graphicInfoList = bpmnModel.getFlowLocationGraphicInfo(sequenceFlow.getId());
+        if (graphicInfoList != null && graphicInfoList.size() > 0) {
+            graphicInfoList = connectionPerfectionizer(processDiagramCanvas, bpmnModel, sourceElement, targetElement, graphicInfoList);
+            int xPoints[] = new int[graphicInfoList.size()];
+            int yPoints[] = new int[graphicInfoList.size()];
+
+            for (int i = 1; i < graphicInfoList.size(); i++) {
+                GraphicInfo graphicInfo = graphicInfoList.get(i);
+                GraphicInfo previousGraphicInfo = graphicInfoList.get(i - 1);
+
+                if (i == 1) {
+                    xPoints[0] = (int) previousGraphicInfo.getX();
+                    yPoints[0] = (int) previousGraphicInfo.getY();
                 }
+                xPoints[i] = (int) graphicInfo.getX();
+                yPoints[i] = (int) graphicInfo.getY();
+
             }
-        }
 
-        // Nested elements
-        if (flowNode instanceof FlowElementsContainer) {
-            for (FlowElement nestedFlowElement : ((FlowElementsContainer) flowNode).getFlowElements()) {
-                if (nestedFlowElement instanceof FlowNode && !isPartOfCollapsedSubProcess(nestedFlowElement, bpmnModel)) {
-                    drawActivity(processDiagramCanvas, bpmnModel, (FlowNode) nestedFlowElement,
-                            highLightedActivities, highLightedFlows, scaleFactor,drawSequenceFlowNameWithNoLabelDI);
+            processDiagramCanvas.drawSequenceflow(xPoints, yPoints, drawConditionalIndicator, isDefault, highLighted, scaleFactor);
+
+            // Draw sequenceflow label
+            GraphicInfo labelGraphicInfo = bpmnModel.getLabelGraphicInfo(sequenceFlow.getId());
+            if (labelGraphicInfo != null) {
+                processDiagramCanvas.drawLabel(sequenceFlow.getName(), labelGraphicInfo, false);
+            }else {
+                if (drawSequenceFlowNameWithNoLabelDI) {
+                    GraphicInfo lineCenter = getLineCenter(graphicInfoList);
+                    processDiagramCanvas.drawLabel(sequenceFlow.getName(), lineCenter, false); 
                 }
+                
             }
         }
     }
@@ -1108,6 +1293,40 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         return false;
     }
 
+    public int getDiagramCacheSize() {
+        return diagramCacheSize;
+    }
+
+    /**
+     * Sets the amount of process definitions of which the diagram layers are kept in memory (100 by default, 0 disables the cache).
+     */
+    public void setDiagramCacheSize(int diagramCacheSize) {
+        this.diagramCacheSize = diagramCacheSize;
+        clearDiagramCache();
+    }
+
+    public long getDiagramCacheMaxBytes() {
+        return diagramCacheMaxBytes;
+    }
+
+    /**
+     * Sets the maximum size of the uncompressed images kept in the diagram cache.
+     */
+    public void setDiagramCacheMaxBytes(long diagramCacheMaxBytes) {
+        this.diagramCacheMaxBytes = diagramCacheMaxBytes;
+        clearDiagramCache();
+    }
+
+    /**
+     * Removes all cached diagrams, e.g. after the {@link BpmnModel} of a process definition that was already rendered has been changed.
+     */
+    public void clearDiagramCache() {
+        synchronized (diagramCache) {
+            diagramCache.clear();
+            diagramCacheBytes = 0;
+        }
+    }
+
     public Map<Class<? extends BaseElement>, ActivityDrawInstruction> getActivityDrawInstructions() {
         return activityDrawInstructions;
     }
@@ -1126,6 +1345,57 @@ public class DefaultProcessDiagramGenerator implements ProcessDiagramGenerator {
         this.artifactDrawInstructions = artifactDrawInstructions;
     }
 
+    protected static class DiagramCacheKey {
+
+        protected final String processDefinitionId;
+        protected final List<Object> parameters;
+
+        public DiagramCacheKey(String processDefinitionId, String imageType, String activityFontName, String labelFontName, String annotationFontName,
+                ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+            this.processDefinitionId = processDefinitionId;
+            this.parameters = Arrays.asList(imageType, activityFontName, labelFontName, annotationFontName,
+                    customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || getClass() != o.getClass()) {
+                return false;
+            }
+            DiagramCacheKey other = (DiagramCacheKey) o;
+            return processDefinitionId.equals(other.processDefinitionId) && parameters.equals(other.parameters);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * processDefinitionId.hashCode() + parameters.hashCode();
+        }
+    }
+
+    protected static class DiagramLayers {
+
+        protected final BufferedImage flowNodeImage;
+        protected final BufferedImage connectionImage;
+        protected final int minX;
+        protected final int minY;
+
+        public DiagramLayers(BufferedImage flowNodeImage, BufferedImage connectionImage, int minX, int minY) {
+            this.flowNodeImage = flowNodeImage;
+            this.connectionImage = connectionImage;
+            this.minX = minX;
+            this.minY = minY;
+        }
+
+        public long getSizeInBytes() {
+            // Both canvases draw on an image with one int per pixel
+            return 4L * flowNodeImage.getWidth() * flowNodeImage.getHeight() + 4L * connectionImage.getWidth() * connectionImage.getHeight();
+        }
+    }
+
     protected interface ActivityDrawInstruction {
         void draw(DefaultProcessDiagramCanvas processDiagramCanvas, BpmnModel bpmnModel, FlowNode flowNode);
     }
@@ -0,0 +1,219 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.image.impl;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.flowable.bpmn.model.BpmnModel;
+import org.flowable.bpmn.model.EndEvent;
+import org.flowable.bpmn.model.FlowNode;
+import org.flowable.bpmn.model.GraphicInfo;
+import org.flowable.bpmn.model.Process;
+import org.flowable.bpmn.model.SequenceFlow;
+import org.flowable.bpmn.model.StartEvent;
+import org.flowable.bpmn.model.UserTask;
+import org.junit.Test;
+
+public class DefaultProcessDiagramGeneratorTest {
+
+    protected static final List<String> NO_HIGHLIGHTS = Collections.emptyList();
+    protected static final int HIGHLIGHT_COLOR = 0xffff0000;
+
+    @Test
+    public void testDiagramsWithoutProcessDefinitionIdAreNotCached() {
+        DefaultProcessDiagramGenerator generator = new DefaultProcessDiagramGenerator();
+        assertEquals(100, generator.getDiagramCacheSize());
+
+        generator.generatePngImage(createBpmnModel(), 1.0);
+        assertTrue(generator.diagramCache.isEmpty());
+    }
+
+    @Test
+    public void testCachedDiagramIsNotShared() {
+        DefaultProcessDiagramGenerator generator = new DefaultProcessDiagramGenerator();
+
+        BufferedImage image = generateImage(generator, createBpmnModel(), NO_HIGHLIGHTS, NO_HIGHLIGHTS);
+        assertEquals(1, generator.diagramCache.size());
+        BufferedImage expectedImage = copyImage(image);
+
+        // Drawing on a returned image does not change the cached diagram
+        image.setRGB(10, 10, 0xff00ff00);
+        BufferedImage otherImage = generateImage(generator, createBpmnModel(), NO_HIGHLIGHTS, NO_HIGHLIGHTS);
+        assertNotSame(image, otherImage);
+        assertSameImage(expectedImage, otherImage);
+        assertEquals(1, generator.diagramCache.size());
+    }
+
+    @Test
+    public void testInstanceDiagramWithHighLightsIsServedFromCache() {
+        AtomicInteger drawnDiagramLayers = new AtomicInteger();
+        DefaultProcessDiagramGenerator generator = new DefaultProcessDiagramGenerator() {
+
+            @Override
+            protected DiagramLayers drawDiagramLayers(BpmnModel bpmnModel, String imageType, String activityFontName, String labelFontName,
+                    String annotationFontName, ClassLoader customClassLoader, double scaleFactor, boolean drawSequenceFlowNameWithNoLabelDI) {
+
+                drawnDiagramLayers.incrementAndGet();
+                return super.drawDiagramLayers(bpmnModel, imageType, activityFontName, labelFontName, annotationFontName,
+                        customClassLoader, scaleFactor, drawSequenceFlowNameWithNoLabelDI);
+            }
+        };
+
+        // The model is fetched for every request, the layers are cached per process definition
+        BufferedImage image = generateImage(generator, createBpmnModel(), NO_HIGHLIGHTS, NO_HIGHLIGHTS);
+        BufferedImage activityHighLightedImage = generateImage(generator, createBpmnModel(), Collections.singletonList("task"), NO_HIGHLIGHTS);
+        BufferedImage flowHighLightedImage = generateImage(generator, createBpmnModel(), NO_HIGHLIGHTS, Collections.singletonList("flow2"));
+
+        assertEquals(1, drawnDiagramLayers.get());
+        assertEquals(1, generator.diagramCache.size());
+
+        assertFalse(containsColor(image, HIGHLIGHT_COLOR));
+        assertTrue(containsColor(activityHighLightedImage, HIGHLIGHT_COLOR));
+        assertTrue(containsColor(flowHighLightedImage, HIGHLIGHT_COLOR));
+    }
+
+    @Test
+    public void testHighLightsAreDrawnBelowSequenceFlows() {
+        List<String> highLightedActivities = Collections.singletonList("task");
+        DefaultProcessDiagramGenerator generator = new DefaultProcessDiagramGenerator();
+        BufferedImage image = generateImage(generator, createBpmnModel(), NO_HIGHLIGHTS, NO_HIGHLIGHTS);
+        BufferedImage highLightedImage = generateImage(generator, createBpmnModel(), highLightedActivities, NO_HIGHLIGHTS);
+        BufferedImage connectionImage = generator.diagramCache.values().iterator().next().connectionImage;
+
+        // Without the cache, the highlight is drawn on top of the incoming sequence flow
+        BufferedImage uncachedHighLightedImage = new DefaultProcessDiagramGenerator()
+                .generateProcessDiagram(createBpmnModel(), "png", highLightedActivities, NO_HIGHLIGHTS, null, null, null, null, 1.0, false)
+                .getProcessDiagram();
+
+        int coveredHighLightPixels = 0;
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if ((connectionImage.getRGB(x, y) >>> 24) == 0xff) {
+                    // Sequence flows, labels and artifacts stay on top of the highlights
+                    assertEquals("pixel " + x + "," + y, image.getRGB(x, y), highLightedImage.getRGB(x, y));
+                    if (uncachedHighLightedImage.getRGB(x, y) == HIGHLIGHT_COLOR) {
+                        coveredHighLightPixels++;
+                    }
+                }
+            }
+        }
+        assertTrue(coveredHighLightPixels > 0);
+    }
+
+    @Test
+    public void testDiagramCacheLimits() {
+        DefaultProcessDiagramGenerator generator = new DefaultProcessDiagramGenerator();
+        generator.setDiagramCacheSize(1);
+
+        BpmnModel bpmnModel = createBpmnModel();
+        generateImage(generator, "process:1:1", bpmnModel);
+        generateImage(generator, "process:2:2", bpmnModel);
+        assertEquals(1, generator.diagramCache.size());
+        assertEquals("process:2:2", generator.diagramCache.keySet().iterator().next().processDefinitionId);
+
+        // Diagrams are removed when the cached images are larger than the maximum size
+        generator.setDiagramCacheSize(10);
+        generator.setDiagramCacheMaxBytes(1L);
+        generateImage(generator, "process:1:1", bpmnModel);
+        assertTrue(generator.diagramCache.isEmpty());
+        assertEquals(0L, generator.diagramCacheBytes);
+
+        // The cache can be disabled
+        generator.setDiagramCacheMaxBytes(32L * 1024L * 1024L);
+        generator.setDiagramCacheSize(0);
+        generateImage(generator, "process:1:1", bpmnModel);
+        assertTrue(generator.diagramCache.isEmpty());
+    }
+
+    protected BufferedImage generateImage(DefaultProcessDiagramGenerator generator, BpmnModel bpmnModel, List<String> highLightedActivities, List<String> highLightedFlows) {
+        return generator.generateProcessDiagram("process:1:1", bpmnModel, "png", highLightedActivities, highLightedFlows, null, null, null, null, 1.0, false)
+                .getProcessDiagram();
+    }
+
+    protected BufferedImage generateImage(DefaultProcessDiagramGenerator generator, String processDefinitionId, BpmnModel bpmnModel) {
+        return generator.generateProcessDiagram(processDefinitionId, bpmnModel, "png", NO_HIGHLIGHTS, NO_HIGHLIGHTS, null, null, null, null, 1.0, false)
+                .getProcessDiagram();
+    }
+
+    protected BpmnModel createBpmnModel() {
+        BpmnModel bpmnModel = new BpmnModel();
+        Process process = new Process();
+        process.setId("process");
+        bpmnModel.addProcess(process);
+
+        StartEvent startEvent = new StartEvent();
+        startEvent.setId("start");
+        UserTask task = new UserTask();
+        task.setId("task");
+        task.setName("Task");
+        EndEvent endEvent = new EndEvent();
+        endEvent.setId("end");
+
+        addFlowNode(bpmnModel, process, startEvent, new GraphicInfo(10, 40, 30, 30));
+        addFlowNode(bpmnModel, process, task, new GraphicInfo(80, 25, 60, 100));
+        addFlowNode(bpmnModel, process, endEvent, new GraphicInfo(220, 41, 28, 28));
+        addSequenceFlow(bpmnModel, process, "flow1", startEvent, task, new GraphicInfo(40, 55), new GraphicInfo(80, 55));
+        addSequenceFlow(bpmnModel, process, "flow2", task, endEvent, new GraphicInfo(140, 55), new GraphicInfo(220, 55));
+        return bpmnModel;
+    }
+
+    protected void addFlowNode(BpmnModel bpmnModel, Process process, FlowNode flowNode, GraphicInfo graphicInfo) {
+        process.addFlowElement(flowNode);
+        bpmnModel.addGraphicInfo(flowNode.getId(), graphicInfo);
+    }
+
+    protected void addSequenceFlow(BpmnModel bpmnModel, Process process, String id, FlowNode source, FlowNode target, GraphicInfo... waypoints) {
+        SequenceFlow sequenceFlow = new SequenceFlow(source.getId(), target.getId());
+        sequenceFlow.setId(id);
+        process.addFlowElement(sequenceFlow);
+        source.getOutgoingFlows().add(sequenceFlow);
+        target.getIncomingFlows().add(sequenceFlow);
+        bpmnModel.addFlowGraphicInfoList(id, Arrays.asList(waypoints));
+    }
+
+    protected BufferedImage copyImage(BufferedImage image) {
+        BufferedImage copy = new BufferedImage(image.getWidth(), image.getHeight(), image.getType());
+        copy.getGraphics().drawImage(image, 0, 0, null);
+        return copy;
+    }
+
+    protected boolean containsColor(BufferedImage image, int color) {
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                if (image.getRGB(x, y) == color) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    protected void assertSameImage(BufferedImage expectedImage, BufferedImage image) {
+        assertEquals(expectedImage.getWidth(), image.getWidth());
+        assertEquals(expectedImage.getHeight(), image.getHeight());
+        for (int x = 0; x < image.getWidth(); x++) {
+            for (int y = 0; y < image.getHeight(); y++) {
+                assertEquals("pixel " + x + "," + y, expectedImage.getRGB(x, y), image.getRGB(x, y));
+            }
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service;
+
+import org.flowable.job.api.Job;
+
+/**
+ * Determines how the scope (process or case instance) of an exclusive job is locked, so that only one exclusive job of a scope is executed at a time.
+ *
+ * @see org.flowable.job.service.impl.asyncexecutor.DefaultExclusiveJobLockStrategy
+ * @see org.flowable.job.service.impl.asyncexecutor.RowLockExclusiveJobLockStrategy
+ */
+public interface ExclusiveJobLockStrategy {
+
+    /**
+     * @return true, if the scope is locked by the transaction executing the job and the lock is released when that transaction ends.
+     *         Otherwise, the scope is locked in a separate transaction before the job is executed, and unlocked by the transaction executing the job.
+     */
+    boolean isLockedInJobTransaction();
+
+    /**
+     * Locks the scope of the given exclusive job, throwing an exception when it is locked already.
+     */
+    void lockJobScope(InternalJobManager internalJobManager, Job job);
+
+    /**
+     * Unlocks the scope of the given exclusive job.
+     */
+    void unlockJobScope(InternalJobManager internalJobManager, Job job);
+
+}
@@ -30,6 +30,13 @@ public interface InternalJobManager {
     void handleJobDelete(Job job);
     
     void lockJobScope(Job job);
+
+    /**
+     * Locks the database row of the job scope until the end of the current transaction,
+     * failing immediately when the row is locked by another transaction or when the job scope has a lock time that hasn't expired yet.
+     * Used by the {@link org.flowable.job.service.impl.asyncexecutor.RowLockExclusiveJobLockStrategy}.
+     */
+    void lockJobScopeRow(Job job);
     
     void clearJobScopeLock(Job job);
     
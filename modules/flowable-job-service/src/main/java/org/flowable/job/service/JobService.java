@@ -33,6 +33,11 @@ import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
 public interface JobService {
     
     void scheduleAsyncJob(JobEntity job);
+
+    /**
+     * Schedules multiple async jobs, which only registers one listener to hand the jobs to the async executor after the transaction.
+     */
+    void scheduleAsyncJobs(List<JobEntity> jobs);
     
     JobQuery createJobQuery();
 
@@ -69,6 +74,8 @@ public interface JobService {
     void unacquireWithDecrementRetries(JobInfo job);
     
     void createAsyncJob(JobEntity job, boolean isExclusive);
+
+    void createAsyncJobs(List<JobEntity> jobs, boolean isExclusive);
     
     JobEntity createJob();
     
@@ -27,6 +27,7 @@ import org.flowable.job.service.impl.JobServiceImpl;
 import org.flowable.job.service.impl.TimerJobServiceImpl;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.asyncexecutor.AsyncRunnableExecutionExceptionHandler;
+import org.flowable.job.service.impl.asyncexecutor.DefaultExclusiveJobLockStrategy;
 import org.flowable.job.service.impl.asyncexecutor.DefaultJobManager;
 import org.flowable.job.service.impl.asyncexecutor.FailedJobCommandFactory;
 import org.flowable.job.service.impl.asyncexecutor.JobManager;
@@ -103,6 +104,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     protected BusinessCalendarManager businessCalendarManager;
 
     protected InternalJobManager internalJobManager;
+    protected ExclusiveJobLockStrategy exclusiveJobLockStrategy;
     protected InternalJobCompatibilityManager internalJobCompatibilityManager;
     protected InternalJobParentStateResolver jobParentStateResolver;
 
@@ -140,6 +142,7 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
 
     public void init() {
         initJobManager();
+        initExclusiveJobLockStrategy();
         initDataManagers();
         initEntityManagers();
     }
@@ -171,6 +174,12 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
         jobManager.setJobServiceConfiguration(this);
     }
 
+    public void initExclusiveJobLockStrategy() {
+        if (exclusiveJobLockStrategy == null) {
+            exclusiveJobLockStrategy = new DefaultExclusiveJobLockStrategy();
+        }
+    }
+
     // Data managers
     ///////////////////////////////////////////////////////////
 
@@ -381,6 +390,14 @@ public class JobServiceConfiguration extends AbstractServiceConfiguration {
     public void setInternalJobManager(InternalJobManager internalJobManager) {
         this.internalJobManager = internalJobManager;
     }
+
+    public ExclusiveJobLockStrategy getExclusiveJobLockStrategy() {
+        return exclusiveJobLockStrategy;
+    }
+
+    public void setExclusiveJobLockStrategy(ExclusiveJobLockStrategy exclusiveJobLockStrategy) {
+        this.exclusiveJobLockStrategy = exclusiveJobLockStrategy;
+    }
     
     public InternalJobCompatibilityManager getInternalJobCompatibilityManager() {
         return internalJobCompatibilityManager;
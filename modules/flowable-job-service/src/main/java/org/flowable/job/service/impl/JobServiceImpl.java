@@ -73,6 +73,11 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
         getJobManager().scheduleAsyncJob(job);
     }
 
+    @Override
+    public void scheduleAsyncJobs(List<JobEntity> jobs) {
+        getJobManager().scheduleAsyncJobs(jobs);
+    }
+
     @Override
     public JobEntity findJobById(String jobId) {
         return getJobEntityManager().findById(jobId);
@@ -149,6 +154,11 @@ public class JobServiceImpl extends ServiceImpl implements JobService {
         getJobManager().createAsyncJob(job, isExclusive);
     }
 
+    @Override
+    public void createAsyncJobs(List<JobEntity> jobs, boolean isExclusive) {
+        getJobManager().createAsyncJobs(jobs, isExclusive);
+    }
+
     @Override
     public void insertJob(JobEntity job) {
         getJobEntityManager().insert(job);
@@ -53,6 +53,7 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
 
     protected int maxTimerJobsPerAcquisition = 1;
     protected int maxAsyncJobsDuePerAcquisition = 1;
+    protected boolean timerJobBulkAcquisitionEnabled;
     protected int defaultTimerJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultAsyncJobAcquireWaitTimeInMillis = 10 * 1000;
     protected int defaultQueueSizeFullWaitTime;
@@ -263,6 +264,16 @@ public abstract class AbstractAsyncExecutor implements AsyncExecutor {
         this.maxTimerJobsPerAcquisition = maxTimerJobsPerAcquisition;
     }
 
+    @Override
+    public boolean isTimerJobBulkAcquisitionEnabled() {
+        return timerJobBulkAcquisitionEnabled;
+    }
+
+    @Override
+    public void setTimerJobBulkAcquisitionEnabled(boolean timerJobBulkAcquisitionEnabled) {
+        this.timerJobBulkAcquisitionEnabled = timerJobBulkAcquisitionEnabled;
+    }
+
     @Override
     public int getMaxAsyncJobsDuePerAcquisition() {
         return maxAsyncJobsDuePerAcquisition;
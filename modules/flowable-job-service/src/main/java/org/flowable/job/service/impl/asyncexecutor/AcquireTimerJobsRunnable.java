@@ -61,8 +61,15 @@ public class AcquireTimerJobsRunnable implements Runnable {
 
                     @Override
                     public Void execute(CommandContext commandContext) {
-                        for (TimerJobEntity job : acquiredJobs.getJobs()) {
-                            jobManager.moveTimerJobToExecutableJob(job);
+                        if (asyncExecutor.isTimerJobBulkAcquisitionEnabled()) {
+                            if (acquiredJobs.size() > 0) {
+                                jobManager.moveTimerJobsToExecutableJobs(acquiredJobs.getJobs());
+                            }
+
+                        } else {
+                            for (TimerJobEntity job : acquiredJobs.getJobs()) {
+                                jobManager.moveTimerJobToExecutableJob(job);
+                            }
                         }
                         return null;
                     }
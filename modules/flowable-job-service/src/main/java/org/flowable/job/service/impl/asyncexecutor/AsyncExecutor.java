@@ -81,6 +81,15 @@ public interface AsyncExecutor {
 
     void setMaxTimerJobsPerAcquisition(int maxJobs);
 
+    /**
+     * When enabled, timer jobs are locked with one update statement for all timers of an acquisition, skipping the timers that
+     * have been locked by another node in the meantime, instead of locking each timer through an optimistic locking update.
+     * This makes it possible to use a large {@link #getMaxTimerJobsPerAcquisition()} in a clustered environment.
+     */
+    boolean isTimerJobBulkAcquisitionEnabled();
+
+    void setTimerJobBulkAcquisitionEnabled(boolean timerJobBulkAcquisitionEnabled);
+
     int getRetryWaitTimeInMillis();
 
     void setRetryWaitTimeInMillis(int retryWaitTimeInMillis);
@@ -0,0 +1,58 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandContextCloseListener;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
+
+/**
+ * Hands multiple jobs that were created in the same command context to the {@link AsyncExecutor} when the command context is closed.
+ */
+public class AsyncJobsAddedNotification implements CommandContextCloseListener {
+
+    protected List<? extends JobInfoEntity> jobs;
+    protected AsyncExecutor asyncExecutor;
+    protected CommandExecutor commandExecutor;
+
+    public AsyncJobsAddedNotification(List<? extends JobInfoEntity> jobs, AsyncExecutor asyncExecutor, CommandExecutor commandExecutor) {
+        this.jobs = jobs;
+        this.asyncExecutor = asyncExecutor;
+        this.commandExecutor = commandExecutor;
+    }
+
+    @Override
+    public void closed(CommandContext commandContext) {
+        execute(commandContext);
+    }
+
+    public void execute(CommandContext commandContext) {
+        JobsAddedTransactionListener.executeAsyncJobs(jobs, asyncExecutor, commandExecutor);
+    }
+
+    @Override
+    public void closing(CommandContext commandContext) {
+    }
+
+    @Override
+    public void afterSessionsFlush(CommandContext commandContext) {
+    }
+
+    @Override
+    public void closeFailure(CommandContext commandContext) {
+    }
+
+}
@@ -12,6 +12,8 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
@@ -25,6 +27,8 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandConfig;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.InternalJobCompatibilityManager;
+import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,8 +117,30 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
 
     protected String threadPoolNamingPattern = "flowable-async-job-executor-thread-%d";
 
+    /**
+     * If true, the exclusive jobs of a process or case instance are executed one after the other by an {@link ExclusiveJobLane},
+     * instead of competing for the lock of the process or case instance on different threads.
+     */
+    protected boolean exclusiveJobAffinityEnabled;
+
+    /** The maximum number of jobs waiting in a single {@link ExclusiveJobLane} */
+    protected int exclusiveJobLaneCapacity = 100;
+
+    /** The maximum number of jobs an {@link ExclusiveJobLane} executes in a row, before it is submitted to the thread pool again */
+    protected int exclusiveJobLaneMaxJobsPerTurn = 10;
+
+    /** The active exclusive job lanes, by process or case instance */
+    protected final Map<String, ExclusiveJobLane> exclusiveJobLanes = new HashMap<>();
+
     @Override
     protected boolean executeAsyncJob(final JobInfo job, Runnable runnable) {
+        if (exclusiveJobAffinityEnabled && runnable instanceof ExecuteAsyncRunnable) {
+            String scopeKey = getExclusiveJobScopeKey(job);
+            if (scopeKey != null) {
+                return executeExclusiveJobInLane(job, scopeKey, (ExecuteAsyncRunnable) runnable);
+            }
+        }
+
         try {
             executorService.execute(runnable);
             return true;
@@ -127,6 +153,65 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         }
     }
 
+    /**
+     * Adds the job to the {@link ExclusiveJobLane} of its process or case instance, starting a new lane when needed.
+     * A full lane only concerns this process or case instance: the job is unacquired and true is returned,
+     * so the jobs of other instances are still offered. False is only returned when the thread pool rejected a new lane.
+     */
+    protected boolean executeExclusiveJobInLane(final JobInfo job, String scopeKey, ExecuteAsyncRunnable runnable) {
+        boolean laneFull = false;
+        synchronized (exclusiveJobLanes) {
+            ExclusiveJobLane lane = exclusiveJobLanes.get(scopeKey);
+            if (lane != null) {
+                if (lane.offer(runnable)) {
+                    return true;
+                }
+
+                LOGGER.debug("Exclusive job lane for {} is full, unacquiring job {}", scopeKey, job.getId());
+                laneFull = true;
+            } else {
+                lane = new ExclusiveJobLane(scopeKey, exclusiveJobLanes, exclusiveJobLaneCapacity, executorService, exclusiveJobLaneMaxJobsPerTurn);
+                lane.offer(runnable);
+                try {
+                    executorService.execute(lane);
+                    exclusiveJobLanes.put(scopeKey, lane);
+                    return true;
+
+                } catch (RejectedExecutionException e) {
+                    // Job queue full, handled below
+                }
+            }
+        }
+
+        unacquireJobAfterRejection(job);
+
+        // Only a full job queue returns false, so (if wanted) the acquiring can be throttled
+        return laneFull;
+    }
+
+    /**
+     * Returns the key of the process or case instance of the given job when it needs to be executed in an {@link ExclusiveJobLane},
+     * null otherwise.
+     */
+    protected String getExclusiveJobScopeKey(JobInfo job) {
+        if (!(job instanceof AbstractRuntimeJobEntity) || !((AbstractRuntimeJobEntity) job).isExclusive()) {
+            return null;
+        }
+
+        AbstractRuntimeJobEntity runtimeJob = (AbstractRuntimeJobEntity) job;
+        InternalJobCompatibilityManager internalJobCompatibilityManager = jobServiceConfiguration.getInternalJobCompatibilityManager();
+        if (internalJobCompatibilityManager != null && internalJobCompatibilityManager.isFlowable5Job(runtimeJob)) {
+            return null;
+        }
+
+        if (runtimeJob.getProcessInstanceId() != null && runtimeJob.getExecutionId() != null) {
+            return runtimeJob.getProcessInstanceId();
+        } else if (runtimeJob.getScopeId() != null) {
+            return runtimeJob.getScopeType() + ":" + runtimeJob.getScopeId();
+        }
+        return null;
+    }
+
     protected void unacquireJobAfterRejection(final JobInfo job) {
 
         // When a RejectedExecutionException is caught, this means that the
@@ -407,6 +492,39 @@ public class DefaultAsyncJobExecutor extends AbstractAsyncExecutor {
         this.executorService = executorService;
     }
 
+    public boolean isExclusiveJobAffinityEnabled() {
+        return exclusiveJobAffinityEnabled;
+    }
+
+    public void setExclusiveJobAffinityEnabled(boolean exclusiveJobAffinityEnabled) {
+        this.exclusiveJobAffinityEnabled = exclusiveJobAffinityEnabled;
+    }
+
+    public int getExclusiveJobLaneCapacity() {
+        return exclusiveJobLaneCapacity;
+    }
+
+    public void setExclusiveJobLaneCapacity(int exclusiveJobLaneCapacity) {
+        this.exclusiveJobLaneCapacity = exclusiveJobLaneCapacity;
+    }
+
+    public int getExclusiveJobLaneMaxJobsPerTurn() {
+        return exclusiveJobLaneMaxJobsPerTurn;
+    }
+
+    public void setExclusiveJobLaneMaxJobsPerTurn(int exclusiveJobLaneMaxJobsPerTurn) {
+        this.exclusiveJobLaneMaxJobsPerTurn = exclusiveJobLaneMaxJobsPerTurn;
+    }
+
+    /**
+     * Returns the number of exclusive job lanes currently executing or waiting for a thread.
+     */
+    public int getActiveExclusiveJobLaneCount() {
+        synchronized (exclusiveJobLanes) {
+            return exclusiveJobLanes.size();
+        }
+    }
+
     public String getThreadPoolNamingPattern() {
         return threadPoolNamingPattern;
     }
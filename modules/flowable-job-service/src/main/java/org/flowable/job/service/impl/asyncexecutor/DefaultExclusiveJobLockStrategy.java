@@ -0,0 +1,39 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import org.flowable.job.api.Job;
+import org.flowable.job.service.ExclusiveJobLockStrategy;
+import org.flowable.job.service.InternalJobManager;
+
+/**
+ * Locks the scope of an exclusive job by setting its lock time in a separate transaction, which is supported on all databases.
+ */
+public class DefaultExclusiveJobLockStrategy implements ExclusiveJobLockStrategy {
+
+    @Override
+    public boolean isLockedInJobTransaction() {
+        return false;
+    }
+
+    @Override
+    public void lockJobScope(InternalJobManager internalJobManager, Job job) {
+        internalJobManager.lockJobScope(job);
+    }
+
+    @Override
+    public void unlockJobScope(InternalJobManager internalJobManager, Job job) {
+        internalJobManager.clearJobScopeLock(job);
+    }
+
+}
@@ -12,9 +12,12 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.Collection;
 import java.util.Date;
 import java.util.GregorianCalendar;
+import java.util.List;
 import java.util.Map;
 
 import org.apache.commons.lang3.StringUtils;
@@ -27,6 +30,7 @@ import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.cfg.TransactionState;
 import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
 import org.flowable.job.api.HistoryJob;
 import org.flowable.job.api.Job;
 import org.flowable.job.api.JobInfo;
@@ -48,6 +52,7 @@ import org.flowable.job.service.impl.persistence.entity.DeadLetterJobEntity;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 import org.flowable.job.service.impl.persistence.entity.JobByteArrayRef;
 import org.flowable.job.service.impl.persistence.entity.JobEntity;
+import org.flowable.job.service.impl.persistence.entity.JobEntityManager;
 import org.flowable.job.service.impl.persistence.entity.JobInfoEntity;
 import org.flowable.job.service.impl.persistence.entity.SuspendedJobEntity;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
@@ -93,6 +98,34 @@ public class DefaultJobManager implements JobManager {
         triggerExecutorIfNeeded(jobEntity);
     }
 
+    @Override
+    public void createAsyncJobs(List<JobEntity> jobEntities, boolean exclusive) {
+        for (JobEntity jobEntity : jobEntities) {
+            createAsyncJob(jobEntity, exclusive);
+        }
+    }
+
+    @Override
+    public void scheduleAsyncJobs(List<JobEntity> jobEntities) {
+        if (jobEntities.isEmpty()) {
+            return;
+        }
+
+        JobEntityManager jobEntityManager = jobServiceConfiguration.getJobEntityManager();
+        for (JobEntity jobEntity : jobEntities) {
+            callJobProcessors(JobProcessorContext.Phase.BEFORE_CREATE, jobEntity);
+            jobEntityManager.insert(jobEntity);
+        }
+        triggerExecutorIfNeeded(jobEntities);
+    }
+
+    protected void triggerExecutorIfNeeded(List<JobEntity> jobEntities) {
+        // When the async executor is activated, the jobs are directly passed on to the async executor thread
+        if (isAsyncExecutorActive()) {
+            hintAsyncExecutor(jobEntities);
+        }
+    }
+
     protected void triggerExecutorIfNeeded(JobEntity jobEntity) {
         // When the async executor is activated, the job is directly passed on to the async executor thread
         if (isAsyncExecutorActive()) {
@@ -138,6 +171,28 @@ public class DefaultJobManager implements JobManager {
         return null;
     }
 
+    @Override
+    public List<JobEntity> moveTimerJobsToExecutableJobs(Collection<TimerJobEntity> timerJobs) {
+        List<JobEntity> executableJobs = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            if (timerJob == null) {
+                throw new FlowableException("Empty timer job can not be scheduled");
+            }
+
+            JobEntity executableJob = createExecutableJobFromOtherJob(timerJob);
+            boolean insertSuccessful = jobServiceConfiguration.getJobEntityManager().insertJobEntity(executableJob);
+            if (insertSuccessful) {
+                jobServiceConfiguration.getTimerJobEntityManager().delete(timerJob);
+                executableJobs.add(executableJob);
+            }
+        }
+
+        if (!executableJobs.isEmpty()) {
+            triggerExecutorIfNeeded(executableJobs);
+        }
+        return executableJobs;
+    }
+
     @Override
     public TimerJobEntity moveJobToTimerJob(AbstractRuntimeJobEntity job) {
         TimerJobEntity timerJob = createTimerJobFromOtherJob(job);
@@ -454,6 +509,27 @@ public class DefaultJobManager implements JobManager {
         createHintListeners(getAsyncExecutor(), job);
     }
 
+    protected void hintAsyncExecutor(List<JobEntity> jobs) {
+        for (JobEntity job : jobs) {
+            if (job.getLockOwner() == null || job.getLockExpirationTime() == null) {
+                createAsyncJob(job, job.isExclusive());
+            }
+        }
+        createHintListeners(getAsyncExecutor(), jobs);
+    }
+
+    protected void createHintListeners(AsyncExecutor asyncExecutor, List<? extends JobInfoEntity> jobs) {
+        CommandContext commandContext = CommandContextUtil.getCommandContext();
+        CommandExecutor commandExecutor = CommandContextUtil.getJobServiceConfiguration(commandContext).getCommandExecutor();
+        if (Context.getTransactionContext() != null) {
+            Context.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, new JobsAddedTransactionListener(jobs, asyncExecutor, commandExecutor));
+
+        } else {
+            commandContext.addCloseListener(new AsyncJobsAddedNotification(jobs, asyncExecutor, commandExecutor));
+
+        }
+    }
+
     protected void createHintListeners(AsyncExecutor asyncExecutor, JobInfoEntity job) {
         CommandContext commandContext = CommandContextUtil.getCommandContext();
         if (Context.getTransactionContext() != null) {
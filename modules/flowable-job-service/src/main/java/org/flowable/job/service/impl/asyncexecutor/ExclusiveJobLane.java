@@ -0,0 +1,181 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Executes the exclusive jobs of a single process or case instance one after the other, on one thread of the async executor.
+ * <p>
+ * The job scope (process or case instance) stays locked in the database while the lane has jobs left: the first job locks the scope
+ * and the last job unlocks it, both as part of the transaction executing the job. Consecutive jobs don't need to lock the scope again.
+ * The database lock remains the guard against other nodes: when it can't be obtained, all jobs of the lane are unacquired
+ * so they can be acquired again later (or by the node holding the lock).
+ * <p>
+ * After executing a maximum number of jobs in a row, the lane is submitted to the executor again when jobs are left,
+ * so a busy process or case instance doesn't keep a thread of the async executor to itself. The scope stays locked in between.
+ */
+public class ExclusiveJobLane implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExclusiveJobLane.class);
+
+    protected final String scopeKey;
+    protected final Map<String, ExclusiveJobLane> lanes;
+    protected final int capacity;
+    protected final Executor executor;
+    protected final int maxJobsPerTurn;
+
+    protected final LinkedList<ExecuteAsyncRunnable> runnables = new LinkedList<>();
+    protected boolean closed;
+    protected boolean scopeLocked;
+
+    /**
+     * @param lanes
+     *            the active lanes by scope key, which is also used as monitor when adding jobs to or closing a lane
+     * @param executor
+     *            the executor the lane is submitted to again after executing maxJobsPerTurn jobs in a row
+     */
+    public ExclusiveJobLane(String scopeKey, Map<String, ExclusiveJobLane> lanes, int capacity, Executor executor, int maxJobsPerTurn) {
+        this.scopeKey = scopeKey;
+        this.lanes = lanes;
+        this.capacity = capacity;
+        this.executor = executor;
+        this.maxJobsPerTurn = maxJobsPerTurn;
+    }
+
+    /**
+     * Adds a job to this lane. Needs to be called while holding the monitor of the lanes.
+     *
+     * @return false when the lane is closed or full
+     */
+    public boolean offer(ExecuteAsyncRunnable runnable) {
+        if (closed || runnables.size() >= capacity) {
+            return false;
+        }
+        runnables.add(runnable);
+        return true;
+    }
+
+    @Override
+    public void run() {
+        int jobsExecuted = 0;
+        while (true) {
+            ExecuteAsyncRunnable runnable;
+            synchronized (lanes) {
+                // The job stays in the lane while it is executed, so the lane knows whether another job follows
+                runnable = runnables.peek();
+            }
+
+            scopeLocked = runnable.executeInLane(scopeLocked, this);
+
+            if (runnable.isScopeLockFailed()) {
+                unacquireRemainingJobs();
+                return;
+            }
+
+            synchronized (lanes) {
+                runnables.poll();
+                if (closed) {
+                    return;
+                }
+
+                if (runnables.isEmpty()) {
+                    // Only when the job failed, otherwise the lane was closed by the job itself
+                    close();
+                    return;
+                }
+            }
+
+            jobsExecuted++;
+            if (jobsExecuted >= maxJobsPerTurn) {
+                if (resubmit()) {
+                    return;
+                }
+                jobsExecuted = 0;
+            }
+        }
+    }
+
+    /**
+     * Submits this lane to the executor again, to give the jobs of other lanes a turn.
+     *
+     * @return false when the executor rejected the lane, in which case the current thread continues executing the jobs of the lane
+     */
+    protected boolean resubmit() {
+        try {
+            executor.execute(this);
+            return true;
+
+        } catch (RejectedExecutionException e) {
+            LOGGER.debug("Could not resubmit exclusive job lane for {}, continuing in the current thread", scopeKey);
+            return false;
+        }
+    }
+
+    /**
+     * Called from within the transaction executing the given job. Closes the lane when no other job follows,
+     * in which case the job needs to unlock the scope in the same transaction.
+     */
+    protected boolean closeIfLastJob(ExecuteAsyncRunnable runnable) {
+        synchronized (lanes) {
+            if (runnables.size() == 1 && runnables.peek() == runnable) {
+                close();
+                return true;
+            }
+            return false;
+        }
+    }
+
+    protected void close() {
+        closed = true;
+        lanes.remove(scopeKey, this);
+    }
+
+    protected void unacquireRemainingJobs() {
+        List<ExecuteAsyncRunnable> remainingRunnables;
+        synchronized (lanes) {
+            // The first job has already been unacquired after failing to lock the scope
+            runnables.poll();
+            remainingRunnables = new ArrayList<>(runnables);
+            runnables.clear();
+            close();
+        }
+
+        for (ExecuteAsyncRunnable remainingRunnable : remainingRunnables) {
+            try {
+                remainingRunnable.unacquireJob();
+            } catch (Throwable t) {
+                LOGGER.warn("Could not unacquire exclusive job {} of {}, it will be reset when its lock expires", remainingRunnable.jobId, scopeKey, t);
+            }
+        }
+    }
+
+    public String getScopeKey() {
+        return scopeKey;
+    }
+
+    public int size() {
+        synchronized (lanes) {
+            return runnables.size();
+        }
+    }
+
+}
@@ -14,6 +14,7 @@ package org.flowable.job.service.impl.asyncexecutor;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableOptimisticLockingException;
@@ -48,6 +49,7 @@ public class ExecuteAsyncRunnable implements Runnable {
     protected JobServiceConfiguration jobServiceConfiguration;
     protected JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager;
     protected List<AsyncRunnableExecutionExceptionHandler> asyncRunnableExecutionExceptionHandlers;
+    protected boolean scopeLockFailed;
 
     public ExecuteAsyncRunnable(String jobId, JobServiceConfiguration jobServiceConfiguration,
             JobInfoEntityManager<? extends JobInfoEntity> jobEntityManager,
@@ -108,6 +110,11 @@ public class ExecuteAsyncRunnable implements Runnable {
         if (job instanceof AbstractRuntimeJobEntity) {
 
             boolean lockingNeeded = ((AbstractRuntimeJobEntity) job).isExclusive();
+            if (lockingNeeded && jobServiceConfiguration.getExclusiveJobLockStrategy().isLockedInJobTransaction()) {
+                executeJobWithScopeLock();
+                return;
+            }
+
             boolean executeJob = true;
             if (lockingNeeded) {
                 executeJob = lockJob();
@@ -140,22 +147,130 @@ public class ExecuteAsyncRunnable implements Runnable {
             });
 
         } catch (final FlowableOptimisticLockingException e) {
+            handleOptimisticLockingException(e);
 
-            try {
-                handleFailedJob(e);
-            } catch (Exception fe) {
-                // no additional handling is needed
-            }
+        } catch (Throwable exception) {
+            handleFailedJob(exception);
+        }
+    }
 
-            if (LOGGER.isDebugEnabled()) {
-                LOGGER.debug("Optimistic locking exception during job execution. If you have multiple async executors running against the same database, "
-                        + "this exception means that this thread tried to acquire an exclusive job, which already was changed by another async executor thread."
-                        + "This is expected behavior in a clustered environment. " + "You can ignore this message if you indeed have multiple job executor threads running against the same database. "
-                        + "Exception message: {}", e.getMessage());
+    /**
+     * Locks the job scope and executes this exclusive job in one transaction, for an {@link org.flowable.job.service.ExclusiveJobLockStrategy}
+     * that keeps the lock until the end of the job transaction. When the job scope can't be locked, the job is unacquired without using one of its retries.
+     */
+    protected void executeJobWithScopeLock() {
+        final Job exclusiveJob = (Job) job;
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(new Command<Void>() {
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    lockJobScope(exclusiveJob, commandContext);
+                    new ExecuteAsyncJobCmd(jobId, jobEntityManager).execute(commandContext);
+                    return null;
+                }
+            });
+
+        } catch (Throwable exception) {
+            if (scopeLockFailed) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Could not lock exclusive job. Unlocking job so it can be acquired again. Caught exception: {}", exception.getMessage());
+                }
+                unacquireJob();
+
+            } else if (exception instanceof FlowableOptimisticLockingException) {
+                handleOptimisticLockingException((FlowableOptimisticLockingException) exception);
+
+            } else {
+                handleFailedJob(exception);
             }
+        }
+    }
+
+    protected void lockJobScope(Job exclusiveJob, CommandContext commandContext) {
+        try {
+            new LockExclusiveJobCmd(exclusiveJob).execute(commandContext);
+        } catch (RuntimeException e) {
+            scopeLockFailed = true;
+            throw e;
+        }
+    }
+
+    /**
+     * Executes this exclusive job as part of an {@link ExclusiveJobLane}. Locking the job scope (unless the previous job of the lane
+     * kept it locked), executing the job and unlocking the job scope (when no other job of the lane follows) are done in one transaction.
+     *
+     * @return whether the job scope is still locked afterwards
+     */
+    protected boolean executeInLane(final boolean scopeLocked, final ExclusiveJobLane lane) {
+        final Job exclusiveJob = (Job) job;
+        final AtomicBoolean scopeUnlocked = new AtomicBoolean(false);
+        // A lock that is released at the end of the job transaction can't be kept for the next job of the lane
+        final boolean lockedInJobTransaction = jobServiceConfiguration.getExclusiveJobLockStrategy().isLockedInJobTransaction();
+        try {
+            jobServiceConfiguration.getCommandExecutor().execute(new Command<Void>() {
+                @Override
+                public Void execute(CommandContext commandContext) {
+                    if (!scopeLocked || lockedInJobTransaction) {
+                        lockJobScope(exclusiveJob, commandContext);
+                    }
+
+                    new ExecuteAsyncJobCmd(jobId, jobEntityManager).execute(commandContext);
+
+                    if (lane.closeIfLastJob(ExecuteAsyncRunnable.this)) {
+                        new UnlockExclusiveJobCmd(exclusiveJob).execute(commandContext);
+                        scopeUnlocked.set(true);
+                    }
+                    return null;
+                }
+            });
+
+            return !scopeUnlocked.get() && !lockedInJobTransaction;
 
         } catch (Throwable exception) {
-            handleFailedJob(exception);
+            if (scopeLockFailed) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug("Could not lock exclusive job. Unlocking job so it can be acquired again. Caught exception: {}", exception.getMessage());
+                }
+                unacquireJob();
+                return false;
+            }
+
+            try {
+                if (exception instanceof FlowableOptimisticLockingException) {
+                    handleOptimisticLockingException((FlowableOptimisticLockingException) exception);
+                } else {
+                    handleFailedJob(exception);
+                }
+
+            } catch (Throwable t) {
+                LOGGER.error("Error while executing exclusive job {}", jobId, t);
+                if (scopeLocked) {
+                    // The scope was locked by a previous transaction of the lane, which isn't rolled back
+                    unlockJobIfNeeded();
+                }
+            }
+
+            // The failed transaction was rolled back, or the scope has been unlocked when handling the failure
+            return false;
+        }
+    }
+
+    protected boolean isScopeLockFailed() {
+        return scopeLockFailed;
+    }
+
+    protected void handleOptimisticLockingException(FlowableOptimisticLockingException e) {
+        try {
+            handleFailedJob(e);
+        } catch (Exception fe) {
+            // no additional handling is needed
+        }
+
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug("Optimistic locking exception during job execution. If you have multiple async executors running against the same database, "
+                    + "this exception means that this thread tried to acquire an exclusive job, which already was changed by another async executor thread."
+                    + "This is expected behavior in a clustered environment. " + "You can ignore this message if you indeed have multiple job executor threads running against the same database. "
+                    + "Exception message: {}", e.getMessage());
         }
     }
 
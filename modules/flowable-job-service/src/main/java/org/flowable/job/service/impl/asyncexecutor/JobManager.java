@@ -12,6 +12,10 @@
  */
 package org.flowable.job.service.impl.asyncexecutor;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
 import org.flowable.job.api.JobInfo;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.persistence.entity.AbstractRuntimeJobEntity;
@@ -55,6 +59,25 @@ public interface JobManager {
      */
     void scheduleAsyncJob(JobEntity job);
 
+    /**
+     * Creates multiple async jobs at once. Equivalent to calling {@link #createAsyncJob(JobEntity, boolean)} for each of the jobs.
+     */
+    default void createAsyncJobs(List<JobEntity> jobEntities, boolean exclusive) {
+        for (JobEntity jobEntity : jobEntities) {
+            createAsyncJob(jobEntity, exclusive);
+        }
+    }
+
+    /**
+     * Schedules multiple async jobs at once. By default this calls {@link #scheduleAsyncJob(JobEntity)} for each of the jobs;
+     * the {@link DefaultJobManager} registers only one listener to hand all jobs to the {@link AsyncExecutor} after the transaction.
+     */
+    default void scheduleAsyncJobs(List<JobEntity> jobs) {
+        for (JobEntity job : jobs) {
+            scheduleAsyncJob(job);
+        }
+    }
+
     /**
      * Schedules a timer, meaning it will be inserted in the datastore.
      */
@@ -72,6 +95,24 @@ public interface JobManager {
      */
     JobEntity moveTimerJobToExecutableJob(TimerJobEntity timerJob);
 
+    /**
+     * Moves multiple {@link TimerJobEntity} instances to become async {@link JobEntity} instances, see {@link #moveTimerJobToExecutableJob(TimerJobEntity)}.
+     * By default this calls {@link #moveTimerJobToExecutableJob(TimerJobEntity)} for each of the timer jobs;
+     * the {@link DefaultJobManager} hands all executable jobs to the {@link AsyncExecutor} with one listener after the transaction.
+     * 
+     * @return the created executable jobs
+     */
+    default List<JobEntity> moveTimerJobsToExecutableJobs(Collection<TimerJobEntity> timerJobs) {
+        List<JobEntity> executableJobs = new ArrayList<>(timerJobs.size());
+        for (TimerJobEntity timerJob : timerJobs) {
+            JobEntity executableJob = moveTimerJobToExecutableJob(timerJob);
+            if (executableJob != null) {
+                executableJobs.add(executableJob);
+            }
+        }
+        return executableJobs;
+    }
+
     /**
      * Moves an {@link AbstractRuntimeJobEntity} to become a {@link TimerJobEntity}.
      * 
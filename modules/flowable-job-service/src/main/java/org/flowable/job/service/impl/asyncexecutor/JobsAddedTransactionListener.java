@@ -0,0 +1,85 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.List;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.cfg.TransactionPropagation;
+import org.flowable.common.engine.impl.interceptor.Command;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.common.engine.impl.interceptor.CommandExecutor;
+import org.flowable.job.api.JobInfo;
+import org.flowable.job.service.impl.util.CommandContextUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Hands multiple jobs that were created in the same transaction to the {@link AsyncExecutor} once the transaction is committed,
+ * using one {@link TransactionListener} instead of one {@link JobAddedTransactionListener} per job.
+ * 
+ * The jobs are inserted locked by the async executor of this node, so they don't need to be acquired again.
+ * When the queue of the async executor is full, the rejected job is unacquired by the async executor itself
+ * and all remaining jobs are unacquired together, so they can be picked up by the regular acquisition.
+ */
+public class JobsAddedTransactionListener implements TransactionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobsAddedTransactionListener.class);
+
+    protected List<? extends JobInfo> jobs;
+    protected AsyncExecutor asyncExecutor;
+    protected CommandExecutor commandExecutor;
+
+    public JobsAddedTransactionListener(List<? extends JobInfo> jobs, AsyncExecutor asyncExecutor, CommandExecutor commandExecutor) {
+        this.jobs = jobs;
+        this.asyncExecutor = asyncExecutor;
+        this.commandExecutor = commandExecutor;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        // See JobAddedTransactionListener: no new command context is needed to hand the jobs to the async executor
+        executeAsyncJobs(jobs, asyncExecutor, commandExecutor);
+    }
+
+    public static void executeAsyncJobs(List<? extends JobInfo> jobs, AsyncExecutor asyncExecutor, CommandExecutor commandExecutor) {
+        for (int i = 0; i < jobs.size(); i++) {
+            if (!asyncExecutor.executeAsyncJob(jobs.get(i))) {
+                // The queue is full, no need to offer the other jobs: they would be rejected as well
+                List<? extends JobInfo> remainingJobs = jobs.subList(i + 1, jobs.size());
+                if (!remainingJobs.isEmpty()) {
+                    unacquireJobs(remainingJobs, commandExecutor);
+                }
+                break;
+            }
+        }
+    }
+
+    protected static void unacquireJobs(final List<? extends JobInfo> jobs, CommandExecutor commandExecutor) {
+        LOGGER.debug("Async executor queue is full, unacquiring {} locally created jobs", jobs.size());
+
+        CommandConfig commandConfig = new CommandConfig(false, TransactionPropagation.REQUIRES_NEW);
+        commandExecutor.execute(commandConfig, new Command<Void>() {
+
+            @Override
+            public Void execute(CommandContext commandContext) {
+                JobManager jobManager = CommandContextUtil.getJobManager(commandContext);
+                for (JobInfo job : jobs) {
+                    jobManager.unacquire(job);
+                }
+                return null;
+            }
+        });
+    }
+}
@@ -0,0 +1,59 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.asyncexecutor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.flowable.common.engine.impl.AbstractEngineConfiguration;
+import org.flowable.job.api.Job;
+import org.flowable.job.service.ExclusiveJobLockStrategy;
+import org.flowable.job.service.InternalJobManager;
+
+/**
+ * Locks the database row of the scope of an exclusive job (select for update nowait) in the transaction executing the job.
+ * The lock is released when that transaction commits or rolls back, so no separate lock and unlock transactions are needed.
+ *
+ * When the row is locked by another transaction, locking fails immediately and the job is unacquired,
+ * so it can be acquired again later without using one of its retries.
+ * A scope that has a lock time set (e.g. by a node using the {@link DefaultExclusiveJobLockStrategy}) is considered to be locked too.
+ *
+ * Only supported on PostgreSQL and Oracle, the engines fall back to the {@link DefaultExclusiveJobLockStrategy} on other databases.
+ */
+public class RowLockExclusiveJobLockStrategy implements ExclusiveJobLockStrategy {
+
+    public static final Set<String> SUPPORTED_DATABASE_TYPES = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(
+            AbstractEngineConfiguration.DATABASE_TYPE_POSTGRES, AbstractEngineConfiguration.DATABASE_TYPE_ORACLE)));
+
+    public static boolean isSupportedDatabaseType(String databaseType) {
+        return SUPPORTED_DATABASE_TYPES.contains(databaseType);
+    }
+
+    @Override
+    public boolean isLockedInJobTransaction() {
+        return true;
+    }
+
+    @Override
+    public void lockJobScope(InternalJobManager internalJobManager, Job job) {
+        internalJobManager.lockJobScopeRow(job);
+    }
+
+    @Override
+    public void unlockJobScope(InternalJobManager internalJobManager, Job job) {
+        // The row lock is released when the transaction ends
+    }
+
+}
@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.asyncexecutor.message;
 
 import java.util.Date;
+import java.util.List;
 
 import org.flowable.common.engine.impl.cfg.TransactionContext;
 import org.flowable.common.engine.impl.cfg.TransactionListener;
@@ -53,6 +54,13 @@ public abstract class AbstractMessageBasedJobManager extends DefaultJobManager {
         prepareAndSendMessage(jobEntity);
     }
     
+    @Override
+    protected void triggerExecutorIfNeeded(List<JobEntity> jobEntities) {
+        for (JobEntity jobEntity : jobEntities) {
+            prepareAndSendMessage(jobEntity);
+        }
+    }
+
     @Override
     protected void triggerAsyncHistoryExecutorIfNeeded(HistoryJobEntity jobEntity) {
         prepareAndSendMessage(jobEntity);
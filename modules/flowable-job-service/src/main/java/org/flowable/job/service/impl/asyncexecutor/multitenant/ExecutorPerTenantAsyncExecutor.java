@@ -260,6 +260,18 @@ public class ExecutorPerTenantAsyncExecutor implements TenantAwareAsyncExecutor
         }
     }
 
+    @Override
+    public boolean isTimerJobBulkAcquisitionEnabled() {
+        return determineAsyncExecutor().isTimerJobBulkAcquisitionEnabled();
+    }
+
+    @Override
+    public void setTimerJobBulkAcquisitionEnabled(boolean timerJobBulkAcquisitionEnabled) {
+        for (AsyncExecutor asyncExecutor : tenantExecutors.values()) {
+            asyncExecutor.setTimerJobBulkAcquisitionEnabled(timerJobBulkAcquisitionEnabled);
+        }
+    }
+
     @Override
     public int getRetryWaitTimeInMillis() {
         return determineAsyncExecutor().getRetryWaitTimeInMillis();
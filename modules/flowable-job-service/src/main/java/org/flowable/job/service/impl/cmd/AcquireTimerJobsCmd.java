@@ -13,6 +13,7 @@
 package org.flowable.job.service.impl.cmd;
 
 import java.util.Calendar;
+import java.util.Date;
 import java.util.GregorianCalendar;
 import java.util.List;
 
@@ -22,6 +23,7 @@ import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.service.impl.asyncexecutor.AcquiredTimerJobEntities;
 import org.flowable.job.service.impl.asyncexecutor.AsyncExecutor;
 import org.flowable.job.service.impl.persistence.entity.TimerJobEntity;
+import org.flowable.job.service.impl.persistence.entity.TimerJobEntityManager;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 
 /**
@@ -37,9 +39,13 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
 
     @Override
     public AcquiredTimerJobEntities execute(CommandContext commandContext) {
+        if (asyncExecutor.isTimerJobBulkAcquisitionEnabled()) {
+            return bulkAcquireTimerJobs(commandContext);
+        }
+
         AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
         List<TimerJobEntity> timerJobs = CommandContextUtil.getTimerJobEntityManager(commandContext)
-                .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxAsyncJobsDuePerAcquisition()));
+                .findTimerJobsToExecute(new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
         
         for (TimerJobEntity job : timerJobs) {
             lockJob(commandContext, job, asyncExecutor.getAsyncJobLockTimeInMillis());
@@ -49,15 +55,40 @@ public class AcquireTimerJobsCmd implements Command<AcquiredTimerJobEntities> {
         return acquiredJobs;
     }
 
+    protected AcquiredTimerJobEntities bulkAcquireTimerJobs(CommandContext commandContext) {
+        AcquiredTimerJobEntities acquiredJobs = new AcquiredTimerJobEntities();
+        TimerJobEntityManager timerJobEntityManager = CommandContextUtil.getTimerJobEntityManager(commandContext);
+
+        // Only the ids are fetched first: the entities are loaded after locking, so they contain the new revision
+        List<String> timerJobIds = timerJobEntityManager.findTimerJobIdsToExecute(new Page(0, asyncExecutor.getMaxTimerJobsPerAcquisition()));
+        if (timerJobIds.isEmpty()) {
+            return acquiredJobs;
+        }
+
+        // Timers locked by another node between the select and the update are skipped, instead of failing the whole acquisition
+        String lockOwner = asyncExecutor.getLockOwner();
+        if (timerJobEntityManager.lockTimerJobs(timerJobIds, lockOwner, getLockExpirationTime(commandContext, asyncExecutor.getAsyncJobLockTimeInMillis())) > 0) {
+            for (TimerJobEntity job : timerJobEntityManager.findTimerJobsByIdsAndLockOwner(timerJobIds, lockOwner)) {
+                acquiredJobs.addJob(job);
+            }
+        }
+
+        return acquiredJobs;
+    }
+
     protected void lockJob(CommandContext commandContext, TimerJobEntity job, int lockTimeInMillis) {
 
         // This will trigger an optimistic locking exception when two concurrent executors
         // try to lock, as the revision will not match.
 
+        job.setLockOwner(asyncExecutor.getLockOwner());
+        job.setLockExpirationTime(getLockExpirationTime(commandContext, lockTimeInMillis));
+    }
+
+    protected Date getLockExpirationTime(CommandContext commandContext, int lockTimeInMillis) {
         GregorianCalendar gregorianCalendar = new GregorianCalendar();
         gregorianCalendar.setTime(CommandContextUtil.getJobServiceConfiguration(commandContext).getClock().getCurrentTime());
         gregorianCalendar.add(Calendar.MILLISECOND, lockTimeInMillis);
-        job.setLockOwner(asyncExecutor.getLockOwner());
-        job.setLockExpirationTime(gregorianCalendar.getTime());
+        return gregorianCalendar.getTime();
     }
 }
\ No newline at end of file
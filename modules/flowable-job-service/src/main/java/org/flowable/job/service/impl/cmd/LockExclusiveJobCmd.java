@@ -19,6 +19,7 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.InternalJobManager;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,9 +52,10 @@ public class LockExclusiveJobCmd implements Command<Object>, Serializable {
 
         if (job.isExclusive()) {
             if (job.getExecutionId() != null || job.getScopeId() != null) {
-                InternalJobManager internalJobManager = CommandContextUtil.getJobServiceConfiguration().getInternalJobManager();
+                JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration();
+                InternalJobManager internalJobManager = jobServiceConfiguration.getInternalJobManager();
                 if (internalJobManager != null) {
-                    internalJobManager.lockJobScope(job);
+                    jobServiceConfiguration.getExclusiveJobLockStrategy().lockJobScope(internalJobManager, job);
                 }
             }
         }
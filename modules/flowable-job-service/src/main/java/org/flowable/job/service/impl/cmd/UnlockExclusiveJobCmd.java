@@ -19,6 +19,7 @@ import org.flowable.common.engine.impl.interceptor.Command;
 import org.flowable.common.engine.impl.interceptor.CommandContext;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.InternalJobManager;
+import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.util.CommandContextUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,9 +53,10 @@ public class UnlockExclusiveJobCmd implements Command<Object>, Serializable {
 
         if (job.isExclusive()) {
             if (job.getProcessInstanceId() != null || job.getScopeId() != null) {
-                InternalJobManager jobScopeInterface = CommandContextUtil.getJobServiceConfiguration().getInternalJobManager();
+                JobServiceConfiguration jobServiceConfiguration = CommandContextUtil.getJobServiceConfiguration();
+                InternalJobManager jobScopeInterface = jobServiceConfiguration.getInternalJobManager();
                 if (jobScopeInterface != null) {
-                    jobScopeInterface.clearJobScopeLock(job);
+                    jobServiceConfiguration.getExclusiveJobLockStrategy().unlockJobScope(jobScopeInterface, job);
                 }
             }
         }
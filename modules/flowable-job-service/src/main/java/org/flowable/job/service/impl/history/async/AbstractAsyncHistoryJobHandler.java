@@ -50,6 +50,7 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
                 JsonNode historyNode = objectMapper.readTree(bytes);
                 if (isAsyncHistoryJsonGroupingEnabled() && historyNode.isArray()) {
                     ArrayNode arrayNode = (ArrayNode) historyNode;
+                    prefetchHistoryJson(commandContext, job, arrayNode);
                     for (JsonNode jsonNode : arrayNode) {
                         processHistoryJson(commandContext, job, jsonNode);
                     }
@@ -77,6 +78,14 @@ public abstract class AbstractAsyncHistoryJobHandler implements HistoryJobHandle
         return job.getAdvancedJobHandlerConfigurationByteArrayRef().getBytes();
     }
 
+    /**
+     * Called once for a grouped history job, before the individual history json nodes are processed.
+     * Can be used to fetch data needed by all nodes in bulk. Does nothing by default.
+     */
+    protected void prefetchHistoryJson(CommandContext commandContext, HistoryJobEntity job, ArrayNode historyNodes) {
+        
+    }
+
     protected abstract void processHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode);
 
     public boolean isAsyncHistoryJsonGroupingEnabled() {
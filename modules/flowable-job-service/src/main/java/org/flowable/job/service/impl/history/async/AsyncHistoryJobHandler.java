@@ -18,16 +18,19 @@ import java.util.List;
 import java.util.Map;
 
 import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.flowable.job.service.impl.history.async.transformer.HistoryJsonPrefetcher;
 import org.flowable.job.service.impl.history.async.transformer.HistoryJsonTransformer;
 import org.flowable.job.service.impl.persistence.entity.HistoryJobEntity;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
 public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
 
     protected Map<String, List<HistoryJsonTransformer>> historyJsonTransformers = new HashMap<>();
     protected HistoryJsonTransformer defaultHistoryJsonTransformer;
+    protected List<HistoryJsonPrefetcher> historyJsonPrefetchers = new ArrayList<>();
     
     public AsyncHistoryJobHandler(String jobType) {
         super(jobType);
@@ -44,6 +47,34 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
         }
     }
 
+    public void addHistoryJsonPrefetcher(HistoryJsonPrefetcher historyJsonPrefetcher) {
+        historyJsonPrefetchers.add(historyJsonPrefetcher);
+    }
+
+    @Override
+    protected void prefetchHistoryJson(CommandContext commandContext, HistoryJobEntity job, ArrayNode historyNodes) {
+        if (historyJsonPrefetchers == null || historyJsonPrefetchers.isEmpty() || historyNodes.size() < 2) {
+            return;
+        }
+
+        Map<String, List<ObjectNode>> historicalDataByType = new HashMap<>();
+        for (JsonNode historyNode : historyNodes) {
+            JsonNode historicalJsonData = historyNode.get(HistoryJsonTransformer.FIELD_NAME_DATA);
+            if (historyNode.has(HistoryJsonTransformer.FIELD_NAME_TYPE) && historicalJsonData instanceof ObjectNode) {
+                String type = historyNode.get(HistoryJsonTransformer.FIELD_NAME_TYPE).asText();
+                historicalDataByType.computeIfAbsent(type, key -> new ArrayList<>()).add((ObjectNode) historicalJsonData);
+            }
+        }
+
+        if (logger.isTraceEnabled()) {
+            logger.trace("Prefetching data for grouped async history job (id={}, types={})", job.getId(), historicalDataByType.keySet());
+        }
+
+        for (HistoryJsonPrefetcher historyJsonPrefetcher : historyJsonPrefetchers) {
+            historyJsonPrefetcher.prefetch(historicalDataByType, commandContext);
+        }
+    }
+
     @Override
     protected void processHistoryJson(CommandContext commandContext, HistoryJobEntity job, JsonNode historyNode) {
         
@@ -101,6 +132,14 @@ public class AsyncHistoryJobHandler extends AbstractAsyncHistoryJobHandler {
         this.historyJsonTransformers = historyJsonTransformers;
     }
 
+    public List<HistoryJsonPrefetcher> getHistoryJsonPrefetchers() {
+        return historyJsonPrefetchers;
+    }
+
+    public void setHistoryJsonPrefetchers(List<HistoryJsonPrefetcher> historyJsonPrefetchers) {
+        this.historyJsonPrefetchers = historyJsonPrefetchers;
+    }
+
     public HistoryJsonTransformer getDefaultHistoryJsonTransformer() {
         return defaultHistoryJsonTransformer;
     }
@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.transformer;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import org.apache.commons.lang3.StringUtils;
+import org.flowable.job.service.impl.history.async.util.AsyncHistoryJsonUtil;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Base class for {@link HistoryJsonPrefetcher} implementations, with helpers to collect the referenced ids.
+ * The data managers fetching the ids split them over multiple IN queries when needed.
+ */
+public abstract class AbstractHistoryJsonPrefetcher implements HistoryJsonPrefetcher {
+
+    protected Set<String> collectValues(Map<String, List<ObjectNode>> historicalDataByType, Collection<String> types, String fieldName) {
+        Set<String> values = new LinkedHashSet<>();
+        for (String type : types) {
+            List<ObjectNode> historicalDataList = historicalDataByType.get(type);
+            if (historicalDataList != null) {
+                for (ObjectNode historicalData : historicalDataList) {
+                    String value = AsyncHistoryJsonUtil.getStringFromJson(historicalData, fieldName);
+                    if (StringUtils.isNotEmpty(value)) {
+                        values.add(value);
+                    }
+                }
+            }
+        }
+        return values;
+    }
+
+    protected void fetch(Collection<String> ids, Consumer<Collection<String>> fetcher) {
+        if (!ids.isEmpty()) {
+            fetcher.accept(ids);
+        }
+    }
+
+}
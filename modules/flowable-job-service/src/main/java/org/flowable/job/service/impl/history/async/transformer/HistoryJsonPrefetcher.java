@@ -0,0 +1,36 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.job.service.impl.history.async.transformer;
+
+import java.util.List;
+import java.util.Map;
+
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * Loads the historic entities referenced by all events of a grouped async history job in bulk,
+ * before the {@link HistoryJsonTransformer} instances are applied one event at a time.
+ * 
+ * The prefetched entities end up in the entity cache of the current command context,
+ * which means the lookups done by the transformers afterwards don't need to go to the database anymore.
+ */
+public interface HistoryJsonPrefetcher {
+
+    /**
+     * @param historicalDataByType the data of all events of the job, grouped by their history json type
+     */
+    void prefetch(Map<String, List<ObjectNode>> historicalDataByType, CommandContext commandContext);
+
+}
@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -40,6 +41,24 @@ public interface TimerJobEntityManager extends EntityManager<TimerJobEntity> {
      */
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    /**
+     * Returns the ids of the timer jobs that are eligible to execute, without loading the jobs themselves.
+     */
+    List<String> findTimerJobIdsToExecute(Page page);
+
+    /**
+     * Locks the timer jobs with the given ids that are not locked yet, using one update statement.
+     * Timer jobs that have been locked by another lock owner in the meantime are skipped.
+     * 
+     * @return the number of locked timer jobs
+     */
+    int lockTimerJobs(List<String> timerJobIds, String lockOwner, Date lockExpirationTime);
+
+    /**
+     * Returns the timer jobs with the given ids that are locked by the given lock owner.
+     */
+    List<TimerJobEntity> findTimerJobsByIdsAndLockOwner(List<String> timerJobIds, String lockOwner);
+
     /**
      * Returns the {@link TimerJobEntity} for a given process definition.
      * <p>
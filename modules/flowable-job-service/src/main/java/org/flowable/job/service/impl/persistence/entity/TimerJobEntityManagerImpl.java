@@ -65,6 +65,21 @@ public class TimerJobEntityManagerImpl
         return dataManager.findTimerJobsToExecute(page);
     }
 
+    @Override
+    public List<String> findTimerJobIdsToExecute(Page page) {
+        return dataManager.findTimerJobIdsToExecute(page);
+    }
+
+    @Override
+    public int lockTimerJobs(List<String> timerJobIds, String lockOwner, Date lockExpirationTime) {
+        return dataManager.lockTimerJobs(timerJobIds, lockOwner, lockExpirationTime);
+    }
+
+    @Override
+    public List<TimerJobEntity> findTimerJobsByIdsAndLockOwner(List<String> timerJobIds, String lockOwner) {
+        return dataManager.findTimerJobsByIdsAndLockOwner(timerJobIds, lockOwner);
+    }
+
     @Override
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
         return dataManager.findJobsByTypeAndProcessDefinitionId(jobHandlerType, processDefinitionId);
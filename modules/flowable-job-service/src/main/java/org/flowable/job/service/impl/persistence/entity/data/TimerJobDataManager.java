@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data;
 
+import java.util.Date;
 import java.util.List;
 
 import org.flowable.common.engine.impl.Page;
@@ -28,6 +29,12 @@ public interface TimerJobDataManager extends DataManager<TimerJobEntity> {
 
     List<TimerJobEntity> findTimerJobsToExecute(Page page);
 
+    List<String> findTimerJobIdsToExecute(Page page);
+
+    int lockTimerJobs(List<String> timerJobIds, String lockOwner, Date lockExpirationTime);
+
+    List<TimerJobEntity> findTimerJobsByIdsAndLockOwner(List<String> timerJobIds, String lockOwner);
+
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId);
 
     List<TimerJobEntity> findJobsByTypeAndProcessDefinitionKeyNoTenantId(String jobHandlerType, String processDefinitionKey);
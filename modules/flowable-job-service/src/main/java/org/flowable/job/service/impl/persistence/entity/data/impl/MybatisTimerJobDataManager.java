@@ -12,6 +12,7 @@
  */
 package org.flowable.job.service.impl.persistence.entity.data.impl;
 
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -21,6 +22,7 @@ import org.flowable.common.engine.impl.Page;
 import org.flowable.common.engine.impl.db.AbstractDataManager;
 import org.flowable.common.engine.impl.db.DbSqlSession;
 import org.flowable.common.engine.impl.persistence.cache.CachedEntityMatcher;
+import org.flowable.common.engine.impl.util.CollectionUtil;
 import org.flowable.job.api.Job;
 import org.flowable.job.service.JobServiceConfiguration;
 import org.flowable.job.service.impl.TimerJobQueryImpl;
@@ -82,6 +84,41 @@ public class MybatisTimerJobDataManager extends AbstractDataManager<TimerJobEnti
         return getDbSqlSession().selectList("selectTimerJobsToExecute", params, page);
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<String> findTimerJobIdsToExecute(Page page) {
+        Map<String, Object> params = new HashMap<>(2);
+        params.put("jobExecutionScope", jobServiceConfiguration.getJobExecutionScope());
+        params.put("now", jobServiceConfiguration.getClock().getCurrentTime());
+        return getDbSqlSession().selectList("selectTimerJobIdsToExecute", params, page);
+    }
+
+    @Override
+    public int lockTimerJobs(List<String> timerJobIds, String lockOwner, Date lockExpirationTime) {
+        int lockedTimerJobs = 0;
+        for (List<String> ids : CollectionUtil.partition(timerJobIds, MAX_IN_CLAUSE_VALUES)) {
+            Map<String, Object> params = new HashMap<>(3);
+            params.put("ids", ids);
+            params.put("lockOwner", lockOwner);
+            params.put("lockExpirationTime", lockExpirationTime);
+            lockedTimerJobs += getDbSqlSession().update("updateTimerJobLocks", params);
+        }
+        return lockedTimerJobs;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<TimerJobEntity> findTimerJobsByIdsAndLockOwner(List<String> timerJobIds, String lockOwner) {
+        List<TimerJobEntity> timerJobs = new ArrayList<>(timerJobIds.size());
+        for (List<String> ids : CollectionUtil.partition(timerJobIds, MAX_IN_CLAUSE_VALUES)) {
+            Map<String, Object> params = new HashMap<>(2);
+            params.put("ids", ids);
+            params.put("lockOwner", lockOwner);
+            timerJobs.addAll(getDbSqlSession().selectList("selectTimerJobsByIdsAndLockOwner", params));
+        }
+        return timerJobs;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<TimerJobEntity> findJobsByTypeAndProcessDefinitionId(String jobHandlerType, String processDefinitionId) {
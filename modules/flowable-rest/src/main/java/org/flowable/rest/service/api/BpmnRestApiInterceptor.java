@@ -15,6 +15,7 @@ package org.flowable.rest.service.api;
 import org.flowable.batch.api.Batch;
 import org.flowable.batch.api.BatchPart;
 import org.flowable.batch.api.BatchQuery;
+import org.flowable.common.engine.api.history.HistoryExportBuilder;
 import org.flowable.engine.form.FormData;
 import org.flowable.engine.history.HistoricActivityInstanceQuery;
 import org.flowable.engine.history.HistoricDetail;
@@ -184,6 +185,8 @@ public interface BpmnRestApiInterceptor {
 
     void accessHistoricTaskLogWithQuery(HistoricTaskLogEntryQuery historicTaskLogEntryQuery, HistoricTaskLogEntryQueryRequest request);
 
+    void accessHistoryExport(HistoryExportBuilder historyExportBuilder);
+
     void accessGroupInfoById(Group group);
     
     void accessGroupInfoWithQuery(GroupQuery groupQuery);
@@ -0,0 +1,115 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.rest.service.api.history;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Date;
+import java.util.Map;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableIllegalArgumentException;
+import org.flowable.common.engine.api.history.HistoryExportBuilder;
+import org.flowable.common.engine.api.history.HistoryExportSink;
+import org.flowable.common.engine.impl.history.export.CsvHistoryExportSink;
+import org.flowable.common.engine.impl.history.export.NdjsonHistoryExportSink;
+import org.flowable.common.rest.api.RequestUtil;
+import org.flowable.engine.HistoryService;
+import org.flowable.rest.service.api.BpmnRestApiInterceptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiImplicitParam;
+import io.swagger.annotations.ApiImplicitParams;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+import io.swagger.annotations.Authorization;
+
+@RestController
+@Api(tags = { "History" }, description = "Manage History", authorizations = { @Authorization(value = "basicAuth") })
+public class HistoryExportResource {
+
+    public static final String WATERMARK_HEADER = "X-Flowable-History-Export-Watermark";
+
+    @Autowired
+    protected HistoryService historyService;
+
+    @Autowired(required = false)
+    protected BpmnRestApiInterceptor restApiInterceptor;
+
+    @ApiOperation(value = "Export the process history tables", tags = { "History" }, nickname = "exportHistory",
+            notes = "The rows are streamed as they are read from the database. The response header " + WATERMARK_HEADER
+                    + " contains the end of the exported time range as ISO-8601 date in seconds precision, which can be used as the since parameter of the next (incremental) export.")
+    @ApiImplicitParams({
+            @ApiImplicitParam(name = "tables", dataType = "string", value = "Comma separated list of the tables to export, by default all process history tables are exported.", paramType = "query"),
+            @ApiImplicitParam(name = "since", dataType = "string", format = "date-time", value = "Only export the rows changed at or after this date.", paramType = "query"),
+            @ApiImplicitParam(name = "until", dataType = "string", format = "date-time", value = "Only export the rows changed before this date, by default the current time minus the configured watermark lag.", paramType = "query"),
+            @ApiImplicitParam(name = "partitions", dataType = "integer", value = "The number of time range partitions that are exported in parallel, by default 1. Capped to the configured maximum.", paramType = "query"),
+            @ApiImplicitParam(name = "format", dataType = "string", value = "ndjson (default) or csv", paramType = "query"),
+    })
+    @ApiResponses(value = {
+            @ApiResponse(code = 200, message = "Indicates the history is exported."),
+            @ApiResponse(code = 400, message = "Indicates an unknown table or format was requested, or a parameter was passed in the wrong format. The status-message contains additional information.") })
+    @GetMapping(value = "/history/export")
+    public void exportHistory(@ApiParam(hidden = true) @RequestParam Map<String, String> allRequestParams, HttpServletResponse response) {
+        HistoryExportBuilder exportBuilder = historyService.createHistoryExport();
+
+        if (allRequestParams.get("tables") != null) {
+            exportBuilder.tables(allRequestParams.get("tables").split(","));
+        }
+
+        if (allRequestParams.get("since") != null) {
+            exportBuilder.since(RequestUtil.getDate(allRequestParams, "since"));
+        }
+
+        if (allRequestParams.get("until") != null) {
+            exportBuilder.until(RequestUtil.getDate(allRequestParams, "until"));
+        }
+
+        exportBuilder.partitions(RequestUtil.getInteger(allRequestParams, "partitions", 1));
+
+        String format = allRequestParams.getOrDefault("format", "ndjson");
+        if (!"ndjson".equals(format) && !"csv".equals(format)) {
+            throw new FlowableIllegalArgumentException("Unsupported export format " + format + ", use ndjson or csv");
+        }
+
+        if (restApiInterceptor != null) {
+            restApiInterceptor.accessHistoryExport(exportBuilder);
+        }
+
+        response.setCharacterEncoding("UTF-8");
+        response.setContentType("csv".equals(format) ? "text/csv" : "application/x-ndjson");
+        // The watermark must be known before the rows are streamed, as it is returned as header.
+        // It is passed back in seconds precision, so the export ends at the whole second as well.
+        Date watermark = new Date(exportBuilder.getWatermark().getTime() / 1000 * 1000);
+        exportBuilder.until(watermark);
+        response.setHeader(WATERMARK_HEADER, watermark.toInstant().toString());
+
+        try {
+            Writer writer = response.getWriter();
+            HistoryExportSink sink = "csv".equals(format) ? new CsvHistoryExportSink(writer) : new NdjsonHistoryExportSink(writer);
+            exportBuilder.export(sink);
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not stream the history export", e);
+        }
+    }
+
+}
@@ -15,10 +15,10 @@ package org.flowable.rest.service.api.repository;
 
 import java.io.InputStream;
 
-import org.apache.commons.io.IOUtils;
-import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableIllegalArgumentException;
 import org.flowable.engine.repository.ProcessDefinition;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -47,18 +47,14 @@ public class ProcessDefinitionImageResource extends BaseProcessDefinitionResourc
             @ApiResponse(code = 404, message = "Indicates the requested process definition was not found.")
     })
     @GetMapping(value = "/repository/process-definitions/{processDefinitionId}/image", produces = MediaType.IMAGE_PNG_VALUE)
-    public ResponseEntity<byte[]> getModelResource(@ApiParam(name = "processDefinitionId") @PathVariable String processDefinitionId) {
+    public ResponseEntity<Resource> getModelResource(@ApiParam(name = "processDefinitionId") @PathVariable String processDefinitionId) {
         ProcessDefinition processDefinition = getProcessDefinitionFromRequest(processDefinitionId);
         InputStream imageStream = repositoryService.getProcessDiagram(processDefinition.getId());
 
         if (imageStream != null) {
             HttpHeaders responseHeaders = new HttpHeaders();
             responseHeaders.set("Content-Type", MediaType.IMAGE_PNG_VALUE);
-            try {
-                return new ResponseEntity<>(IOUtils.toByteArray(imageStream), responseHeaders, HttpStatus.OK);
-            } catch (Exception e) {
-                throw new FlowableException("Error reading image stream", e);
-            }
+            return new ResponseEntity<>(new InputStreamResource(imageStream), responseHeaders, HttpStatus.OK);
         } else {
             throw new FlowableIllegalArgumentException("Process definition with id '" + processDefinition.getId() + "' has no image.");
         }
@@ -17,11 +17,11 @@ import java.io.InputStream;
 
 import javax.servlet.http.HttpServletResponse;
 
-import org.apache.commons.io.IOUtils;
-import org.flowable.common.engine.api.FlowableException;
 import org.flowable.common.engine.api.FlowableObjectNotFoundException;
 import org.flowable.engine.task.Attachment;
 import org.flowable.task.api.history.HistoricTaskInstance;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -51,7 +51,7 @@ public class TaskAttachmentContentResource extends TaskBaseResource {
             @ApiResponse(code = 404, message = "Indicates the requested task was not found or the task does not have an attachment with the given id or the attachment does not have a binary stream available. Status message provides additional information.")
     })
     @GetMapping(value = "/runtime/tasks/{taskId}/attachments/{attachmentId}/content")
-    public ResponseEntity<byte[]> getAttachmentContent(@ApiParam(name = "taskId") @PathVariable("taskId") String taskId, @ApiParam(name = "attachmentId") @PathVariable("attachmentId") String attachmentId, HttpServletResponse response) {
+    public ResponseEntity<Resource> getAttachmentContent(@ApiParam(name = "taskId") @PathVariable("taskId") String taskId, @ApiParam(name = "attachmentId") @PathVariable("attachmentId") String attachmentId, HttpServletResponse response) {
 
         HistoricTaskInstance task = getHistoricTaskFromRequest(taskId);
         Attachment attachment = taskService.getAttachment(attachmentId);
@@ -80,10 +80,6 @@ public class TaskAttachmentContentResource extends TaskBaseResource {
             responseHeaders.set("Content-Type", "application/octet-stream");
         }
 
-        try {
-            return new ResponseEntity<>(IOUtils.toByteArray(attachmentStream), responseHeaders, HttpStatus.OK);
-        } catch (Exception e) {
-            throw new FlowableException("Error creating attachment data", e);
-        }
+        return new ResponseEntity<>(new InputStreamResource(attachmentStream), responseHeaders, HttpStatus.OK);
     }
 }
@@ -0,0 +1,95 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.flowable.rest.service.api.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.flowable.engine.runtime.ProcessInstance;
+import org.flowable.engine.test.Deployment;
+import org.flowable.rest.service.BaseSpringRestTestCase;
+import org.junit.Test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Test for REST-operation related to the history export.
+ */
+public class HistoryExportResourceTest extends BaseSpringRestTestCase {
+
+    /**
+     * Test exporting the history. GET history/export
+     */
+    @Test
+    @Deployment(resources = { "org/flowable/rest/service/api/repository/oneTaskProcess.bpmn20.xml" })
+    public void testExportHistory() throws Exception {
+        Date startTime = Date.from(Instant.now().truncatedTo(ChronoUnit.SECONDS));
+        processEngineConfiguration.getClock().setCurrentTime(startTime);
+        ProcessInstance processInstance1 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+        ProcessInstance processInstance2 = runtimeService.startProcessInstanceByKey("oneTaskProcess");
+
+        // The process instances were changed within the watermark lag, so they are not exported yet
+        List<JsonNode> lines = new ArrayList<>();
+        String watermark = exportHistory("?tables=ACT_HI_PROCINST", lines);
+        assertThat(watermark).isEqualTo(startTime.toInstant().minusMillis(processEngineConfiguration.getHistoryExportWatermarkLagInMillis()).toString());
+        assertThat(lines).isEmpty();
+
+        Date exportTime = new Date(startTime.getTime() + processEngineConfiguration.getHistoryExportWatermarkLagInMillis() + 1000L);
+        processEngineConfiguration.getClock().setCurrentTime(exportTime);
+        watermark = exportHistory("?tables=ACT_HI_PROCINST&partitions=1000", lines);
+        assertThat(watermark).isEqualTo(startTime.toInstant().plusSeconds(1).toString());
+        assertThat(lines)
+                .extracting(line -> line.get("table").textValue(), line -> line.get("row").get("ID_").textValue())
+                .containsExactlyInAnyOrder(
+                        tuple("ACT_HI_PROCINST", processInstance1.getId()),
+                        tuple("ACT_HI_PROCINST", processInstance2.getId()));
+
+        // The watermark of the previous export is the start of the next incremental export
+        lines.clear();
+        exportHistory("?tables=ACT_HI_PROCINST&since=" + encode(watermark), lines);
+        assertThat(lines).isEmpty();
+    }
+
+    /**
+     * Test exporting an unknown table. GET history/export
+     */
+    @Test
+    public void testExportUnknownTable() throws Exception {
+        closeResponse(executeRequest(new HttpGet(SERVER_URL_PREFIX + "history/export?tables=ACT_RU_EXECUTION"), HttpStatus.SC_BAD_REQUEST));
+    }
+
+    protected String exportHistory(String queryString, List<JsonNode> lines) throws Exception {
+        CloseableHttpResponse response = executeRequest(new HttpGet(SERVER_URL_PREFIX + "history/export" + queryString), HttpStatus.SC_OK);
+        String watermark = response.getFirstHeader(HistoryExportResource.WATERMARK_HEADER).getValue();
+        String content = IOUtils.toString(response.getEntity().getContent(), StandardCharsets.UTF_8);
+        closeResponse(response);
+        for (String line : content.split("\n")) {
+            if (!line.isEmpty()) {
+                lines.add(objectMapper.readTree(line));
+            }
+        }
+        return watermark;
+    }
+}
@@ -18,7 +18,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-import org.flowable.common.engine.impl.persistence.deploy.DefaultDeploymentCache;
+import org.flowable.common.engine.impl.persistence.deploy.ConcurrentDeploymentCache;
 import org.flowable.common.engine.impl.persistence.deploy.DeploymentCache;
 import org.flowable.engine.ProcessEngine;
 import org.flowable.engine.impl.cfg.ProcessEngineConfigurationImpl;
@@ -84,8 +84,14 @@ public class ProcessEngineEndpoint {
 
         // Process definition cache
         DeploymentCache<ProcessDefinitionCacheEntry> deploymentCache = ((ProcessEngineConfigurationImpl) processEngine.getProcessEngineConfiguration()).getProcessDefinitionCache();
-        if (deploymentCache instanceof DefaultDeploymentCache) {
-            metrics.put("cachedProcessDefinitionCount", ((DefaultDeploymentCache) deploymentCache).size());
+        if (deploymentCache != null) {
+            metrics.put("cachedProcessDefinitionCount", deploymentCache.size());
+        }
+        if (deploymentCache instanceof ConcurrentDeploymentCache) {
+            ConcurrentDeploymentCache<ProcessDefinitionCacheEntry> concurrentDeploymentCache = (ConcurrentDeploymentCache<ProcessDefinitionCacheEntry>) deploymentCache;
+            metrics.put("processDefinitionCacheHitCount", concurrentDeploymentCache.getHitCount());
+            metrics.put("processDefinitionCacheMissCount", concurrentDeploymentCache.getMissCount());
+            metrics.put("processDefinitionCacheEvictionCount", concurrentDeploymentCache.getEvictionCount());
         }
         return metrics;
     }
@@ -57,7 +57,11 @@ public class SpringTransactionContext implements TransactionContext {
     public void rollback() {
         // Just in case the rollback isn't triggered by an
         // exception, we mark the current transaction rollBackOnly.
-        transactionManager.getTransaction(null).setRollbackOnly();
+        // Read-only commands are executed without a transaction (see SpringTransactionInterceptor),
+        // getting a transaction would start a new one then.
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionManager.getTransaction(null).setRollbackOnly();
+        }
     }
 
     @Override
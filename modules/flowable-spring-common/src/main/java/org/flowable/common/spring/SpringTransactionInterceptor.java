@@ -48,11 +48,19 @@ public class SpringTransactionInterceptor extends AbstractCommandInterceptor {
 
         int transactionPropagation = getPropagation(config);
         if (transactionPropagation == TransactionTemplate.PROPAGATION_REQUIRED && TransactionSynchronizationManager.isActualTransactionActive()) {
-            return next.execute(config, command);
+            // The existing transaction could still write, so the command can't be executed in read-only mode
+            return next.execute(config.isReadOnly() ? config.setReadOnly(false) : config, command);
 
         } else {
             TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
-            transactionTemplate.setPropagationBehavior(transactionPropagation);
+            if (transactionPropagation == TransactionTemplate.PROPAGATION_REQUIRED && config.isReadOnly()) {
+                // A read-only command can't change anything and can be routed to the read-only data source,
+                // so no transaction is started on the (primary) data source of the transaction manager
+                transactionTemplate.setPropagationBehavior(TransactionTemplate.PROPAGATION_SUPPORTS);
+            } else {
+                transactionTemplate.setPropagationBehavior(transactionPropagation);
+            }
+            transactionTemplate.setReadOnly(config.isReadOnly());
             return transactionTemplate.execute(status -> next.execute(config, command));
 
         }
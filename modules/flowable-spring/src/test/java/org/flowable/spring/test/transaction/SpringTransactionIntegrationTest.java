@@ -16,6 +16,8 @@ package org.flowable.spring.test.transaction;
 import javax.sql.DataSource;
 
 import org.flowable.bpmn.exceptions.XMLException;
+import org.flowable.common.engine.impl.interceptor.CommandConfig;
+import org.flowable.engine.impl.util.CommandContextUtil;
 import org.flowable.engine.runtime.ProcessInstance;
 import org.flowable.engine.test.Deployment;
 import org.flowable.spring.impl.test.SpringFlowableTestCase;
@@ -23,6 +25,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * @author Tom Baeyens
@@ -39,6 +44,9 @@ public class SpringTransactionIntegrationTest extends SpringFlowableTestCase {
     @Autowired
     protected DataSource dataSource;
 
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
     @Test
     @Deployment
     public void testBasicFlowableSpringIntegration() {
@@ -92,4 +100,59 @@ public class SpringTransactionIntegrationTest extends SpringFlowableTestCase {
         assertEquals(0, repositoryService.createProcessDefinitionQuery().count());
     }
 
+    @Test
+    @Deployment(resources = "org/flowable/spring/test/transaction/SpringTransactionIntegrationTest.testBasicFlowableSpringIntegration.bpmn20.xml")
+    public void testReadOnlyCommandDoesNotStartTransaction() {
+        runtimeService.startProcessInstanceByKey("helloProcess");
+
+        CommandConfig readOnlyConfig = processEngineConfiguration.getCommandExecutor().getDefaultConfig().readOnly();
+        managementService.executeCommand(readOnlyConfig, commandContext -> {
+            assertTrue(commandContext.isReadOnly());
+            assertTrue(CommandContextUtil.getDbSqlSession(commandContext).isReadOnly());
+            assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+            assertTrue(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+            return null;
+        });
+
+        // Queries are executed as read-only commands
+        assertEquals(1, runtimeService.createProcessInstanceQuery().count());
+        assertEquals(1, taskService.createTaskQuery().list().size());
+
+        // A failing read-only command doesn't leave a transaction behind
+        try {
+            managementService.executeCommand(readOnlyConfig, commandContext -> {
+                CommandContextUtil.getExecutionEntityManager(commandContext).findById("unknown");
+                throw new IllegalStateException("failing read-only command");
+            });
+            fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+        assertFalse(TransactionSynchronizationManager.isActualTransactionActive());
+        assertTrue(TransactionSynchronizationManager.getResourceMap().isEmpty());
+    }
+
+    @Test
+    @Deployment(resources = "org/flowable/spring/test/transaction/SpringTransactionIntegrationTest.testBasicFlowableSpringIntegration.bpmn20.xml")
+    public void testReadOnlyCommandJoinsExistingTransaction() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.execute(status -> {
+            // The existing transaction could still write, so the command is not executed in read-only mode
+            CommandConfig readOnlyConfig = processEngineConfiguration.getCommandExecutor().getDefaultConfig().readOnly();
+            managementService.executeCommand(readOnlyConfig, commandContext -> {
+                assertFalse(commandContext.isReadOnly());
+                assertFalse(CommandContextUtil.getDbSqlSession(commandContext).isReadOnly());
+                return null;
+            });
+
+            // Queries see the changes of the transaction and the transaction can still write afterwards
+            ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("helloProcess");
+            assertEquals(1, runtimeService.createProcessInstanceQuery().processInstanceId(processInstance.getId()).count());
+            runtimeService.setVariable(processInstance.getId(), "myVar", "changed");
+            return null;
+        });
+
+        assertEquals("changed", runtimeService.getVariable(runtimeService.createProcessInstanceQuery().singleResult().getId(), "myVar"));
+    }
+
 }
@@ -646,6 +646,13 @@ public interface TaskInfoQuery<T extends TaskInfoQuery<?, ?>, V extends TaskInfo
      */
     T limitTaskVariables(Integer taskVariablesLimit);
 
+    /**
+     * Fetch the variables included with {@link #includeTaskLocalVariables()} or {@link #includeProcessVariables()} with separate queries
+     * for all tasks of the result, instead of joining them with the tasks. This avoids a result row per task and variable, so paging is
+     * done by the database and {@link #limitTaskVariables(Integer)} does not apply. Has no effect when identity links are included as well.
+     */
+    T fetchVariablesInSeparateQuery();
+
     /**
      * Include identity links in the task query result
      */
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -37,6 +38,8 @@ public interface HistoricTaskService {
     
     List<HistoricTaskInstanceEntity> findHistoricTasksByParentTaskId(String parentTaskId);
     
+    List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds);
+
     List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId);
     
     List<HistoricTaskInstance> findHistoricTaskInstancesByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
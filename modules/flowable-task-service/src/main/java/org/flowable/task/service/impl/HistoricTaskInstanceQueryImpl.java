@@ -16,7 +16,9 @@ package org.flowable.task.service.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -35,6 +37,7 @@ import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.HistoricTaskInstanceEntity;
 import org.flowable.task.service.impl.util.CommandContextUtil;
 import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.HistoricVariableService;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
 import org.flowable.variable.service.impl.QueryVariableValue;
 import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
@@ -131,6 +134,7 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
     protected Integer taskVariablesLimit;
+    protected boolean fetchVariablesInSeparateQuery;
     protected boolean includeIdentityLinks;
     protected List<HistoricTaskInstanceQueryImpl> orQueryObjects = new ArrayList<>();
     protected HistoricTaskInstanceQueryImpl currentOrQueryObject;
@@ -171,7 +175,11 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
             taskServiceConfiguration.getHistoricTaskQueryInterceptor().beforeHistoricTaskQueryExecute(this);
         }
 
-        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+        if (isVariablesFetchedInSeparateQuery()) {
+            tasks = CommandContextUtil.getHistoricTaskInstanceEntityManager(commandContext).findHistoricTaskInstancesByQueryCriteria(this);
+            addVariablesFromSeparateQuery(commandContext, tasks);
+
+        } else if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
             tasks = CommandContextUtil.getHistoricTaskInstanceEntityManager(commandContext).findHistoricTaskInstancesAndRelatedEntitiesByQueryCriteria(this);
 
             if (taskId != null) {
@@ -199,6 +207,41 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return tasks;
     }
 
+    protected boolean isVariablesFetchedInSeparateQuery() {
+        return (includeTaskLocalVariables || includeProcessVariables) && fetchVariablesInSeparateQuery && !includeIdentityLinks;
+    }
+
+    protected void addVariablesFromSeparateQuery(CommandContext commandContext, List<HistoricTaskInstance> results) {
+        if (results == null || results.isEmpty()) {
+            return;
+        }
+
+        Map<String, HistoricTaskInstanceEntity> tasksById = new HashMap<>();
+        Map<String, List<HistoricTaskInstanceEntity>> tasksByProcessInstanceId = new HashMap<>();
+        for (HistoricTaskInstance task : results) {
+            HistoricTaskInstanceEntity taskEntity = (HistoricTaskInstanceEntity) task;
+            tasksById.put(taskEntity.getId(), taskEntity);
+            if (taskEntity.getProcessInstanceId() != null) {
+                tasksByProcessInstanceId.computeIfAbsent(taskEntity.getProcessInstanceId(), key -> new ArrayList<>()).add(taskEntity);
+            }
+        }
+
+        HistoricVariableService historicVariableService = CommandContextUtil.getVariableServiceConfiguration(commandContext).getHistoricVariableService();
+        if (includeTaskLocalVariables) {
+            for (HistoricVariableInstanceEntity variableInstance : historicVariableService.findHistoricVariableInstancesByTaskIds(tasksById.keySet())) {
+                tasksById.get(variableInstance.getTaskId()).getQueryVariables().add(variableInstance);
+            }
+        }
+
+        if (includeProcessVariables && !tasksByProcessInstanceId.isEmpty()) {
+            for (HistoricVariableInstanceEntity variableInstance : historicVariableService.findHistoricVariableInstancesByExecutionIds(tasksByProcessInstanceId.keySet())) {
+                for (HistoricTaskInstanceEntity taskEntity : tasksByProcessInstanceId.get(variableInstance.getExecutionId())) {
+                    taskEntity.getQueryVariables().add(variableInstance);
+                }
+            }
+        }
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<HistoricTaskInstance> results, boolean local) {
         for (HistoricTaskInstance task : results) {
             if (Objects.equals(taskId, task.getId())) {
@@ -1497,6 +1540,12 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return this;
     }
 
+    @Override
+    public HistoricTaskInstanceQuery fetchVariablesInSeparateQuery() {
+        this.fetchVariablesInSeparateQuery = true;
+        return this;
+    }
+
     @Override
     public HistoricTaskInstanceQuery includeIdentityLinks() {
         this.includeIdentityLinks = true;
@@ -1661,7 +1710,7 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         // In case historic query variables are included, an additional order-by
         // clause should be added
         // to ensure the last value of a variable is used
-        if (includeProcessVariables || includeTaskLocalVariables) {
+        if ((includeProcessVariables || includeTaskLocalVariables) && !isVariablesFetchedInSeparateQuery()) {
             this.orderBy(HistoricTaskInstanceQueryProperty.INCLUDED_VARIABLE_TIME).asc();
         }
     }
@@ -1914,6 +1963,10 @@ public class HistoricTaskInstanceQueryImpl extends AbstractVariableQueryImpl<His
         return includeProcessVariables;
     }
 
+    public boolean isFetchVariablesInSeparateQuery() {
+        return fetchVariablesInSeparateQuery;
+    }
+
     public boolean isIncludeIdentityLinks() {
         return includeIdentityLinks;
     }
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Objects;
@@ -56,6 +57,11 @@ public class HistoricTaskServiceImpl extends CommonServiceImpl<TaskServiceConfig
         return getHistoricTaskInstanceEntityManager().findHistoricTasksByParentTaskId(parentTaskId);
     }
 
+    @Override
+    public List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds) {
+        return getHistoricTaskInstanceEntityManager().findHistoricTasksByIds(taskIds);
+    }
+
     @Override
     public List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId) {
         return getHistoricTaskInstanceEntityManager().findHistoricTasksByProcessInstanceId(processInstanceId);
@@ -15,7 +15,9 @@ package org.flowable.task.service.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -36,6 +38,7 @@ import org.flowable.task.service.TaskServiceConfiguration;
 import org.flowable.task.service.impl.persistence.entity.TaskEntity;
 import org.flowable.task.service.impl.util.CommandContextUtil;
 import org.flowable.variable.api.types.VariableTypes;
+import org.flowable.variable.service.VariableService;
 import org.flowable.variable.service.impl.AbstractVariableQueryImpl;
 import org.flowable.variable.service.impl.QueryVariableValue;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
@@ -127,6 +130,7 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
     protected boolean includeTaskLocalVariables;
     protected boolean includeProcessVariables;
     protected Integer taskVariablesLimit;
+    protected boolean fetchVariablesInSeparateQuery;
     protected boolean includeIdentityLinks;
     protected String userIdForCandidateAndAssignee;
     protected boolean bothCandidateAndAssigned;
@@ -1475,6 +1479,12 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return this;
     }
 
+    @Override
+    public TaskQuery fetchVariablesInSeparateQuery() {
+        this.fetchVariablesInSeparateQuery = true;
+        return this;
+    }
+
     @Override
     public TaskQuery includeIdentityLinks() {
         this.includeIdentityLinks = true;
@@ -1661,7 +1671,11 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
             taskServiceConfiguration.getTaskQueryInterceptor().beforeTaskQueryExecute(this);
         }
 
-        if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
+        if ((includeTaskLocalVariables || includeProcessVariables) && fetchVariablesInSeparateQuery && !includeIdentityLinks) {
+            tasks = CommandContextUtil.getTaskEntityManager(commandContext).findTasksByQueryCriteria(this);
+            addVariablesFromSeparateQuery(commandContext, tasks);
+
+        } else if (includeTaskLocalVariables || includeProcessVariables || includeIdentityLinks) {
             tasks = CommandContextUtil.getTaskEntityManager(commandContext).findTasksWithRelatedEntitiesByQueryCriteria(this);
 
             if (taskId != null) {
@@ -1689,6 +1703,37 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return tasks;
     }
 
+    protected void addVariablesFromSeparateQuery(CommandContext commandContext, List<Task> results) {
+        if (results == null || results.isEmpty()) {
+            return;
+        }
+
+        Map<String, TaskEntity> tasksById = new HashMap<>();
+        Map<String, List<TaskEntity>> tasksByProcessInstanceId = new HashMap<>();
+        for (Task task : results) {
+            TaskEntity taskEntity = (TaskEntity) task;
+            tasksById.put(taskEntity.getId(), taskEntity);
+            if (taskEntity.getProcessInstanceId() != null) {
+                tasksByProcessInstanceId.computeIfAbsent(taskEntity.getProcessInstanceId(), key -> new ArrayList<>()).add(taskEntity);
+            }
+        }
+
+        VariableService variableService = CommandContextUtil.getVariableServiceConfiguration(commandContext).getVariableService();
+        if (includeTaskLocalVariables) {
+            for (VariableInstanceEntity variableInstance : variableService.findVariableInstancesByTaskIds(tasksById.keySet())) {
+                tasksById.get(variableInstance.getTaskId()).getQueryVariables().add(variableInstance);
+            }
+        }
+
+        if (includeProcessVariables && !tasksByProcessInstanceId.isEmpty()) {
+            for (VariableInstanceEntity variableInstance : variableService.findVariableInstancesByExecutionIdsAndNames(tasksByProcessInstanceId.keySet(), null)) {
+                for (TaskEntity taskEntity : tasksByProcessInstanceId.get(variableInstance.getExecutionId())) {
+                    taskEntity.getQueryVariables().add(variableInstance);
+                }
+            }
+        }
+    }
+
     protected void addCachedVariableForQueryById(CommandContext commandContext, List<Task> results, boolean local) {
         for (Task task : results) {
             if (Objects.equals(taskId, task.getId())) {
@@ -2019,6 +2064,10 @@ public class TaskQueryImpl extends AbstractVariableQueryImpl<TaskQuery, Task> im
         return includeProcessVariables;
     }
 
+    public boolean isFetchVariablesInSeparateQuery() {
+        return fetchVariablesInSeparateQuery;
+    }
+
     public boolean isIncludeIdentityLinks() {
         return includeIdentityLinks;
     }
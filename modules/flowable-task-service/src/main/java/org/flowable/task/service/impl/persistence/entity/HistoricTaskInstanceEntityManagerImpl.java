@@ -13,6 +13,7 @@
 
 package org.flowable.task.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -44,6 +45,11 @@ public class HistoricTaskInstanceEntityManagerImpl
         return dataManager.findHistoricTasksByParentTaskId(parentTaskId);
     }
     
+    @Override
+    public List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds) {
+        return dataManager.findHistoricTasksByIds(taskIds);
+    }
+    
     @Override
     public List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId) {
         return dataManager.findHistoricTasksByProcessInstanceId(processInstanceId);
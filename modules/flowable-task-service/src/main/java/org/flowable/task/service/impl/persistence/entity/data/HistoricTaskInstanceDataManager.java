@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -30,6 +31,8 @@ public interface HistoricTaskInstanceDataManager extends DataManager<HistoricTas
 
     List<HistoricTaskInstanceEntity> findHistoricTasksByParentTaskId(String parentTaskId);
 
+    List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds);
+
     List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId);
 
     long findHistoricTaskInstanceCountByQueryCriteria(HistoricTaskInstanceQueryImpl historicTaskInstanceQuery);
@@ -12,6 +12,7 @@
  */
 package org.flowable.task.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -51,6 +52,11 @@ public class MybatisHistoricTaskInstanceDataManager extends AbstractDataManager<
         return getDbSqlSession().selectList("selectHistoricTasksByParentTaskId", parentTaskId);
     }
 
+    @Override
+    public List<HistoricTaskInstanceEntity> findHistoricTasksByIds(Collection<String> taskIds) {
+        return getListInChunks("selectHistoricTaskInstancesByIds", taskIds, chunk -> chunk);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public List<HistoricTaskInstanceEntity> findHistoricTasksByProcessInstanceId(String processInstanceId) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -29,6 +30,18 @@ import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEnt
 public interface HistoricVariableService {
     
     HistoricVariableInstanceEntity getHistoricVariableInstance(String id);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByIds(Collection<String> ids);
+
+    /**
+     * Returns the historic variables defined on the given executions (not on tasks), in a single query per chunk of execution ids.
+     */
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Collection<String> executionIds);
+
+    /**
+     * Returns the historic variables defined on the given tasks, in a single query per chunk of task ids.
+     */
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Collection<String> taskIds);
     
     HistoricVariableInstanceEntity createHistoricVariableInstance();
     
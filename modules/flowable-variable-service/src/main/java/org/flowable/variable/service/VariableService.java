@@ -37,6 +37,12 @@ public interface VariableService {
 
     List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds);
 
+    /**
+     * Returns the variables defined on the given executions (without the variables of parent executions) in a single query per
+     * chunk of execution ids. When no variable names are given, all variables are returned.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Collection<String> executionIds, Collection<String> variableNames);
+
     VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String taskName);
 
     List<VariableInstanceEntity> findVariableInstancesByTaskAndNames(String taskId, Collection<String> taskNames);
@@ -51,6 +57,12 @@ public interface VariableService {
 
     List<VariableInstanceEntity> findVariableInstancesByScopeIdAndScopeTypeAndNames(String scopeId, String scopeType, Collection<String> variableNames);
 
+    /**
+     * Returns the variables defined on the given scopes (without the variables of sub scopes) in a single query per
+     * chunk of scope ids. When no variable names are given, all variables are returned.
+     */
+    List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeTypeAndNames(Collection<String> scopeIds, String scopeType, Collection<String> variableNames);
+
     List<VariableInstanceEntity> findVariableInstanceBySubScopeIdAndScopeType(String subScopeId, String scopeType);
 
     VariableInstanceEntity findVariableInstanceBySubScopeIdAndScopeTypeAndName(String subScopeId, String scopeType, String variableName);
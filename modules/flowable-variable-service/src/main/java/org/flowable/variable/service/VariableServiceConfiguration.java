@@ -12,6 +12,8 @@
  */
 package org.flowable.variable.service;
 
+import java.util.concurrent.Executor;
+
 import org.flowable.common.engine.impl.AbstractServiceConfiguration;
 import org.flowable.variable.api.types.VariableTypes;
 import org.flowable.variable.service.history.InternalHistoryVariableManager;
@@ -29,6 +31,7 @@ import org.flowable.variable.service.impl.persistence.entity.data.VariableInstan
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisHistoricVariableInstanceDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisVariableByteArrayDataManager;
 import org.flowable.variable.service.impl.persistence.entity.data.impl.MybatisVariableInstanceDataManager;
+import org.flowable.variable.service.impl.storage.LargeVariableValueStore;
 
 /**
  * @author Tijs Rademakers
@@ -63,6 +66,19 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
     protected int maxLengthString;
     
     protected boolean loggingSessionEnabled;
+
+    /**
+     * When set, byte array values (of binary, serializable, long string and long json variables) of at least
+     * {@link #largeVariableValueThreshold} bytes are kept in this store instead of in the ACT_GE_BYTEARRAY table.
+     */
+    protected LargeVariableValueStore largeVariableValueStore;
+    protected int largeVariableValueThreshold = 1024 * 1024;
+
+    /**
+     * Executor used to delete values from the {@link #largeVariableValueStore} after the transaction has been committed.
+     * When not set, the values are deleted by the thread that executed the transaction.
+     */
+    protected Executor largeVariableValueDeletionExecutor;
     
     /**
      * This flag determines whether variables of the type 'serializable' will be tracked. This means that, when true, in a JavaDelegate you can write
@@ -220,6 +236,33 @@ public class VariableServiceConfiguration extends AbstractServiceConfiguration {
         return this;
     }
 
+    public LargeVariableValueStore getLargeVariableValueStore() {
+        return largeVariableValueStore;
+    }
+
+    public VariableServiceConfiguration setLargeVariableValueStore(LargeVariableValueStore largeVariableValueStore) {
+        this.largeVariableValueStore = largeVariableValueStore;
+        return this;
+    }
+
+    public int getLargeVariableValueThreshold() {
+        return largeVariableValueThreshold;
+    }
+
+    public VariableServiceConfiguration setLargeVariableValueThreshold(int largeVariableValueThreshold) {
+        this.largeVariableValueThreshold = largeVariableValueThreshold;
+        return this;
+    }
+
+    public Executor getLargeVariableValueDeletionExecutor() {
+        return largeVariableValueDeletionExecutor;
+    }
+
+    public VariableServiceConfiguration setLargeVariableValueDeletionExecutor(Executor largeVariableValueDeletionExecutor) {
+        this.largeVariableValueDeletionExecutor = largeVariableValueDeletionExecutor;
+        return this;
+    }
+
     public boolean isLoggingSessionEnabled() {
         return loggingSessionEnabled;
     }
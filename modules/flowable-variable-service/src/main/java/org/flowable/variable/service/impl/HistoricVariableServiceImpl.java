@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 
@@ -39,6 +40,21 @@ public class HistoricVariableServiceImpl extends CommonServiceImpl<VariableServi
     public HistoricVariableInstanceEntity getHistoricVariableInstance(String id) {
         return getHistoricVariableInstanceEntityManager().findById(id);
     }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByIds(Collection<String> ids) {
+        return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByIds(ids);
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Collection<String> executionIds) {
+        return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByExecutionIds(executionIds);
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Collection<String> taskIds) {
+        return getHistoricVariableInstanceEntityManager().findHistoricVariableInstancesByTaskIds(taskIds);
+    }
     
     @Override
     public List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl query) {
@@ -58,6 +58,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().findVariableInstancesByExecutionIds(executionIds);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Collection<String> executionIds, Collection<String> variableNames) {
+        return getVariableInstanceEntityManager().findVariableInstancesByExecutionIdsAndNames(executionIds, variableNames);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByTaskAndName(String taskId, String taskName) {
         return getVariableInstanceEntityManager().findVariableInstanceByTaskAndName(taskId, taskName);
@@ -93,6 +98,11 @@ public class VariableServiceImpl extends CommonServiceImpl<VariableServiceConfig
         return getVariableInstanceEntityManager().findVariableInstancesByScopeIdAndScopeTypeAndNames(scopeId, scopeType, variableNames);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeTypeAndNames(Collection<String> scopeIds, String scopeType, Collection<String> variableNames) {
+        return getVariableInstanceEntityManager().findVariableInstancesByScopeIdsAndScopeTypeAndNames(scopeIds, scopeType, variableNames);
+    }
+
     @Override
     public List<VariableInstanceEntity> findVariableInstanceBySubScopeIdAndScopeType(String subScopeId, String scopeType) {
         return getVariableInstanceEntityManager().findVariableInstanceBySubScopeIdAndScopeType(subScopeId, scopeType);
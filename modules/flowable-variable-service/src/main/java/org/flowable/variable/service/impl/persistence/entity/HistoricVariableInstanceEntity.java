@@ -51,4 +51,9 @@ public interface HistoricVariableInstanceEntity extends ValueFields, HistoricVar
 
     VariableByteArrayRef getByteArrayRef();
 
+    /**
+     * Sets the bytes to the value of the given byte array, sharing a value kept in the large variable value store.
+     */
+    void setByteArrayValue(VariableByteArrayRef byteArrayRef);
+
 }
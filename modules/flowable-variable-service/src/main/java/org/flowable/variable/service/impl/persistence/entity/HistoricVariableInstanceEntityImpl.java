@@ -106,6 +106,14 @@ public class HistoricVariableInstanceEntityImpl extends AbstractVariableServiceE
         byteArrayRef.setValue("hist.var-" + name, bytes);
     }
 
+    @Override
+    public void setByteArrayValue(VariableByteArrayRef otherByteArrayRef) {
+        if (byteArrayRef == null) {
+            byteArrayRef = new VariableByteArrayRef();
+        }
+        byteArrayRef.setValue("hist.var-" + name, otherByteArrayRef);
+    }
+
     // getters and setters //////////////////////////////////////////////////////
 
     @Override
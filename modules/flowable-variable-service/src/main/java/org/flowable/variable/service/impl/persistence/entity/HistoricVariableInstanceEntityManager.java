@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -32,6 +33,12 @@ public interface HistoricVariableInstanceEntityManager extends EntityManager<His
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery);
 
     HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByIds(Collection<String> ids);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Collection<String> executionIds);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Collection<String> taskIds);
     
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByScopeIdAndScopeType(String subScopeId, String scopeType);
     
@@ -13,6 +13,7 @@
 
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
@@ -69,7 +70,7 @@ public class HistoricVariableInstanceEntityManagerImpl
 
         historicVariableInstance.setVariableType(variableInstance.getType());
         if (variableInstance.getByteArrayRef() != null) {
-            historicVariableInstance.setBytes(variableInstance.getBytes());
+            historicVariableInstance.setByteArrayValue(variableInstance.getByteArrayRef());
         }
 
         historicVariableInstance.setLastUpdatedTime(updateTime);
@@ -108,6 +109,21 @@ public class HistoricVariableInstanceEntityManagerImpl
     public HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId) {
         return dataManager.findHistoricVariableInstanceByVariableInstanceId(variableInstanceId);
     }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByIds(Collection<String> ids) {
+        return dataManager.findHistoricVariableInstancesByIds(ids);
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Collection<String> executionIds) {
+        return dataManager.findHistoricVariableInstancesByExecutionIds(executionIds);
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Collection<String> taskIds) {
+        return dataManager.findHistoricVariableInstancesByTaskIds(taskIds);
+    }
     
     @Override
     public List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByScopeIdAndScopeType(String scopeId, String scopeType) {
@@ -132,6 +148,10 @@ public class HistoricVariableInstanceEntityManagerImpl
     @Override
     public void deleteHistoricVariableInstancesForNonExistingProcessInstances() {
         if (serviceConfiguration.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            if (serviceConfiguration.getLargeVariableValueStore() != null) {
+                // The bulk delete below does not load the variables, so the values in the large variable value store are released first
+                serviceConfiguration.getByteArrayEntityManager().deleteStoredValueByteArraysOfHistoricVariablesForNonExistingProcessInstances();
+            }
             dataManager.deleteHistoricVariableInstancesForNonExistingProcessInstances();
         }
     }
@@ -139,6 +159,10 @@ public class HistoricVariableInstanceEntityManagerImpl
     @Override
     public void deleteHistoricVariableInstancesForNonExistingCaseInstances() {
         if (serviceConfiguration.isHistoryLevelAtLeast(HistoryLevel.ACTIVITY)) {
+            if (serviceConfiguration.getLargeVariableValueStore() != null) {
+                // The bulk delete below does not load the variables, so the values in the large variable value store are released first
+                serviceConfiguration.getByteArrayEntityManager().deleteStoredValueByteArraysOfHistoricVariablesForNonExistingCaseInstances();
+            }
             dataManager.deleteHistoricVariableInstancesForNonExistingCaseInstances();
         }
     }
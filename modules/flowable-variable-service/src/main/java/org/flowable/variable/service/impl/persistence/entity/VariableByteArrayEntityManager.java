@@ -32,4 +32,16 @@ public interface VariableByteArrayEntityManager extends EntityManager<VariableBy
      */
     void deleteByteArrayById(String byteArrayEntityId);
 
+    /**
+     * Deletes the {@link VariableByteArrayEntity} instances with a value in the large variable value store that belong to historic variables
+     * of process instances that no longer exist. Their values are deleted from the store once the transaction is committed.
+     */
+    void deleteStoredValueByteArraysOfHistoricVariablesForNonExistingProcessInstances();
+
+    /**
+     * Deletes the {@link VariableByteArrayEntity} instances with a value in the large variable value store that belong to historic variables
+     * of case instances that no longer exist. Their values are deleted from the store once the transaction is committed.
+     */
+    void deleteStoredValueByteArraysOfHistoricVariablesForNonExistingCaseInstances();
+
 }
\ No newline at end of file
@@ -38,7 +38,31 @@ public class VariableByteArrayEntityManagerImpl
 
     @Override
     public void deleteByteArrayById(String byteArrayEntityId) {
+        if (serviceConfiguration.getLargeVariableValueStore() != null) {
+            // Only the name is fetched, to find out whether the value is kept in the large variable value store without loading the bytes
+            String storedValueReference = VariableByteArrayRef.getStoredValueReference(dataManager.findNameById(byteArrayEntityId));
+            if (storedValueReference != null) {
+                VariableByteArrayRef.valueReleased(serviceConfiguration, storedValueReference);
+            }
+        }
         dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntityId);
     }
 
+    @Override
+    public void deleteStoredValueByteArraysOfHistoricVariablesForNonExistingProcessInstances() {
+        deleteStoredValueByteArrays(dataManager.findStoredValueByteArraysOfHistoricVariablesForNonExistingProcessInstances());
+    }
+
+    @Override
+    public void deleteStoredValueByteArraysOfHistoricVariablesForNonExistingCaseInstances() {
+        deleteStoredValueByteArrays(dataManager.findStoredValueByteArraysOfHistoricVariablesForNonExistingCaseInstances());
+    }
+
+    protected void deleteStoredValueByteArrays(List<VariableByteArrayEntity> byteArrayEntities) {
+        for (VariableByteArrayEntity byteArrayEntity : byteArrayEntities) {
+            VariableByteArrayRef.valueReleased(serviceConfiguration, VariableByteArrayRef.getStoredValueReference(byteArrayEntity.getName()));
+            dataManager.deleteByteArrayNoRevisionCheck(byteArrayEntity.getId());
+        }
+    }
+
 }
@@ -12,8 +12,16 @@
  */
 package org.flowable.variable.service.impl.persistence.entity;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.Serializable;
 
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.impl.util.IoUtil;
+import org.flowable.variable.service.VariableServiceConfiguration;
+import org.flowable.variable.service.impl.storage.LargeVariableValueStore;
+import org.flowable.variable.service.impl.storage.LargeVariableValuesTransactionListener;
 import org.flowable.variable.service.impl.util.CommandContextUtil;
 
 /**
@@ -27,6 +35,12 @@ public class VariableByteArrayRef implements Serializable {
 
     private static final long serialVersionUID = 1L;
 
+    /**
+     * Prefix of the name of a {@link VariableByteArrayEntity} of which the value is kept in the {@link LargeVariableValueStore}.
+     * The rest of the name is the reference to the value in the store, the bytes of the entity are empty.
+     */
+    public static final String STORED_VALUE_NAME_PREFIX = "stored-value:";
+
     private String id;
     private String name;
     private VariableByteArrayEntity entity;
@@ -50,7 +64,44 @@ public class VariableByteArrayRef implements Serializable {
 
     public byte[] getBytes() {
         ensureInitialized();
-        return (entity != null ? entity.getBytes() : null);
+        if (entity == null) {
+            return null;
+        }
+
+        String storedValueReference = getStoredValueReference(entity);
+        if (storedValueReference != null) {
+            try (InputStream inputStream = getLargeVariableValueStore(true).readValue(storedValueReference)) {
+                return IoUtil.readInputStream(inputStream, name);
+            } catch (IOException e) {
+                throw new FlowableException("Could not close stored value of byte array " + id, e);
+            }
+        }
+        return entity.getBytes();
+    }
+
+    /**
+     * Returns whether the value of this byte array is kept in the {@link LargeVariableValueStore}.
+     */
+    public boolean isStoredValue() {
+        ensureInitialized();
+        return entity != null && getStoredValueReference(entity) != null;
+    }
+
+    /**
+     * Returns a stream of the bytes. A value kept in the {@link LargeVariableValueStore} is streamed from the store
+     * instead of being read into memory first.
+     */
+    public InputStream getInputStream() {
+        ensureInitialized();
+        if (entity == null) {
+            return null;
+        }
+
+        String storedValueReference = getStoredValueReference(entity);
+        if (storedValueReference != null) {
+            return getLargeVariableValueStore(true).readValue(storedValueReference);
+        }
+        return entity.getBytes() != null ? new ByteArrayInputStream(entity.getBytes()) : null;
     }
 
     public void setValue(String name, byte[] bytes) {
@@ -58,20 +109,108 @@ public class VariableByteArrayRef implements Serializable {
         setBytes(bytes);
     }
 
+    /**
+     * Sets the value of this byte array to the value of the given byte array (e.g. when copying a runtime variable to history).
+     * A value kept in the {@link LargeVariableValueStore} is shared instead of being read and stored again.
+     */
+    public void setValue(String name, VariableByteArrayRef byteArrayRef) {
+        this.name = name;
+        byteArrayRef.ensureInitialized();
+        String storedValueReference = byteArrayRef.entity != null ? getStoredValueReference(byteArrayRef.entity) : null;
+        if (storedValueReference != null) {
+            String sharedValueReference = getLargeVariableValueStore(true).shareValue(storedValueReference);
+            valueStored(CommandContextUtil.getVariableServiceConfiguration(), sharedValueReference);
+            setBytes(null, sharedValueReference);
+        } else {
+            setBytes(byteArrayRef.getBytes());
+        }
+    }
+
     private void setBytes(byte[] bytes) {
+        setBytes(bytes, storeValueIfLarge(bytes));
+    }
+
+    private void setBytes(byte[] bytes, String storedValueReference) {
+        String entityName = storedValueReference != null ? STORED_VALUE_NAME_PREFIX + storedValueReference : name;
+        byte[] entityBytes = storedValueReference != null ? null : bytes;
         if (id == null) {
-            if (bytes != null) {
+            if (bytes != null || storedValueReference != null) {
                 VariableByteArrayEntityManager byteArrayEntityManager = CommandContextUtil.getByteArrayEntityManager();
                 entity = byteArrayEntityManager.create();
-                entity.setName(name);
-                entity.setBytes(bytes);
+                entity.setName(entityName);
+                entity.setBytes(entityBytes);
                 byteArrayEntityManager.insert(entity);
                 id = entity.getId();
             }
         } else {
             ensureInitialized();
-            entity.setBytes(bytes);
+            releaseStoredValue(entity);
+            if (storedValueReference != null || getStoredValueReference(entity) != null) {
+                entity.setName(entityName);
+            }
+            entity.setBytes(entityBytes);
+        }
+    }
+
+    private String storeValueIfLarge(byte[] bytes) {
+        if (bytes == null) {
+            return null;
         }
+
+        VariableServiceConfiguration variableServiceConfiguration = CommandContextUtil.getVariableServiceConfiguration();
+        if (variableServiceConfiguration == null || variableServiceConfiguration.getLargeVariableValueStore() == null
+                || bytes.length < variableServiceConfiguration.getLargeVariableValueThreshold()) {
+            return null;
+        }
+
+        String storedValueReference = variableServiceConfiguration.getLargeVariableValueStore().storeValue(name, bytes);
+        valueStored(variableServiceConfiguration, storedValueReference);
+        return storedValueReference;
+    }
+
+    private void releaseStoredValue(VariableByteArrayEntity byteArrayEntity) {
+        String storedValueReference = getStoredValueReference(byteArrayEntity);
+        if (storedValueReference != null) {
+            // The value is only deleted from the store when the transaction is committed
+            valueReleased(CommandContextUtil.getVariableServiceConfiguration(), storedValueReference);
+        }
+    }
+
+    private void valueStored(VariableServiceConfiguration variableServiceConfiguration, String storedValueReference) {
+        LargeVariableValuesTransactionListener.valueStored(CommandContextUtil.getCommandContext(), variableServiceConfiguration.getLargeVariableValueStore(),
+                variableServiceConfiguration.getLargeVariableValueDeletionExecutor(), storedValueReference);
+    }
+
+    /**
+     * Registers the stored value as released, so that it is deleted from the {@link LargeVariableValueStore} when the transaction is committed.
+     */
+    public static void valueReleased(VariableServiceConfiguration variableServiceConfiguration, String storedValueReference) {
+        LargeVariableValuesTransactionListener.valueReleased(CommandContextUtil.getCommandContext(), variableServiceConfiguration.getLargeVariableValueStore(),
+                variableServiceConfiguration.getLargeVariableValueDeletionExecutor(), storedValueReference);
+    }
+
+    private LargeVariableValueStore getLargeVariableValueStore(boolean required) {
+        VariableServiceConfiguration variableServiceConfiguration = CommandContextUtil.getVariableServiceConfiguration();
+        LargeVariableValueStore largeVariableValueStore = variableServiceConfiguration != null ? variableServiceConfiguration.getLargeVariableValueStore() : null;
+        if (largeVariableValueStore == null && required) {
+            throw new FlowableException("Byte array " + id + " is kept in a large variable value store, but no large variable value store is configured");
+        }
+        return largeVariableValueStore;
+    }
+
+    protected static String getStoredValueReference(VariableByteArrayEntity byteArrayEntity) {
+        return getStoredValueReference(byteArrayEntity.getName());
+    }
+
+    /**
+     * Returns the reference to the value in the {@link LargeVariableValueStore} for the given byte array name,
+     * or null when the value of the byte array is not kept in the store.
+     */
+    public static String getStoredValueReference(String entityName) {
+        if (entityName != null && entityName.startsWith(STORED_VALUE_NAME_PREFIX)) {
+            return entityName.substring(STORED_VALUE_NAME_PREFIX.length());
+        }
+        return null;
     }
 
     public VariableByteArrayEntity getEntity() {
@@ -81,7 +220,14 @@ public class VariableByteArrayRef implements Serializable {
 
     public void delete() {
         if (!deleted && id != null) {
+            if (entity == null && getLargeVariableValueStore(false) != null) {
+                // the entity is needed to know whether its value is kept in the large variable value store
+                entity = CommandContextUtil.getByteArrayEntityManager().findById(id);
+            }
+
             if (entity != null) {
+                releaseStoredValue(entity);
+
                 // if the entity has been loaded already,
                 // we might as well use the safer optimistic locking delete.
                 CommandContextUtil.getByteArrayEntityManager().delete(entity);
@@ -71,6 +71,11 @@ public class VariableInstanceEntityManagerImpl
         return dataManager.findVariableInstancesByExecutionIds(executionIds);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Collection<String> executionIds, Collection<String> variableNames) {
+        return dataManager.findVariableInstancesByExecutionIdsAndNames(executionIds, variableNames);
+    }
+
     @Override
     public VariableInstanceEntity findVariableInstanceByExecutionAndName(String executionId, String variableName) {
         return dataManager.findVariableInstanceByExecutionAndName(executionId, variableName);
@@ -105,6 +110,11 @@ public class VariableInstanceEntityManagerImpl
     public List<VariableInstanceEntity> findVariableInstancesByScopeIdAndScopeTypeAndNames(String scopeId, String scopeType, Collection<String> variableNames) {
         return dataManager.findVariableInstancesByScopeIdAndScopeTypeAndNames(scopeId, scopeType, variableNames);
     }
+
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeTypeAndNames(Collection<String> scopeIds, String scopeType, Collection<String> variableNames) {
+        return dataManager.findVariableInstancesByScopeIdsAndScopeTypeAndNames(scopeIds, scopeType, variableNames);
+    }
     
     @Override
     public List<VariableInstanceEntity> findVariableInstanceBySubScopeIdAndScopeType(String subScopeId, String scopeType) {
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -34,6 +35,12 @@ public interface HistoricVariableInstanceDataManager extends DataManager<Histori
     List<HistoricVariableInstance> findHistoricVariableInstancesByQueryCriteria(HistoricVariableInstanceQueryImpl historicProcessVariableQuery);
 
     HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByIds(Collection<String> ids);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Collection<String> executionIds);
+
+    List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Collection<String> taskIds);
     
     List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByScopeIdAndScopeType(String scopeId, String scopeType);
     
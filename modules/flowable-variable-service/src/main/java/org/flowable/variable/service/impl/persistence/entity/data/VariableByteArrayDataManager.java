@@ -26,4 +26,10 @@ public interface VariableByteArrayDataManager extends DataManager<VariableByteAr
 
     void deleteByteArrayNoRevisionCheck(String byteArrayEntityId);
 
+    String findNameById(String byteArrayEntityId);
+
+    List<VariableByteArrayEntity> findStoredValueByteArraysOfHistoricVariablesForNonExistingProcessInstances();
+
+    List<VariableByteArrayEntity> findStoredValueByteArraysOfHistoricVariablesForNonExistingCaseInstances();
+
 }
@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.persistence.entity.data.impl;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -85,6 +86,21 @@ public class MybatisHistoricVariableInstanceDataManager extends AbstractDataMana
     public HistoricVariableInstanceEntity findHistoricVariableInstanceByVariableInstanceId(String variableInstanceId) {
         return (HistoricVariableInstanceEntity) getDbSqlSession().selectOne("selectHistoricVariableInstanceByVariableInstanceId", variableInstanceId);
     }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByIds(Collection<String> ids) {
+        return getListInChunks("selectHistoricVariableInstancesByIds", ids, chunk -> chunk);
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByExecutionIds(Collection<String> executionIds) {
+        return getListInChunks("selectHistoricVariableInstancesByExecutionIds", executionIds, chunk -> chunk);
+    }
+
+    @Override
+    public List<HistoricVariableInstanceEntity> findHistoricVariableInstancesByTaskIds(Collection<String> taskIds) {
+        return getListInChunks("selectHistoricVariableInstancesByTaskIds", taskIds, chunk -> chunk);
+    }
     
     @Override
     public List<HistoricVariableInstanceEntity> findHistoricalVariableInstancesByScopeIdAndScopeType(String scopeId, String scopeType) {
@@ -45,4 +45,21 @@ public class MybatisVariableByteArrayDataManager extends AbstractDataManager<Var
         getDbSqlSession().delete("deleteVariableByteArrayNoRevisionCheck", byteArrayEntityId, VariableByteArrayEntityImpl.class);
     }
 
+    @Override
+    public String findNameById(String byteArrayEntityId) {
+        return (String) getDbSqlSession().selectOne("selectVariableByteArrayName", byteArrayEntityId);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<VariableByteArrayEntity> findStoredValueByteArraysOfHistoricVariablesForNonExistingProcessInstances() {
+        return getDbSqlSession().selectList("selectStoredValueVariableByteArraysOfHistoricVariablesForNonExistingProcessInstances");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<VariableByteArrayEntity> findStoredValueByteArraysOfHistoricVariablesForNonExistingCaseInstances() {
+        return getDbSqlSession().selectList("selectStoredValueVariableByteArraysOfHistoricVariablesForNonExistingCaseInstances");
+    }
+
 }
@@ -77,9 +77,8 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<VariableInstanceEntity> findVariableInstancesByTaskIds(Set<String> taskIds) {
-        return getDbSqlSession().selectList("selectVariablesByTaskIds", taskIds);
+        return getListInChunks("selectVariablesByTaskIds", taskIds, chunk -> chunk);
     }
 
     @Override
@@ -88,9 +87,18 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public List<VariableInstanceEntity> findVariableInstancesByExecutionIds(Set<String> executionIds) {
-        return getDbSqlSession().selectList("selectVariablesByExecutionIds", executionIds);
+        return getListInChunks("selectVariablesByExecutionIds", executionIds, chunk -> chunk);
+    }
+
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByExecutionIdsAndNames(Collection<String> executionIds, Collection<String> variableNames) {
+        return getListInChunks("selectVariablesByExecutionIdsAndNames", executionIds, variableNames, (chunk, variableNamesChunk) -> {
+            Map<String, Object> params = new HashMap<>(2);
+            params.put("executionIds", chunk);
+            params.put("variableNames", variableNamesChunk);
+            return params;
+        });
     }
 
     @Override
@@ -153,6 +161,17 @@ public class MybatisVariableInstanceDataManager extends AbstractDataManager<Vari
         return getList("selectVariableInstanceByScopeIdAndScopeTypeAndNames", params, variableInstanceByScopeIdAndScopeTypeAndVariableNamesMatcher, true);
     }
 
+    @Override
+    public List<VariableInstanceEntity> findVariableInstancesByScopeIdsAndScopeTypeAndNames(Collection<String> scopeIds, String scopeType, Collection<String> variableNames) {
+        return getListInChunks("selectVariableInstancesByScopeIdsAndScopeTypeAndNames", scopeIds, variableNames, (chunk, variableNamesChunk) -> {
+            Map<String, Object> params = new HashMap<>(3);
+            params.put("scopeIds", chunk);
+            params.put("scopeType", scopeType);
+            params.put("variableNames", variableNamesChunk);
+            return params;
+        });
+    }
+
     @Override
     public List<VariableInstanceEntity> findVariableInstanceBySubScopeIdAndScopeType(String subScopeId, String scopeType) {
         Map<String, Object> params = new HashMap<>(2);
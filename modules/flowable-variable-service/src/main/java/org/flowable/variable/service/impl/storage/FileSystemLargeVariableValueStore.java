@@ -0,0 +1,123 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.storage;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+import org.flowable.common.engine.api.FlowableException;
+import org.flowable.common.engine.api.FlowableObjectNotFoundException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * {@link LargeVariableValueStore} keeping every value in a file below a root folder.
+ *
+ * A reference is the relative path of its file. Shared values are hard links to the same file, so the file system keeps
+ * track of the references and frees the value when the last link is deleted. When the file system does not support
+ * hard links, the value is copied instead.
+ */
+public class FileSystemLargeVariableValueStore implements LargeVariableValueStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FileSystemLargeVariableValueStore.class);
+
+    protected final Path rootFolder;
+
+    public FileSystemLargeVariableValueStore(File rootFolder) {
+        this.rootFolder = rootFolder.toPath();
+    }
+
+    @Override
+    public String storeValue(String name, byte[] value) {
+        String reference = createReference();
+        Path path = resolve(reference);
+        try {
+            Files.createDirectories(path.getParent());
+            Path tempFile = Files.createTempFile(path.getParent(), "tmp-", null);
+            Files.write(tempFile, value);
+            Files.move(tempFile, path, StandardCopyOption.ATOMIC_MOVE);
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not store value of " + name + " in " + path, e);
+        }
+        return reference;
+    }
+
+    @Override
+    public InputStream readValue(String reference) {
+        Path path = resolve(reference);
+        try {
+            return Files.newInputStream(path);
+
+        } catch (NoSuchFileException e) {
+            throw new FlowableObjectNotFoundException("No stored variable value found for reference " + reference);
+        } catch (IOException e) {
+            throw new FlowableException("Could not read stored variable value " + path, e);
+        }
+    }
+
+    @Override
+    public String shareValue(String reference) {
+        Path path = resolve(reference);
+        String sharedReference = createReference();
+        Path sharedPath = resolve(sharedReference);
+        try {
+            Files.createDirectories(sharedPath.getParent());
+            try {
+                Files.createLink(sharedPath, path);
+            } catch (UnsupportedOperationException | IOException e) {
+                LOGGER.debug("Could not create link to {}, copying the value instead", path, e);
+                Files.copy(path, sharedPath);
+            }
+
+        } catch (IOException e) {
+            throw new FlowableException("Could not share stored variable value " + path, e);
+        }
+        return sharedReference;
+    }
+
+    @Override
+    public void deleteValue(String reference) {
+        Path path = resolve(reference);
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            throw new FlowableException("Could not delete stored variable value " + path, e);
+        }
+    }
+
+    protected String createReference() {
+        String id = UUID.randomUUID().toString();
+        // Spread the files over sub folders, to avoid a single folder with a huge amount of files
+        return id.substring(0, 2) + "/" + id;
+    }
+
+    protected Path resolve(String reference) {
+        Path path = rootFolder.resolve(reference).normalize();
+        if (!path.startsWith(rootFolder.normalize())) {
+            throw new FlowableException("Invalid stored variable value reference " + reference);
+        }
+        return path;
+    }
+
+    public File getRootFolder() {
+        return rootFolder.toFile();
+    }
+
+}
@@ -0,0 +1,55 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.storage;
+
+import java.io.InputStream;
+
+/**
+ * Stores the serialized values of byte array based variables (binary, serializable, long string and long json variables)
+ * outside of the ACT_GE_BYTEARRAY table. Only values of at least
+ * {@link org.flowable.variable.service.VariableServiceConfiguration#getLargeVariableValueThreshold()} bytes are handed to the store;
+ * the byte array row then only contains the reference returned by {@link #storeValue(String, byte[])}.
+ *
+ * Every reference has exactly one owner (a runtime or a historic variable). A value that is used by more than one variable
+ * (e.g. a runtime variable and its historic copy) is shared through {@link #shareValue(String)}, which returns a new reference
+ * for the same value. Implementations are expected to keep the value until the last of its references has been deleted.
+ *
+ * Deleting a reference is only done after the transaction that removed the variable has been committed, and values stored
+ * in a transaction that is rolled back are deleted again.
+ */
+public interface LargeVariableValueStore {
+
+    /**
+     * Stores the given value and returns the reference to it.
+     *
+     * @param name
+     *            the name of the byte array holding the value, for informational purposes
+     */
+    String storeValue(String name, byte[] value);
+
+    /**
+     * Opens a stream to the value of the given reference. The caller is responsible for closing the stream.
+     */
+    InputStream readValue(String reference);
+
+    /**
+     * Returns a new reference to the value of the given reference, without copying the value where possible.
+     */
+    String shareValue(String reference);
+
+    /**
+     * Deletes the given reference. The value itself is deleted when no other references to it exist.
+     */
+    void deleteValue(String reference);
+
+}
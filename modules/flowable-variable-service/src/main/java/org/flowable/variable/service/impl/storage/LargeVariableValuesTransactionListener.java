@@ -0,0 +1,104 @@
+/* Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.flowable.variable.service.impl.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.flowable.common.engine.impl.cfg.TransactionListener;
+import org.flowable.common.engine.impl.cfg.TransactionState;
+import org.flowable.common.engine.impl.context.Context;
+import org.flowable.common.engine.impl.interceptor.CommandContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Deletes values from the {@link LargeVariableValueStore} once the outcome of the transaction is known.
+ *
+ * One listener is registered for {@link TransactionState#COMMITTED} and deletes the values that were released during the transaction
+ * (e.g. because the variable was updated or deleted). Another one is registered for {@link TransactionState#ROLLED_BACK} and deletes
+ * the values that were stored during the transaction, as no byte array refers to them anymore.
+ */
+public class LargeVariableValuesTransactionListener implements TransactionListener {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(LargeVariableValuesTransactionListener.class);
+
+    protected static final String STORED_VALUES_ATTRIBUTE_NAME = LargeVariableValuesTransactionListener.class.getName() + ".storedValues";
+    protected static final String RELEASED_VALUES_ATTRIBUTE_NAME = LargeVariableValuesTransactionListener.class.getName() + ".releasedValues";
+
+    protected LargeVariableValueStore largeVariableValueStore;
+    protected Executor deletionExecutor;
+    protected List<String> references = new ArrayList<>();
+
+    public LargeVariableValuesTransactionListener(LargeVariableValueStore largeVariableValueStore, Executor deletionExecutor) {
+        this.largeVariableValueStore = largeVariableValueStore;
+        this.deletionExecutor = deletionExecutor;
+    }
+
+    /**
+     * Registers a value that has been stored in the current transaction, it is deleted again when the transaction is rolled back.
+     */
+    public static void valueStored(CommandContext commandContext, LargeVariableValueStore largeVariableValueStore, Executor deletionExecutor, String reference) {
+        getOrCreate(commandContext, STORED_VALUES_ATTRIBUTE_NAME, TransactionState.ROLLED_BACK, largeVariableValueStore, deletionExecutor).references.add(reference);
+    }
+
+    /**
+     * Registers a value that is no longer used, it is deleted when the current transaction is committed.
+     */
+    public static void valueReleased(CommandContext commandContext, LargeVariableValueStore largeVariableValueStore, Executor deletionExecutor, String reference) {
+        getOrCreate(commandContext, RELEASED_VALUES_ATTRIBUTE_NAME, TransactionState.COMMITTED, largeVariableValueStore, deletionExecutor).references.add(reference);
+    }
+
+    protected static LargeVariableValuesTransactionListener getOrCreate(CommandContext commandContext, String attributeName, TransactionState transactionState,
+            LargeVariableValueStore largeVariableValueStore, Executor deletionExecutor) {
+
+        LargeVariableValuesTransactionListener listener = (LargeVariableValuesTransactionListener) commandContext.getAttribute(attributeName);
+        if (listener == null) {
+            listener = new LargeVariableValuesTransactionListener(largeVariableValueStore, deletionExecutor);
+            commandContext.addAttribute(attributeName, listener);
+            Context.getTransactionContext().addTransactionListener(transactionState, listener);
+        }
+        return listener;
+    }
+
+    @Override
+    public void execute(CommandContext commandContext) {
+        if (references.isEmpty()) {
+            return;
+        }
+
+        List<String> referencesToDelete = new ArrayList<>(references);
+        if (deletionExecutor != null) {
+            deletionExecutor.execute(() -> deleteValues(referencesToDelete));
+        } else {
+            deleteValues(referencesToDelete);
+        }
+    }
+
+    protected void deleteValues(List<String> references) {
+        for (String reference : references) {
+            try {
+                largeVariableValueStore.deleteValue(reference);
+            } catch (RuntimeException e) {
+                // The transaction is already finished at this point, so a failure only leaves an orphaned value behind
+                LOGGER.warn("Could not delete stored variable value {}", reference, e);
+            }
+        }
+    }
+
+    public List<String> getReferences() {
+        return references;
+    }
+
+}
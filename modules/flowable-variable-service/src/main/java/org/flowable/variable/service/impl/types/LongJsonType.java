@@ -12,6 +12,7 @@
  */
 package org.flowable.variable.service.impl.types;
 
+import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
 
 import org.flowable.common.engine.api.FlowableException;
@@ -75,4 +76,13 @@ public class LongJsonType extends SerializableType {
         }
         return valueNode;
     }
+
+    @Override
+    public Object deserialize(InputStream inputStream, ValueFields valueFields) {
+        try {
+            return objectMapper.readTree(inputStream);
+        } catch (Exception e) {
+            throw new FlowableException("Error reading json variable", e);
+        }
+    }
 }
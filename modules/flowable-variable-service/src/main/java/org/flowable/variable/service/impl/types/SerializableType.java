@@ -27,6 +27,8 @@ import org.flowable.common.engine.impl.context.Context;
 import org.flowable.common.engine.impl.util.IoUtil;
 import org.flowable.common.engine.impl.util.ReflectUtil;
 import org.flowable.variable.api.types.ValueFields;
+import org.flowable.variable.service.impl.persistence.entity.HistoricVariableInstanceEntity;
+import org.flowable.variable.service.impl.persistence.entity.VariableByteArrayRef;
 import org.flowable.variable.service.impl.persistence.entity.VariableInstanceEntity;
 
 /**
@@ -59,13 +61,28 @@ public class SerializableType extends ByteArrayType {
             return cachedObject;
         }
 
+        VariableByteArrayRef byteArrayRef = getByteArrayRef(valueFields);
+        boolean trackDeserializedObject = trackDeserializedObjects && valueFields instanceof VariableInstanceEntity;
+        if (!trackDeserializedObject && byteArrayRef != null && byteArrayRef.isStoredValue()) {
+            // A value kept in the large variable value store is deserialized while it is read from the store,
+            // instead of reading all bytes in memory first. A tracked deserialized object needs the bytes for the comparison.
+            try (InputStream inputStream = byteArrayRef.getInputStream()) {
+                Object deserializedObject = deserialize(inputStream, valueFields);
+                valueFields.setCachedValue(deserializedObject);
+                return deserializedObject;
+
+            } catch (IOException e) {
+                throw new FlowableException("Couldn't close the stored value of variable '" + valueFields.getName() + "'", e);
+            }
+        }
+
         byte[] bytes = (byte[]) super.getValue(valueFields);
         if (bytes != null) {
 
             Object deserializedObject = deserialize(bytes, valueFields);
             valueFields.setCachedValue(deserializedObject);
 
-            if (trackDeserializedObjects && valueFields instanceof VariableInstanceEntity) {
+            if (trackDeserializedObject) {
                 Context.getCommandContext().addCloseListener(new VerifyDeserializedObjectCommandContextCloseListener(
                         new DeserializedObject(this, valueFields.getCachedValue(), bytes, (VariableInstanceEntity) valueFields)));
             }
@@ -109,17 +126,35 @@ public class SerializableType extends ByteArrayType {
     public Object deserialize(byte[] bytes, ValueFields valueFields) {
         ByteArrayInputStream bais = new ByteArrayInputStream(bytes);
         try {
-            ObjectInputStream ois = createObjectInputStream(bais);
+            return deserialize(bais, valueFields);
+        } finally {
+            IoUtil.closeSilently(bais);
+        }
+    }
+
+    /**
+     * Deserializes the value from the given stream. The caller is responsible for closing the stream.
+     */
+    public Object deserialize(InputStream inputStream, ValueFields valueFields) {
+        try {
+            ObjectInputStream ois = createObjectInputStream(inputStream);
             Object deserializedObject = ois.readObject();
 
             return deserializedObject;
         } catch (Exception e) {
             throw new FlowableException("Couldn't deserialize object in variable '" + valueFields.getName() + "'", e);
-        } finally {
-            IoUtil.closeSilently(bais);
         }
     }
 
+    protected VariableByteArrayRef getByteArrayRef(ValueFields valueFields) {
+        if (valueFields instanceof VariableInstanceEntity) {
+            return ((VariableInstanceEntity) valueFields).getByteArrayRef();
+        } else if (valueFields instanceof HistoricVariableInstanceEntity) {
+            return ((HistoricVariableInstanceEntity) valueFields).getByteArrayRef();
+        }
+        return null;
+    }
+
     @Override
     public boolean isAbleToStore(Object value) {
         // TODO don't we need null support here?